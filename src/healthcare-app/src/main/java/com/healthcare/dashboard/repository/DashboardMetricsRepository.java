@@ -0,0 +1,225 @@
+package com.healthcare.dashboard.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * JDBC access to the dashboard fact tables created in V15. Each refresh
+ * replaces the rows for a set of days (or a date range) with a fresh
+ * aggregate of the source table, so re-running it is always safe.
+ */
+@Repository
+public class DashboardMetricsRepository {
+
+    public static final String ENTITY_PATIENT = "PATIENT";
+    public static final String ENTITY_PROVIDER = "PROVIDER";
+
+    private static final String APPOINTMENT_DATES =
+        "SELECT DISTINCT scheduled_date FROM appointments WHERE id IN (:ids)";
+
+    private static final String INVOICE_DATES =
+        "SELECT DISTINCT invoice_date FROM invoices WHERE id IN (:ids)";
+
+    private static final String DELETE_APPOINTMENT_DAYS =
+        "DELETE FROM dashboard_daily_appointments WHERE metric_date >= :from AND metric_date <= :to";
+
+    private static final String INSERT_APPOINTMENT_DAYS =
+        "INSERT INTO dashboard_daily_appointments (metric_date, status, appointment_count) " +
+        "SELECT scheduled_date, status, COUNT(*) " +
+        "FROM appointments " +
+        "WHERE scheduled_date >= :from AND scheduled_date <= :to AND is_deleted = false " +
+        "GROUP BY scheduled_date, status";
+
+    private static final String DELETE_INVOICE_DAYS =
+        "DELETE FROM dashboard_daily_invoices WHERE metric_date >= :from AND metric_date <= :to";
+
+    private static final String INSERT_INVOICE_DAYS =
+        "INSERT INTO dashboard_daily_invoices (metric_date, status, invoice_count, paid_amount, balance_due) " +
+        "SELECT invoice_date, status, COUNT(*), COALESCE(SUM(paid_amount), 0), COALESCE(SUM(balance_due), 0) " +
+        "FROM invoices " +
+        "WHERE invoice_date >= :from AND invoice_date <= :to AND is_deleted = false " +
+        "GROUP BY invoice_date, status";
+
+    private static final String DELETE_PATIENT_DAYS =
+        "DELETE FROM dashboard_daily_patients WHERE metric_date >= :from AND metric_date <= :to";
+
+    private static final String INSERT_PATIENT_DAYS =
+        "INSERT INTO dashboard_daily_patients (metric_date, created_count) " +
+        "SELECT (created_at AT TIME ZONE 'UTC')::date, COUNT(*) " +
+        "FROM patients " +
+        "WHERE created_at >= :fromInstant AND created_at < :toInstant AND is_deleted = false " +
+        "GROUP BY 1";
+
+    private static final String DELETE_ENTITY_COUNTS = "DELETE FROM dashboard_entity_counts";
+
+    private static final String INSERT_ENTITY_COUNTS =
+        "INSERT INTO dashboard_entity_counts (entity, status, entity_count) " +
+        "SELECT 'PATIENT', status, COUNT(*) FROM patients WHERE is_deleted = false GROUP BY status " +
+        "UNION ALL " +
+        "SELECT 'PROVIDER', status, COUNT(*) FROM providers WHERE is_deleted = false GROUP BY status";
+
+    private static final String FIND_APPOINTMENT_DAYS =
+        "SELECT metric_date, status, appointment_count " +
+        "FROM dashboard_daily_appointments " +
+        "WHERE metric_date >= :from AND metric_date <= :to";
+
+    private static final String SUM_APPOINTMENTS_BY_STATUS =
+        "SELECT NULL AS metric_date, status, SUM(appointment_count) AS appointment_count " +
+        "FROM dashboard_daily_appointments GROUP BY status";
+
+    private static final String FIND_INVOICE_DAYS =
+        "SELECT metric_date, status, invoice_count, paid_amount, balance_due " +
+        "FROM dashboard_daily_invoices " +
+        "WHERE metric_date >= :from AND metric_date <= :to";
+
+    private static final String SUM_INVOICES_BY_STATUS =
+        "SELECT NULL AS metric_date, status, SUM(invoice_count) AS invoice_count, " +
+        "       SUM(paid_amount) AS paid_amount, SUM(balance_due) AS balance_due " +
+        "FROM dashboard_daily_invoices GROUP BY status";
+
+    private static final String SUM_PATIENTS_CREATED_SINCE =
+        "SELECT COALESCE(SUM(created_count), 0) FROM dashboard_daily_patients WHERE metric_date >= :from";
+
+    private static final String FIND_ENTITY_COUNTS =
+        "SELECT entity, status, entity_count FROM dashboard_entity_counts";
+
+    private static final RowMapper<AppointmentCount> APPOINTMENT_COUNT_MAPPER = (rs, rowNum) -> {
+        Date date = rs.getDate("metric_date");
+        return new AppointmentCount(
+            date != null ? date.toLocalDate() : null,
+            rs.getString("status"),
+            rs.getLong("appointment_count"));
+    };
+
+    private static final RowMapper<InvoiceTotals> INVOICE_TOTALS_MAPPER = (rs, rowNum) -> {
+        Date date = rs.getDate("metric_date");
+        return new InvoiceTotals(
+            date != null ? date.toLocalDate() : null,
+            rs.getString("status"),
+            rs.getLong("invoice_count"),
+            rs.getBigDecimal("paid_amount"),
+            rs.getBigDecimal("balance_due"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public DashboardMetricsRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Appointments on one day ({@code date} is null for all-time totals). */
+    public record AppointmentCount(LocalDate date, String status, long count) {}
+
+    /** Invoices on one day ({@code date} is null for all-time totals). */
+    public record InvoiceTotals(
+        LocalDate date,
+        String status,
+        long count,
+        BigDecimal paidAmount,
+        BigDecimal balanceDue
+    ) {}
+
+    public record EntityCount(String entity, String status, long count) {}
+
+    /**
+     * Takes a transaction-scoped advisory lock so only one node rewrites the
+     * fact rows at a time. Returns {@code false} if another node holds it.
+     */
+    public boolean tryLock(String name) {
+        Boolean locked = jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(:name))",
+            new MapSqlParameterSource("name", name), Boolean.class);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    public Set<LocalDate> findAppointmentDates(Collection<UUID> appointmentIds) {
+        return findDates(APPOINTMENT_DATES, appointmentIds);
+    }
+
+    public Set<LocalDate> findInvoiceDates(Collection<UUID> invoiceIds) {
+        return findDates(INVOICE_DATES, invoiceIds);
+    }
+
+    public void refreshAppointments(LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = range(from, to);
+        jdbcTemplate.update(DELETE_APPOINTMENT_DAYS, params);
+        jdbcTemplate.update(INSERT_APPOINTMENT_DAYS, params);
+    }
+
+    public void refreshInvoices(LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = range(from, to);
+        jdbcTemplate.update(DELETE_INVOICE_DAYS, params);
+        jdbcTemplate.update(INSERT_INVOICE_DAYS, params);
+    }
+
+    public void refreshPatients(LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = range(from, to)
+            .addValue("fromInstant", from.atStartOfDay().atOffset(ZoneOffset.UTC))
+            .addValue("toInstant", to.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC));
+        jdbcTemplate.update(DELETE_PATIENT_DAYS, params);
+        jdbcTemplate.update(INSERT_PATIENT_DAYS, params);
+    }
+
+    public void refreshEntityCounts() {
+        jdbcTemplate.update(DELETE_ENTITY_COUNTS, new MapSqlParameterSource());
+        jdbcTemplate.update(INSERT_ENTITY_COUNTS, new MapSqlParameterSource());
+    }
+
+    public List<AppointmentCount> findAppointmentCounts(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_APPOINTMENT_DAYS, range(from, to), APPOINTMENT_COUNT_MAPPER);
+    }
+
+    public List<AppointmentCount> sumAppointmentsByStatus() {
+        return jdbcTemplate.query(SUM_APPOINTMENTS_BY_STATUS, APPOINTMENT_COUNT_MAPPER);
+    }
+
+    public List<InvoiceTotals> findInvoiceTotals(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_INVOICE_DAYS, range(from, to), INVOICE_TOTALS_MAPPER);
+    }
+
+    public List<InvoiceTotals> sumInvoicesByStatus() {
+        return jdbcTemplate.query(SUM_INVOICES_BY_STATUS, INVOICE_TOTALS_MAPPER);
+    }
+
+    public long sumPatientsCreatedSince(LocalDate from) {
+        Long count = jdbcTemplate.queryForObject(SUM_PATIENTS_CREATED_SINCE,
+            new MapSqlParameterSource("from", from), Long.class);
+        return count != null ? count : 0;
+    }
+
+    public List<EntityCount> findEntityCounts() {
+        return jdbcTemplate.query(FIND_ENTITY_COUNTS, (rs, rowNum) -> new EntityCount(
+            rs.getString("entity"),
+            rs.getString("status"),
+            rs.getLong("entity_count")));
+    }
+
+    private Set<LocalDate> findDates(String sql, Collection<UUID> ids) {
+        Set<LocalDate> dates = new TreeSet<>();
+        if (ids.isEmpty()) {
+            return dates;
+        }
+        jdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), rs -> {
+            dates.add(rs.getDate(1).toLocalDate());
+        });
+        return dates;
+    }
+
+    private static MapSqlParameterSource range(LocalDate from, LocalDate to) {
+        return new MapSqlParameterSource()
+            .addValue("from", from)
+            .addValue("to", to);
+    }
+}
@@ -0,0 +1,270 @@
+package com.healthcare.dashboard.service;
+
+import com.healthcare.appointment.domain.event.AppointmentCancelledEvent;
+import com.healthcare.appointment.domain.event.AppointmentCheckedInEvent;
+import com.healthcare.appointment.domain.event.AppointmentCompletedEvent;
+import com.healthcare.appointment.domain.event.AppointmentConfirmedEvent;
+import com.healthcare.appointment.domain.event.AppointmentNoShowEvent;
+import com.healthcare.appointment.domain.event.AppointmentRescheduledEvent;
+import com.healthcare.appointment.domain.event.AppointmentScheduledEvent;
+import com.healthcare.billing.domain.event.InsurancePaymentAppliedEvent;
+import com.healthcare.billing.domain.event.InvoiceCancelledEvent;
+import com.healthcare.billing.domain.event.InvoiceCreatedEvent;
+import com.healthcare.billing.domain.event.InvoiceFinalizedEvent;
+import com.healthcare.billing.domain.event.InvoiceOverdueEvent;
+import com.healthcare.billing.domain.event.InvoicePaidEvent;
+import com.healthcare.billing.domain.event.InvoiceRefundedEvent;
+import com.healthcare.billing.domain.event.PaymentReceivedEvent;
+import com.healthcare.common.domain.DomainEvent;
+import com.healthcare.dashboard.repository.DashboardMetricsRepository;
+import com.healthcare.patient.domain.event.PatientActivatedEvent;
+import com.healthcare.patient.domain.event.PatientDeactivatedEvent;
+import com.healthcare.patient.domain.event.PatientTransferredEvent;
+import com.healthcare.provider.domain.event.ProviderActivatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the dashboard fact tables current. Committed domain events record
+ * which appointments and invoices changed; every few seconds the days they
+ * fall on are re-aggregated from the source tables in one transaction.
+ * Patient and provider status counts are re-aggregated when their events
+ * arrive and at least every {@link #ENTITY_REFRESH_INTERVAL}, since patient
+ * registration publishes no event.
+ * <p>
+ * Changes that bypass domain events, such as {@code Invoice.writeOff()} and
+ * direct SQL, stay stale until the nightly reconciliation over the trailing
+ * and upcoming year. On an empty schema the
+ * first run backfills {@link #BACKFILL_YEARS} of history.
+ */
+@Component
+@EnableScheduling
+@Slf4j
+public class DashboardMetricsRefresher {
+
+    private static final String LOCK_NAME = "dashboard-metrics";
+    private static final Duration ENTITY_REFRESH_INTERVAL = Duration.ofMinutes(5);
+    private static final int RECONCILE_PAST_DAYS = 400;
+    private static final int RECONCILE_FUTURE_DAYS = 365;
+    private static final int BACKFILL_YEARS = 10;
+
+    private final DashboardMetricsRepository metricsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<UUID> dirtyAppointments = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> dirtyInvoices = ConcurrentHashMap.newKeySet();
+    private final Set<LocalDate> dirtyAppointmentDates = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean entityCountsDirty = new AtomicBoolean(true);
+    private volatile Instant entityCountsRefreshedAt = Instant.EPOCH;
+
+    public DashboardMetricsRefresher(DashboardMetricsRepository metricsRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.metricsRepository = metricsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true, classes = {
+        AppointmentScheduledEvent.class,
+        AppointmentConfirmedEvent.class,
+        AppointmentCheckedInEvent.class,
+        AppointmentCompletedEvent.class,
+        AppointmentCancelledEvent.class,
+        AppointmentNoShowEvent.class
+    })
+    public void onAppointmentChanged(DomainEvent event) {
+        dirtyAppointments.add(event.aggregateId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentRescheduled(AppointmentRescheduledEvent event) {
+        dirtyAppointments.add(event.appointmentId());
+        if (event.previousSlot() != null) {
+            dirtyAppointmentDates.add(event.previousSlot().getScheduledDate());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true, classes = {
+        InvoiceCreatedEvent.class,
+        InvoiceFinalizedEvent.class,
+        InvoiceOverdueEvent.class,
+        InvoicePaidEvent.class,
+        InvoiceCancelledEvent.class,
+        InvoiceRefundedEvent.class,
+        PaymentReceivedEvent.class,
+        InsurancePaymentAppliedEvent.class
+    })
+    public void onInvoiceChanged(DomainEvent event) {
+        UUID invoiceId = switch (event) {
+            case InvoiceCreatedEvent created -> created.getInvoiceId();
+            case InvoiceFinalizedEvent finalized -> finalized.getInvoiceId();
+            case InvoiceOverdueEvent overdue -> overdue.getInvoiceId();
+            case InvoicePaidEvent paid -> paid.getInvoiceId();
+            case InvoiceCancelledEvent cancelled -> cancelled.getInvoiceId();
+            case InvoiceRefundedEvent refunded -> refunded.getInvoiceId();
+            case PaymentReceivedEvent payment -> payment.getInvoiceId();
+            case InsurancePaymentAppliedEvent insurance -> insurance.getInvoiceId();
+            default -> null;
+        };
+        if (invoiceId != null) {
+            dirtyInvoices.add(invoiceId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true, classes = {
+        PatientActivatedEvent.class,
+        PatientDeactivatedEvent.class,
+        PatientTransferredEvent.class,
+        ProviderActivatedEvent.class
+    })
+    public void onEntityStatusChanged(DomainEvent event) {
+        entityCountsDirty.set(true);
+    }
+
+    @Scheduled(initialDelay = 15000, fixedDelay = 5000)
+    public void refreshDirty() {
+        boolean entitiesDue = entityCountsDirty.get()
+            || Instant.now().isAfter(entityCountsRefreshedAt.plus(ENTITY_REFRESH_INTERVAL));
+        if (dirtyAppointments.isEmpty() && dirtyInvoices.isEmpty()
+                && dirtyAppointmentDates.isEmpty() && !entitiesDue) {
+            return;
+        }
+
+        List<UUID> appointmentIds = drain(dirtyAppointments);
+        List<UUID> invoiceIds = drain(dirtyInvoices);
+        List<LocalDate> appointmentDates = drain(dirtyAppointmentDates);
+        if (entitiesDue) {
+            entityCountsDirty.set(false);
+        }
+
+        try {
+            Boolean refreshed = transactionTemplate.execute(status -> {
+                if (!metricsRepository.tryLock(LOCK_NAME)) {
+                    return false;
+                }
+                Set<LocalDate> days = new TreeSet<>(appointmentDates);
+                days.addAll(metricsRepository.findAppointmentDates(appointmentIds));
+                forEachRange(days, metricsRepository::refreshAppointments);
+                forEachRange(metricsRepository.findInvoiceDates(invoiceIds), metricsRepository::refreshInvoices);
+                if (entitiesDue) {
+                    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+                    metricsRepository.refreshPatients(today.minusDays(1), today);
+                    metricsRepository.refreshEntityCounts();
+                }
+                return true;
+            });
+            if (Boolean.TRUE.equals(refreshed)) {
+                if (entitiesDue) {
+                    entityCountsRefreshedAt = Instant.now();
+                }
+                return;
+            }
+            log.debug("Dashboard metrics refresh skipped; another node holds the lock");
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh dashboard metrics: {}", e.getMessage());
+        }
+
+        dirtyAppointments.addAll(appointmentIds);
+        dirtyInvoices.addAll(invoiceIds);
+        dirtyAppointmentDates.addAll(appointmentDates);
+        if (entitiesDue) {
+            entityCountsDirty.set(true);
+        }
+    }
+
+    @Scheduled(cron = "0 30 2 * * *")
+    public void reconcile() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        reconcile(today.minusDays(RECONCILE_PAST_DAYS), today.plusDays(RECONCILE_FUTURE_DAYS));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (metricsRepository.findEntityCounts().isEmpty()) {
+                LocalDate today = LocalDate.now(ZoneOffset.UTC);
+                reconcile(today.minusYears(BACKFILL_YEARS), today.plusDays(RECONCILE_FUTURE_DAYS));
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to backfill dashboard metrics", e);
+        }
+    }
+
+    private void reconcile(LocalDate from, LocalDate to) {
+        log.info("Reconciling dashboard metrics from {} to {}", from, to);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        try {
+            Boolean reconciled = transactionTemplate.execute(status -> {
+                if (!metricsRepository.tryLock(LOCK_NAME)) {
+                    return false;
+                }
+                metricsRepository.refreshAppointments(from, to);
+                metricsRepository.refreshInvoices(from, to.isAfter(today) ? today : to);
+                metricsRepository.refreshPatients(from, today);
+                metricsRepository.refreshEntityCounts();
+                return true;
+            });
+            if (Boolean.TRUE.equals(reconciled)) {
+                entityCountsRefreshedAt = Instant.now();
+            } else {
+                log.info("Dashboard metrics reconciliation skipped; another node holds the lock");
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile dashboard metrics", e);
+        }
+    }
+
+    /** Calls {@code refresh} once per run of consecutive days. */
+    private static void forEachRange(Set<LocalDate> days, RangeRefresh refresh) {
+        LocalDate start = null;
+        LocalDate end = null;
+        for (LocalDate day : new TreeSet<>(days)) {
+            if (end != null && day.equals(end.plusDays(1))) {
+                end = day;
+                continue;
+            }
+            if (start != null) {
+                refresh.refresh(start, end);
+            }
+            start = day;
+            end = day;
+        }
+        if (start != null) {
+            refresh.refresh(start, end);
+        }
+    }
+
+    private static <T> List<T> drain(Set<T> dirty) {
+        List<T> drained = new ArrayList<>();
+        for (T value : dirty) {
+            if (dirty.remove(value)) {
+                drained.add(value);
+            }
+        }
+        return drained;
+    }
+
+    @FunctionalInterface
+    private interface RangeRefresh {
+        void refresh(LocalDate from, LocalDate to);
+    }
+}
@@ -3,13 +3,17 @@ package com.healthcare.dashboard.service;
 import com.healthcare.dashboard.dto.*;
 import com.healthcare.appointment.service.AppointmentService;
 import com.healthcare.appointment.domain.AppointmentStatus;
-import com.healthcare.billing.service.InvoiceService;
 import com.healthcare.billing.domain.InvoiceStatus;
 import com.healthcare.patient.service.PatientService;
 import com.healthcare.patient.domain.PatientStatus;
-import com.healthcare.provider.service.ProviderService;
+import com.healthcare.patient.api.dto.PatientResponse;
+import com.healthcare.provider.api.ProviderLookup;
 import com.healthcare.provider.domain.ProviderStatus;
 import com.healthcare.audit.service.AuditQueryService;
+import com.healthcare.dashboard.repository.DashboardMetricsRepository;
+import com.healthcare.dashboard.repository.DashboardMetricsRepository.AppointmentCount;
+import com.healthcare.dashboard.repository.DashboardMetricsRepository.EntityCount;
+import com.healthcare.dashboard.repository.DashboardMetricsRepository.InvoiceTotals;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +29,13 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,62 +44,101 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DashboardService {
 
+    private static final Set<String> REVENUE_STATUSES =
+        Set.of(InvoiceStatus.PAID.name(), InvoiceStatus.PARTIALLY_PAID.name());
+    private static final Set<String> OUTSTANDING_STATUSES =
+        Set.of(InvoiceStatus.PENDING.name(), InvoiceStatus.PARTIALLY_PAID.name(), InvoiceStatus.OVERDUE.name());
+
     private final PatientService patientService;
-    private final ProviderService providerService;
+    private final ProviderLookup providerLookup;
     private final AppointmentService appointmentService;
-    private final InvoiceService invoiceService;
+    private final DashboardMetricsRepository metricsRepository;
     private final AuditQueryService auditQueryService;
 
     public DashboardStatsResponse getStats() {
         LocalDate today = LocalDate.now();
+        LocalDate monthStart = today.withDayOfMonth(1);
         LocalDate lastMonth = today.minusMonths(1);
+        LocalDate lastMonthStart = lastMonth.withDayOfMonth(1);
+        LocalDate lastMonthEnd = lastMonth.withDayOfMonth(lastMonth.lengthOfMonth());
+
+        long totalPatients = 0;
+        long activePatients = 0;
+        long totalProviders = 0;
+        long activeProviders = 0;
+        for (EntityCount count : metricsRepository.findEntityCounts()) {
+            if (DashboardMetricsRepository.ENTITY_PATIENT.equals(count.entity())) {
+                totalPatients += count.count();
+                if (PatientStatus.ACTIVE.name().equals(count.status())) {
+                    activePatients += count.count();
+                }
+            } else if (DashboardMetricsRepository.ENTITY_PROVIDER.equals(count.entity())) {
+                totalProviders += count.count();
+                if (ProviderStatus.ACTIVE.name().equals(count.status())) {
+                    activeProviders += count.count();
+                }
+            }
+        }
+        long lastMonthPatients = totalPatients - metricsRepository.sumPatientsCreatedSince(lastMonth);
+
+        long todayAppointments = 0;
+        long completedAppointments = 0;
+        long cancelledAppointments = 0;
+        long thisMonthAppointments = 0;
+        long lastMonthAppointments = 0;
+        for (AppointmentCount count : metricsRepository.findAppointmentCounts(lastMonthStart, today)) {
+            if (count.date().isBefore(monthStart)) {
+                if (!count.date().isAfter(lastMonthEnd)) {
+                    lastMonthAppointments += count.count();
+                }
+                continue;
+            }
+            thisMonthAppointments += count.count();
+            if (count.date().equals(today)) {
+                todayAppointments += count.count();
+            }
+            if (AppointmentStatus.COMPLETED.name().equals(count.status())) {
+                completedAppointments += count.count();
+            } else if (AppointmentStatus.CANCELLED.name().equals(count.status())) {
+                cancelledAppointments += count.count();
+            }
+        }
+        long pendingAppointments = metricsRepository.sumAppointmentsByStatus().stream()
+            .filter(count -> AppointmentStatus.SCHEDULED.name().equals(count.status()))
+            .mapToLong(AppointmentCount::count)
+            .sum();
+
+        BigDecimal monthlyRevenue = BigDecimal.ZERO;
+        BigDecimal lastMonthRevenue = BigDecimal.ZERO;
+        for (InvoiceTotals totals : metricsRepository.findInvoiceTotals(lastMonthStart, today)) {
+            if (!REVENUE_STATUSES.contains(totals.status())) {
+                continue;
+            }
+            if (!totals.date().isBefore(monthStart)) {
+                monthlyRevenue = monthlyRevenue.add(totals.paidAmount());
+            } else if (!totals.date().isAfter(lastMonthEnd)) {
+                lastMonthRevenue = lastMonthRevenue.add(totals.paidAmount());
+            }
+        }
 
-        long totalPatients = patientService.count();
-        long activePatients = patientService.countByStatus(PatientStatus.ACTIVE);
-        long lastMonthPatients = patientService.countCreatedBefore(lastMonth.atStartOfDay().toInstant(java.time.ZoneOffset.UTC));
-
-        long totalProviders = providerService.count();
-        long activeProviders = providerService.countByStatus(ProviderStatus.ACTIVE);
-
-        long todayAppointments = appointmentService.countByDate(today);
-        long pendingAppointments = appointmentService.countByStatus(AppointmentStatus.SCHEDULED);
-        long completedAppointments = appointmentService.countByStatusAndDateRange(
-            AppointmentStatus.COMPLETED,
-            today.withDayOfMonth(1),
-            today
-        );
-        long cancelledAppointments = appointmentService.countByStatusAndDateRange(
-            AppointmentStatus.CANCELLED,
-            today.withDayOfMonth(1),
-            today
-        );
-
-        BigDecimal monthlyRevenue = invoiceService.getRevenueForPeriod(
-            today.withDayOfMonth(1),
-            today
-        );
-        BigDecimal outstandingBalance = invoiceService.getTotalOutstanding();
-        long overdueInvoices = invoiceService.countByStatus(InvoiceStatus.OVERDUE);
+        BigDecimal outstandingBalance = BigDecimal.ZERO;
+        long overdueInvoices = 0;
+        for (InvoiceTotals totals : metricsRepository.sumInvoicesByStatus()) {
+            if (OUTSTANDING_STATUSES.contains(totals.status())) {
+                outstandingBalance = outstandingBalance.add(totals.balanceDue());
+            }
+            if (InvoiceStatus.OVERDUE.name().equals(totals.status())) {
+                overdueInvoices += totals.count();
+            }
+        }
 
         long prevMonthPatients = lastMonthPatients > 0 ? lastMonthPatients : 1;
         double patientGrowth = ((double)(totalPatients - prevMonthPatients) / prevMonthPatients) * 100;
 
-        long lastMonthAppointments = appointmentService.countByDateRange(
-            lastMonth.withDayOfMonth(1),
-            lastMonth.withDayOfMonth(lastMonth.lengthOfMonth())
-        );
-        long thisMonthAppointments = appointmentService.countByDateRange(
-            today.withDayOfMonth(1),
-            today
-        );
         double appointmentGrowth = lastMonthAppointments > 0
             ? ((double)(thisMonthAppointments - lastMonthAppointments) / lastMonthAppointments) * 100
             : 0;
 
-        BigDecimal lastMonthRevenue = invoiceService.getRevenueForPeriod(
-            lastMonth.withDayOfMonth(1),
-            lastMonth.withDayOfMonth(lastMonth.lengthOfMonth())
-        );
         double revenueGrowth = lastMonthRevenue.compareTo(BigDecimal.ZERO) > 0
             ? monthlyRevenue.subtract(lastMonthRevenue)
                 .divide(lastMonthRevenue, 4, RoundingMode.HALF_UP)
@@ -127,38 +177,37 @@ public class DashboardService {
     }
 
     public TrendDataResponse getAppointmentTrends(LocalDate startDate, LocalDate endDate, String period) {
+        NavigableMap<LocalDate, Long> daily = new TreeMap<>();
+        for (AppointmentCount count : metricsRepository.findAppointmentCounts(startDate, endDate)) {
+            daily.merge(count.date(), count.count(), Long::sum);
+        }
+
         List<TrendDataResponse.TrendDataPoint> dataPoints = new ArrayList<>();
 
         LocalDate current = startDate;
         while (!current.isAfter(endDate)) {
-            LocalDate periodEnd = switch (period.toUpperCase()) {
-                case "WEEKLY" -> current.plusWeeks(1).minusDays(1);
-                case "MONTHLY" -> current.plusMonths(1).minusDays(1);
-                default -> current;
-            };
-
-            if (periodEnd.isAfter(endDate)) {
-                periodEnd = endDate;
-            }
+            LocalDate periodEnd = periodEnd(current, endDate, period);
 
-            long count = appointmentService.countByDateRange(current, periodEnd);
+            long count = daily.subMap(current, true, periodEnd, true).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
             dataPoints.add(new TrendDataResponse.TrendDataPoint(
                 current,
                 formatDateLabel(current, period),
                 count
             ));
 
-            current = switch (period.toUpperCase()) {
-                case "WEEKLY" -> current.plusWeeks(1);
-                case "MONTHLY" -> current.plusMonths(1);
-                default -> current.plusDays(1);
-            };
+            current = nextPeriod(current, period);
         }
 
         return new TrendDataResponse(dataPoints, period.toUpperCase(), startDate, endDate);
     }
 
     public RevenueTrendResponse getRevenueTrends(LocalDate startDate, LocalDate endDate, String period) {
+        NavigableMap<LocalDate, List<InvoiceTotals>> daily = metricsRepository.findInvoiceTotals(startDate, endDate)
+            .stream()
+            .collect(Collectors.groupingBy(InvoiceTotals::date, TreeMap::new, Collectors.toList()));
+
         List<RevenueTrendResponse.RevenueDataPoint> dataPoints = new ArrayList<>();
         BigDecimal totalRevenue = BigDecimal.ZERO;
 
@@ -166,20 +215,23 @@ public class DashboardService {
         int periodCount = 0;
 
         while (!current.isAfter(endDate)) {
-            LocalDate periodEnd = switch (period.toUpperCase()) {
-                case "WEEKLY" -> current.plusWeeks(1).minusDays(1);
-                case "MONTHLY" -> current.plusMonths(1).minusDays(1);
-                default -> current;
-            };
-
-            if (periodEnd.isAfter(endDate)) {
-                periodEnd = endDate;
+            LocalDate periodEnd = periodEnd(current, endDate, period);
+
+            BigDecimal revenue = BigDecimal.ZERO;
+            BigDecimal collections = BigDecimal.ZERO;
+            BigDecimal outstanding = BigDecimal.ZERO;
+            for (List<InvoiceTotals> day : daily.subMap(current, true, periodEnd, true).values()) {
+                for (InvoiceTotals totals : day) {
+                    collections = collections.add(totals.paidAmount());
+                    if (REVENUE_STATUSES.contains(totals.status())) {
+                        revenue = revenue.add(totals.paidAmount());
+                    }
+                    if (OUTSTANDING_STATUSES.contains(totals.status())) {
+                        outstanding = outstanding.add(totals.balanceDue());
+                    }
+                }
             }
 
-            BigDecimal revenue = invoiceService.getRevenueForPeriod(current, periodEnd);
-            BigDecimal collections = invoiceService.getCollectionsForPeriod(current, periodEnd);
-            BigDecimal outstanding = invoiceService.getOutstandingForPeriod(current, periodEnd);
-
             totalRevenue = totalRevenue.add(revenue);
             periodCount++;
 
@@ -191,11 +243,7 @@ public class DashboardService {
                 outstanding
             ));
 
-            current = switch (period.toUpperCase()) {
-                case "WEEKLY" -> current.plusWeeks(1);
-                case "MONTHLY" -> current.plusMonths(1);
-                default -> current.plusDays(1);
-            };
+            current = nextPeriod(current, period);
         }
 
         BigDecimal averageRevenue = periodCount > 0
@@ -238,27 +286,40 @@ public class DashboardService {
 
         var appointments = appointmentService.getUpcoming(limit);
 
+        Set<UUID> patientIds = new HashSet<>();
+        Set<UUID> providerIds = new HashSet<>();
+        for (var apt : appointments) {
+            patientIds.add(apt.patientId());
+            providerIds.add(apt.providerId());
+        }
+        Map<UUID, PatientResponse> patients = findPatients(patientIds);
+        Map<UUID, ProviderLookup.ProviderInfo> providers = findProviders(providerIds);
+
         List<UpcomingAppointmentsResponse.UpcomingAppointment> upcomingList = appointments.stream()
-            .map(apt -> new UpcomingAppointmentsResponse.UpcomingAppointment(
-                apt.id(),
-                apt.appointmentNumber(),
-                apt.scheduledDate(),
-                apt.startTime(),
-                apt.endTime(),
-                calculateDuration(apt.startTime(), apt.endTime()),
-                apt.appointmentType().name(),
-                apt.status().name(),
-                new UpcomingAppointmentsResponse.PatientInfo(
-                    apt.patientId(),
-                    getPatientName(apt.patientId()),
-                    getPatientMrn(apt.patientId())
-                ),
-                new UpcomingAppointmentsResponse.ProviderInfo(
-                    apt.providerId(),
-                    getProviderName(apt.providerId()),
-                    getProviderSpecialty(apt.providerId())
-                )
-            ))
+            .map(apt -> {
+                PatientResponse patient = patients.get(apt.patientId());
+                ProviderLookup.ProviderInfo provider = providers.get(apt.providerId());
+                return new UpcomingAppointmentsResponse.UpcomingAppointment(
+                    apt.id(),
+                    apt.appointmentNumber(),
+                    apt.scheduledDate(),
+                    apt.startTime(),
+                    apt.endTime(),
+                    calculateDuration(apt.startTime(), apt.endTime()),
+                    apt.appointmentType().name(),
+                    apt.status().name(),
+                    new UpcomingAppointmentsResponse.PatientInfo(
+                        apt.patientId(),
+                        patient != null ? patient.firstName() + " " + patient.lastName() : "Unknown",
+                        patient != null ? patient.medicalRecordNumber() : ""
+                    ),
+                    new UpcomingAppointmentsResponse.ProviderInfo(
+                        apt.providerId(),
+                        provider != null ? provider.fullName() : "Unknown",
+                        provider != null ? provider.specialization() : ""
+                    )
+                );
+            })
             .collect(Collectors.toList());
 
         int todayCount = (int) upcomingList.stream()
@@ -276,6 +337,23 @@ public class DashboardService {
         );
     }
 
+    private LocalDate periodEnd(LocalDate current, LocalDate endDate, String period) {
+        LocalDate periodEnd = switch (period.toUpperCase()) {
+            case "WEEKLY" -> current.plusWeeks(1).minusDays(1);
+            case "MONTHLY" -> current.plusMonths(1).minusDays(1);
+            default -> current;
+        };
+        return periodEnd.isAfter(endDate) ? endDate : periodEnd;
+    }
+
+    private LocalDate nextPeriod(LocalDate current, String period) {
+        return switch (period.toUpperCase()) {
+            case "WEEKLY" -> current.plusWeeks(1);
+            case "MONTHLY" -> current.plusMonths(1);
+            default -> current.plusDays(1);
+        };
+    }
+
     private String formatDateLabel(LocalDate date, String period) {
         return switch (period.toUpperCase()) {
             case "WEEKLY" -> "Week of " + date.toString();
@@ -306,39 +384,22 @@ public class DashboardService {
         };
     }
 
-    private String getPatientName(java.util.UUID patientId) {
-        try {
-            var patient = patientService.findById(patientId);
-            return patient.map(p -> p.firstName() + " " + p.lastName()).orElse("Unknown");
-        } catch (Exception e) {
-            return "Unknown";
-        }
-    }
-
-    private String getPatientMrn(java.util.UUID patientId) {
-        try {
-            var patient = patientService.findById(patientId);
-            return patient.map(p -> p.medicalRecordNumber()).orElse("");
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    private String getProviderName(java.util.UUID providerId) {
+    private Map<UUID, PatientResponse> findPatients(Set<UUID> patientIds) {
         try {
-            var provider = providerService.findById(providerId);
-            return provider.map(p -> "Dr. " + p.firstName() + " " + p.lastName()).orElse("Unknown");
+            return patientService.getPatientsByIds(patientIds).stream()
+                .collect(Collectors.toMap(PatientResponse::id, Function.identity()));
         } catch (Exception e) {
-            return "Unknown";
+            log.warn("Failed to resolve patients for upcoming appointments: {}", e.getMessage());
+            return Map.of();
         }
     }
 
-    private String getProviderSpecialty(java.util.UUID providerId) {
+    private Map<UUID, ProviderLookup.ProviderInfo> findProviders(Set<UUID> providerIds) {
         try {
-            var provider = providerService.findById(providerId);
-            return provider.map(p -> p.specialization()).orElse("");
+            return providerLookup.findAllByIds(providerIds);
         } catch (Exception e) {
-            return "";
+            log.warn("Failed to resolve providers for upcoming appointments: {}", e.getMessage());
+            return Map.of();
         }
     }
 
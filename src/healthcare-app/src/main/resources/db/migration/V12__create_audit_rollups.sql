@@ -0,0 +1,47 @@
+-- V12__create_audit_rollups.sql
+-- Precomputed audit_events aggregates for compliance reporting.
+-- Maintained incrementally by AuditScheduler; buckets are UTC-aligned.
+
+-- =====================================================
+-- EVENT COUNTS BY CATEGORY / ACTION / OUTCOME / SEVERITY
+-- =====================================================
+CREATE TABLE IF NOT EXISTS audit_event_rollups (
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    resource_category VARCHAR(30) NOT NULL,
+    action VARCHAR(30) NOT NULL,
+    outcome VARCHAR(20) NOT NULL,
+    severity VARCHAR(20) NOT NULL,
+    event_count BIGINT NOT NULL,
+
+    CONSTRAINT pk_audit_event_rollups
+        PRIMARY KEY (granularity, bucket_start, resource_category, action, outcome, severity),
+    CONSTRAINT chk_audit_event_rollups_granularity CHECK (granularity IN ('HOUR', 'DAY'))
+);
+
+-- =====================================================
+-- PHI ACCESS COUNTS PER USER
+-- =====================================================
+CREATE TABLE IF NOT EXISTS audit_phi_access_rollups (
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    user_id UUID NOT NULL,
+    access_count BIGINT NOT NULL,
+
+    CONSTRAINT pk_audit_phi_access_rollups
+        PRIMARY KEY (granularity, bucket_start, user_id),
+    CONSTRAINT chk_audit_phi_access_rollups_granularity CHECK (granularity IN ('HOUR', 'DAY'))
+);
+
+-- =====================================================
+-- ROLLUP WATERMARK
+-- =====================================================
+CREATE TABLE IF NOT EXISTS audit_rollup_state (
+    name VARCHAR(50) PRIMARY KEY,
+    watermark TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE audit_event_rollups IS 'Hourly/daily audit_events counts; every bucket before audit_rollup_state.watermark is complete';
+COMMENT ON TABLE audit_phi_access_rollups IS 'Hourly/daily PHI access counts per user';
+COMMENT ON COLUMN audit_rollup_state.watermark IS 'Exclusive upper bound of event_timestamp already rolled up';
@@ -0,0 +1,129 @@
+-- V13__partition_audit_events.sql
+-- Convert audit_events to monthly RANGE partitions on event_timestamp.
+-- Future partitions are created and expired ones detached by the audit partition manager.
+-- Table remains IMMUTABLE; retention is 6+ years per HIPAA requirements.
+
+ALTER TABLE audit_events RENAME TO audit_events_unpartitioned;
+
+DROP INDEX IF EXISTS idx_audit_event_timestamp;
+DROP INDEX IF EXISTS idx_audit_event_user_id;
+DROP INDEX IF EXISTS idx_audit_event_resource;
+DROP INDEX IF EXISTS idx_audit_event_action;
+DROP INDEX IF EXISTS idx_audit_event_patient_id;
+DROP INDEX IF EXISTS idx_audit_event_correlation_id;
+DROP INDEX IF EXISTS idx_audit_event_session_id;
+DROP INDEX IF EXISTS idx_audit_event_outcome;
+DROP INDEX IF EXISTS idx_audit_event_severity;
+DROP INDEX IF EXISTS idx_audit_event_compliance;
+DROP INDEX IF EXISTS idx_audit_event_security;
+DROP INDEX IF EXISTS idx_audit_event_phi;
+
+CREATE TABLE audit_events (
+    id UUID NOT NULL,
+
+    -- Timestamp (partition key)
+    event_timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    -- Correlation
+    correlation_id VARCHAR(64),
+    session_id VARCHAR(64),
+
+    -- Actor information
+    user_id UUID NOT NULL,
+    username VARCHAR(100),
+    user_role VARCHAR(50),
+    client_ip_hash VARCHAR(64),
+    user_agent VARCHAR(255),
+
+    -- Action information
+    action VARCHAR(30) NOT NULL,
+    outcome VARCHAR(20) NOT NULL,
+    severity VARCHAR(20) NOT NULL,
+    description VARCHAR(500),
+
+    -- Resource information
+    resource_category VARCHAR(30) NOT NULL,
+    resource_id UUID,
+    resource_type VARCHAR(100),
+    patient_id UUID,
+
+    -- Change tracking
+    accessed_fields TEXT,
+    changed_fields TEXT,
+
+    -- Request information
+    http_method VARCHAR(10),
+    request_uri VARCHAR(500),
+    response_status INTEGER,
+    response_time_ms BIGINT,
+
+    -- Error information
+    error_code VARCHAR(50),
+    error_message VARCHAR(500),
+
+    -- Metadata
+    metadata TEXT,
+    checksum VARCHAR(64),
+    schema_version VARCHAR(10) DEFAULT '1.0',
+
+    CONSTRAINT pk_audit_events PRIMARY KEY (id, event_timestamp)
+) PARTITION BY RANGE (event_timestamp);
+
+-- Monthly partitions from the oldest existing event through three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month',
+        COALESCE((SELECT MIN(event_timestamp) FROM audit_events_unpartitioned), now()) AT TIME ZONE 'UTC')::date;
+    last_month DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_events FOR VALUES FROM (%L) TO (%L)',
+            'audit_events_' || to_char(month_start, 'YYYY_MM'),
+            month_start::timestamp AT TIME ZONE 'UTC',
+            (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC');
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- Safety net for rows outside any monthly partition; expected to stay empty
+CREATE TABLE IF NOT EXISTS audit_events_default PARTITION OF audit_events DEFAULT;
+
+INSERT INTO audit_events SELECT * FROM audit_events_unpartitioned;
+
+DROP TABLE audit_events_unpartitioned;
+
+-- Indexes are declared on the parent and cascade to every partition.
+-- Partition pruning replaces the standalone event_timestamp b-tree; reporting
+-- aggregates are served from audit_event_rollups (V12).
+CREATE INDEX IF NOT EXISTS idx_audit_event_timestamp
+    ON audit_events USING BRIN (event_timestamp);
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_user_id
+    ON audit_events(user_id, event_timestamp DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_patient_id
+    ON audit_events(patient_id, event_timestamp DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_resource
+    ON audit_events(resource_category, resource_id, event_timestamp DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_action
+    ON audit_events(action, event_timestamp DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_correlation_id
+    ON audit_events(correlation_id);
+
+COMMENT ON TABLE audit_events IS 'HIPAA-compliant audit log - IMMUTABLE (no UPDATE/DELETE), partitioned monthly by event_timestamp';
+COMMENT ON COLUMN audit_events.id IS 'Unique identifier for the audit event';
+COMMENT ON COLUMN audit_events.event_timestamp IS 'UTC timestamp when event occurred (partition key)';
+COMMENT ON COLUMN audit_events.correlation_id IS 'Request correlation ID for tracing';
+COMMENT ON COLUMN audit_events.user_id IS 'ID of user who performed the action';
+COMMENT ON COLUMN audit_events.client_ip_hash IS 'Hashed client IP for privacy';
+COMMENT ON COLUMN audit_events.action IS 'Type of action performed';
+COMMENT ON COLUMN audit_events.outcome IS 'Result of the action (SUCCESS, FAILURE, DENIED, ERROR)';
+COMMENT ON COLUMN audit_events.severity IS 'Severity level (LOW, MEDIUM, HIGH, CRITICAL)';
+COMMENT ON COLUMN audit_events.resource_category IS 'Category of resource accessed';
+COMMENT ON COLUMN audit_events.patient_id IS 'Patient ID for patient-centric audit trail';
+COMMENT ON COLUMN audit_events.changed_fields IS 'JSON of field changes (values masked per SEC009)';
+COMMENT ON COLUMN audit_events.checksum IS 'SHA-256 hash for tamper detection';
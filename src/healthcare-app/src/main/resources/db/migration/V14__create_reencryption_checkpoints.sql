@@ -0,0 +1,15 @@
+-- V14__create_reencryption_checkpoints.sql
+-- Progress of the background job that moves encrypted columns to the
+-- current data-key version after a rotation. One row per column.
+
+CREATE TABLE IF NOT EXISTS encryption_reencryption_checkpoints (
+    table_name VARCHAR(63) NOT NULL,
+    column_name VARCHAR(63) NOT NULL,
+    key_version INTEGER NOT NULL,
+    last_id UUID,
+    rows_reencrypted BIGINT NOT NULL DEFAULT 0,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_encryption_reencryption_checkpoints PRIMARY KEY (table_name, column_name)
+);
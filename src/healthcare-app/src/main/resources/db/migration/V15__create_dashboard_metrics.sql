@@ -0,0 +1,52 @@
+-- V15__create_dashboard_metrics.sql
+-- Per-day fact rollups read by the dashboard endpoints.
+-- Days touched by domain events are recomputed by DashboardMetricsRefresher;
+-- a nightly run reconciles the trailing window against the source tables.
+
+-- =====================================================
+-- APPOINTMENTS BY SCHEDULED DATE AND CURRENT STATUS
+-- =====================================================
+CREATE TABLE IF NOT EXISTS dashboard_daily_appointments (
+    metric_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    appointment_count BIGINT NOT NULL,
+
+    CONSTRAINT pk_dashboard_daily_appointments PRIMARY KEY (metric_date, status)
+);
+
+-- =====================================================
+-- INVOICES BY INVOICE DATE AND CURRENT STATUS
+-- =====================================================
+CREATE TABLE IF NOT EXISTS dashboard_daily_invoices (
+    metric_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    invoice_count BIGINT NOT NULL,
+    paid_amount DECIMAL(14, 2) NOT NULL,
+    balance_due DECIMAL(14, 2) NOT NULL,
+
+    CONSTRAINT pk_dashboard_daily_invoices PRIMARY KEY (metric_date, status)
+);
+
+-- =====================================================
+-- PATIENT REGISTRATIONS PER UTC DAY
+-- =====================================================
+CREATE TABLE IF NOT EXISTS dashboard_daily_patients (
+    metric_date DATE PRIMARY KEY,
+    created_count BIGINT NOT NULL
+);
+
+-- =====================================================
+-- CURRENT PATIENT / PROVIDER COUNTS BY STATUS
+-- =====================================================
+CREATE TABLE IF NOT EXISTS dashboard_entity_counts (
+    entity VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    entity_count BIGINT NOT NULL,
+
+    CONSTRAINT pk_dashboard_entity_counts PRIMARY KEY (entity, status)
+);
+
+COMMENT ON TABLE dashboard_daily_appointments IS 'Non-deleted appointments per scheduled_date and status';
+COMMENT ON TABLE dashboard_daily_invoices IS 'Non-deleted invoice counts and amounts per invoice_date and status';
+COMMENT ON TABLE dashboard_daily_patients IS 'Non-deleted patients per UTC creation date';
+COMMENT ON TABLE dashboard_entity_counts IS 'Non-deleted patients and providers per status';
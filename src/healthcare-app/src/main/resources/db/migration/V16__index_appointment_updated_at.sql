@@ -0,0 +1,5 @@
+-- V16__index_appointment_updated_at.sql
+-- ProviderAvailabilityIndex polls for appointments changed on other nodes
+-- every few seconds; without this index each poll scans the table.
+
+CREATE INDEX IF NOT EXISTS idx_appointment_updated_at ON appointments(updated_at);
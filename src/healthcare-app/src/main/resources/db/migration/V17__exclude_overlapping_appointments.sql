@@ -0,0 +1,36 @@
+-- V17__exclude_overlapping_appointments.sql
+-- A provider cannot hold two active appointments whose times overlap.
+-- The constraint lets the INSERT itself reject a double booking, even when
+-- two nodes book the same slot at the same moment.
+-- Times are local wall-clock values, so the range is a tsrange over
+-- scheduled_date + start_time. Its upper bound adds duration_minutes, so a
+-- slot that runs past midnight is still a valid range.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+DECLARE
+    overlapping BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO overlapping
+    FROM appointments a
+    JOIN appointments b ON b.provider_id = a.provider_id AND b.id > a.id
+    WHERE a.is_deleted = false AND b.is_deleted = false
+      AND a.status IN ('SCHEDULED', 'CONFIRMED', 'CHECKED_IN', 'IN_PROGRESS')
+      AND b.status IN ('SCHEDULED', 'CONFIRMED', 'CHECKED_IN', 'IN_PROGRESS')
+      AND a.scheduled_date + a.start_time < b.scheduled_date + b.start_time + b.duration_minutes * INTERVAL '1 minute'
+      AND b.scheduled_date + b.start_time < a.scheduled_date + a.start_time + a.duration_minutes * INTERVAL '1 minute';
+    IF overlapping > 0 THEN
+        RAISE EXCEPTION '% pairs of active appointments overlap for the same provider; '
+            'cancel or reschedule them before applying this migration', overlapping;
+    END IF;
+END $$;
+
+ALTER TABLE appointments
+    ADD CONSTRAINT ex_appointment_provider_slot
+    EXCLUDE USING gist (
+        provider_id WITH =,
+        tsrange(scheduled_date + start_time,
+                scheduled_date + start_time + duration_minutes * INTERVAL '1 minute') WITH &&
+    )
+    WHERE (is_deleted = false AND status IN ('SCHEDULED', 'CONFIRMED', 'CHECKED_IN', 'IN_PROGRESS'));
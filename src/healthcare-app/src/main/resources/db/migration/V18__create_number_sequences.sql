@@ -0,0 +1,57 @@
+-- V18__create_number_sequences.sql
+-- Shared counters behind business numbers (APT-20260315-0042 and friends).
+-- Each node leases a block of values per sequence and period from here, so
+-- numbers stay unique across nodes. A new period starts a new row at 1.
+
+CREATE TABLE IF NOT EXISTS number_sequences (
+    sequence_name VARCHAR(50) NOT NULL,
+    period VARCHAR(20) NOT NULL,
+    next_value BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_number_sequences PRIMARY KEY (sequence_name, period)
+);
+
+-- Continue after numbers issued by the old per-node counters.
+INSERT INTO number_sequences (sequence_name, period, next_value)
+SELECT 'APT', split_part(appointment_number, '-', 2), MAX(split_part(appointment_number, '-', 3)::BIGINT) + 1
+FROM appointments WHERE appointment_number ~ '^APT-[0-9]{8}-[0-9]+$'
+GROUP BY 2
+ON CONFLICT DO NOTHING;
+
+INSERT INTO number_sequences (sequence_name, period, next_value)
+SELECT 'INV', split_part(invoice_number, '-', 2), MAX(split_part(invoice_number, '-', 3)::BIGINT) + 1
+FROM invoices WHERE invoice_number ~ '^INV-[0-9]{8}-[0-9]+$'
+GROUP BY 2
+ON CONFLICT DO NOTHING;
+
+INSERT INTO number_sequences (sequence_name, period, next_value)
+SELECT 'CLM', split_part(claim_number, '-', 2), MAX(split_part(claim_number, '-', 3)::BIGINT) + 1
+FROM insurance_claims WHERE claim_number ~ '^CLM-[0-9]{8}-[0-9]+$'
+GROUP BY 2
+ON CONFLICT DO NOTHING;
+
+INSERT INTO number_sequences (sequence_name, period, next_value)
+SELECT 'PAY', split_part(reference_number, '-', 2), MAX(split_part(reference_number, '-', 3)::BIGINT) + 1
+FROM payments WHERE reference_number ~ '^PAY-[0-9]{8}-[0-9]+$'
+GROUP BY 2
+ON CONFLICT DO NOTHING;
+
+INSERT INTO number_sequences (sequence_name, period, next_value)
+SELECT 'MR', split_part(record_number, '-', 2), MAX(split_part(record_number, '-', 3)::BIGINT) + 1
+FROM medical_records WHERE record_number ~ '^MR-[0-9]{8}-[0-9]+$'
+GROUP BY 2
+ON CONFLICT DO NOTHING;
+
+-- Provider numbers are <type code><yyyy><sequence>, e.g. MD2026007.
+INSERT INTO number_sequences (sequence_name, period, next_value)
+SELECT 'PROVIDER-' || parts[1], parts[2], MAX(parts[3]::BIGINT) + 1
+FROM (
+    SELECT regexp_match(provider_number, '^([A-Za-z]+)([0-9]{4})([0-9]+)$') AS parts
+    FROM providers
+) numbered
+WHERE parts IS NOT NULL
+GROUP BY parts[1], parts[2]
+ON CONFLICT DO NOTHING;
+
+COMMENT ON TABLE number_sequences IS 'Next unleased value per business-number sequence and period (day or year)';
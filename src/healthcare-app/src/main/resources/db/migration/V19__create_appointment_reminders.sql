@@ -0,0 +1,19 @@
+-- V19__create_appointment_reminders.sql
+-- One row per appointment and reminder window, claimed in the same
+-- transaction that enqueues the reminder notification. The primary key makes
+-- re-running the reminder job after a restart a no-op for claimed appointments.
+
+CREATE TABLE IF NOT EXISTS appointment_reminders (
+    appointment_id UUID NOT NULL REFERENCES appointments(id),
+    reminder_window VARCHAR(20) NOT NULL,
+    notification_id UUID,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_appointment_reminders PRIMARY KEY (appointment_id, reminder_window)
+);
+
+-- Keyset scan of one day's appointments in id order
+CREATE INDEX IF NOT EXISTS idx_appointment_date_id ON appointments(scheduled_date, id)
+    WHERE is_deleted = false;
+
+COMMENT ON TABLE appointment_reminders IS 'Reminder windows already handled per appointment; notification_id is null when no channel was allowed';
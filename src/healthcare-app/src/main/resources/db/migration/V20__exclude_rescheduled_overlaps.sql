@@ -0,0 +1,33 @@
+-- V20__exclude_rescheduled_overlaps.sql
+-- A rescheduled appointment keeps status RESCHEDULED at its new time and
+-- still holds that slot. V17 left the status out of the exclusion
+-- constraint, so another booking could take the same slot.
+
+DO $$
+DECLARE
+    overlapping BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO overlapping
+    FROM appointments a
+    JOIN appointments b ON b.provider_id = a.provider_id AND b.id > a.id
+    WHERE a.is_deleted = false AND b.is_deleted = false
+      AND a.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS')
+      AND b.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS')
+      AND a.scheduled_date + a.start_time < b.scheduled_date + b.start_time + b.duration_minutes * INTERVAL '1 minute'
+      AND b.scheduled_date + b.start_time < a.scheduled_date + a.start_time + a.duration_minutes * INTERVAL '1 minute';
+    IF overlapping > 0 THEN
+        RAISE EXCEPTION '% pairs of active or rescheduled appointments overlap for the same provider; '
+            'cancel or reschedule them before applying this migration', overlapping;
+    END IF;
+END $$;
+
+ALTER TABLE appointments DROP CONSTRAINT ex_appointment_provider_slot;
+
+ALTER TABLE appointments
+    ADD CONSTRAINT ex_appointment_provider_slot
+    EXCLUDE USING gist (
+        provider_id WITH =,
+        tsrange(scheduled_date + start_time,
+                scheduled_date + start_time + duration_minutes * INTERVAL '1 minute') WITH &&
+    )
+    WHERE (is_deleted = false AND status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS'));
@@ -0,0 +1,31 @@
+-- V21__restore_audit_event_indexes.sql
+-- V13 rebuilt audit_events as a partitioned table with only some of the V3
+-- indexes. Restore the others on the parent so every partition gets them.
+-- idx_audit_event_timestamp stays BRIN (V13); partition pruning covers the
+-- time range, so the V3 b-tree is not restored.
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_session_id
+    ON audit_events(session_id);
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_outcome
+    ON audit_events(outcome, event_timestamp DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_severity
+    ON audit_events(severity, event_timestamp DESC);
+
+-- Composite index for compliance reporting
+CREATE INDEX IF NOT EXISTS idx_audit_event_compliance
+    ON audit_events(event_timestamp, resource_category, action, outcome);
+
+-- Index for security event monitoring
+CREATE INDEX IF NOT EXISTS idx_audit_event_security
+    ON audit_events(action, outcome, event_timestamp DESC)
+    WHERE action IN ('LOGIN', 'LOGOUT', 'LOGIN_FAILED', 'ACCESS_DENIED',
+                     'PASSWORD_CHANGE', 'PASSWORD_RESET');
+
+-- Partial index for PHI access events
+CREATE INDEX IF NOT EXISTS idx_audit_event_phi
+    ON audit_events(event_timestamp, user_id, patient_id)
+    WHERE resource_category IN ('PATIENT', 'MEDICAL_RECORD', 'PRESCRIPTION',
+                                 'LAB_RESULT', 'DIAGNOSIS', 'VITAL_SIGNS',
+                                 'ALLERGY', 'IMMUNIZATION', 'BILLING', 'INSURANCE');
@@ -0,0 +1,16 @@
+-- V22__add_audit_event_resource_ids.sql
+-- Aggregated read events cover several records of one patient and category.
+-- resource_id only holds a single record, so the others are kept in
+-- resource_ids, where the resource audit trail can search them.
+-- Single-record events leave resource_ids null and stay on
+-- idx_audit_event_resource; the partial GIN index only carries
+-- multi-record reads, so ordinary audit inserts do not pay for it.
+-- Existing rows are not backfilled: their ids are only in metadata.
+
+ALTER TABLE audit_events ADD COLUMN IF NOT EXISTS resource_ids UUID[];
+
+CREATE INDEX IF NOT EXISTS idx_audit_event_resource_ids
+    ON audit_events USING GIN (resource_ids)
+    WHERE resource_ids IS NOT NULL;
+
+COMMENT ON COLUMN audit_events.resource_ids IS 'Records touched by a multi-record read; null when resource_id names the only one';
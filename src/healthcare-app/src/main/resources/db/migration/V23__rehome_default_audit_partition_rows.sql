@@ -0,0 +1,45 @@
+-- V23__rehome_default_audit_partition_rows.sql
+-- V13 copied the unpartitioned table with a single INSERT ... SELECT *. That
+-- relied on V3 and V13 declaring the same columns in the same order, which
+-- they do. Any row outside the monthly partitions V13 created was routed to
+-- audit_events_default, though. While it stays there the partition manager
+-- cannot create that month's partition. Move such rows into their monthly
+-- partitions, one UTC month per statement, with an explicit column list.
+
+DO $$
+DECLARE
+    columns TEXT := 'id, event_timestamp, correlation_id, session_id, user_id, username, user_role, '
+        'client_ip_hash, user_agent, action, outcome, severity, description, resource_category, '
+        'resource_id, resource_ids, resource_type, patient_id, accessed_fields, changed_fields, '
+        'http_method, request_uri, response_status, response_time_ms, error_code, error_message, '
+        'metadata, checksum, schema_version';
+    month_start TIMESTAMP;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM audit_events_default) THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE audit_events DETACH PARTITION audit_events_default;
+    ALTER TABLE audit_events_default RENAME TO audit_events_default_rehomed;
+    CREATE TABLE audit_events_default PARTITION OF audit_events DEFAULT;
+
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', event_timestamp AT TIME ZONE 'UTC')
+        FROM audit_events_default_rehomed
+        ORDER BY 1
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_events FOR VALUES FROM (%L) TO (%L)',
+            'audit_events_' || to_char(month_start, 'YYYY_MM'),
+            month_start AT TIME ZONE 'UTC',
+            (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+        EXECUTE format(
+            'INSERT INTO audit_events (%s) SELECT %s FROM audit_events_default_rehomed '
+            'WHERE event_timestamp >= %L AND event_timestamp < %L',
+            columns, columns,
+            month_start AT TIME ZONE 'UTC',
+            (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+    END LOOP;
+
+    DROP TABLE audit_events_default_rehomed;
+END $$;
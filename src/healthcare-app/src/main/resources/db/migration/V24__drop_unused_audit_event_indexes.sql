@@ -0,0 +1,42 @@
+-- V24__drop_unused_audit_event_indexes.sql
+-- V21 put all six remaining V3 indexes back, so every monthly partition
+-- maintained twelve indexes on each insert. Keep only those a time-bounded
+-- query in AuditEventRepository, AuditSummaryRepository or
+-- AuditRollupRepository reads; pruning already limits each query to the
+-- partitions of its range.
+--
+-- Kept:
+--   idx_audit_event_timestamp (BRIN)  block range of the bounded window in a partition:
+--                                     rollups, findByTimeRange, findRecentEvents, and
+--                                     searchAuditEvents with no other filter
+--   idx_audit_event_user_id           findByUserIdAndTimeRange, findUserPhiAccess,
+--                                     countUser*Since, searchAuditEvents by user
+--   idx_audit_event_patient_id        patient_id arm of findPatientAccess and
+--                                     findByPatientIdAndTimeRange, searchAuditEvents by patient
+--   idx_audit_event_resource          findByResourceAndTimeRange, resource_id arm of the
+--                                     patient queries
+--   idx_audit_event_resource_ids      resource_ids arm of the same queries (V22, partial)
+--   idx_audit_event_action            findSecurityEvents, one index scan per action merged
+--                                     in event_timestamp order; searchAuditEvents by action
+--   idx_audit_event_outcome           searchAuditEvents by outcome; FAILURE, DENIED and
+--                                     ERROR are a small share, so the scan stays short
+--   idx_audit_event_severity          searchAuditEvents by severity; HIGH and CRITICAL
+--                                     are a small share
+--   idx_audit_event_correlation_id    findByCorrelationIdOrderByEventTimestampAsc; not
+--                                     time-bounded, so one probe per partition instead of
+--                                     a scan of every partition
+
+-- findBySessionIdOrderByEventTimestampAsc had no callers and is removed.
+DROP INDEX IF EXISTS idx_audit_event_session_id;
+
+-- Hourly rollups also group by severity, so this index never covered them;
+-- the BRIN index serves their one-hour ranges.
+DROP INDEX IF EXISTS idx_audit_event_compliance;
+
+-- The predicate lists six of the ten actions findSecurityEvents asks for, so
+-- the planner cannot use it; idx_audit_event_action serves that query.
+DROP INDEX IF EXISTS idx_audit_event_security;
+
+-- PHI rollups read one hour at a time through the BRIN index, and per-user
+-- PHI counts use idx_audit_event_user_id.
+DROP INDEX IF EXISTS idx_audit_event_phi;
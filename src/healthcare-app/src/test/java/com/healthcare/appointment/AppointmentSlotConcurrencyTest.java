@@ -0,0 +1,176 @@
+package com.healthcare.appointment;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Constraint-level check of {@code ex_appointment_provider_slot}: raw
+ * inserts and updates racing into overlapping slots must leave exactly one
+ * live appointment per slot, with every other attempt rejected as SQLSTATE
+ * 23P01. Load through the service is covered by
+ * {@link com.healthcare.appointment.service.AppointmentBookingStressTest}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AppointmentSlotConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbc;
+    private static UUID patientId;
+    private static UUID providerId;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+
+        patientId = UUID.randomUUID();
+        jdbc.update("INSERT INTO patients (id, medical_record_number, first_name, last_name, date_of_birth, " +
+                "gender, email, phone_number) VALUES (?, 'MRN-STRESS', 'Test', 'Patient', DATE '1980-01-01', " +
+                "'OTHER', 'patient@example.com', '5550000000')", patientId);
+        providerId = UUID.randomUUID();
+        jdbc.update("INSERT INTO providers (id, provider_number, first_name, last_name, email, provider_type, " +
+                "license_number, license_state, license_expiry) VALUES (?, 'PRV-STRESS', 'Test', 'Provider', " +
+                "'provider@example.com', 'DOCTOR', 'LIC-STRESS', 'CA', DATE '2099-12-31')", providerId);
+    }
+
+    @Test
+    void concurrentBookingsOfOverlappingSlotsKeepOne() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDate date = LocalDate.of(2030, 1, 1).plusDays(round);
+            AtomicInteger conflicts = new AtomicInteger();
+
+            List<Callable<Void>> attempts = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                LocalTime start = LocalTime.of(10, 0).plusMinutes(5L * (i % 4));
+                attempts.add(() -> {
+                    try {
+                        insert(date, start, 30, "SCHEDULED");
+                    } catch (DataIntegrityViolationException e) {
+                        assertThat(isSlotConflict(e)).isTrue();
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            runTogether(attempts);
+
+            assertThat(liveAppointments(date)).isEqualTo(1);
+            assertThat(conflicts.get()).isEqualTo(THREADS - 1);
+        }
+    }
+
+    @Test
+    void concurrentReschedulesIntoOneSlotKeepOne() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDate date = LocalDate.of(2031, 1, 1).plusDays(round);
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                ids.add(insert(date, LocalTime.of(8, 0).plusMinutes(30L * i), 30, "CONFIRMED"));
+            }
+            AtomicInteger moved = new AtomicInteger();
+
+            List<Callable<Void>> attempts = new ArrayList<>();
+            for (UUID id : ids) {
+                attempts.add(() -> {
+                    try {
+                        moved.addAndGet(jdbc.update("UPDATE appointments SET scheduled_date = ?, start_time = ?, " +
+                                "end_time = ?, status = 'RESCHEDULED' WHERE id = ?",
+                                date.plusDays(400), LocalTime.of(14, 0), LocalTime.of(14, 30), id));
+                    } catch (DataIntegrityViolationException e) {
+                        assertThat(isSlotConflict(e)).isTrue();
+                    }
+                    return null;
+                });
+            }
+            runTogether(attempts);
+
+            assertThat(moved.get()).isEqualTo(1);
+            assertThat(liveAppointments(date.plusDays(400))).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void rescheduledAppointmentStillHoldsItsSlot() {
+        LocalDate date = LocalDate.of(2033, 6, 1);
+        UUID id = insert(date, LocalTime.of(9, 0), 30, "SCHEDULED");
+        jdbc.update("UPDATE appointments SET start_time = ?, end_time = ?, status = 'RESCHEDULED' WHERE id = ?",
+                LocalTime.of(11, 0), LocalTime.of(11, 30), id);
+
+        assertThatThrownBy(() -> insert(date, LocalTime.of(11, 15), 30, "SCHEDULED"))
+                .isInstanceOfSatisfying(DataIntegrityViolationException.class,
+                        e -> assertThat(isSlotConflict(e)).isTrue());
+        insert(date, LocalTime.of(9, 0), 30, "SCHEDULED");
+    }
+
+    private static UUID insert(LocalDate date, LocalTime start, int minutes, String status) {
+        UUID id = UUID.randomUUID();
+        jdbc.update("INSERT INTO appointments (id, appointment_number, patient_id, provider_id, scheduled_date, " +
+                "start_time, end_time, duration_minutes, appointment_type, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'CONSULTATION', ?)",
+                id, "APT-" + id, patientId, providerId, date, start, start.plusMinutes(minutes), minutes, status);
+        return id;
+    }
+
+    private static int liveAppointments(LocalDate date) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM appointments WHERE provider_id = ? AND scheduled_date = ? " +
+                "AND is_deleted = false AND status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS')",
+                Integer.class, providerId, date);
+    }
+
+    /** Starts every attempt at once so they race on the constraint. */
+    private static void runTogether(List<Callable<Void>> attempts) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(attempts.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> attempt : attempts) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return attempt.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isSlotConflict(DataIntegrityViolationException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sql
+                && "23P01".equals(sql.getSQLState());
+    }
+}
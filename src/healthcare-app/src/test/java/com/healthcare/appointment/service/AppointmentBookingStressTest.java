@@ -0,0 +1,271 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.api.ProviderScheduleSource;
+import com.healthcare.appointment.api.dto.AppointmentResponse;
+import com.healthcare.appointment.api.dto.RescheduleAppointmentRequest;
+import com.healthcare.appointment.api.dto.ScheduleAppointmentRequest;
+import com.healthcare.appointment.domain.Appointment;
+import com.healthcare.appointment.domain.AppointmentType;
+import com.healthcare.appointment.exception.TimeSlotConflictException;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives {@link AppointmentServiceImpl#schedule} and
+ * {@link AppointmentServiceImpl#reschedule} from many threads over many
+ * provider-days at once, through {@link ProviderDayLocks}, JPA and the
+ * exclusion constraint. Every provider-day must end up without overlaps and
+ * every rejected attempt must surface as {@link TimeSlotConflictException}.
+ * Throughput is logged for comparison between runs.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AppointmentBookingStressTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentBookingStressTest.class);
+
+    private static final int THREADS = 32;
+    private static final int PROVIDERS = 50;
+    private static final int DAYS = 5;
+    private static final int ATTEMPTS_PER_DAY = 16;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static AnnotationConfigApplicationContext context;
+    private static JdbcTemplate jdbc;
+    private static AppointmentServiceImpl service;
+    private static UUID patientId;
+    private static final List<UUID> providerIds = new ArrayList<>();
+
+    @Configuration
+    @EnableJpaAuditing
+    @EnableJpaRepositories(basePackageClasses = AppointmentRepository.class)
+    static class JpaConfig {
+
+        @Bean
+        DataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(postgres.getJdbcUrl());
+            dataSource.setUsername(postgres.getUsername());
+            dataSource.setPassword(postgres.getPassword());
+            dataSource.setMaximumPoolSize(THREADS);
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(Appointment.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+
+    @BeforeAll
+    static void setUp() {
+        context = new AnnotationConfigApplicationContext(JpaConfig.class);
+        DataSource dataSource = context.getBean(DataSource.class);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+
+        patientId = UUID.randomUUID();
+        jdbc.update("INSERT INTO patients (id, medical_record_number, first_name, last_name, date_of_birth, " +
+                "gender, email, phone_number) VALUES (?, 'MRN-LOAD', 'Test', 'Patient', DATE '1980-01-01', " +
+                "'OTHER', 'patient@example.com', '5550000000')", patientId);
+        for (int p = 0; p < PROVIDERS; p++) {
+            UUID providerId = UUID.randomUUID();
+            jdbc.update("INSERT INTO providers (id, provider_number, first_name, last_name, email, provider_type, " +
+                    "license_number, license_state, license_expiry) VALUES (?, ?, 'Test', 'Provider', ?, 'DOCTOR', " +
+                    "?, 'CA', DATE '2099-12-31')",
+                    providerId, "PRV-LOAD-" + p, "provider" + p + "@example.com", "LIC-LOAD-" + p);
+            providerIds.add(providerId);
+        }
+
+        AppointmentRepository repository = context.getBean(AppointmentRepository.class);
+        AtomicLong numbers = new AtomicLong();
+        AppointmentNumberGenerator numberGenerator = mock(AppointmentNumberGenerator.class);
+        when(numberGenerator.generate()).thenAnswer(invocation -> "APT-LOAD-" + numbers.incrementAndGet());
+        service = new AppointmentServiceImpl(repository, numberGenerator, event -> { },
+                new ProviderAvailabilityIndex(repository, mock(ProviderScheduleSource.class)),
+                new ProviderDayLocks(), context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void concurrentBookingsKeepOneAppointmentPerSlot() throws Exception {
+        LocalDate firstDay = LocalDate.of(2030, 3, 4);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        List<Callable<Void>> attempts = new ArrayList<>();
+        for (UUID providerId : providerIds) {
+            for (int d = 0; d < DAYS; d++) {
+                LocalDate date = firstDay.plusDays(d);
+                for (int i = 0; i < ATTEMPTS_PER_DAY; i++) {
+                    // Four contested hours per day, each wanted by four mutually overlapping starts.
+                    LocalTime start = LocalTime.of(9, 0).plusHours(i / 4).plusMinutes(5L * (i % 4));
+                    attempts.add(() -> {
+                        try {
+                            service.schedule(new ScheduleAppointmentRequest(patientId, providerId, date, start,
+                                    30, AppointmentType.CONSULTATION, null, null));
+                            booked.incrementAndGet();
+                        } catch (TimeSlotConflictException e) {
+                            conflicts.incrementAndGet();
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                        }
+                        return null;
+                    });
+                }
+            }
+        }
+
+        Duration elapsed = runTogether(attempts);
+        log.info("{} booking attempts over {} provider-days in {} ms: {} booked, {} conflicts, {} attempts/s",
+                attempts.size(), PROVIDERS * DAYS, elapsed.toMillis(), booked.get(), conflicts.get(),
+                attempts.size() * 1000L / Math.max(1, elapsed.toMillis()));
+
+        assertThat(unexpected).isEmpty();
+        assertThat(booked.get() + conflicts.get()).isEqualTo(attempts.size());
+        assertThat(booked.get()).isEqualTo(PROVIDERS * DAYS * 4);
+        assertThat(overlaps()).isZero();
+    }
+
+    @Test
+    void concurrentReschedulesIntoOneSlotKeepOne() throws Exception {
+        LocalDate firstDay = LocalDate.of(2031, 3, 3);
+        List<AppointmentResponse> existing = new ArrayList<>();
+        for (UUID providerId : providerIds) {
+            for (int d = 0; d < DAYS; d++) {
+                for (int i = 0; i < ATTEMPTS_PER_DAY / 2; i++) {
+                    existing.add(service.schedule(new ScheduleAppointmentRequest(patientId, providerId,
+                            firstDay.plusDays(d), LocalTime.of(8, 0).plusMinutes(30L * i), 30,
+                            AppointmentType.CONSULTATION, null, null)));
+                }
+            }
+        }
+        Collections.shuffle(existing);
+        AtomicInteger moved = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        List<Callable<Void>> attempts = new ArrayList<>();
+        for (AppointmentResponse appointment : existing) {
+            attempts.add(() -> {
+                try {
+                    service.reschedule(appointment.id(), new RescheduleAppointmentRequest(
+                            appointment.scheduledDate(), LocalTime.of(14, 0), 30));
+                    moved.incrementAndGet();
+                } catch (TimeSlotConflictException e) {
+                    conflicts.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+                return null;
+            });
+        }
+
+        Duration elapsed = runTogether(attempts);
+        log.info("{} reschedule attempts over {} provider-days in {} ms: {} moved, {} conflicts, {} attempts/s",
+                attempts.size(), PROVIDERS * DAYS, elapsed.toMillis(), moved.get(), conflicts.get(),
+                attempts.size() * 1000L / Math.max(1, elapsed.toMillis()));
+
+        assertThat(unexpected).isEmpty();
+        assertThat(moved.get()).isEqualTo(PROVIDERS * DAYS);
+        assertThat(conflicts.get()).isEqualTo(attempts.size() - PROVIDERS * DAYS);
+        assertThat(overlaps()).isZero();
+    }
+
+    /** Pairs of live appointments of one provider that overlap in time. */
+    private static int overlaps() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM appointments a JOIN appointments b " +
+                "ON a.provider_id = b.provider_id AND a.scheduled_date = b.scheduled_date AND a.id < b.id " +
+                "AND a.start_time < b.end_time AND b.start_time < a.end_time " +
+                "WHERE a.is_deleted = false AND b.is_deleted = false " +
+                "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS') " +
+                "AND b.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS')",
+                Integer.class);
+    }
+
+    /** Releases every attempt at once on {@link #THREADS} threads and returns the wall time. */
+    private static Duration runTogether(List<Callable<Void>> attempts) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> attempt : attempts) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return attempt.call();
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            return Duration.ofNanos(System.nanoTime() - started);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
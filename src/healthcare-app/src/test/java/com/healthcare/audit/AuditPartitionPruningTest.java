@@ -0,0 +1,112 @@
+package com.healthcare.audit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that time-bounded audit queries are pruned to the partitions their
+ * range touches, which is what keeps them flat as {@code audit_events}
+ * grows. Plans are read with literal bounds, as PostgreSQL plans the first
+ * executions of a prepared statement. The schema is first migrated to V22 and
+ * seeded with a row the default partition catches, so V23 and V24 run against
+ * data.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AuditPartitionPruningTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final UUID STRAY_EVENT_ID = UUID.randomUUID();
+    private static final LocalDate STRAY_MONTH = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1).plusYears(3);
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbc = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target("22").load().migrate();
+        jdbc.update("INSERT INTO audit_events (id, event_timestamp, user_id, action, outcome, severity, " +
+                "resource_category, resource_ids) " +
+                "VALUES (?, ?, ?, 'READ', 'SUCCESS', 'LOW', 'PATIENT', ARRAY[?]::uuid[])",
+                STRAY_EVENT_ID, Timestamp.from(STRAY_MONTH.plusDays(4).atStartOfDay(ZoneOffset.UTC).toInstant()),
+                UUID.randomUUID(), UUID.randomUUID());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    }
+
+    @Test
+    void boundedSecurityQueryScansOneMonth() {
+        LocalDate month = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1).plusMonths(1);
+
+        String plan = explain("SELECT * FROM audit_events " +
+                "WHERE action IN ('LOGIN_FAILED', 'ACCESS_DENIED') " +
+                "AND event_timestamp BETWEEN TIMESTAMPTZ '" + month.plusDays(2) + " 00:00Z' " +
+                "AND TIMESTAMPTZ '" + month.plusDays(9) + " 00:00Z' " +
+                "ORDER BY event_timestamp DESC LIMIT 20");
+
+        assertThat(plan).contains("audit_events_" + month.format(SUFFIX));
+        assertThat(plan).doesNotContain("audit_events_" + month.minusMonths(1).format(SUFFIX));
+        assertThat(plan).doesNotContain("audit_events_" + month.plusMonths(1).format(SUFFIX));
+        assertThat(plan).doesNotContain("audit_events_default");
+    }
+
+    @Test
+    void unboundedQueryScansEveryPartition() {
+        LocalDate month = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+
+        String plan = explain("SELECT * FROM audit_events WHERE action = 'LOGIN_FAILED'");
+
+        assertThat(plan).contains("audit_events_" + month.format(SUFFIX));
+        assertThat(plan).contains("audit_events_" + month.plusMonths(1).format(SUFFIX));
+        assertThat(plan).contains("audit_events_default");
+    }
+
+    @Test
+    void defaultPartitionRowsAreMovedToTheirMonth() {
+        String partition = "audit_events_" + STRAY_MONTH.format(SUFFIX);
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM audit_events_default", Long.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM " + partition + " WHERE id = ?", Long.class,
+                STRAY_EVENT_ID)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT cardinality(resource_ids) FROM audit_events WHERE id = ?",
+                Integer.class, STRAY_EVENT_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void partitionsCarryOnlyQueriedIndexes() {
+        List<String> indexes = jdbc.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'audit_events'", String.class);
+
+        assertThat(indexes).contains("idx_audit_event_timestamp", "idx_audit_event_user_id",
+                "idx_audit_event_patient_id", "idx_audit_event_resource", "idx_audit_event_resource_ids",
+                "idx_audit_event_action", "idx_audit_event_outcome", "idx_audit_event_severity",
+                "idx_audit_event_correlation_id");
+        assertThat(indexes).doesNotContain("idx_audit_event_session_id", "idx_audit_event_compliance",
+                "idx_audit_event_security", "idx_audit_event_phi");
+    }
+
+    private static String explain(String sql) {
+        List<String> lines = jdbc.queryForList("EXPLAIN " + sql, String.class);
+        return String.join("\n", lines);
+    }
+}
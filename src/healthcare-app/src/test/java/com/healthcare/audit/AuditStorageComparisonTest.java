@@ -0,0 +1,216 @@
+package com.healthcare.audit;
+
+import com.healthcare.audit.domain.AuditAction;
+import com.healthcare.audit.domain.AuditOutcome;
+import com.healthcare.audit.domain.AuditSeverity;
+import com.healthcare.audit.domain.ResourceCategory;
+import com.healthcare.audit.repository.AuditPartitionRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads the same audit events into the V3 single-table layout and the
+ * partitioned layout of the current migrations, then compares insert
+ * throughput and p99 latency of the bounded audit searches. Results are
+ * logged; the test asserts only that both layouts hold and return the same
+ * rows. Size the run with {@code -Daudit.comparison.rows}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AuditStorageComparisonTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditStorageComparisonTest.class);
+
+    private static final int ROWS = Integer.getInteger("audit.comparison.rows", 200_000);
+    private static final int MONTHS = 6;
+    private static final int USERS = 500;
+    private static final int BATCH_SIZE = 500;
+    private static final int WARMUP = 20;
+    private static final int SAMPLES = 300;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO audit_events (id, event_timestamp, correlation_id, session_id, user_id, username, " +
+        "user_role, action, outcome, severity, resource_category, resource_id, patient_id, http_method, " +
+        "request_uri, response_status, response_time_ms, checksum) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SECURITY_EVENTS =
+        "SELECT id FROM audit_events WHERE action IN ('LOGIN', 'LOGOUT', 'LOGIN_FAILED', 'ACCESS_DENIED', " +
+        "'PASSWORD_CHANGE', 'PASSWORD_RESET', 'PERMISSION_GRANTED', 'PERMISSION_REVOKED', 'ROLE_ASSIGNED', " +
+        "'ROLE_REVOKED') AND event_timestamp BETWEEN ? AND ? ORDER BY event_timestamp DESC, id LIMIT 20";
+    private static final String USER_TRAIL =
+        "SELECT id FROM audit_events WHERE user_id = ? AND event_timestamp BETWEEN ? AND ? " +
+        "ORDER BY event_timestamp DESC, id LIMIT 20";
+    private static final String FAILED_OUTCOMES =
+        "SELECT id FROM audit_events WHERE outcome = 'FAILURE' AND event_timestamp BETWEEN ? AND ? " +
+        "ORDER BY event_timestamp DESC, id LIMIT 20";
+
+    @Container
+    private static final PostgreSQLContainer<?> single = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> partitioned = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private static final List<UUID> userIds = new ArrayList<>();
+
+    private static JdbcTemplate singleJdbc;
+    private static JdbcTemplate partitionedJdbc;
+    private static double singleInsertRate;
+    private static double partitionedInsertRate;
+
+    @BeforeAll
+    static void load() {
+        singleJdbc = migrate(single, "3");
+        partitionedJdbc = migrate(partitioned, null);
+        AuditPartitionRepository partitions = new AuditPartitionRepository(partitionedJdbc);
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int m = 0; m <= MONTHS; m++) {
+            partitions.createPartition(current.minusMonths(m));
+        }
+
+        Random random = new Random(42);
+        for (int u = 0; u < USERS; u++) {
+            userIds.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(row(random));
+        }
+
+        singleInsertRate = insert(singleJdbc, rows);
+        partitionedInsertRate = insert(partitionedJdbc, rows);
+        singleJdbc.execute("ANALYZE audit_events");
+        partitionedJdbc.execute("ANALYZE audit_events");
+    }
+
+    @Test
+    void compareInsertThroughputAndSearchLatency() {
+        log.info("Inserted {} audit events: single table {} rows/s, partitioned {} rows/s",
+            ROWS, Math.round(singleInsertRate), Math.round(partitionedInsertRate));
+
+        assertThat(count(singleJdbc)).isEqualTo(ROWS);
+        assertThat(count(partitionedJdbc)).isEqualTo(ROWS);
+        assertThat(partitionedJdbc.queryForObject("SELECT COUNT(*) FROM audit_events_default", Long.class))
+            .isZero();
+
+        compare("findSecurityEvents (one week)", SECURITY_EVENTS, random -> window(random, Duration.ofDays(7)));
+        compare("findByUserIdAndTimeRange (one month)", USER_TRAIL, random -> {
+            Object[] window = window(random, Duration.ofDays(30));
+            return new Object[] {userIds.get(random.nextInt(USERS)), window[0], window[1]};
+        });
+        compare("searchAuditEvents by outcome (one month)", FAILED_OUTCOMES,
+            random -> window(random, Duration.ofDays(30)));
+    }
+
+    private static void compare(String name, String sql, Function<Random, Object[]> arguments) {
+        Object[] fixed = arguments.apply(new Random(7));
+        assertThat(partitionedJdbc.queryForList(sql, UUID.class, fixed))
+            .as(name)
+            .isEqualTo(singleJdbc.queryForList(sql, UUID.class, fixed));
+
+        double singleP99 = p99(singleJdbc, sql, arguments);
+        double partitionedP99 = p99(partitionedJdbc, sql, arguments);
+        log.info("{}: p99 single table {} ms, partitioned {} ms", name,
+            String.format("%.2f", singleP99), String.format("%.2f", partitionedP99));
+    }
+
+    private static double p99(JdbcTemplate jdbc, String sql, Function<Random, Object[]> arguments) {
+        Random random = new Random(11);
+        for (int i = 0; i < WARMUP; i++) {
+            jdbc.queryForList(sql, UUID.class, arguments.apply(random));
+        }
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            Object[] args = arguments.apply(random);
+            long started = System.nanoTime();
+            jdbc.queryForList(sql, UUID.class, args);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return nanos[(int) Math.ceil(SAMPLES * 0.99) - 1] / 1_000_000.0;
+    }
+
+    /** A window of {@code length} ending at a random point of the loaded range. */
+    private static Object[] window(Random random, Duration length) {
+        long span = Duration.ofDays(30L * MONTHS).minus(length).toSeconds();
+        Instant end = NOW.minusSeconds((long) (random.nextDouble() * span));
+        return new Object[] {Timestamp.from(end.minus(length)), Timestamp.from(end)};
+    }
+
+    private static Object[] row(Random random) {
+        Instant timestamp = NOW.minusSeconds((long) (random.nextDouble() * Duration.ofDays(30L * MONTHS).toSeconds()));
+        ResourceCategory category = pick(random, ResourceCategory.values());
+        return new Object[] {
+            new UUID(random.nextLong(), random.nextLong()),
+            Timestamp.from(timestamp),
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(),
+            userIds.get(random.nextInt(USERS)),
+            "user" + random.nextInt(USERS),
+            "CLINICIAN",
+            pick(random, AuditAction.values()).name(),
+            random.nextInt(100) < 95 ? AuditOutcome.SUCCESS.name() : AuditOutcome.FAILURE.name(),
+            random.nextInt(100) < 90 ? AuditSeverity.LOW.name() : pick(random, AuditSeverity.values()).name(),
+            category.name(),
+            new UUID(random.nextLong(), random.nextLong()),
+            category == ResourceCategory.PATIENT ? new UUID(random.nextLong(), random.nextLong()) : null,
+            "GET",
+            "/api/v1/" + category.name().toLowerCase(),
+            200,
+            (long) random.nextInt(500),
+            "0".repeat(64)
+        };
+    }
+
+    /** Inserts {@code rows} in JDBC batches and returns rows per second. */
+    private static double insert(JdbcTemplate jdbc, List<Object[]> rows) {
+        long started = System.nanoTime();
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(INSERT_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+        return rows.size() / ((System.nanoTime() - started) / 1_000_000_000.0);
+    }
+
+    private static long count(JdbcTemplate jdbc) {
+        Long count = jdbc.queryForObject("SELECT COUNT(*) FROM audit_events", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static JdbcTemplate migrate(PostgreSQLContainer<?> postgres, String target) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        var flyway = Flyway.configure().dataSource(dataSource).locations("classpath:db/migration");
+        if (target != null) {
+            flyway.target(target);
+        }
+        flyway.load().migrate();
+        return new JdbcTemplate(dataSource);
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -4,6 +4,7 @@ import com.healthcare.appointment.api.dto.*;
 import com.healthcare.appointment.domain.AppointmentStatus;
 import com.healthcare.appointment.domain.AppointmentType;
 import com.healthcare.appointment.service.AppointmentService;
+import com.healthcare.common.api.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -156,6 +157,20 @@ public class AppointmentController {
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/provider/{providerId}/scroll")
+    @PreAuthorize("hasAuthority('appointment:read')")
+    @Operation(summary = "Scroll provider appointments",
+               description = "Keyset-paginated provider appointments, newest first")
+    public ResponseEntity<CursorPageResponse<AppointmentSummaryResponse>> scrollByProvider(
+            @PathVariable UUID providerId,
+            @Parameter(description = "Cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("REST request to scroll appointments for provider: {}", providerId);
+        return ResponseEntity.ok(appointmentService.scrollByProvider(providerId, cursor, size, includeTotal));
+    }
+
     @GetMapping("/provider/{providerId}/today")
     @PreAuthorize("hasAuthority('appointment:read')")
     @Operation(summary = "Get today's appointments for provider",
@@ -195,6 +210,23 @@ public class AppointmentController {
         return ResponseEntity.ok(new SlotAvailabilityResponse(providerId, date, startTime, durationMinutes, available));
     }
 
+    @GetMapping("/availability")
+    @PreAuthorize("hasAuthority('appointment:read')")
+    @Operation(summary = "Find available slots",
+               description = "Finds the earliest free slots across providers, optionally of one specialization")
+    public ResponseEntity<List<AvailableSlotResponse>> findAvailableSlots(
+            @RequestParam(required = false) String specialization,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Slot length; defaults to each schedule's slot duration")
+            @RequestParam(defaultValue = "0") int durationMinutes,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("REST request to find available slots for {} from {} to {}", specialization, startDate, endDate);
+        List<AvailableSlotResponse> slots = appointmentService.findAvailableSlots(
+                specialization, startDate, endDate, durationMinutes, Math.min(limit, 100));
+        return ResponseEntity.ok(slots);
+    }
+
     @PatchMapping("/{appointmentId}/confirm")
     @PreAuthorize("hasAuthority('appointment:write')")
     @Operation(summary = "Confirm appointment",
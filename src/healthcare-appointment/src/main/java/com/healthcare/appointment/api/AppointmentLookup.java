@@ -1,6 +1,11 @@
 package com.healthcare.appointment.api;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,6 +15,15 @@ public interface AppointmentLookup {
 
     Optional<AppointmentInfo> findByAppointmentNumber(String appointmentNumber);
 
+    /** Appointments found among {@code appointmentIds}, keyed by id; unknown ids are absent. */
+    Map<UUID, AppointmentInfo> findAllByIds(Collection<UUID> appointmentIds);
+
+    /**
+     * Up to {@code limit} scheduled or confirmed appointments on {@code date}
+     * with ids after {@code afterId} (null for the first page), in id order.
+     */
+    List<ReminderCandidate> findNeedingReminders(LocalDate date, UUID afterId, int limit);
+
     record AppointmentInfo(
         UUID appointmentId,
         String appointmentNumber,
@@ -22,4 +36,13 @@ public interface AppointmentLookup {
         Instant endTime,
         String status
     ) {}
+
+    record ReminderCandidate(
+        UUID appointmentId,
+        String appointmentNumber,
+        UUID patientId,
+        UUID providerId,
+        LocalDate scheduledDate,
+        LocalTime startTime
+    ) {}
 }
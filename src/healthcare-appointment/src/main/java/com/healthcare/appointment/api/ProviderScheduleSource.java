@@ -0,0 +1,25 @@
+package com.healthcare.appointment.api;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Weekly working hours of bookable providers. Implemented by the provider
+ * module so the appointment module does not depend on it.
+ */
+public interface ProviderScheduleSource {
+
+    /** Active schedule rows of active, non-deleted providers. */
+    List<WorkingHours> findActiveWorkingHours();
+
+    record WorkingHours(
+        UUID providerId,
+        String specialization,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        int slotDurationMinutes
+    ) {}
+}
@@ -0,0 +1,13 @@
+package com.healthcare.appointment.api.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record AvailableSlotResponse(
+    UUID providerId,
+    String specialization,
+    LocalDate date,
+    LocalTime startTime,
+    LocalTime endTime
+) {}
@@ -0,0 +1,15 @@
+package com.healthcare.appointment.config;
+
+import com.healthcare.appointment.api.AppointmentLookup.AppointmentInfo;
+import com.healthcare.common.cache.codec.CacheTypeRegistration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AppointmentCacheConfig {
+
+    @Bean
+    public CacheTypeRegistration appointmentInfoCacheType() {
+        return new CacheTypeRegistration(3, AppointmentInfo.class, 1);
+    }
+}
@@ -147,13 +147,19 @@ public class Appointment extends AggregateRoot {
             Objects.requireNonNull(startTime, "Start time is required"),
             duration
         );
+    }
 
-        registerEvent(new AppointmentScheduledEvent(this.getId(), this.appointmentNumber, patientId, providerId, timeSlot));
+    /**
+     * Raises {@link AppointmentScheduledEvent}. Called once the new
+     * appointment has been persisted, so the event carries its id.
+     */
+    public void recordScheduled() {
+        registerEvent(new AppointmentScheduledEvent(getId(), appointmentNumber, patientId, providerId, timeSlot));
     }
 
     public void confirm() {
-        if (status != AppointmentStatus.SCHEDULED) {
-            throw new IllegalStateException("Only scheduled appointments can be confirmed");
+        if (status != AppointmentStatus.SCHEDULED && status != AppointmentStatus.RESCHEDULED) {
+            throw new IllegalStateException("Only scheduled or rescheduled appointments can be confirmed");
         }
         this.status = AppointmentStatus.CONFIRMED;
         registerEvent(new AppointmentConfirmedEvent(getId(), appointmentNumber));
@@ -29,22 +29,24 @@ public enum AppointmentStatus {
     }
 
     public boolean canCheckIn() {
-        return this == SCHEDULED || this == CONFIRMED;
+        return this == SCHEDULED || this == CONFIRMED || this == RESCHEDULED;
     }
 
     public boolean canCancel() {
-        return this == SCHEDULED || this == CONFIRMED;
+        return this == SCHEDULED || this == CONFIRMED || this == RESCHEDULED;
     }
 
     public boolean canReschedule() {
-        return this == SCHEDULED || this == CONFIRMED;
+        return this == SCHEDULED || this == CONFIRMED || this == RESCHEDULED;
     }
 
     public boolean isTerminal() {
         return this == COMPLETED || this == CANCELLED || this == NO_SHOW;
     }
 
+    /** Whether the appointment still holds its time slot. */
     public boolean isActive() {
-        return this == SCHEDULED || this == CONFIRMED || this == CHECKED_IN || this == IN_PROGRESS;
+        return this == SCHEDULED || this == CONFIRMED || this == RESCHEDULED
+                || this == CHECKED_IN || this == IN_PROGRESS;
     }
 }
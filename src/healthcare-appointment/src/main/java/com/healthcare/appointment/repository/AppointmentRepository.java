@@ -10,8 +10,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -58,13 +60,13 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>,
 
     @Query("SELECT a FROM Appointment a WHERE a.providerId = :providerId " +
            "AND a.timeSlot.date = CURRENT_DATE AND a.deleted = false " +
-           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'CHECKED_IN', 'IN_PROGRESS') " +
+           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS') " +
            "ORDER BY a.timeSlot.startTime")
     List<Appointment> findTodaysAppointmentsForProvider(@Param("providerId") UUID providerId);
 
     @Query("SELECT a FROM Appointment a WHERE a.providerId = :providerId " +
            "AND a.timeSlot.date = :date AND a.deleted = false " +
-           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'CHECKED_IN', 'IN_PROGRESS') " +
+           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS') " +
            "ORDER BY a.timeSlot.startTime")
     List<Appointment> findTodaysAppointments(@Param("providerId") UUID providerId, @Param("date") LocalDate date);
 
@@ -78,7 +80,7 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>,
 
     @Query("SELECT a FROM Appointment a WHERE a.patientId = :patientId " +
            "AND a.timeSlot.date >= CURRENT_DATE AND a.deleted = false " +
-           "AND a.status IN ('SCHEDULED', 'CONFIRMED') " +
+           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED') " +
            "ORDER BY a.timeSlot.date, a.timeSlot.startTime")
     Page<Appointment> findUpcomingAppointmentsForPatient(
         @Param("patientId") UUID patientId,
@@ -87,7 +89,7 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>,
 
     @Query("SELECT a FROM Appointment a WHERE a.providerId = :providerId " +
            "AND a.timeSlot.date = :date " +
-           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'CHECKED_IN', 'IN_PROGRESS') " +
+           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS') " +
            "AND a.deleted = false " +
            "AND ((a.timeSlot.startTime < :endTime AND a.timeSlot.endTime > :startTime))")
     List<Appointment> findOverlappingAppointments(
@@ -97,6 +99,35 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>,
         @Param("endTime") LocalTime endTime
     );
 
+    /** Just enough of an appointment to place it in the availability index. */
+    interface BookedSlot {
+        UUID getId();
+        UUID getProviderId();
+        LocalDate getScheduledDate();
+        LocalTime getStartTime();
+        LocalTime getEndTime();
+        AppointmentStatus getStatus();
+        boolean isDeleted();
+        Instant getUpdatedAt();
+    }
+
+    @Query("SELECT a.id AS id, a.providerId AS providerId, a.timeSlot.date AS scheduledDate, " +
+           "a.timeSlot.startTime AS startTime, a.timeSlot.endTime AS endTime, a.status AS status, " +
+           "a.deleted AS deleted, a.updatedAt AS updatedAt " +
+           "FROM Appointment a WHERE a.timeSlot.date >= :from AND a.timeSlot.date <= :to " +
+           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED', 'CHECKED_IN', 'IN_PROGRESS') " +
+           "AND a.deleted = false")
+    List<BookedSlot> findBookedSlots(
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    @Query("SELECT a.id AS id, a.providerId AS providerId, a.timeSlot.date AS scheduledDate, " +
+           "a.timeSlot.startTime AS startTime, a.timeSlot.endTime AS endTime, a.status AS status, " +
+           "a.deleted AS deleted, a.updatedAt AS updatedAt " +
+           "FROM Appointment a WHERE a.updatedAt > :since")
+    List<BookedSlot> findSlotsChangedSince(@Param("since") Instant since);
+
     @Query("SELECT COUNT(a) FROM Appointment a WHERE a.providerId = :providerId " +
            "AND a.timeSlot.date = :date AND a.status = :status AND a.deleted = false")
     long countByProviderAndDateAndStatus(
@@ -109,9 +140,44 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>,
 
     long countByProviderIdAndDeletedFalse(UUID providerId);
 
-    @Query("SELECT a FROM Appointment a WHERE a.timeSlot.date = :tomorrow " +
-           "AND a.status IN ('SCHEDULED', 'CONFIRMED') AND a.deleted = false")
-    List<Appointment> findAppointmentsNeedingReminders(@Param("tomorrow") LocalDate tomorrow);
+    /** What {@code AppointmentLookup} exposes of an appointment. */
+    interface AppointmentSummary {
+        UUID getId();
+        String getAppointmentNumber();
+        UUID getPatientId();
+        UUID getProviderId();
+        LocalDate getScheduledDate();
+        LocalTime getStartTime();
+        LocalTime getEndTime();
+        AppointmentStatus getStatus();
+    }
+
+    @Query("SELECT a.id AS id, a.appointmentNumber AS appointmentNumber, a.patientId AS patientId, " +
+           "a.providerId AS providerId, a.timeSlot.date AS scheduledDate, a.timeSlot.startTime AS startTime, " +
+           "a.timeSlot.endTime AS endTime, a.status AS status " +
+           "FROM Appointment a WHERE a.id IN :ids")
+    List<AppointmentSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    interface ReminderSlot {
+        UUID getId();
+        String getAppointmentNumber();
+        UUID getPatientId();
+        UUID getProviderId();
+        LocalDate getScheduledDate();
+        LocalTime getStartTime();
+    }
+
+    /** One keyset page of a day's remindable appointments, in id order after {@code afterId}. */
+    @Query("SELECT a.id AS id, a.appointmentNumber AS appointmentNumber, a.patientId AS patientId, " +
+           "a.providerId AS providerId, a.timeSlot.date AS scheduledDate, a.timeSlot.startTime AS startTime " +
+           "FROM Appointment a WHERE a.timeSlot.date = :tomorrow AND a.id > :afterId " +
+           "AND a.status IN ('SCHEDULED', 'CONFIRMED', 'RESCHEDULED') AND a.deleted = false " +
+           "ORDER BY a.id")
+    List<ReminderSlot> findAppointmentsNeedingReminders(
+        @Param("tomorrow") LocalDate tomorrow,
+        @Param("afterId") UUID afterId,
+        Pageable pageable
+    );
 
     @Query("SELECT COUNT(a) FROM Appointment a WHERE a.timeSlot.date = :date AND a.deleted = false")
     long countByTimeSlotScheduledDate(@Param("date") LocalDate date);
@@ -2,19 +2,46 @@ package com.healthcare.appointment.service;
 
 import com.healthcare.appointment.api.AppointmentLookup;
 import com.healthcare.appointment.domain.Appointment;
+import com.healthcare.appointment.domain.event.AppointmentCancelledEvent;
+import com.healthcare.appointment.domain.event.AppointmentCheckedInEvent;
+import com.healthcare.appointment.domain.event.AppointmentCompletedEvent;
+import com.healthcare.appointment.domain.event.AppointmentConfirmedEvent;
+import com.healthcare.appointment.domain.event.AppointmentNoShowEvent;
+import com.healthcare.appointment.domain.event.AppointmentRescheduledEvent;
 import com.healthcare.appointment.repository.AppointmentRepository;
+import com.healthcare.appointment.repository.AppointmentRepository.AppointmentSummary;
+import com.healthcare.common.cache.CacheMultiGet;
+import com.healthcare.common.config.RedisCacheConfig;
+import com.healthcare.common.domain.DomainEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 class AppointmentLookupImpl implements AppointmentLookup {
 
     private final AppointmentRepository appointmentRepository;
+    private final CacheManager cacheManager;
 
-    AppointmentLookupImpl(AppointmentRepository appointmentRepository) {
+    AppointmentLookupImpl(AppointmentRepository appointmentRepository, CacheManager cacheManager) {
         this.appointmentRepository = appointmentRepository;
+        this.cacheManager = cacheManager;
     }
 
     @Override
@@ -29,6 +56,76 @@ class AppointmentLookupImpl implements AppointmentLookup {
             .map(this::toAppointmentInfo);
     }
 
+    /**
+     * Serves appointments already in the appointment cache and reads the rest
+     * with one projection query, caching what it loads. Entries are evicted
+     * when the appointment changes and otherwise expire after two minutes.
+     */
+    @Override
+    public Map<UUID, AppointmentInfo> findAllByIds(Collection<UUID> appointmentIds) {
+        if (appointmentIds.isEmpty()) {
+            return Map.of();
+        }
+        Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_APPOINTMENTS);
+        CacheMultiGet.Result<UUID, AppointmentInfo> cached =
+            CacheMultiGet.get(cache, appointmentIds, AppointmentInfo.class);
+
+        Map<UUID, AppointmentInfo> appointments = new HashMap<>(cached.hits());
+        if (!cached.misses().isEmpty()) {
+            Map<UUID, AppointmentInfo> loaded = appointmentRepository.findSummariesByIdIn(cached.misses()).stream()
+                .map(this::toAppointmentInfo)
+                .collect(Collectors.toMap(AppointmentInfo::appointmentId, Function.identity()));
+            CacheMultiGet.putAll(cache, loaded);
+            appointments.putAll(loaded);
+        }
+        return appointments;
+    }
+
+    /** Published inside the changing transaction, so the transaction-aware cache evicts on commit. */
+    @EventListener({AppointmentConfirmedEvent.class, AppointmentCheckedInEvent.class,
+        AppointmentCompletedEvent.class, AppointmentCancelledEvent.class, AppointmentNoShowEvent.class,
+        AppointmentRescheduledEvent.class})
+    void onAppointmentChanged(DomainEvent event) {
+        Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_APPOINTMENTS);
+        if (cache != null) {
+            cache.evict(event.aggregateId());
+        }
+    }
+
+    @Override
+    public List<ReminderCandidate> findNeedingReminders(LocalDate date, UUID afterId, int limit) {
+        UUID after = afterId != null ? afterId : new UUID(0, 0);
+        return appointmentRepository.findAppointmentsNeedingReminders(date, after, PageRequest.of(0, limit))
+            .stream()
+            .map(slot -> new ReminderCandidate(
+                slot.getId(),
+                slot.getAppointmentNumber(),
+                slot.getPatientId(),
+                slot.getProviderId(),
+                slot.getScheduledDate(),
+                slot.getStartTime()))
+            .toList();
+    }
+
+    private AppointmentInfo toAppointmentInfo(AppointmentSummary summary) {
+        return new AppointmentInfo(
+            summary.getId(),
+            summary.getAppointmentNumber(),
+            summary.getPatientId(),
+            summary.getProviderId(),
+            null,
+            null,
+            null,
+            toInstant(summary.getScheduledDate(), summary.getStartTime()),
+            toInstant(summary.getScheduledDate(), summary.getEndTime()),
+            summary.getStatus().name()
+        );
+    }
+
+    private static Instant toInstant(LocalDate date, LocalTime time) {
+        return LocalDateTime.of(date, time).atZone(ZoneId.systemDefault()).toInstant();
+    }
+
     private AppointmentInfo toAppointmentInfo(Appointment appointment) {
         return new AppointmentInfo(
             appointment.getId(),
@@ -1,10 +1,10 @@
 package com.healthcare.appointment.service;
 
+import com.healthcare.common.sequence.NumberSequences;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 public class AppointmentNumberGenerator {
@@ -12,18 +12,15 @@ public class AppointmentNumberGenerator {
     private static final String PREFIX = "APT";
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
-    private final AtomicInteger counter = new AtomicInteger(0);
-    private String currentDate = "";
+    private final NumberSequences sequences;
 
-    public synchronized String generate() {
-        String today = LocalDate.now().format(DATE_FORMAT);
-
-        if (!today.equals(currentDate)) {
-            currentDate = today;
-            counter.set(0);
-        }
+    public AppointmentNumberGenerator(NumberSequences sequences) {
+        this.sequences = sequences;
+    }
 
-        int sequence = counter.incrementAndGet();
+    public String generate() {
+        String today = LocalDate.now().format(DATE_FORMAT);
+        long sequence = sequences.next(PREFIX, today);
         return String.format("%s-%s-%04d", PREFIX, today, sequence);
     }
 }
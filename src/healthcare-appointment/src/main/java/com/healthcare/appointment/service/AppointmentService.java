@@ -2,6 +2,7 @@ package com.healthcare.appointment.service;
 
 import com.healthcare.appointment.api.dto.*;
 import com.healthcare.appointment.domain.Appointment;
+import com.healthcare.common.api.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -23,6 +24,9 @@ public interface AppointmentService {
 
     Page<AppointmentSummaryResponse> getByProvider(UUID providerId, Pageable pageable);
 
+    CursorPageResponse<AppointmentSummaryResponse> scrollByProvider(UUID providerId, String cursor,
+                                                                     int size, boolean includeTotal);
+
     List<AppointmentSummaryResponse> getTodaysAppointments(UUID providerId);
 
     Page<AppointmentSummaryResponse> getByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable);
@@ -41,6 +45,9 @@ public interface AppointmentService {
 
     boolean isSlotAvailable(UUID providerId, LocalDate date, java.time.LocalTime startTime, int durationMinutes);
 
+    List<AvailableSlotResponse> findAvailableSlots(String specialization, LocalDate startDate, LocalDate endDate,
+                                                   int durationMinutes, int limit);
+
     long countByDate(LocalDate date);
 
     long countByStatus(com.healthcare.appointment.domain.AppointmentStatus status);
@@ -9,15 +9,23 @@ import com.healthcare.appointment.exception.AppointmentNotFoundException;
 import com.healthcare.appointment.exception.InvalidAppointmentStateException;
 import com.healthcare.appointment.exception.TimeSlotConflictException;
 import com.healthcare.appointment.repository.AppointmentRepository;
+import com.healthcare.common.api.CursorPageResponse;
+import com.healthcare.common.pagination.KeysetOrder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -29,31 +37,49 @@ public class AppointmentServiceImpl implements AppointmentService {
 
     private static final Logger log = LoggerFactory.getLogger(AppointmentServiceImpl.class);
 
+    private static final KeysetOrder<Appointment> DATE_DESC_ORDER = KeysetOrder.<Appointment>descending(Appointment::getId)
+            .by("timeSlot.date", Appointment::getScheduledDate, LocalDate::parse)
+            .by("timeSlot.startTime", Appointment::getStartTime, LocalTime::parse);
+
     private final AppointmentRepository appointmentRepository;
     private final AppointmentNumberGenerator numberGenerator;
     private final ApplicationEventPublisher eventPublisher;
+    private final ProviderAvailabilityIndex availabilityIndex;
+    private final ProviderDayLocks providerDayLocks;
+    private final TransactionTemplate transactionTemplate;
 
     public AppointmentServiceImpl(
             AppointmentRepository appointmentRepository,
             AppointmentNumberGenerator numberGenerator,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            ProviderAvailabilityIndex availabilityIndex,
+            ProviderDayLocks providerDayLocks,
+            PlatformTransactionManager transactionManager) {
         this.appointmentRepository = appointmentRepository;
         this.numberGenerator = numberGenerator;
         this.eventPublisher = eventPublisher;
+        this.availabilityIndex = availabilityIndex;
+        this.providerDayLocks = providerDayLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Books under the provider-day lock, committing before the lock is
+     * released so the next booking for that day sees this one. The
+     * {@code ex_appointment_provider_slot} exclusion constraint rejects an
+     * overlapping INSERT from any node; that rejection is the conflict check.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AppointmentResponse schedule(ScheduleAppointmentRequest request) {
         log.info("Scheduling appointment for patient {} with provider {} on {}",
                 request.patientId(), request.providerId(), request.scheduledDate());
 
-        validateSlotAvailability(
-                request.providerId(),
-                request.scheduledDate(),
-                request.startTime(),
-                request.durationMinutes()
-        );
+        return providerDayLocks.withLock(request.providerId(), request.scheduledDate(),
+                () -> transactionTemplate.execute(status -> book(request)));
+    }
 
+    private AppointmentResponse book(ScheduleAppointmentRequest request) {
         TimeSlot timeSlot = TimeSlot.of(
                 request.scheduledDate(),
                 request.startTime(),
@@ -72,8 +98,18 @@ public class AppointmentServiceImpl implements AppointmentService {
                 request.notes()
         );
 
-        Appointment saved = appointmentRepository.save(appointment);
+        Appointment saved;
+        try {
+            saved = appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (isSlotConflict(e)) {
+                throw TimeSlotConflictException.forProvider(
+                        request.providerId(), request.scheduledDate(), request.startTime());
+            }
+            throw e;
+        }
 
+        saved.recordScheduled();
         saved.getDomainEvents().forEach(eventPublisher::publishEvent);
         saved.clearDomainEvents();
 
@@ -117,6 +153,20 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .map(this::mapToSummary);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AppointmentSummaryResponse> scrollByProvider(UUID providerId, String cursor,
+                                                                            int size, boolean includeTotal) {
+        int pageSize = CursorPageResponse.boundedSize(size);
+        Specification<Appointment> byProvider = Specification.where(providerIdEquals(providerId))
+                .and(notDeleted());
+        List<Appointment> rows = appointmentRepository.findBy(byProvider.and(DATE_DESC_ORDER.after(cursor)),
+                query -> query.sortBy(DATE_DESC_ORDER.toSort()).limit(pageSize + 1).all());
+
+        return CursorPageResponse.from(rows, pageSize, DATE_DESC_ORDER, this::mapToSummary,
+                includeTotal ? appointmentRepository.count(byProvider) : null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<AppointmentSummaryResponse> getTodaysAppointments(UUID providerId) {
@@ -227,10 +277,22 @@ public class AppointmentServiceImpl implements AppointmentService {
         return mapToResponse(saved);
     }
 
+    /**
+     * Moves the appointment under the lock of its new provider-day, like
+     * {@link #schedule}; the exclusion constraint rejects an overlapping
+     * UPDATE just as it rejects an overlapping INSERT.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AppointmentResponse reschedule(UUID appointmentId, RescheduleAppointmentRequest request) {
         log.info("Rescheduling appointment {} to {}", appointmentId, request.newDate());
 
+        UUID providerId = findById(appointmentId).getProviderId();
+        return providerDayLocks.withLock(providerId, request.newDate(),
+                () -> transactionTemplate.execute(status -> move(appointmentId, request)));
+    }
+
+    private AppointmentResponse move(UUID appointmentId, RescheduleAppointmentRequest request) {
         Appointment appointment = findById(appointmentId);
 
         if (!appointment.getStatus().canReschedule()) {
@@ -240,25 +302,6 @@ public class AppointmentServiceImpl implements AppointmentService {
             );
         }
 
-        List<Appointment> conflicts = appointmentRepository.findOverlappingAppointments(
-                appointment.getProviderId(),
-                request.newDate(),
-                request.newStartTime(),
-                request.newStartTime().plusMinutes(request.durationMinutes())
-        );
-
-        conflicts = conflicts.stream()
-                .filter(a -> !a.getId().equals(appointmentId))
-                .toList();
-
-        if (!conflicts.isEmpty()) {
-            throw TimeSlotConflictException.forProvider(
-                    appointment.getProviderId(),
-                    request.newDate(),
-                    request.newStartTime()
-            );
-        }
-
         TimeSlot newTimeSlot = TimeSlot.of(
                 request.newDate(),
                 request.newStartTime(),
@@ -267,7 +310,16 @@ public class AppointmentServiceImpl implements AppointmentService {
 
         appointment.reschedule(newTimeSlot);
 
-        Appointment saved = appointmentRepository.save(appointment);
+        Appointment saved;
+        try {
+            saved = appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (isSlotConflict(e)) {
+                throw TimeSlotConflictException.forProvider(
+                        appointment.getProviderId(), request.newDate(), request.newStartTime());
+            }
+            throw e;
+        }
         publishEvents(saved);
 
         log.info("Appointment rescheduled: {} to {}",
@@ -278,10 +330,23 @@ public class AppointmentServiceImpl implements AppointmentService {
     @Override
     @Transactional(readOnly = true)
     public boolean isSlotAvailable(UUID providerId, LocalDate date, LocalTime startTime, int durationMinutes) {
-        LocalTime endTime = startTime.plusMinutes(durationMinutes);
-        List<Appointment> conflicts = appointmentRepository.findOverlappingAppointments(
-                providerId, date, startTime, endTime);
-        return conflicts.isEmpty();
+        if (availabilityIndex.covers(date)) {
+            return availabilityIndex.isFree(providerId, date, startTime, durationMinutes);
+        }
+        return !hasOverlap(providerId, date, startTime, durationMinutes);
+    }
+
+    @Override
+    public List<AvailableSlotResponse> findAvailableSlots(String specialization, LocalDate startDate,
+                                                          LocalDate endDate, int durationMinutes, int limit) {
+        return availabilityIndex.findFreeSlots(specialization, startDate, endDate, durationMinutes, limit).stream()
+                .map(slot -> new AvailableSlotResponse(
+                        slot.providerId(),
+                        slot.specialization(),
+                        slot.date(),
+                        slot.startTime(),
+                        slot.endTime()))
+                .toList();
     }
 
     private Appointment findById(UUID appointmentId) {
@@ -289,10 +354,15 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .orElseThrow(() -> AppointmentNotFoundException.byId(appointmentId));
     }
 
-    private void validateSlotAvailability(UUID providerId, LocalDate date, LocalTime startTime, int durationMinutes) {
-        if (!isSlotAvailable(providerId, date, startTime, durationMinutes)) {
-            throw TimeSlotConflictException.forProvider(providerId, date, startTime);
-        }
+    private boolean hasOverlap(UUID providerId, LocalDate date, LocalTime startTime, int durationMinutes) {
+        LocalTime endTime = startTime.plusMinutes(durationMinutes);
+        return !appointmentRepository.findOverlappingAppointments(providerId, date, startTime, endTime).isEmpty();
+    }
+
+    /** Whether the failure is the provider-slot exclusion constraint (SQLSTATE 23P01). */
+    private static boolean isSlotConflict(DataIntegrityViolationException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sql
+                && "23P01".equals(sql.getSQLState());
     }
 
     private void publishEvents(Appointment appointment) {
@@ -309,6 +379,10 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .and(dateBeforeOrEquals(criteria.endDate()));
     }
 
+    private Specification<Appointment> notDeleted() {
+        return (root, query, cb) -> cb.isFalse(root.get("deleted"));
+    }
+
     private Specification<Appointment> patientIdEquals(UUID patientId) {
         return (root, query, cb) -> patientId == null ? null :
                 cb.equal(root.get("patientId"), patientId);
@@ -423,7 +497,7 @@ public class AppointmentServiceImpl implements AppointmentService {
         LocalDate today = LocalDate.now();
         return appointmentRepository.findByTimeSlotScheduledDateGreaterThanEqualAndStatusInOrderByTimeSlotScheduledDateAscTimeSlotStartTimeAsc(
                 today,
-                List.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED),
+                List.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED, AppointmentStatus.RESCHEDULED),
                 org.springframework.data.domain.PageRequest.of(0, limit)
         ).stream().map(this::mapToSummary).toList();
     }
@@ -0,0 +1,395 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.api.ProviderScheduleSource;
+import com.healthcare.appointment.api.ProviderScheduleSource.WorkingHours;
+import com.healthcare.appointment.domain.TimeSlot;
+import com.healthcare.appointment.domain.event.AppointmentCancelledEvent;
+import com.healthcare.appointment.domain.event.AppointmentCompletedEvent;
+import com.healthcare.appointment.domain.event.AppointmentNoShowEvent;
+import com.healthcare.appointment.domain.event.AppointmentRescheduledEvent;
+import com.healthcare.appointment.domain.event.AppointmentScheduledEvent;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import com.healthcare.appointment.repository.AppointmentRepository.BookedSlot;
+import com.healthcare.common.domain.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory availability of every provider over the next
+ * {@link #HORIZON_DAYS} days, so slot probes and free-slot searches do not
+ * query the database.
+ * <p>
+ * Each provider-day with bookings is a 1440-bit bitmap with one bit per
+ * minute held by an active appointment. A day's bitmap is rebuilt from its
+ * bookings and swapped in whole whenever one of them changes, so readers
+ * never see a half-applied update. Working hours come from
+ * {@link ProviderScheduleSource}.
+ * <p>
+ * Committed appointment events update the index on this node. Changes made
+ * on other nodes are picked up by polling {@code updated_at}, and the whole
+ * index, including working hours, is rebuilt hourly. Booking still checks
+ * overlaps against the database, so a stale index can only make a probe or
+ * search answer wrongly for a few seconds, never double-book.
+ */
+@Component
+@EnableScheduling
+class ProviderAvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProviderAvailabilityIndex.class);
+
+    static final int HORIZON_DAYS = 90;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + 63) / 64;
+
+    /** Re-reads changes this far behind the last poll to cover commits that land late. */
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+
+    private final AppointmentRepository appointmentRepository;
+    private final ProviderScheduleSource scheduleSource;
+
+    private volatile Snapshot snapshot;
+    private volatile Instant polledUpTo = Instant.EPOCH;
+
+    ProviderAvailabilityIndex(AppointmentRepository appointmentRepository,
+                              ProviderScheduleSource scheduleSource) {
+        this.appointmentRepository = appointmentRepository;
+        this.scheduleSource = scheduleSource;
+    }
+
+    /** A bookable slot returned by {@link #findFreeSlots}. */
+    record FreeSlot(UUID providerId, String specialization, LocalDate date, LocalTime startTime, LocalTime endTime) {}
+
+    /** Whether the index is loaded and {@code date} falls inside its horizon. */
+    boolean covers(LocalDate date) {
+        Snapshot current = snapshot;
+        return current != null && !date.isBefore(current.from) && !date.isAfter(current.to);
+    }
+
+    /**
+     * Whether no active appointment of the provider overlaps the interval.
+     * Working hours are not consulted, matching
+     * {@link AppointmentRepository#findOverlappingAppointments}.
+     * Callers must check {@link #covers} first.
+     */
+    boolean isFree(UUID providerId, LocalDate date, LocalTime startTime, int durationMinutes) {
+        ProviderDays provider = snapshot.providers.get(providerId);
+        if (provider == null) {
+            return true;
+        }
+        int start = minuteOf(startTime);
+        return isClear(provider.busy(date), start, Math.min(start + durationMinutes, MINUTES_PER_DAY));
+    }
+
+    /**
+     * Earliest free slots of providers with the given specialization (any
+     * provider if blank), in date and time order. Slots start on the
+     * schedule's slot grid and last {@code durationMinutes}, or the
+     * schedule's slot length if that is not positive.
+     */
+    List<FreeSlot> findFreeSlots(String specialization, LocalDate from, LocalDate to,
+                                 int durationMinutes, int limit) {
+        Snapshot current = snapshot;
+        List<FreeSlot> found = new ArrayList<>();
+        if (current == null || limit <= 0) {
+            return found;
+        }
+        List<ProviderDays> candidates = specialization == null || specialization.isBlank()
+            ? current.scheduled
+            : current.bySpecialization.getOrDefault(normalize(specialization), List.of());
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate first = from.isBefore(current.from) ? current.from : from;
+        LocalDate last = to.isAfter(current.to) ? current.to : to;
+        for (LocalDate date = first; !date.isAfter(last) && found.size() < limit; date = date.plusDays(1)) {
+            int notBefore = date.equals(now.toLocalDate()) ? minuteOf(now.toLocalTime()) + 1 : 0;
+            List<FreeSlot> day = new ArrayList<>();
+            for (ProviderDays provider : candidates) {
+                collectFreeSlots(provider, date, notBefore, durationMinutes, limit - found.size(), day);
+            }
+            day.sort(Comparator.comparing(FreeSlot::startTime));
+            found.addAll(day.subList(0, Math.min(day.size(), limit - found.size())));
+        }
+        return found;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduled(AppointmentScheduledEvent event) {
+        Snapshot current = snapshot;
+        if (current != null && event.appointmentId() != null) {
+            TimeSlot slot = event.timeSlot();
+            current.book(event.appointmentId(), event.providerId(),
+                slot.getScheduledDate(), slot.getStartTime(), slot.getEndTime());
+        }
+    }
+
+    /*
+     * The event carries no provider, so only a booking the index already
+     * holds is moved; any other arrives with the next poll.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRescheduled(AppointmentRescheduledEvent event) {
+        Snapshot current = snapshot;
+        if (current != null && event.appointmentId() != null) {
+            TimeSlot slot = event.newSlot();
+            current.move(event.appointmentId(), slot.getScheduledDate(), slot.getStartTime(), slot.getEndTime());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true, classes = {
+        AppointmentCancelledEvent.class,
+        AppointmentCompletedEvent.class,
+        AppointmentNoShowEvent.class
+    })
+    public void onReleased(DomainEvent event) {
+        Snapshot current = snapshot;
+        if (current != null && event.aggregateId() != null) {
+            current.release(event.aggregateId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelay = 3_600_000, fixedDelay = 3_600_000)
+    public void rebuild() {
+        Instant started = Instant.now();
+        try {
+            LocalDate from = LocalDate.now();
+            LocalDate to = from.plusDays(HORIZON_DAYS - 1);
+            Snapshot rebuilt = new Snapshot(from, to, scheduleSource.findActiveWorkingHours());
+            List<BookedSlot> booked = appointmentRepository.findBookedSlots(from, to);
+            for (BookedSlot slot : booked) {
+                rebuilt.book(slot.getId(), slot.getProviderId(),
+                    slot.getScheduledDate(), slot.getStartTime(), slot.getEndTime());
+            }
+            snapshot = rebuilt;
+            polledUpTo = started;
+            log.info("Availability index rebuilt: {} providers, {} bookings, {} to {} in {} ms",
+                rebuilt.scheduled.size(), booked.size(), from, to,
+                Duration.between(started, Instant.now()).toMillis());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild availability index", e);
+        }
+    }
+
+    /** Applies appointments changed since the last poll, including those changed by other nodes. */
+    @Scheduled(initialDelay = 5000, fixedDelay = 5000)
+    public void pollChanges() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Instant since = polledUpTo.minus(POLL_OVERLAP);
+        try {
+            Instant latest = polledUpTo;
+            for (BookedSlot slot : appointmentRepository.findSlotsChangedSince(since)) {
+                if (slot.isDeleted() || !slot.getStatus().isActive()) {
+                    current.release(slot.getId());
+                } else {
+                    current.book(slot.getId(), slot.getProviderId(),
+                        slot.getScheduledDate(), slot.getStartTime(), slot.getEndTime());
+                }
+                if (slot.getUpdatedAt().isAfter(latest)) {
+                    latest = slot.getUpdatedAt();
+                }
+            }
+            polledUpTo = latest;
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll appointment changes: {}", e.getMessage());
+        }
+    }
+
+    private static void collectFreeSlots(ProviderDays provider, LocalDate date, int notBefore,
+                                         int durationMinutes, int limit, List<FreeSlot> into) {
+        long[] busy = provider.busy(date);
+        int collected = 0;
+        for (Shift shift : provider.shifts.getOrDefault(date.getDayOfWeek(), List.of())) {
+            int length = durationMinutes > 0 ? durationMinutes : shift.slotMinutes;
+            for (int start = shift.start; start + length <= shift.end && collected < limit; start += shift.slotMinutes) {
+                if (start >= notBefore && isClear(busy, start, start + length)) {
+                    into.add(new FreeSlot(provider.providerId, provider.specialization, date,
+                        LocalTime.MIN.plusMinutes(start), LocalTime.MIN.plusMinutes(start + length)));
+                    collected++;
+                }
+            }
+        }
+    }
+
+    /** Whether minutes {@code [start, end)} are all clear in {@code busy}; null means a free day. */
+    private static boolean isClear(long[] busy, int start, int end) {
+        if (busy == null || start >= end) {
+            return true;
+        }
+        int firstWord = start >>> 6;
+        int lastWord = (end - 1) >>> 6;
+        for (int word = firstWord; word <= lastWord; word++) {
+            long mask = -1L;
+            if (word == firstWord) {
+                mask &= -1L << (start & 63);
+            }
+            if (word == lastWord) {
+                mask &= -1L >>> (63 - ((end - 1) & 63));
+            }
+            if ((busy[word] & mask) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void mark(long[] busy, int start, int end) {
+        for (int minute = start; minute < end; minute++) {
+            busy[minute >>> 6] |= 1L << (minute & 63);
+        }
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static String normalize(String specialization) {
+        return specialization.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** One index generation: working hours as loaded, bookings as since updated. */
+    private static final class Snapshot {
+
+        final LocalDate from;
+        final LocalDate to;
+        final Map<UUID, ProviderDays> providers = new ConcurrentHashMap<>();
+        final List<ProviderDays> scheduled = new ArrayList<>();
+        final Map<String, List<ProviderDays>> bySpecialization = new HashMap<>();
+        final Map<UUID, Booking> bookings = new ConcurrentHashMap<>();
+
+        Snapshot(LocalDate from, LocalDate to, List<WorkingHours> workingHours) {
+            this.from = from;
+            this.to = to;
+            for (WorkingHours hours : workingHours) {
+                ProviderDays provider = providers.computeIfAbsent(hours.providerId(),
+                    id -> new ProviderDays(id, hours.specialization()));
+                if (provider.shifts.isEmpty()) {
+                    scheduled.add(provider);
+                    if (hours.specialization() != null) {
+                        bySpecialization.computeIfAbsent(normalize(hours.specialization()), key -> new ArrayList<>())
+                            .add(provider);
+                    }
+                }
+                provider.shifts.computeIfAbsent(hours.dayOfWeek(), day -> new ArrayList<>())
+                    .add(new Shift(minuteOf(hours.startTime()), minuteOf(hours.endTime()),
+                        Math.max(1, hours.slotDurationMinutes())));
+            }
+            for (ProviderDays provider : scheduled) {
+                provider.shifts.values().forEach(shifts -> shifts.sort(Comparator.comparingInt(Shift::start)));
+            }
+        }
+
+        synchronized void book(UUID appointmentId, UUID providerId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+            release(appointmentId);
+            if (date.isBefore(from) || date.isAfter(to)) {
+                return;
+            }
+            int start = minuteOf(startTime);
+            int end = minuteOf(endTime);
+            Booking booking = new Booking(providerId, date, start, end > start ? end : MINUTES_PER_DAY);
+            bookings.put(appointmentId, booking);
+            providers.computeIfAbsent(providerId, id -> new ProviderDays(id, null))
+                .add(appointmentId, booking);
+        }
+
+        synchronized void move(UUID appointmentId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+            Booking booking = bookings.get(appointmentId);
+            if (booking != null) {
+                book(appointmentId, booking.providerId, date, startTime, endTime);
+            }
+        }
+
+        synchronized void release(UUID appointmentId) {
+            Booking booking = bookings.remove(appointmentId);
+            if (booking != null) {
+                providers.get(booking.providerId).remove(appointmentId, booking.date);
+            }
+        }
+    }
+
+    /** A provider's weekly shifts and the bookings on each day that has any. Written under the snapshot's lock. */
+    private static final class ProviderDays {
+
+        final UUID providerId;
+        final String specialization;
+        final Map<DayOfWeek, List<Shift>> shifts = new EnumMap<>(DayOfWeek.class);
+        private final Map<LocalDate, Day> days = new ConcurrentHashMap<>();
+
+        ProviderDays(UUID providerId, String specialization) {
+            this.providerId = providerId;
+            this.specialization = specialization;
+        }
+
+        long[] busy(LocalDate date) {
+            Day day = days.get(date);
+            return day != null ? day.busy : null;
+        }
+
+        void add(UUID appointmentId, Booking booking) {
+            Day day = days.get(booking.date);
+            Map<UUID, Booking> bookings = day != null ? new HashMap<>(day.bookings) : new HashMap<>();
+            bookings.put(appointmentId, booking);
+            days.put(booking.date, Day.of(bookings));
+        }
+
+        void remove(UUID appointmentId, LocalDate date) {
+            Day day = days.get(date);
+            if (day == null || !day.bookings.containsKey(appointmentId)) {
+                return;
+            }
+            Map<UUID, Booking> bookings = new HashMap<>(day.bookings);
+            bookings.remove(appointmentId);
+            if (bookings.isEmpty()) {
+                days.remove(date);
+            } else {
+                days.put(date, Day.of(bookings));
+            }
+        }
+    }
+
+    /** Immutable bookings of one provider-day and the minute bitmap they occupy. */
+    private record Day(Map<UUID, Booking> bookings, long[] busy) {
+
+        static Day of(Map<UUID, Booking> bookings) {
+            long[] busy = new long[WORDS_PER_DAY];
+            for (Booking booking : bookings.values()) {
+                mark(busy, booking.start, booking.end);
+            }
+            return new Day(bookings, busy);
+        }
+    }
+
+    private record Booking(UUID providerId, LocalDate date, int start, int end) {}
+
+    private record Shift(int start, int end, int slotMinutes) {}
+}
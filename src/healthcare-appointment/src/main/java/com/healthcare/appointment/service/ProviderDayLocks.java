@@ -0,0 +1,57 @@
+package com.healthcare.appointment.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped in-process locks keyed by provider and day. Bookings for the same
+ * provider-day on this node queue here instead of each holding a database
+ * connection while the exclusion constraint on {@code appointments} makes
+ * them wait for one another. The constraint is what prevents double
+ * booking; if a stripe stays busy past {@link #MAX_WAIT_SECONDS} the caller
+ * proceeds unlocked and relies on it.
+ */
+@Component
+class ProviderDayLocks {
+
+    private static final Logger log = LoggerFactory.getLogger(ProviderDayLocks.class);
+
+    private static final int STRIPES = 256;
+    private static final long MAX_WAIT_SECONDS = 5;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    ProviderDayLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    <T> T withLock(UUID providerId, LocalDate date, Supplier<T> action) {
+        ReentrantLock lock = locks[Math.floorMod(Objects.hash(providerId, date), STRIPES)];
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(MAX_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!locked) {
+            log.warn("Booking lock for provider {} on {} not acquired; continuing unlocked", providerId, date);
+        }
+        try {
+            return action.get();
+        } finally {
+            if (locked) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.api.AppointmentLookup.AppointmentInfo;
+import com.healthcare.appointment.domain.AppointmentStatus;
+import com.healthcare.appointment.domain.event.AppointmentCancelledEvent;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import com.healthcare.appointment.repository.AppointmentRepository.AppointmentSummary;
+import com.healthcare.common.config.RedisCacheConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AppointmentLookupImplTest {
+
+    private record Summary(UUID getId, String getAppointmentNumber, UUID getPatientId, UUID getProviderId,
+                           LocalDate getScheduledDate, LocalTime getStartTime, LocalTime getEndTime,
+                           AppointmentStatus getStatus) implements AppointmentSummary {}
+
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final AppointmentLookupImpl lookup = new AppointmentLookupImpl(appointmentRepository, cacheManager);
+    private final Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_APPOINTMENTS);
+
+    @Test
+    void servesHitsFromCacheAndLoadsOnlyMisses() {
+        AppointmentInfo cached = info(UUID.randomUUID());
+        cache.put(cached.appointmentId(), cached);
+        Summary stored = summary(UUID.randomUUID());
+        UUID unknown = UUID.randomUUID();
+        when(appointmentRepository.findSummariesByIdIn(Set.of(stored.getId(), unknown))).thenReturn(List.of(stored));
+
+        Map<UUID, AppointmentInfo> found = lookup.findAllByIds(List.of(cached.appointmentId(), stored.getId(), unknown));
+
+        assertThat(found).containsOnlyKeys(cached.appointmentId(), stored.getId());
+        assertThat(found.get(cached.appointmentId())).isEqualTo(cached);
+        assertThat(found.get(stored.getId()).appointmentNumber()).isEqualTo(stored.getAppointmentNumber());
+        assertThat(found.get(stored.getId()).status()).isEqualTo("CONFIRMED");
+        assertThat(cache.get(stored.getId(), AppointmentInfo.class)).isEqualTo(found.get(stored.getId()));
+        assertThat(cache.get(unknown)).isNull();
+    }
+
+    @Test
+    void allHitsSkipTheQuery() {
+        AppointmentInfo cached = info(UUID.randomUUID());
+        cache.put(cached.appointmentId(), cached);
+
+        assertThat(lookup.findAllByIds(List.of(cached.appointmentId()))).containsOnlyKeys(cached.appointmentId());
+        verify(appointmentRepository, never()).findSummariesByIdIn(anyCollection());
+    }
+
+    @Test
+    void changedAppointmentIsEvicted() {
+        AppointmentInfo cached = info(UUID.randomUUID());
+        cache.put(cached.appointmentId(), cached);
+
+        lookup.onAppointmentChanged(new AppointmentCancelledEvent(cached.appointmentId(), "APT-1",
+            cached.patientId(), cached.providerId(), "Patient request"));
+
+        assertThat(cache.get(cached.appointmentId())).isNull();
+    }
+
+    private static Summary summary(UUID id) {
+        return new Summary(id, "APT-" + id, UUID.randomUUID(), UUID.randomUUID(), LocalDate.of(2030, 1, 7),
+            LocalTime.of(9, 0), LocalTime.of(9, 30), AppointmentStatus.CONFIRMED);
+    }
+
+    private static AppointmentInfo info(UUID id) {
+        return new AppointmentInfo(id, "APT-" + id, UUID.randomUUID(), UUID.randomUUID(), null, null, null,
+            Instant.parse("2030-01-07T09:00:00Z"), Instant.parse("2030-01-07T09:30:00Z"), "SCHEDULED");
+    }
+}
@@ -0,0 +1,78 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.api.ProviderScheduleSource;
+import com.healthcare.appointment.api.ProviderScheduleSource.WorkingHours;
+import com.healthcare.appointment.api.dto.AppointmentResponse;
+import com.healthcare.appointment.api.dto.ScheduleAppointmentRequest;
+import com.healthcare.appointment.domain.Appointment;
+import com.healthcare.appointment.domain.AppointmentType;
+import com.healthcare.appointment.domain.event.AppointmentScheduledEvent;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AppointmentServiceImplTest {
+
+    private static final LocalDate MONDAY = LocalDate.now().plusDays(7).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    private final UUID providerId = UUID.randomUUID();
+    private final AppointmentRepository appointmentRepository = mock(AppointmentRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private ProviderAvailabilityIndex index;
+    private AppointmentServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ProviderScheduleSource scheduleSource = mock(ProviderScheduleSource.class);
+        when(scheduleSource.findActiveWorkingHours()).thenReturn(List.of(
+                new WorkingHours(providerId, "Cardiology", DayOfWeek.MONDAY,
+                        LocalTime.of(9, 0), LocalTime.of(11, 0), 30)));
+        when(appointmentRepository.findBookedSlots(any(), any())).thenReturn(List.of());
+        index = new ProviderAvailabilityIndex(appointmentRepository, scheduleSource);
+        index.rebuild();
+
+        AppointmentNumberGenerator numberGenerator = mock(AppointmentNumberGenerator.class);
+        when(numberGenerator.generate()).thenReturn("APT-1");
+        when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenAnswer(invocation -> {
+            Appointment appointment = invocation.getArgument(0);
+            ReflectionTestUtils.setField(appointment, "id", UUID.randomUUID());
+            return appointment;
+        });
+        service = new AppointmentServiceImpl(appointmentRepository, numberGenerator, eventPublisher, index,
+                new ProviderDayLocks(), mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void scheduledEventCarriesThePersistedIdAndBooksTheIndex() {
+        AppointmentResponse response = service.schedule(new ScheduleAppointmentRequest(UUID.randomUUID(),
+                providerId, MONDAY, LocalTime.of(9, 30), 30, AppointmentType.CONSULTATION, null, null));
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(events.capture());
+        assertThat(events.getValue()).isInstanceOfSatisfying(AppointmentScheduledEvent.class,
+                event -> assertThat(event.appointmentId()).isNotNull().isEqualTo(response.id()));
+
+        index.onScheduled((AppointmentScheduledEvent) events.getValue());
+
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(9, 30), 30)).isFalse();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(10, 0), 30)).isTrue();
+    }
+}
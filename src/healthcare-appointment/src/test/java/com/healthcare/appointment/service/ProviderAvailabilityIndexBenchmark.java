@@ -0,0 +1,154 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.api.ProviderScheduleSource;
+import com.healthcare.appointment.api.ProviderScheduleSource.WorkingHours;
+import com.healthcare.appointment.domain.AppointmentStatus;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import com.healthcare.appointment.repository.AppointmentRepository.BookedSlot;
+import com.healthcare.appointment.service.ProviderAvailabilityIndex.FreeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Slot probes and free-slot search on {@link ProviderAvailabilityIndex}.
+ * The baseline scans the provider's bookings for the day, which is the
+ * overlap test {@code findOverlappingAppointments} runs. That baseline is
+ * kept in memory, so the database round trip the index saves is not part
+ * of the comparison.
+ * <p>
+ * {@code mvn -Pbenchmark -pl healthcare-appointment -am test-compile}, then
+ * run {@link #main} with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderAvailabilityIndexBenchmark {
+
+    private record Slot(UUID getId, UUID getProviderId, LocalDate getScheduledDate, LocalTime getStartTime,
+                        LocalTime getEndTime) implements BookedSlot {
+
+        @Override
+        public AppointmentStatus getStatus() {
+            return AppointmentStatus.SCHEDULED;
+        }
+
+        @Override
+        public boolean isDeleted() {
+            return false;
+        }
+
+        @Override
+        public Instant getUpdatedAt() {
+            return Instant.EPOCH;
+        }
+    }
+
+    private record DayKey(UUID providerId, LocalDate date) {}
+
+    @Param({"500"})
+    int providers;
+
+    @Param({"8"})
+    int bookingsPerDay;
+
+    private final LocalDate today = LocalDate.now();
+    private final List<UUID> providerIds = new ArrayList<>();
+    private final Map<DayKey, List<Slot>> bookingsByDay = new HashMap<>();
+    private ProviderAvailabilityIndex index;
+
+    @Setup
+    public void setUp() {
+        List<WorkingHours> hours = new ArrayList<>();
+        List<BookedSlot> slots = new ArrayList<>();
+        for (int p = 0; p < providers; p++) {
+            UUID providerId = UUID.randomUUID();
+            providerIds.add(providerId);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                hours.add(new WorkingHours(providerId, p % 2 == 0 ? "Cardiology" : "Dermatology", day,
+                    LocalTime.of(8, 0), LocalTime.of(18, 0), 30));
+            }
+            for (int d = 0; d < ProviderAvailabilityIndex.HORIZON_DAYS; d++) {
+                LocalDate date = today.plusDays(d);
+                for (int b = 0; b < bookingsPerDay; b++) {
+                    LocalTime start = LocalTime.of(8, 0).plusHours(b);
+                    Slot slot = new Slot(UUID.randomUUID(), providerId, date, start, start.plusMinutes(30));
+                    slots.add(slot);
+                    bookingsByDay.computeIfAbsent(new DayKey(providerId, date), key -> new ArrayList<>()).add(slot);
+                }
+            }
+        }
+
+        AppointmentRepository repository = mock(AppointmentRepository.class);
+        ProviderScheduleSource scheduleSource = mock(ProviderScheduleSource.class);
+        when(repository.findBookedSlots(any(), any())).thenReturn(slots);
+        when(scheduleSource.findActiveWorkingHours()).thenReturn(hours);
+        index = new ProviderAvailabilityIndex(repository, scheduleSource);
+        index.rebuild();
+    }
+
+    @Benchmark
+    public boolean indexProbe() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID providerId = providerIds.get(random.nextInt(providerIds.size()));
+        LocalDate date = today.plusDays(1 + random.nextInt(ProviderAvailabilityIndex.HORIZON_DAYS - 1));
+        LocalTime start = LocalTime.of(8, 0).plusMinutes(10L * random.nextInt(60));
+        return index.covers(date) && index.isFree(providerId, date, start, 30);
+    }
+
+    @Benchmark
+    public boolean scanProbe() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID providerId = providerIds.get(random.nextInt(providerIds.size()));
+        LocalDate date = today.plusDays(1 + random.nextInt(ProviderAvailabilityIndex.HORIZON_DAYS - 1));
+        LocalTime start = LocalTime.of(8, 0).plusMinutes(10L * random.nextInt(60));
+        LocalTime end = start.plusMinutes(30);
+        for (Slot slot : bookingsByDay.getOrDefault(new DayKey(providerId, date), List.of())) {
+            if (slot.getStartTime().isBefore(end) && slot.getEndTime().isAfter(start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public List<FreeSlot> findFreeSlots() {
+        return index.findFreeSlots("Cardiology", today.plusDays(1), today.plusDays(14), 30, 20);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ProviderAvailabilityIndexBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,148 @@
+package com.healthcare.appointment.service;
+
+import com.healthcare.appointment.api.ProviderScheduleSource;
+import com.healthcare.appointment.api.ProviderScheduleSource.WorkingHours;
+import com.healthcare.appointment.domain.AppointmentStatus;
+import com.healthcare.appointment.domain.TimeSlot;
+import com.healthcare.appointment.domain.event.AppointmentCancelledEvent;
+import com.healthcare.appointment.domain.event.AppointmentRescheduledEvent;
+import com.healthcare.appointment.repository.AppointmentRepository;
+import com.healthcare.appointment.repository.AppointmentRepository.BookedSlot;
+import com.healthcare.appointment.service.ProviderAvailabilityIndex.FreeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProviderAvailabilityIndexTest {
+
+    private static final LocalDate MONDAY = LocalDate.now().plusDays(7).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    private final UUID providerId = UUID.randomUUID();
+    private final UUID appointmentId = UUID.randomUUID();
+
+    private AppointmentRepository appointmentRepository;
+    private ProviderScheduleSource scheduleSource;
+    private ProviderAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        appointmentRepository = mock(AppointmentRepository.class);
+        scheduleSource = mock(ProviderScheduleSource.class);
+        when(scheduleSource.findActiveWorkingHours()).thenReturn(List.of(
+                new WorkingHours(providerId, "Cardiology", DayOfWeek.MONDAY,
+                        LocalTime.of(9, 0), LocalTime.of(11, 0), 30)));
+        when(appointmentRepository.findBookedSlots(any(), any())).thenReturn(List.of(
+                new Slot(appointmentId, providerId, MONDAY, LocalTime.of(9, 30), LocalTime.of(10, 0))));
+        index = new ProviderAvailabilityIndex(appointmentRepository, scheduleSource);
+    }
+
+    @Test
+    void coversNothingUntilLoaded() {
+        assertThat(index.covers(LocalDate.now())).isFalse();
+
+        index.rebuild();
+
+        assertThat(index.covers(LocalDate.now())).isTrue();
+        assertThat(index.covers(LocalDate.now().plusDays(ProviderAvailabilityIndex.HORIZON_DAYS - 1))).isTrue();
+        assertThat(index.covers(LocalDate.now().plusDays(ProviderAvailabilityIndex.HORIZON_DAYS))).isFalse();
+        assertThat(index.covers(LocalDate.now().minusDays(1))).isFalse();
+    }
+
+    @Test
+    void probesAreHalfOpenAtBookingBoundaries() {
+        index.rebuild();
+
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(9, 0), 30)).isTrue();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(9, 1), 30)).isFalse();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(9, 59), 1)).isFalse();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(10, 0), 30)).isTrue();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(8, 0), 180)).isFalse();
+        assertThat(index.isFree(providerId, MONDAY.plusDays(1), LocalTime.of(9, 30), 30)).isTrue();
+        assertThat(index.isFree(UUID.randomUUID(), MONDAY, LocalTime.of(9, 30), 30)).isTrue();
+    }
+
+    @Test
+    void probesAcrossBitmapWordBoundaries() {
+        UUID early = UUID.randomUUID();
+        when(appointmentRepository.findBookedSlots(any(), any())).thenReturn(List.of(
+                new Slot(early, providerId, MONDAY, LocalTime.of(1, 3), LocalTime.of(1, 5))));
+        index.rebuild();
+
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(0, 0), 63)).isTrue();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(0, 0), 64)).isFalse();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(1, 4), 60)).isFalse();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(1, 5), 120)).isTrue();
+    }
+
+    @Test
+    void findsFreeSlotsOnTheScheduleGrid() {
+        index.rebuild();
+
+        List<FreeSlot> slots = index.findFreeSlots("cardiology ", MONDAY, MONDAY, 30, 10);
+
+        assertThat(slots).extracting(FreeSlot::startTime)
+                .containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(10, 30));
+        assertThat(index.findFreeSlots("Dermatology", MONDAY, MONDAY, 30, 10)).isEmpty();
+        assertThat(index.findFreeSlots(null, MONDAY, MONDAY, 30, 2)).hasSize(2);
+    }
+
+    @Test
+    void rescheduleMovesTheBooking() {
+        index.rebuild();
+
+        index.onRescheduled(new AppointmentRescheduledEvent(appointmentId, "APT-1",
+                TimeSlot.of(MONDAY, LocalTime.of(9, 30), 30),
+                TimeSlot.of(MONDAY, LocalTime.of(10, 30), 30)));
+
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(9, 30), 30)).isTrue();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(10, 30), 30)).isFalse();
+    }
+
+    @Test
+    void cancellationReleasesTheBooking() {
+        index.rebuild();
+
+        index.onReleased(new AppointmentCancelledEvent(appointmentId, "APT-1", UUID.randomUUID(), providerId, "sick"));
+
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(9, 30), 30)).isTrue();
+    }
+
+    @Test
+    void pollingKeepsRescheduledAppointmentsBooked() {
+        index.rebuild();
+        when(appointmentRepository.findSlotsChangedSince(any())).thenReturn(List.of(
+                new Slot(appointmentId, providerId, MONDAY, LocalTime.of(10, 0), LocalTime.of(10, 30),
+                        AppointmentStatus.RESCHEDULED, false)));
+
+        index.pollChanges();
+
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(9, 30), 30)).isTrue();
+        assertThat(index.isFree(providerId, MONDAY, LocalTime.of(10, 0), 30)).isFalse();
+    }
+
+    private record Slot(UUID getId, UUID getProviderId, LocalDate getScheduledDate, LocalTime getStartTime,
+                        LocalTime getEndTime, AppointmentStatus getStatus, boolean isDeleted)
+            implements BookedSlot {
+
+        Slot(UUID id, UUID providerId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+            this(id, providerId, date, startTime, endTime, AppointmentStatus.SCHEDULED, false);
+        }
+
+        @Override
+        public Instant getUpdatedAt() {
+            return Instant.now();
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.healthcare.audit.api;
 import com.healthcare.audit.api.dto.*;
 import com.healthcare.audit.domain.*;
 import com.healthcare.audit.exception.AuditEventNotFoundException;
+import com.healthcare.audit.service.AuditExportService;
 import com.healthcare.audit.service.AuditService;
 import com.healthcare.audit.service.ComplianceReportService;
+import com.healthcare.common.api.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,9 +14,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -29,11 +34,14 @@ public class AuditController {
 
     private final AuditService auditService;
     private final ComplianceReportService complianceReportService;
+    private final AuditExportService auditExportService;
 
     public AuditController(AuditService auditService,
-                          ComplianceReportService complianceReportService) {
+                          ComplianceReportService complianceReportService,
+                          AuditExportService auditExportService) {
         this.auditService = auditService;
         this.complianceReportService = complianceReportService;
+        this.auditExportService = auditExportService;
     }
 
     @GetMapping("/events/{id}")
@@ -73,6 +81,74 @@ public class AuditController {
         return ResponseEntity.ok(auditService.searchEvents(criteria, pageable));
     }
 
+    @GetMapping("/events/scroll")
+    @PreAuthorize("hasAuthority('audit:read')")
+    @Operation(summary = "Scroll audit events newest first using a keyset cursor")
+    public ResponseEntity<CursorPageResponse<AuditEventSummary>> scrollEvents(
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) UUID patientId,
+            @RequestParam(required = false) ResourceCategory resourceCategory,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) AuditOutcome outcome,
+            @RequestParam(required = false) AuditSeverity severity,
+            @RequestParam(required = false) Instant startTime,
+            @RequestParam(required = false) Instant endTime,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        AuditSearchCriteria criteria = AuditSearchCriteria.builder()
+            .userId(userId)
+            .patientId(patientId)
+            .resourceCategory(resourceCategory)
+            .action(action)
+            .outcome(outcome)
+            .severity(severity)
+            .startTime(startTime)
+            .endTime(endTime)
+            .build();
+
+        return ResponseEntity.ok(auditService.scrollEvents(criteria, cursor, size, includeTotal));
+    }
+
+    @GetMapping("/events/export")
+    @PreAuthorize("hasAuthority('audit:admin')")
+    @Operation(summary = "Stream matching audit events as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestParam(defaultValue = "CSV") AuditExportFormat format,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) UUID patientId,
+            @RequestParam(required = false) ResourceCategory resourceCategory,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) AuditOutcome outcome,
+            @RequestParam(required = false) AuditSeverity severity,
+            @RequestParam(required = false) Instant startTime,
+            @RequestParam(required = false) Instant endTime,
+            @Parameter(description = "Resume after this event timestamp, from a truncated export")
+            @RequestParam(required = false) Instant afterTimestamp,
+            @RequestParam(required = false) UUID afterId) {
+
+        AuditSearchCriteria criteria = AuditSearchCriteria.builder()
+            .userId(userId)
+            .patientId(patientId)
+            .resourceCategory(resourceCategory)
+            .action(action)
+            .outcome(outcome)
+            .severity(severity)
+            .startTime(startTime)
+            .endTime(endTime)
+            .build();
+
+        auditExportService.recordExport(criteria, format);
+        StreamingResponseBody body = out -> auditExportService.export(criteria, format, afterTimestamp, afterId, out);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getMediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"audit-events." + format.getFileExtension() + "\"")
+            .body(body);
+    }
+
     @GetMapping("/events/correlation/{correlationId}")
     @PreAuthorize("hasAuthority('audit:read')")
     @Operation(summary = "Get audit events by correlation ID")
@@ -129,8 +205,10 @@ public class AuditController {
     public ResponseEntity<Page<AuditEventSummary>> getResourceAuditTrail(
             @PathVariable ResourceCategory category,
             @PathVariable UUID resourceId,
+            @RequestParam(required = false) Instant startTime,
+            @RequestParam(required = false) Instant endTime,
             @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(auditService.getResourceAuditTrail(category, resourceId, pageable));
+        return ResponseEntity.ok(auditService.getResourceAuditTrail(category, resourceId, startTime, endTime, pageable));
     }
 
     @GetMapping("/security-events")
@@ -3,6 +3,7 @@ package com.healthcare.audit.aspect;
 import com.healthcare.audit.domain.*;
 import com.healthcare.audit.service.AuditContextProvider;
 import com.healthcare.audit.service.AuditService;
+import com.healthcare.common.logging.PiiMasker;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
@@ -12,7 +13,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Method;
 import java.util.UUID;
 
 @Aspect
@@ -45,7 +45,8 @@ public class AuditAspect {
     @Around("auditedMethod()")
     public Object auditMethod(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
-        Audited audited = getAuditedAnnotation(joinPoint);
+        AuditMetadataRegistry.MethodMetadata metadata = getMethodMetadata(joinPoint);
+        Audited audited = metadata.audited();
 
         AuditEvent.Builder eventBuilder = contextProvider.createEventBuilder()
             .action(audited.action())
@@ -58,7 +59,7 @@ public class AuditAspect {
             eventBuilder.resourceId(resourceId);
         }
 
-        UUID patientId = extractPatientId(joinPoint);
+        UUID patientId = metadata.patientId(joinPoint.getArgs());
         if (patientId != null) {
             eventBuilder.patientId(patientId);
         }
@@ -106,17 +107,9 @@ public class AuditAspect {
         logClassMethodExecution(joinPoint, null, exception);
     }
 
-    private Audited getAuditedAnnotation(ProceedingJoinPoint joinPoint) {
+    private AuditMetadataRegistry.MethodMetadata getMethodMetadata(JoinPoint joinPoint) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-
-        Audited audited = method.getAnnotation(Audited.class);
-        if (audited == null) {
-
-            audited = method.getDeclaringClass().getAnnotation(Audited.class);
-        }
-
-        return audited;
+        return AuditMetadataRegistry.forMethod(signature.getMethod());
     }
 
     private String getDefaultDescription(JoinPoint joinPoint) {
@@ -149,49 +142,18 @@ public class AuditAspect {
         return null;
     }
 
-    private UUID extractPatientId(JoinPoint joinPoint) {
-
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String[] paramNames = signature.getParameterNames();
-        Object[] args = joinPoint.getArgs();
-
-        if (paramNames != null) {
-            for (int i = 0; i < paramNames.length; i++) {
-                if ("patientId".equalsIgnoreCase(paramNames[i]) && args[i] instanceof UUID) {
-                    return (UUID) args[i];
-                }
-            }
-        }
-
-        return null;
-    }
-
     private UUID extractIdFromResult(Object result) {
-        if (result == null) {
-            return null;
-        }
-
-        try {
-            Method getIdMethod = result.getClass().getMethod("getId");
-            Object id = getIdMethod.invoke(result);
-            if (id instanceof UUID) {
-                return (UUID) id;
-            }
-        } catch (Exception e) {
-
-        }
-
-        return null;
+        return AuditMetadataRegistry.extractId(result);
     }
 
     private void logClassMethodExecution(JoinPoint joinPoint, Object result, Throwable exception) {
         try {
-            Audited audited = joinPoint.getTarget().getClass().getAnnotation(Audited.class);
+            Audited audited = AuditMetadataRegistry.forClass(joinPoint.getTarget().getClass()).audited();
             if (audited == null) {
                 return;
             }
 
-            AuditAction action = determineAction(joinPoint.getSignature().getName());
+            AuditAction action = getMethodMetadata(joinPoint).inferredAction();
             AuditOutcome outcome = exception == null ? AuditOutcome.SUCCESS : AuditOutcome.ERROR;
 
             AuditEvent.Builder eventBuilder = contextProvider.createEventBuilder()
@@ -221,44 +183,12 @@ public class AuditAspect {
         }
     }
 
-    private AuditAction determineAction(String methodName) {
-        String lowerName = methodName.toLowerCase();
-
-        if (lowerName.startsWith("get") || lowerName.startsWith("find") ||
-            lowerName.startsWith("read") || lowerName.startsWith("fetch")) {
-            return AuditAction.READ;
-        }
-        if (lowerName.startsWith("create") || lowerName.startsWith("add") ||
-            lowerName.startsWith("insert") || lowerName.startsWith("save")) {
-            return AuditAction.CREATE;
-        }
-        if (lowerName.startsWith("update") || lowerName.startsWith("modify") ||
-            lowerName.startsWith("edit") || lowerName.startsWith("set")) {
-            return AuditAction.UPDATE;
-        }
-        if (lowerName.startsWith("delete") || lowerName.startsWith("remove")) {
-            return AuditAction.DELETE;
-        }
-        if (lowerName.startsWith("export") || lowerName.startsWith("download")) {
-            return AuditAction.EXPORT;
-        }
-        if (lowerName.startsWith("search") || lowerName.startsWith("query")) {
-            return AuditAction.SEARCH;
-        }
-
-        return AuditAction.READ;
-    }
-
     private String sanitizeErrorMessage(String message) {
         if (message == null) {
             return null;
         }
 
-        String sanitized = message;
-
-        sanitized = sanitized.replaceAll("\\d{3}-\\d{2}-\\d{4}", "***-**-****");
-        sanitized = sanitized.replaceAll("\\d{3}-\\d{3}-\\d{4}", "***-***-****");
-        sanitized = sanitized.replaceAll("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}", "***@***.***");
+        String sanitized = PiiMasker.mask(message);
 
         if (sanitized.length() > 500) {
             sanitized = sanitized.substring(0, 497) + "...";
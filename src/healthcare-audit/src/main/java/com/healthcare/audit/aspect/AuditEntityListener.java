@@ -4,6 +4,7 @@ import com.healthcare.audit.domain.*;
 import com.healthcare.audit.service.AuditContextProvider;
 import com.healthcare.audit.service.AuditService;
 import com.healthcare.audit.service.DataMaskingService;
+import com.healthcare.audit.service.ReadAuditCollector;
 import jakarta.persistence.PostLoad;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostUpdate;
@@ -13,7 +14,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Method;
 import java.util.UUID;
 
 @Component
@@ -24,14 +24,17 @@ public class AuditEntityListener {
     private static AuditService auditService;
     private static AuditContextProvider contextProvider;
     private static DataMaskingService dataMaskingService;
+    private static ReadAuditCollector readAuditCollector;
 
     @Autowired
     public void init(AuditService auditService,
                      AuditContextProvider contextProvider,
-                     DataMaskingService dataMaskingService) {
+                     DataMaskingService dataMaskingService,
+                     ReadAuditCollector readAuditCollector) {
         AuditEntityListener.auditService = auditService;
         AuditEntityListener.contextProvider = contextProvider;
         AuditEntityListener.dataMaskingService = dataMaskingService;
+        AuditEntityListener.readAuditCollector = readAuditCollector;
     }
 
     @PostLoad
@@ -41,8 +44,10 @@ public class AuditEntityListener {
         }
 
         try {
-            Audited audited = entity.getClass().getAnnotation(Audited.class);
-            logEntityEvent(entity, AuditAction.READ, audited);
+            Audited audited = AuditMetadataRegistry.forClass(entity.getClass()).audited();
+            if (!collectRead(entity, audited)) {
+                logEntityEvent(entity, AuditAction.READ, audited);
+            }
         } catch (Exception e) {
             log.warn("Failed to log entity read: {}", e.getMessage());
         }
@@ -55,7 +60,7 @@ public class AuditEntityListener {
         }
 
         try {
-            Audited audited = entity.getClass().getAnnotation(Audited.class);
+            Audited audited = AuditMetadataRegistry.forClass(entity.getClass()).audited();
             logEntityEvent(entity, AuditAction.CREATE, audited);
         } catch (Exception e) {
             log.warn("Failed to log entity create: {}", e.getMessage());
@@ -69,7 +74,7 @@ public class AuditEntityListener {
         }
 
         try {
-            Audited audited = entity.getClass().getAnnotation(Audited.class);
+            Audited audited = AuditMetadataRegistry.forClass(entity.getClass()).audited();
             logEntityEvent(entity, AuditAction.UPDATE, audited);
         } catch (Exception e) {
             log.warn("Failed to log entity update: {}", e.getMessage());
@@ -83,7 +88,7 @@ public class AuditEntityListener {
         }
 
         try {
-            Audited audited = entity.getClass().getAnnotation(Audited.class);
+            Audited audited = AuditMetadataRegistry.forClass(entity.getClass()).audited();
             logEntityEvent(entity, AuditAction.DELETE, audited);
         } catch (Exception e) {
             log.warn("Failed to log entity delete: {}", e.getMessage());
@@ -95,7 +100,18 @@ public class AuditEntityListener {
             return false;
         }
 
-        return entity.getClass().isAnnotationPresent(Audited.class);
+        return AuditMetadataRegistry.forClass(entity.getClass()).isAudited();
+    }
+
+    private boolean collectRead(Object entity, Audited audited) {
+        if (readAuditCollector == null) {
+            return false;
+        }
+
+        ResourceCategory category = audited != null ?
+            audited.category() : ResourceCategory.PATIENT;
+        return readAuditCollector.recordRead(category, entity.getClass().getName(),
+            extractEntityId(entity), extractPatientId(entity));
     }
 
     private void logEntityEvent(Object entity, AuditAction action, Audited audited) {
@@ -127,39 +143,10 @@ public class AuditEntityListener {
     }
 
     private UUID extractEntityId(Object entity) {
-        try {
-            Method getIdMethod = entity.getClass().getMethod("getId");
-            Object id = getIdMethod.invoke(entity);
-            if (id instanceof UUID) {
-                return (UUID) id;
-            }
-        } catch (Exception e) {
-
-        }
-        return null;
+        return AuditMetadataRegistry.extractId(entity);
     }
 
     private UUID extractPatientId(Object entity) {
-
-        String[] patientIdMethods = {"getPatientId", "getPatient"};
-
-        for (String methodName : patientIdMethods) {
-            try {
-                Method method = entity.getClass().getMethod(methodName);
-                Object result = method.invoke(entity);
-
-                if (result instanceof UUID) {
-                    return (UUID) result;
-                }
-
-                if (result != null) {
-                    return extractEntityId(result);
-                }
-            } catch (Exception e) {
-
-            }
-        }
-
-        return null;
+        return AuditMetadataRegistry.extractPatientId(entity);
     }
 }
@@ -0,0 +1,201 @@
+package com.healthcare.audit.aspect;
+
+import com.healthcare.audit.domain.AuditAction;
+import com.healthcare.audit.domain.Audited;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-class and per-method audit metadata, resolved once and reused for every
+ * audited call. Accessors are bound as {@link MethodHandle}s and looked up by
+ * scanning {@link Class#getMethods()}, so a missing {@code getId} or
+ * {@code getPatientId} costs a null check instead of a thrown exception.
+ */
+final class AuditMetadataRegistry {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private static final ClassValue<ClassMetadata> CLASS_METADATA = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(
+                type.getAnnotation(Audited.class),
+                findGetter(type, "getId"),
+                findGetter(type, "getPatientId"),
+                findGetter(type, "getPatient"));
+        }
+    };
+
+    private static final Map<Method, MethodMetadata> METHOD_METADATA = new ConcurrentHashMap<>();
+
+    private AuditMetadataRegistry() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    static ClassMetadata forClass(Class<?> type) {
+        return CLASS_METADATA.get(type);
+    }
+
+    static MethodMetadata forMethod(Method method) {
+        return METHOD_METADATA.computeIfAbsent(method, AuditMetadataRegistry::resolveMethod);
+    }
+
+    static UUID extractId(Object target) {
+        return target != null ? forClass(target.getClass()).id(target) : null;
+    }
+
+    static UUID extractPatientId(Object target) {
+        return target != null ? forClass(target.getClass()).patientId(target) : null;
+    }
+
+    private static MethodMetadata resolveMethod(Method method) {
+        Audited audited = method.getAnnotation(Audited.class);
+        if (audited == null) {
+            audited = method.getDeclaringClass().getAnnotation(Audited.class);
+        }
+
+        int patientIdIndex = -1;
+        String[] parameterNames = PARAMETER_NAMES.getParameterNames(method);
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterNames != null) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if ("patientId".equalsIgnoreCase(parameterNames[i])
+                        && parameterTypes[i].isAssignableFrom(UUID.class)) {
+                    patientIdIndex = i;
+                    break;
+                }
+            }
+        }
+
+        return new MethodMetadata(audited, patientIdIndex, determineAction(method.getName()));
+    }
+
+    private static MethodHandle findGetter(Class<?> type, String name) {
+        for (Method candidate : type.getMethods()) {
+            if (candidate.getName().equals(name)
+                    && candidate.getParameterCount() == 0
+                    && !Modifier.isStatic(candidate.getModifiers())
+                    && candidate.getReturnType() != void.class) {
+                return unreflect(candidate);
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            // Public method declared on a non-public class
+            if (!method.trySetAccessible()) {
+                return null;
+            }
+            try {
+                return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+            } catch (IllegalAccessException inaccessible) {
+                return null;
+            }
+        }
+    }
+
+    private static Object invoke(MethodHandle getter, Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static AuditAction determineAction(String methodName) {
+        String lowerName = methodName.toLowerCase(Locale.ROOT);
+
+        if (lowerName.startsWith("get") || lowerName.startsWith("find") ||
+            lowerName.startsWith("read") || lowerName.startsWith("fetch")) {
+            return AuditAction.READ;
+        }
+        if (lowerName.startsWith("create") || lowerName.startsWith("add") ||
+            lowerName.startsWith("insert") || lowerName.startsWith("save")) {
+            return AuditAction.CREATE;
+        }
+        if (lowerName.startsWith("update") || lowerName.startsWith("modify") ||
+            lowerName.startsWith("edit") || lowerName.startsWith("set")) {
+            return AuditAction.UPDATE;
+        }
+        if (lowerName.startsWith("delete") || lowerName.startsWith("remove")) {
+            return AuditAction.DELETE;
+        }
+        if (lowerName.startsWith("export") || lowerName.startsWith("download")) {
+            return AuditAction.EXPORT;
+        }
+        if (lowerName.startsWith("search") || lowerName.startsWith("query")) {
+            return AuditAction.SEARCH;
+        }
+
+        return AuditAction.READ;
+    }
+
+    static final class ClassMetadata {
+
+        private final Audited audited;
+        private final MethodHandle idGetter;
+        private final MethodHandle patientIdGetter;
+        private final MethodHandle patientGetter;
+
+        private ClassMetadata(Audited audited, MethodHandle idGetter,
+                              MethodHandle patientIdGetter, MethodHandle patientGetter) {
+            this.audited = audited;
+            this.idGetter = idGetter;
+            this.patientIdGetter = patientIdGetter;
+            this.patientGetter = patientGetter;
+        }
+
+        Audited audited() {
+            return audited;
+        }
+
+        boolean isAudited() {
+            return audited != null;
+        }
+
+        UUID id(Object target) {
+            if (idGetter == null) {
+                return null;
+            }
+            return invoke(idGetter, target) instanceof UUID id ? id : null;
+        }
+
+        UUID patientId(Object target) {
+            Object value = patientIdGetter != null ? invoke(patientIdGetter, target) : null;
+            if (value == null && patientGetter != null) {
+                value = invoke(patientGetter, target);
+            }
+            if (value instanceof UUID uuid) {
+                return uuid;
+            }
+            return extractId(value);
+        }
+    }
+
+    record MethodMetadata(Audited audited, int patientIdIndex, AuditAction inferredAction) {
+
+        UUID patientId(Object[] args) {
+            if (patientIdIndex < 0 || args == null || patientIdIndex >= args.length) {
+                return null;
+            }
+            return args[patientIdIndex] instanceof UUID uuid ? uuid : null;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.healthcare.audit.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+}
@@ -0,0 +1,105 @@
+package com.healthcare.audit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "healthcare.audit")
+public record AuditProperties(
+    WriteProperties write,
+
+    PartitionProperties partition,
+
+    AnomalyProperties anomaly,
+
+    ExportProperties export
+) {
+    public AuditProperties {
+        if (write == null) write = new WriteProperties(0, 0, null, null, null, null, null);
+        if (partition == null) partition = new PartitionProperties(false, 0, 0, false);
+        if (anomaly == null) anomaly = new AnomalyProperties(null, 0, 0, 0);
+        if (export == null) export = new ExportProperties(null, 0);
+    }
+
+    public enum Durability {
+        /** Caller blocks until the batch containing its event has been committed. */
+        SYNC,
+        /** Caller returns as soon as the event is buffered. */
+        ASYNC
+    }
+
+    public record WriteProperties(
+        int bufferCapacity,
+
+        int batchSize,
+
+        Duration flushInterval,
+
+        Durability durability,
+
+        Duration enqueueTimeout,
+
+        Duration syncAckTimeout,
+
+        Duration shutdownTimeout
+    ) {
+        public WriteProperties {
+            if (bufferCapacity <= 0) bufferCapacity = 8192;
+            if (batchSize <= 0) batchSize = 200;
+            if (flushInterval == null) flushInterval = Duration.ofMillis(200);
+            if (durability == null) durability = Durability.ASYNC;
+            if (enqueueTimeout == null) enqueueTimeout = Duration.ofMillis(50);
+            if (syncAckTimeout == null) syncAckTimeout = Duration.ofSeconds(5);
+            if (shutdownTimeout == null) shutdownTimeout = Duration.ofSeconds(20);
+        }
+    }
+
+    public record PartitionProperties(
+        boolean enabled,
+
+        /** Monthly partitions kept created ahead of the current month. */
+        int monthsAhead,
+
+        /** Partitions whose whole month is older than this are eligible for detach. */
+        int retentionMonths,
+
+        /** When false, expired partitions are only reported, never detached. */
+        boolean detachExpired
+    ) {
+        public PartitionProperties {
+            if (monthsAhead <= 0) monthsAhead = 3;
+            if (retentionMonths <= 0) retentionMonths = 84;
+        }
+    }
+
+    public record AnomalyProperties(
+        /** Sliding window the thresholds apply to; tracked at one-minute resolution. */
+        Duration window,
+
+        long eventThreshold,
+
+        long phiAccessThreshold,
+
+        long failedLoginThreshold
+    ) {
+        public AnomalyProperties {
+            if (window == null || window.toMinutes() < 1) window = Duration.ofHours(1);
+            if (eventThreshold <= 0) eventThreshold = 500;
+            if (phiAccessThreshold <= 0) phiAccessThreshold = 100;
+            if (failedLoginThreshold <= 0) failedLoginThreshold = 5;
+        }
+    }
+
+    public record ExportProperties(
+        /** Wall-clock limit for one export; a truncated export ends with a continuation marker. */
+        Duration timeBudget,
+
+        /** Rows read per keyset query and transaction. */
+        int chunkSize
+    ) {
+        public ExportProperties {
+            if (timeBudget == null) timeBudget = Duration.ofMinutes(5);
+            if (chunkSize <= 0) chunkSize = 1000;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.healthcare.audit.config;
 
-import com.healthcare.audit.service.AuditService;
+import com.healthcare.audit.service.AnomalyDetectionService;
+import com.healthcare.audit.service.AuditPartitionService;
+import com.healthcare.audit.service.AuditRollupService;
 import com.healthcare.audit.service.ComplianceReportService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,8 +14,6 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.UUID;
 
 @Component
 @EnableScheduling
@@ -21,33 +21,41 @@ public class AuditScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(AuditScheduler.class);
 
-    private static final long HIGH_ACTIVITY_THRESHOLD = 500;
-
-    private final AuditService auditService;
+    private final AnomalyDetectionService anomalyDetectionService;
     private final ComplianceReportService complianceReportService;
-
-    public AuditScheduler(AuditService auditService,
-                         ComplianceReportService complianceReportService) {
-        this.auditService = auditService;
+    private final AuditRollupService auditRollupService;
+    private final AuditPartitionService auditPartitionService;
+
+    public AuditScheduler(AnomalyDetectionService anomalyDetectionService,
+                         ComplianceReportService complianceReportService,
+                         AuditRollupService auditRollupService,
+                         AuditPartitionService auditPartitionService) {
+        this.anomalyDetectionService = anomalyDetectionService;
         this.complianceReportService = complianceReportService;
+        this.auditRollupService = auditRollupService;
+        this.auditPartitionService = auditPartitionService;
     }
 
-    @Scheduled(fixedRate = 900000)
-    public void checkAnomalousActivity() {
-        log.debug("Running anomaly detection check");
-
-        Instant since = Instant.now().minus(1, ChronoUnit.HOURS);
-        List<UUID> highActivityUsers = auditService.getUsersWithHighActivity(since, HIGH_ACTIVITY_THRESHOLD);
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleActivityWindows() {
+        anomalyDetectionService.evictIdle();
+    }
 
-        if (!highActivityUsers.isEmpty()) {
-            log.warn("Detected {} users with high activity in the last hour: {}",
-                highActivityUsers.size(), highActivityUsers);
+    @Scheduled(initialDelay = 60000, fixedDelay = 300000)
+    public void advanceRollups() {
+        try {
+            auditRollupService.advance();
+        } catch (Exception e) {
+            log.error("Failed to advance audit rollups", e);
+        }
+    }
 
-            for (UUID userId : highActivityUsers) {
-                if (auditService.hasAnomalousActivity(userId, since)) {
-                    log.warn("User {} has anomalous activity patterns", userId);
-                }
-            }
+    @Scheduled(initialDelay = 30000, fixedDelay = 21600000)
+    public void maintainPartitions() {
+        try {
+            auditPartitionService.maintainPartitions();
+        } catch (Exception e) {
+            log.error("Failed to maintain audit_events partitions", e);
         }
     }
 
@@ -9,6 +9,11 @@ public final class AuditConstants {
     public static final int AUDIT_RETENTION_YEARS = 6;
     public static final int AUDIT_RETENTION_DAYS = AUDIT_RETENTION_YEARS * 365;
 
+    /** PHI access outside [start, end) hours in this zone counts as after-hours. */
+    public static final String BUSINESS_HOURS_ZONE = "UTC";
+    public static final int BUSINESS_HOURS_START = 7;
+    public static final int BUSINESS_HOURS_END = 19;
+
     public static final String CATEGORY_PHI_ACCESS = "PHI_ACCESS";
     public static final String CATEGORY_AUTHENTICATION = "AUTHENTICATION";
     public static final String CATEGORY_AUTHORIZATION = "AUTHORIZATION";
@@ -1,23 +1,27 @@
 package com.healthcare.audit.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 @Entity
 @Table(name = "audit_events", indexes = {
     @Index(name = "idx_audit_event_timestamp", columnList = "event_timestamp"),
-    @Index(name = "idx_audit_event_user_id", columnList = "user_id"),
-    @Index(name = "idx_audit_event_resource", columnList = "resource_category, resource_id"),
-    @Index(name = "idx_audit_event_action", columnList = "action"),
-    @Index(name = "idx_audit_event_patient_id", columnList = "patient_id"),
+    @Index(name = "idx_audit_event_user_id", columnList = "user_id, event_timestamp"),
+    @Index(name = "idx_audit_event_resource", columnList = "resource_category, resource_id, event_timestamp"),
+    @Index(name = "idx_audit_event_action", columnList = "action, event_timestamp"),
+    @Index(name = "idx_audit_event_patient_id", columnList = "patient_id, event_timestamp"),
     @Index(name = "idx_audit_event_correlation_id", columnList = "correlation_id")
 })
 public class AuditEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -67,6 +71,11 @@ public class AuditEvent {
     @Column(name = "resource_id", updatable = false)
     private UUID resourceId;
 
+    /** Every record a multi-record read touched; null when {@code resourceId} names the one record. */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "resource_ids", columnDefinition = "uuid[]", updatable = false)
+    private UUID[] resourceIds;
+
     @Column(name = "resource_type", length = 100, updatable = false)
     private String resourceType;
 
@@ -111,6 +120,7 @@ public class AuditEvent {
     }
 
     private AuditEvent(Builder builder) {
+        this.id = UUID.randomUUID();
         this.eventTimestamp = builder.eventTimestamp != null ? builder.eventTimestamp : Instant.now();
         this.correlationId = builder.correlationId;
         this.sessionId = builder.sessionId;
@@ -126,6 +136,7 @@ public class AuditEvent {
         this.description = truncate(builder.description, 500);
         this.resourceCategory = builder.resourceCategory;
         this.resourceId = builder.resourceId;
+        this.resourceIds = builder.resourceIds;
         this.resourceType = builder.resourceType;
         this.patientId = builder.patientId;
         this.accessedFields = builder.accessedFields;
@@ -155,6 +166,7 @@ public class AuditEvent {
     public String getDescription() { return description; }
     public ResourceCategory getResourceCategory() { return resourceCategory; }
     public UUID getResourceId() { return resourceId; }
+    public List<UUID> getResourceIds() { return resourceIds != null ? List.of(resourceIds) : List.of(); }
     public String getResourceType() { return resourceType; }
     public UUID getPatientId() { return patientId; }
     public String getAccessedFields() { return accessedFields; }
@@ -199,6 +211,7 @@ public class AuditEvent {
         private String description;
         private ResourceCategory resourceCategory;
         private UUID resourceId;
+        private UUID[] resourceIds;
         private String resourceType;
         private UUID patientId;
         private String accessedFields;
@@ -281,6 +294,13 @@ public class AuditEvent {
             return this;
         }
 
+        public Builder resourceIds(Collection<UUID> resourceIds) {
+            this.resourceIds = resourceIds != null && !resourceIds.isEmpty()
+                ? resourceIds.toArray(UUID[]::new)
+                : null;
+            return this;
+        }
+
         public Builder resourceType(String resourceType) {
             this.resourceType = resourceType;
             return this;
@@ -0,0 +1,63 @@
+package com.healthcare.audit.repository;
+
+import com.healthcare.audit.domain.AuditAction;
+import com.healthcare.audit.domain.ResourceCategory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Per-user, per-minute activity counts used to warm the in-memory anomaly
+ * detector after a restart.
+ */
+@Repository
+public class AuditActivityRepository {
+
+    private static final String COUNT_USER_MINUTES =
+        "SELECT user_id, date_trunc('minute', event_timestamp) AS bucket_start, " +
+        "       COUNT(*) AS event_count, " +
+        "       SUM(CASE WHEN resource_category IN (:phiCategories) THEN 1 ELSE 0 END) AS phi_access_count, " +
+        "       SUM(CASE WHEN action = :failedLogin THEN 1 ELSE 0 END) AS failed_login_count " +
+        "FROM audit_events " +
+        "WHERE event_timestamp >= :from AND event_timestamp < :to " +
+        "GROUP BY user_id, date_trunc('minute', event_timestamp)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AuditActivityRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record UserMinuteCount(
+        UUID userId,
+        Instant bucketStart,
+        long eventCount,
+        long phiAccessCount,
+        long failedLoginCount
+    ) {}
+
+    public void forEachUserMinute(Instant from, Instant to, Collection<ResourceCategory> phiCategories,
+                                  Consumer<UserMinuteCount> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("from", OffsetDateTime.ofInstant(from, ZoneOffset.UTC))
+            .addValue("to", OffsetDateTime.ofInstant(to, ZoneOffset.UTC))
+            .addValue("phiCategories", phiCategories.stream().map(Enum::name).toList())
+            .addValue("failedLogin", AuditAction.LOGIN_FAILED.name());
+
+        jdbcTemplate.query(COUNT_USER_MINUTES, params, rs -> {
+            consumer.accept(new UserMinuteCount(
+                rs.getObject("user_id", UUID.class),
+                rs.getObject("bucket_start", OffsetDateTime.class).toInstant(),
+                rs.getLong("event_count"),
+                rs.getLong("phi_access_count"),
+                rs.getLong("failed_login_count")));
+        });
+    }
+}
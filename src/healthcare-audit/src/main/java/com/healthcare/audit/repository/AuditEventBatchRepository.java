@@ -0,0 +1,95 @@
+package com.healthcare.audit.repository;
+
+import com.healthcare.audit.domain.AuditEvent;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC insert path for audit events. Bypasses the persistence context so a
+ * whole batch is written as one JDBC batch (rewritten to multi-row INSERTs by the
+ * PostgreSQL driver when {@code reWriteBatchedInserts} is enabled).
+ */
+@Repository
+public class AuditEventBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO audit_events (" +
+        "id, event_timestamp, correlation_id, session_id, user_id, username, user_role, " +
+        "client_ip_hash, user_agent, action, outcome, severity, description, " +
+        "resource_category, resource_id, resource_ids, resource_type, patient_id, accessed_fields, " +
+        "changed_fields, http_method, request_uri, response_status, response_time_ms, " +
+        "error_code, error_message, metadata, checksum, schema_version" +
+        ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditEventBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, events.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+
+    private static void bind(PreparedStatement ps, AuditEvent event) throws SQLException {
+        int i = 1;
+        ps.setObject(i++, event.getId(), Types.OTHER);
+        ps.setObject(i++, OffsetDateTime.ofInstant(event.getEventTimestamp(), ZoneOffset.UTC),
+            Types.TIMESTAMP_WITH_TIMEZONE);
+        ps.setString(i++, event.getCorrelationId());
+        ps.setString(i++, event.getSessionId());
+        ps.setObject(i++, event.getUserId(), Types.OTHER);
+        ps.setString(i++, event.getUsername());
+        ps.setString(i++, event.getUserRole());
+        ps.setString(i++, event.getClientIpHash());
+        ps.setString(i++, event.getUserAgent());
+        ps.setString(i++, event.getAction().name());
+        ps.setString(i++, event.getOutcome().name());
+        ps.setString(i++, event.getSeverity().name());
+        ps.setString(i++, event.getDescription());
+        ps.setString(i++, event.getResourceCategory().name());
+        ps.setObject(i++, event.getResourceId(), Types.OTHER);
+        List<UUID> resourceIds = event.getResourceIds();
+        if (resourceIds.isEmpty()) {
+            ps.setNull(i++, Types.ARRAY);
+        } else {
+            ps.setArray(i++, ps.getConnection().createArrayOf("uuid", resourceIds.toArray()));
+        }
+        ps.setString(i++, event.getResourceType());
+        ps.setObject(i++, event.getPatientId(), Types.OTHER);
+        ps.setString(i++, event.getAccessedFields());
+        ps.setString(i++, event.getChangedFields());
+        ps.setString(i++, event.getHttpMethod());
+        ps.setString(i++, event.getRequestUri());
+        ps.setObject(i++, event.getResponseStatus(), Types.INTEGER);
+        ps.setObject(i++, event.getResponseTimeMs(), Types.BIGINT);
+        ps.setString(i++, event.getErrorCode());
+        ps.setString(i++, event.getErrorMessage());
+        ps.setString(i++, event.getMetadata());
+        ps.setString(i++, event.getChecksum());
+        ps.setString(i, event.getSchemaVersion());
+    }
+}
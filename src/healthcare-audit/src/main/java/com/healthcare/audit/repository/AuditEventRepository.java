@@ -1,21 +1,29 @@
 package com.healthcare.audit.repository;
 
 import com.healthcare.audit.domain.*;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface AuditEventRepository extends JpaRepository<AuditEvent, UUID> {
+public interface AuditEventRepository extends JpaRepository<AuditEvent, UUID>,
+                                              JpaSpecificationExecutor<AuditEvent> {
 
-    Page<AuditEvent> findByUserIdOrderByEventTimestampDesc(UUID userId, Pageable pageable);
+    String PATIENT_MATCH = "(a.patient_id = :patientId OR (a.resource_category = 'PATIENT' " +
+        "AND (a.resource_id = :patientId OR a.resource_ids @> ARRAY[CAST(:patientId AS uuid)]))) ";
 
     @Query("SELECT a FROM AuditEvent a WHERE a.userId = :userId " +
            "AND a.eventTimestamp BETWEEN :startTime AND :endTime " +
@@ -29,22 +37,63 @@ public interface AuditEventRepository extends JpaRepository<AuditEvent, UUID> {
 
     @Query("SELECT a FROM AuditEvent a WHERE a.userId = :userId " +
            "AND a.resourceCategory IN :phiCategories " +
+           "AND a.eventTimestamp BETWEEN :startTime AND :endTime " +
            "ORDER BY a.eventTimestamp DESC")
     Page<AuditEvent> findUserPhiAccess(
         @Param("userId") UUID userId,
         @Param("phiCategories") List<ResourceCategory> phiCategories,
+        @Param("startTime") Instant startTime,
+        @Param("endTime") Instant endTime,
         Pageable pageable
     );
 
-    Page<AuditEvent> findByResourceCategoryAndResourceIdOrderByEventTimestampDesc(
-        ResourceCategory category, UUID resourceId, Pageable pageable
+    /**
+     * Events on one record, whether it was the only record of the event
+     * ({@code resource_id}) or one of several read together
+     * ({@code resource_ids}).
+     */
+    @Query(value = "SELECT * FROM audit_events a WHERE a.resource_category = :category " +
+           "AND (a.resource_id = :resourceId OR a.resource_ids @> ARRAY[CAST(:resourceId AS uuid)]) " +
+           "AND a.event_timestamp BETWEEN :startTime AND :endTime " +
+           "ORDER BY a.event_timestamp DESC",
+           countQuery = "SELECT COUNT(*) FROM audit_events a WHERE a.resource_category = :category " +
+           "AND (a.resource_id = :resourceId OR a.resource_ids @> ARRAY[CAST(:resourceId AS uuid)]) " +
+           "AND a.event_timestamp BETWEEN :startTime AND :endTime",
+           nativeQuery = true)
+    Page<AuditEvent> findByResourceAndTimeRange(
+        @Param("category") String category,
+        @Param("resourceId") UUID resourceId,
+        @Param("startTime") Instant startTime,
+        @Param("endTime") Instant endTime,
+        Pageable pageable
     );
 
-    Page<AuditEvent> findByPatientIdOrderByEventTimestampDesc(UUID patientId, Pageable pageable);
+    List<AuditEvent> findByUserIdAndEventTimestampBetweenOrderByEventTimestampDesc(
+        UUID userId, Instant startTime, Instant endTime, Limit limit
+    );
 
-    @Query("SELECT a FROM AuditEvent a WHERE a.patientId = :patientId " +
-           "AND a.eventTimestamp BETWEEN :startTime AND :endTime " +
-           "ORDER BY a.eventTimestamp DESC")
+    /**
+     * Access to one patient: events carrying the patient id, and reads of
+     * the patient record itself logged before patient records carried their
+     * own id as {@code patient_id}.
+     */
+    @Query(value = "SELECT * FROM audit_events a WHERE " + PATIENT_MATCH +
+           "AND a.event_timestamp BETWEEN :startTime AND :endTime " +
+           "ORDER BY a.event_timestamp DESC LIMIT :limit",
+           nativeQuery = true)
+    List<AuditEvent> findPatientAccess(
+        @Param("patientId") UUID patientId,
+        @Param("startTime") Instant startTime,
+        @Param("endTime") Instant endTime,
+        @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT * FROM audit_events a WHERE " + PATIENT_MATCH +
+           "AND a.event_timestamp BETWEEN :startTime AND :endTime " +
+           "ORDER BY a.event_timestamp DESC",
+           countQuery = "SELECT COUNT(*) FROM audit_events a WHERE " + PATIENT_MATCH +
+           "AND a.event_timestamp BETWEEN :startTime AND :endTime",
+           nativeQuery = true)
     Page<AuditEvent> findByPatientIdAndTimeRange(
         @Param("patientId") UUID patientId,
         @Param("startTime") Instant startTime,
@@ -52,8 +101,6 @@ public interface AuditEventRepository extends JpaRepository<AuditEvent, UUID> {
         Pageable pageable
     );
 
-    Page<AuditEvent> findByActionOrderByEventTimestampDesc(AuditAction action, Pageable pageable);
-
     @Query("SELECT a FROM AuditEvent a WHERE a.outcome IN :outcomes " +
            "AND a.eventTimestamp >= :since " +
            "ORDER BY a.eventTimestamp DESC")
@@ -64,11 +111,12 @@ public interface AuditEventRepository extends JpaRepository<AuditEvent, UUID> {
     );
 
     @Query("SELECT a FROM AuditEvent a WHERE a.action IN :securityActions " +
-           "AND a.eventTimestamp >= :since " +
+           "AND a.eventTimestamp BETWEEN :startTime AND :endTime " +
            "ORDER BY a.eventTimestamp DESC")
     Page<AuditEvent> findSecurityEvents(
         @Param("securityActions") List<AuditAction> securityActions,
-        @Param("since") Instant since,
+        @Param("startTime") Instant startTime,
+        @Param("endTime") Instant endTime,
         Pageable pageable
     );
 
@@ -82,12 +130,10 @@ public interface AuditEventRepository extends JpaRepository<AuditEvent, UUID> {
 
     @Query("SELECT a FROM AuditEvent a WHERE a.eventTimestamp >= :since " +
            "ORDER BY a.eventTimestamp DESC")
-    Page<AuditEvent> findRecentEvents(@Param("since") Instant since, Pageable pageable);
+    List<AuditEvent> findRecentEvents(@Param("since") Instant since, Pageable pageable);
 
     List<AuditEvent> findByCorrelationIdOrderByEventTimestampAsc(String correlationId);
 
-    List<AuditEvent> findBySessionIdOrderByEventTimestampAsc(String sessionId);
-
     @Query("SELECT COUNT(a) FROM AuditEvent a WHERE a.userId = :userId " +
            "AND a.eventTimestamp >= :since")
     long countUserEventsSince(@Param("userId") UUID userId, @Param("since") Instant since);
@@ -205,4 +251,37 @@ public interface AuditEventRepository extends JpaRepository<AuditEvent, UUID> {
         @Param("endTime") Instant endTime,
         Pageable pageable
     );
+
+    /**
+     * Forward-only read for exports, ordered by {@code (eventTimestamp, id)} and
+     * resumed after the last row of the previous chunk.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM AuditEvent a WHERE " +
+           "(:userId IS NULL OR a.userId = :userId) AND " +
+           "(:patientId IS NULL OR a.patientId = :patientId) AND " +
+           "(:resourceCategory IS NULL OR a.resourceCategory = :resourceCategory) AND " +
+           "(:action IS NULL OR a.action = :action) AND " +
+           "(:outcome IS NULL OR a.outcome = :outcome) AND " +
+           "(:severity IS NULL OR a.severity = :severity) AND " +
+           "a.eventTimestamp >= :startTime AND a.eventTimestamp < :endTime AND " +
+           "(a.eventTimestamp > :afterTimestamp OR " +
+           " (a.eventTimestamp = :afterTimestamp AND a.id > :afterId)) " +
+           "ORDER BY a.eventTimestamp ASC, a.id ASC")
+    Stream<AuditEvent> streamForExport(
+        @Param("userId") UUID userId,
+        @Param("patientId") UUID patientId,
+        @Param("resourceCategory") ResourceCategory resourceCategory,
+        @Param("action") AuditAction action,
+        @Param("outcome") AuditOutcome outcome,
+        @Param("severity") AuditSeverity severity,
+        @Param("startTime") Instant startTime,
+        @Param("endTime") Instant endTime,
+        @Param("afterTimestamp") Instant afterTimestamp,
+        @Param("afterId") UUID afterId,
+        Limit limit
+    );
 }
@@ -0,0 +1,89 @@
+package com.healthcare.audit.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DDL for the monthly {@code audit_events} partitions created in V13.
+ * Partitions are named {@code audit_events_yyyy_MM}; detached partitions are
+ * renamed to {@code audit_events_archive_yyyy_MM} and left in place for export.
+ */
+@Repository
+public class AuditPartitionRepository {
+
+    private static final String PARENT_TABLE = "audit_events";
+    private static final String PARTITION_PREFIX = "audit_events_";
+    private static final String ARCHIVE_PREFIX = "audit_events_archive_";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_events_(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditPartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Takes a transaction-scoped advisory lock so only one node changes
+     * partitions at a time. Returns {@code false} if another node holds it.
+     */
+    public boolean tryLock() {
+        Boolean locked = jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, PARENT_TABLE);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    public List<YearMonth> findAttachedPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits i " +
+                "JOIN pg_class child ON child.oid = i.inhrelid " +
+                "JOIN pg_class parent ON parent.oid = i.inhparent " +
+                "WHERE parent.relname = ?",
+                String.class, PARENT_TABLE)
+            .stream()
+            .map(AuditPartitionRepository::parseMonth)
+            .flatMap(Optional::stream)
+            .sorted()
+            .toList();
+    }
+
+    public void createPartition(YearMonth month) {
+        String from = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+        String to = month.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS " + partitionName(month) +
+            " PARTITION OF " + PARENT_TABLE +
+            " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    public void detachAndArchivePartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName(month));
+        jdbcTemplate.execute("ALTER TABLE " + partitionName(month) +
+            " RENAME TO " + ARCHIVE_PREFIX + month.format(SUFFIX_FORMAT));
+    }
+
+    public long countDefaultPartitionRows() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events_default", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    private static Optional<YearMonth> parseMonth(String tableName) {
+        Matcher matcher = PARTITION_NAME.matcher(tableName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
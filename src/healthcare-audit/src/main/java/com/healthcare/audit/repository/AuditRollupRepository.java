@@ -0,0 +1,199 @@
+package com.healthcare.audit.repository;
+
+import com.healthcare.audit.domain.*;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * JDBC access to the audit rollup tables created in V12. Hourly buckets are
+ * computed from {@code audit_events}; daily buckets are summed from hourly ones.
+ */
+@Repository
+public class AuditRollupRepository {
+
+    public static final String GRANULARITY_HOUR = "HOUR";
+    public static final String GRANULARITY_DAY = "DAY";
+
+    private static final String UPSERT_HOURLY_EVENTS =
+        "INSERT INTO audit_event_rollups " +
+        "(granularity, bucket_start, resource_category, action, outcome, severity, event_count) " +
+        "SELECT 'HOUR', date_trunc('hour', event_timestamp AT TIME ZONE 'UTC') AT TIME ZONE 'UTC', " +
+        "       resource_category, action, outcome, severity, COUNT(*) " +
+        "FROM audit_events " +
+        "WHERE event_timestamp >= :from AND event_timestamp < :to " +
+        "GROUP BY 2, 3, 4, 5, 6 " +
+        "ON CONFLICT (granularity, bucket_start, resource_category, action, outcome, severity) " +
+        "DO UPDATE SET event_count = EXCLUDED.event_count";
+
+    private static final String UPSERT_HOURLY_PHI_ACCESS =
+        "INSERT INTO audit_phi_access_rollups (granularity, bucket_start, user_id, access_count) " +
+        "SELECT 'HOUR', date_trunc('hour', event_timestamp AT TIME ZONE 'UTC') AT TIME ZONE 'UTC', " +
+        "       user_id, COUNT(*) " +
+        "FROM audit_events " +
+        "WHERE event_timestamp >= :from AND event_timestamp < :to " +
+        "AND resource_category IN (:phiCategories) " +
+        "GROUP BY 2, 3 " +
+        "ON CONFLICT (granularity, bucket_start, user_id) " +
+        "DO UPDATE SET access_count = EXCLUDED.access_count";
+
+    private static final String UPSERT_DAILY_EVENTS =
+        "INSERT INTO audit_event_rollups " +
+        "(granularity, bucket_start, resource_category, action, outcome, severity, event_count) " +
+        "SELECT 'DAY', date_trunc('day', bucket_start AT TIME ZONE 'UTC') AT TIME ZONE 'UTC', " +
+        "       resource_category, action, outcome, severity, SUM(event_count) " +
+        "FROM audit_event_rollups " +
+        "WHERE granularity = 'HOUR' AND bucket_start >= :from AND bucket_start < :to " +
+        "GROUP BY 2, 3, 4, 5, 6 " +
+        "ON CONFLICT (granularity, bucket_start, resource_category, action, outcome, severity) " +
+        "DO UPDATE SET event_count = EXCLUDED.event_count";
+
+    private static final String UPSERT_DAILY_PHI_ACCESS =
+        "INSERT INTO audit_phi_access_rollups (granularity, bucket_start, user_id, access_count) " +
+        "SELECT 'DAY', date_trunc('day', bucket_start AT TIME ZONE 'UTC') AT TIME ZONE 'UTC', " +
+        "       user_id, SUM(access_count) " +
+        "FROM audit_phi_access_rollups " +
+        "WHERE granularity = 'HOUR' AND bucket_start >= :from AND bucket_start < :to " +
+        "GROUP BY 2, 3 " +
+        "ON CONFLICT (granularity, bucket_start, user_id) " +
+        "DO UPDATE SET access_count = EXCLUDED.access_count";
+
+    private static final String SUM_EVENT_ROLLUPS =
+        "SELECT resource_category, action, outcome, severity, SUM(event_count) AS event_count " +
+        "FROM audit_event_rollups " +
+        "WHERE granularity = :granularity AND bucket_start >= :from AND bucket_start < :to " +
+        "GROUP BY resource_category, action, outcome, severity";
+
+    private static final String COUNT_RAW_EVENTS =
+        "SELECT resource_category, action, outcome, severity, COUNT(*) AS event_count " +
+        "FROM audit_events " +
+        "WHERE event_timestamp >= :from AND event_timestamp < :to " +
+        "GROUP BY resource_category, action, outcome, severity";
+
+    private static final String SUM_PHI_ACCESS_ROLLUPS =
+        "SELECT user_id, SUM(access_count) AS access_count " +
+        "FROM audit_phi_access_rollups " +
+        "WHERE granularity = :granularity AND bucket_start >= :from AND bucket_start < :to " +
+        "GROUP BY user_id";
+
+    private static final String COUNT_RAW_PHI_ACCESS =
+        "SELECT user_id, COUNT(*) AS access_count " +
+        "FROM audit_events " +
+        "WHERE event_timestamp >= :from AND event_timestamp < :to " +
+        "AND resource_category IN (:phiCategories) " +
+        "GROUP BY user_id";
+
+    private static final RowMapper<EventCount> EVENT_COUNT_MAPPER = (rs, rowNum) -> new EventCount(
+        ResourceCategory.valueOf(rs.getString("resource_category")),
+        AuditAction.valueOf(rs.getString("action")),
+        AuditOutcome.valueOf(rs.getString("outcome")),
+        AuditSeverity.valueOf(rs.getString("severity")),
+        rs.getLong("event_count"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AuditRollupRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record EventCount(
+        ResourceCategory resourceCategory,
+        AuditAction action,
+        AuditOutcome outcome,
+        AuditSeverity severity,
+        long count
+    ) {}
+
+    /**
+     * Takes a transaction-scoped advisory lock so only one node advances the
+     * rollups at a time. Returns {@code false} if another node holds it.
+     */
+    public boolean tryLock(String name) {
+        Boolean locked = jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(:name))",
+            new MapSqlParameterSource("name", name), Boolean.class);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    public Optional<Instant> findWatermark(String name) {
+        List<Instant> watermarks = jdbcTemplate.query(
+            "SELECT watermark FROM audit_rollup_state WHERE name = :name",
+            new MapSqlParameterSource("name", name),
+            (rs, rowNum) -> rs.getObject("watermark", OffsetDateTime.class).toInstant());
+        return watermarks.stream().findFirst();
+    }
+
+    public void saveWatermark(String name, Instant watermark) {
+        jdbcTemplate.update(
+            "INSERT INTO audit_rollup_state (name, watermark, updated_at) " +
+            "VALUES (:name, :watermark, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (name) DO UPDATE SET watermark = EXCLUDED.watermark, updated_at = EXCLUDED.updated_at",
+            new MapSqlParameterSource("name", name).addValue("watermark", toTimestamp(watermark)));
+    }
+
+    public Optional<Instant> findEarliestEventTimestamp() {
+        OffsetDateTime earliest = jdbcTemplate.getJdbcTemplate().queryForObject(
+            "SELECT MIN(event_timestamp) FROM audit_events", OffsetDateTime.class);
+        return Optional.ofNullable(earliest).map(OffsetDateTime::toInstant);
+    }
+
+    public void rollupHours(Instant from, Instant to, Collection<ResourceCategory> phiCategories) {
+        MapSqlParameterSource params = range(from, to)
+            .addValue("phiCategories", names(phiCategories));
+        jdbcTemplate.update(UPSERT_HOURLY_EVENTS, params);
+        jdbcTemplate.update(UPSERT_HOURLY_PHI_ACCESS, params);
+    }
+
+    public void rollupDays(Instant fromDay, Instant toDay) {
+        MapSqlParameterSource params = range(fromDay, toDay);
+        jdbcTemplate.update(UPSERT_DAILY_EVENTS, params);
+        jdbcTemplate.update(UPSERT_DAILY_PHI_ACCESS, params);
+    }
+
+    public List<EventCount> sumEventCounts(String granularity, Instant from, Instant to) {
+        return jdbcTemplate.query(SUM_EVENT_ROLLUPS,
+            range(from, to).addValue("granularity", granularity), EVENT_COUNT_MAPPER);
+    }
+
+    public List<EventCount> countRawEvents(Instant from, Instant to) {
+        return jdbcTemplate.query(COUNT_RAW_EVENTS, range(from, to), EVENT_COUNT_MAPPER);
+    }
+
+    public Map<UUID, Long> sumPhiAccessByUser(String granularity, Instant from, Instant to) {
+        return queryUserCounts(SUM_PHI_ACCESS_ROLLUPS, range(from, to).addValue("granularity", granularity));
+    }
+
+    public Map<UUID, Long> countRawPhiAccessByUser(Instant from, Instant to,
+                                                   Collection<ResourceCategory> phiCategories) {
+        return queryUserCounts(COUNT_RAW_PHI_ACCESS,
+            range(from, to).addValue("phiCategories", names(phiCategories)));
+    }
+
+    private Map<UUID, Long> queryUserCounts(String sql, MapSqlParameterSource params) {
+        Map<UUID, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            counts.put(rs.getObject("user_id", UUID.class), rs.getLong("access_count"));
+        });
+        return counts;
+    }
+
+    private static MapSqlParameterSource range(Instant from, Instant to) {
+        return new MapSqlParameterSource()
+            .addValue("from", toTimestamp(from))
+            .addValue("to", toTimestamp(to));
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static List<String> names(Collection<ResourceCategory> categories) {
+        return categories.stream().map(Enum::name).toList();
+    }
+}
@@ -0,0 +1,151 @@
+package com.healthcare.audit.repository;
+
+import com.healthcare.audit.constant.AuditConstants;
+import com.healthcare.audit.domain.AuditAction;
+import com.healthcare.audit.domain.ResourceCategory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Single-pass aggregates over {@code audit_events} for the user activity and
+ * patient access summaries.
+ */
+@Repository
+public class AuditSummaryRepository {
+
+    private static final String AFTER_HOURS =
+        "(EXTRACT(HOUR FROM event_timestamp AT TIME ZONE :zone) < :startHour " +
+        " OR EXTRACT(HOUR FROM event_timestamp AT TIME ZONE :zone) >= :endHour)";
+
+    private static final String USER_ACTIVITY =
+        "SELECT COUNT(*) AS total_events, " +
+        "       COUNT(*) FILTER (WHERE resource_category IN (:phiCategories)) AS phi_access_count, " +
+        "       COUNT(*) FILTER (WHERE action IN (:modificationActions)) AS modification_count, " +
+        "       COUNT(*) FILTER (WHERE action IN (:userExportActions)) AS export_count, " +
+        "       COUNT(*) FILTER (WHERE action = 'LOGIN') AS login_count, " +
+        "       COUNT(*) FILTER (WHERE action = 'LOGIN_FAILED') AS failed_login_count, " +
+        "       COUNT(*) FILTER (WHERE action = 'ACCESS_DENIED') AS denied_access_count, " +
+        "       COUNT(*) FILTER (WHERE resource_category IN (:phiCategories) AND " + AFTER_HOURS + ") " +
+        "           AS after_hours_access_count, " +
+        "       COUNT(DISTINCT patient_id) AS unique_patients, " +
+        "       COUNT(DISTINCT resource_id) AS unique_resources " +
+        "FROM audit_events " +
+        "WHERE user_id = :userId AND event_timestamp BETWEEN :from AND :to";
+
+    private static final String PATIENT_ACCESS =
+        "SELECT COUNT(*) AS total_access_count, " +
+        "       COUNT(*) FILTER (WHERE action IN ('VIEW', 'READ')) AS view_count, " +
+        "       COUNT(*) FILTER (WHERE action IN (:modificationActions)) AS modification_count, " +
+        "       COUNT(*) FILTER (WHERE action IN ('EXPORT', 'DOWNLOAD')) AS export_count, " +
+        "       COUNT(*) FILTER (WHERE action = 'PRINT') AS print_count, " +
+        "       COUNT(DISTINCT user_id) AS unique_accessor_count, " +
+        "       ARRAY_AGG(DISTINCT user_role) FILTER (WHERE user_role IS NOT NULL) AS accessor_roles " +
+        "FROM audit_events a " +
+        "WHERE " + AuditEventRepository.PATIENT_MATCH + "AND event_timestamp BETWEEN :from AND :to";
+
+    private static final List<String> MODIFICATION_ACTIONS = names(List.of(
+        AuditAction.CREATE, AuditAction.UPDATE, AuditAction.DELETE));
+
+    private static final List<String> USER_EXPORT_ACTIONS = names(List.of(
+        AuditAction.EXPORT, AuditAction.DOWNLOAD, AuditAction.PRINT));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AuditSummaryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record UserActivityCounts(
+        long totalEvents,
+        long phiAccessCount,
+        long modificationCount,
+        long exportCount,
+        long loginCount,
+        long failedLoginCount,
+        long deniedAccessCount,
+        long afterHoursAccessCount,
+        long uniquePatients,
+        long uniqueResources
+    ) {}
+
+    public record PatientAccessCounts(
+        long totalAccessCount,
+        long viewCount,
+        long modificationCount,
+        long exportCount,
+        long printCount,
+        long uniqueAccessorCount,
+        List<String> accessorRoles
+    ) {}
+
+    public UserActivityCounts countUserActivity(UUID userId, Instant from, Instant to,
+                                                Collection<ResourceCategory> phiCategories) {
+        MapSqlParameterSource params = range(from, to)
+            .addValue("userId", userId)
+            .addValue("phiCategories", names(phiCategories))
+            .addValue("modificationActions", MODIFICATION_ACTIONS)
+            .addValue("userExportActions", USER_EXPORT_ACTIONS)
+            .addValue("zone", AuditConstants.BUSINESS_HOURS_ZONE)
+            .addValue("startHour", AuditConstants.BUSINESS_HOURS_START)
+            .addValue("endHour", AuditConstants.BUSINESS_HOURS_END);
+
+        return jdbcTemplate.queryForObject(USER_ACTIVITY, params, (rs, rowNum) -> new UserActivityCounts(
+            rs.getLong("total_events"),
+            rs.getLong("phi_access_count"),
+            rs.getLong("modification_count"),
+            rs.getLong("export_count"),
+            rs.getLong("login_count"),
+            rs.getLong("failed_login_count"),
+            rs.getLong("denied_access_count"),
+            rs.getLong("after_hours_access_count"),
+            rs.getLong("unique_patients"),
+            rs.getLong("unique_resources")));
+    }
+
+    public PatientAccessCounts countPatientAccess(UUID patientId, Instant from, Instant to) {
+        MapSqlParameterSource params = range(from, to)
+            .addValue("patientId", patientId)
+            .addValue("modificationActions", MODIFICATION_ACTIONS);
+
+        return jdbcTemplate.queryForObject(PATIENT_ACCESS, params, (rs, rowNum) -> new PatientAccessCounts(
+            rs.getLong("total_access_count"),
+            rs.getLong("view_count"),
+            rs.getLong("modification_count"),
+            rs.getLong("export_count"),
+            rs.getLong("print_count"),
+            rs.getLong("unique_accessor_count"),
+            toStringList(rs.getArray("accessor_roles"))));
+    }
+
+    private static List<String> toStringList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.stream((Object[]) array.getArray()).map(String::valueOf).toList();
+        } finally {
+            array.free();
+        }
+    }
+
+    private static MapSqlParameterSource range(Instant from, Instant to) {
+        return new MapSqlParameterSource()
+            .addValue("from", OffsetDateTime.ofInstant(from, ZoneOffset.UTC))
+            .addValue("to", OffsetDateTime.ofInstant(to, ZoneOffset.UTC));
+    }
+
+    private static List<String> names(Collection<? extends Enum<?>> values) {
+        return values.stream().map(Enum::name).toList();
+    }
+}
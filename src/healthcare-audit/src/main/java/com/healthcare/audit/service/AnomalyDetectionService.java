@@ -0,0 +1,23 @@
+package com.healthcare.audit.service;
+
+import com.healthcare.audit.domain.AuditEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface AnomalyDetectionService {
+
+    /** Counts an audit event against its user's sliding-window thresholds. */
+    void record(AuditEvent event);
+
+    /**
+     * Whether in-memory state is complete back to {@code since}: the window
+     * covers it and the detector has been warmed from recent history.
+     */
+    boolean covers(Instant since);
+
+    boolean hasAnomalousActivity(UUID userId, Instant since);
+
+    /** Drops users with no activity left in the window. */
+    void evictIdle();
+}
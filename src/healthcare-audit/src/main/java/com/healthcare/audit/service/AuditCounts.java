@@ -0,0 +1,58 @@
+package com.healthcare.audit.service;
+
+import com.healthcare.audit.domain.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public record AuditCounts(
+    Map<String, Long> eventsByCategory,
+    Map<String, Long> eventsByAction,
+    Map<String, Long> eventsByOutcome,
+    Map<String, Long> eventsBySeverity,
+    long phiAccessEvents,
+    Map<UUID, Long> phiAccessByUser
+) {
+    public long totalEvents() {
+        return eventsByCategory.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final Map<String, Long> eventsByCategory = new HashMap<>();
+        private final Map<String, Long> eventsByAction = new HashMap<>();
+        private final Map<String, Long> eventsByOutcome = new HashMap<>();
+        private final Map<String, Long> eventsBySeverity = new HashMap<>();
+        private final Map<UUID, Long> phiAccessByUser = new HashMap<>();
+        private long phiAccessEvents;
+
+        public Builder addEvents(ResourceCategory category, AuditAction action,
+                                 AuditOutcome outcome, AuditSeverity severity, long count) {
+            eventsByCategory.merge(category.name(), count, Long::sum);
+            eventsByAction.merge(action.name(), count, Long::sum);
+            eventsByOutcome.merge(outcome.name(), count, Long::sum);
+            eventsBySeverity.merge(severity.name(), count, Long::sum);
+            if (category.containsPhi()) {
+                phiAccessEvents += count;
+            }
+            return this;
+        }
+
+        public Builder addPhiAccess(Map<UUID, Long> countsByUser) {
+            countsByUser.forEach((userId, count) -> phiAccessByUser.merge(userId, count, Long::sum));
+            return this;
+        }
+
+        public AuditCounts build() {
+            return new AuditCounts(
+                Map.copyOf(eventsByCategory), Map.copyOf(eventsByAction),
+                Map.copyOf(eventsByOutcome), Map.copyOf(eventsBySeverity),
+                phiAccessEvents, Map.copyOf(phiAccessByUser)
+            );
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.healthcare.audit.service;
+
+import com.healthcare.audit.api.dto.AuditExportFormat;
+import com.healthcare.audit.api.dto.AuditSearchCriteria;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.UUID;
+
+public interface AuditExportService {
+
+    /** Records the export itself in the audit trail; call on the request thread. */
+    void recordExport(AuditSearchCriteria criteria, AuditExportFormat format);
+
+    /**
+     * Writes every event matching {@code criteria} to {@code out} in keyset-ordered
+     * chunks. Stops at the configured time budget and appends a continuation
+     * marker carrying the {@code afterTimestamp}/{@code afterId} to resume from.
+     */
+    void export(AuditSearchCriteria criteria, AuditExportFormat format,
+                Instant afterTimestamp, UUID afterId,
+                OutputStream out) throws IOException;
+}
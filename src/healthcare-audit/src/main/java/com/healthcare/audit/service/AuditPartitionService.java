@@ -0,0 +1,10 @@
+package com.healthcare.audit.service;
+
+public interface AuditPartitionService {
+
+    /**
+     * Creates the monthly {@code audit_events} partitions for the configured
+     * number of months ahead and detaches partitions past retention.
+     */
+    void maintainPartitions();
+}
@@ -0,0 +1,18 @@
+package com.healthcare.audit.service;
+
+import java.time.Instant;
+
+public interface AuditRollupService {
+
+    /**
+     * Rolls up closed hours between the stored watermark and now into the
+     * hourly and daily aggregate tables, then moves the watermark forward.
+     */
+    void advance();
+
+    /**
+     * Counts events in {@code [startTime, endTime)}, reading rollups for the part
+     * of the range behind the watermark and raw events for the rest.
+     */
+    AuditCounts summarize(Instant startTime, Instant endTime);
+}
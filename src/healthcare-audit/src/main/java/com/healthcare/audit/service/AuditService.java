@@ -2,6 +2,7 @@ package com.healthcare.audit.service;
 
 import com.healthcare.audit.api.dto.*;
 import com.healthcare.audit.domain.*;
+import com.healthcare.common.api.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -37,6 +38,9 @@ public interface AuditService {
 
     Page<AuditEventSummary> searchEvents(AuditSearchCriteria criteria, Pageable pageable);
 
+    CursorPageResponse<AuditEventSummary> scrollEvents(AuditSearchCriteria criteria, String cursor,
+                                                       int size, boolean includeTotal);
+
     Page<AuditEventSummary> getUserAuditTrail(UUID userId, Instant startTime,
                                                Instant endTime, Pageable pageable);
 
@@ -44,6 +48,7 @@ public interface AuditService {
                                                   Instant endTime, Pageable pageable);
 
     Page<AuditEventSummary> getResourceAuditTrail(ResourceCategory category, UUID resourceId,
+                                                   Instant startTime, Instant endTime,
                                                    Pageable pageable);
 
     List<AuditEventResponse> getByCorrelationId(String correlationId);
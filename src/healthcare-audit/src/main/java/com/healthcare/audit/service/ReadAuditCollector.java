@@ -0,0 +1,17 @@
+package com.healthcare.audit.service;
+
+import com.healthcare.audit.domain.ResourceCategory;
+
+import java.util.UUID;
+
+public interface ReadAuditCollector {
+
+    /**
+     * Records a read for the current request. Reads are aggregated per resource
+     * category and written as one audit event when the request completes.
+     *
+     * @return {@code false} when there is no current request and the caller must
+     *         audit the read itself
+     */
+    boolean recordRead(ResourceCategory category, String resourceType, UUID resourceId, UUID patientId);
+}
@@ -0,0 +1,189 @@
+package com.healthcare.audit.service.impl;
+
+import com.healthcare.audit.config.AuditProperties;
+import com.healthcare.audit.domain.AuditAction;
+import com.healthcare.audit.domain.AuditEvent;
+import com.healthcare.audit.domain.ResourceCategory;
+import com.healthcare.audit.repository.AuditActivityRepository;
+import com.healthcare.audit.service.AnomalyDetectionService;
+import com.healthcare.common.util.SlidingWindowCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps per-user sliding-window counts of audit events, PHI accesses and failed
+ * logins in memory, fed by {@code AuditService.logEvent}. A threshold breach is
+ * logged the moment it happens; anomaly checks within the window are answered
+ * without touching {@code audit_events}. On startup the window is rebuilt from
+ * the events written before this instance began counting.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AnomalyDetectionServiceImpl implements AnomalyDetectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnomalyDetectionServiceImpl.class);
+
+    private static final List<ResourceCategory> PHI_CATEGORIES = Arrays.stream(ResourceCategory.values())
+        .filter(ResourceCategory::containsPhi)
+        .toList();
+
+    private static final Duration BUCKET = Duration.ofMinutes(1);
+
+    private final AuditActivityRepository activityRepository;
+    private final AuditProperties.AnomalyProperties properties;
+    private final int windowMinutes;
+    private final Instant countingSince = Instant.now();
+    private final Map<UUID, UserWindow> windows = new ConcurrentHashMap<>();
+
+    private final Counter eventThresholdCounter;
+    private final Counter phiAccessThresholdCounter;
+    private final Counter failedLoginThresholdCounter;
+
+    private volatile boolean warmed;
+
+    public AnomalyDetectionServiceImpl(AuditActivityRepository activityRepository,
+                                       AuditProperties auditProperties,
+                                       MeterRegistry meterRegistry) {
+        this.activityRepository = activityRepository;
+        this.properties = auditProperties.anomaly();
+        this.windowMinutes = (int) properties.window().toMinutes();
+
+        Gauge.builder("healthcare.audit.anomaly.tracked.users", windows, Map::size)
+            .description("Users with activity in the anomaly detection window")
+            .register(meterRegistry);
+        this.eventThresholdCounter = flaggedCounter(meterRegistry, "events");
+        this.phiAccessThresholdCounter = flaggedCounter(meterRegistry, "phi_access");
+        this.failedLoginThresholdCounter = flaggedCounter(meterRegistry, "failed_logins");
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        long minute = epochMinute(event.getEventTimestamp() != null ? event.getEventTimestamp() : Instant.now());
+        UserWindow window = windows.computeIfAbsent(event.getUserId(), id -> new UserWindow(windowMinutes));
+        UUID userId = event.getUserId();
+
+        long events = window.events.add(minute, 1);
+        if (crossed(window.eventsAbove, events > properties.eventThreshold())) {
+            flag(userId, "events", events, eventThresholdCounter);
+        }
+        if (event.getResourceCategory() != null && event.getResourceCategory().containsPhi()) {
+            long phiAccess = window.phiAccess.add(minute, 1);
+            if (crossed(window.phiAccessAbove, phiAccess > properties.phiAccessThreshold())) {
+                flag(userId, "PHI accesses", phiAccess, phiAccessThresholdCounter);
+            }
+        }
+        if (event.getAction() == AuditAction.LOGIN_FAILED) {
+            long failedLogins = window.failedLogins.add(minute, 1);
+            if (crossed(window.failedLoginsAbove, failedLogins > properties.failedLoginThreshold())) {
+                flag(userId, "failed logins", failedLogins, failedLoginThresholdCounter);
+            }
+        }
+    }
+
+    /*
+     * A caller's "last window" is computed a moment before this check, and
+     * the oldest bucket still counts whole minutes, so one bucket of slack
+     * keeps such queries on the in-memory path.
+     */
+    @Override
+    public boolean covers(Instant since) {
+        return warmed && !since.isBefore(Instant.now().minus(properties.window()).minus(BUCKET));
+    }
+
+    @Override
+    public boolean hasAnomalousActivity(UUID userId, Instant since) {
+        UserWindow window = windows.get(userId);
+        if (window == null) {
+            return false;
+        }
+        long from = epochMinute(since);
+        long to = epochMinute(Instant.now());
+        return window.events.sum(from, to) > properties.eventThreshold() ||
+               window.phiAccess.sum(from, to) > properties.phiAccessThreshold() ||
+               window.failedLogins.sum(from, to) > properties.failedLoginThreshold();
+    }
+
+    @Override
+    public void evictIdle() {
+        long now = epochMinute(Instant.now());
+        windows.entrySet().removeIf(entry -> entry.getValue().events.sum(now) == 0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Instant from = countingSince.minus(properties.window());
+        try {
+            activityRepository.forEachUserMinute(from, countingSince, PHI_CATEGORIES, row -> {
+                long minute = epochMinute(row.bucketStart());
+                UserWindow window = windows.computeIfAbsent(row.userId(), id -> new UserWindow(windowMinutes));
+                window.events.add(minute, row.eventCount());
+                window.phiAccess.add(minute, row.phiAccessCount());
+                window.failedLogins.add(minute, row.failedLoginCount());
+            });
+            warmed = true;
+            log.info("Anomaly detector rebuilt from audit events since {}; tracking {} users", from, windows.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild anomaly detector; anomaly checks fall back to audit queries", e);
+        }
+    }
+
+    /**
+     * Whether the total has just gone above its threshold. Batched or
+     * concurrent adds can step over {@code threshold + 1}, so the transition
+     * is tracked rather than matched; dropping back re-arms it.
+     */
+    private static boolean crossed(AtomicBoolean above, boolean isAbove) {
+        if (isAbove) {
+            return above.compareAndSet(false, true);
+        }
+        above.set(false);
+        return false;
+    }
+
+    private void flag(UUID userId, String measure, long count, Counter counter) {
+        counter.increment();
+        log.warn("User {} exceeded {} threshold: {} in the last {}", userId, measure, count, properties.window());
+    }
+
+    private static Counter flaggedCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("healthcare.audit.anomaly.flagged")
+            .description("Users crossing an anomaly detection threshold")
+            .tag("type", type)
+            .register(meterRegistry);
+    }
+
+    private static long epochMinute(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 60);
+    }
+
+    private static final class UserWindow {
+        final SlidingWindowCounter events;
+        final SlidingWindowCounter phiAccess;
+        final SlidingWindowCounter failedLogins;
+        final AtomicBoolean eventsAbove = new AtomicBoolean();
+        final AtomicBoolean phiAccessAbove = new AtomicBoolean();
+        final AtomicBoolean failedLoginsAbove = new AtomicBoolean();
+
+        UserWindow(int windowMinutes) {
+            this.events = new SlidingWindowCounter(windowMinutes);
+            this.phiAccess = new SlidingWindowCounter(windowMinutes);
+            this.failedLogins = new SlidingWindowCounter(windowMinutes);
+        }
+    }
+}
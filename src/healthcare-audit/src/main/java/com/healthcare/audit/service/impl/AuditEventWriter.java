@@ -0,0 +1,275 @@
+package com.healthcare.audit.service.impl;
+
+import com.healthcare.audit.config.AuditProperties;
+import com.healthcare.audit.domain.AuditEvent;
+import com.healthcare.audit.exception.AuditLoggingException;
+import com.healthcare.audit.repository.AuditEventBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Buffers audit events in a bounded queue and writes them to {@code audit_events}
+ * in JDBC batches from a single background thread. A batch is flushed when it
+ * reaches {@code batch-size} or when {@code flush-interval} has elapsed since its
+ * first event, whichever comes first.
+ *
+ * <p>Audit events are never dropped: when the buffer stays full past
+ * {@code enqueue-timeout}, or the writer has been stopped, the caller writes its
+ * own event inline. On shutdown the remaining buffer is drained before the
+ * datasource is closed.
+ */
+@Component
+public class AuditEventWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEventWriter.class);
+
+    /** Stops after the web server has finished its graceful shutdown phase. */
+    private static final int LIFECYCLE_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final AuditEventBatchRepository batchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditProperties.WriteProperties properties;
+    private final BlockingQueue<PendingWrite> buffer;
+
+    private final Counter enqueuedCounter;
+    private final Counter overflowCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditEventWriter(AuditEventBatchRepository batchRepository,
+                            PlatformTransactionManager transactionManager,
+                            AuditProperties auditProperties,
+                            MeterRegistry meterRegistry) {
+        this.batchRepository = batchRepository;
+        this.properties = auditProperties.write();
+        this.buffer = new ArrayBlockingQueue<>(properties.bufferCapacity());
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("healthcare.audit.write.buffer.size", buffer, BlockingQueue::size)
+            .description("Audit events waiting to be written")
+            .register(meterRegistry);
+        Gauge.builder("healthcare.audit.write.buffer.remaining", buffer, BlockingQueue::remainingCapacity)
+            .description("Free slots in the audit write buffer")
+            .register(meterRegistry);
+        this.enqueuedCounter = Counter.builder("healthcare.audit.write.enqueued")
+            .description("Audit events accepted into the write buffer")
+            .register(meterRegistry);
+        this.overflowCounter = Counter.builder("healthcare.audit.write.overflow")
+            .description("Audit events written inline because the buffer was full or stopped")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder("healthcare.audit.write.written")
+            .description("Audit events committed to the database")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("healthcare.audit.write.failed")
+            .description("Audit events that could not be written")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("healthcare.audit.write.flush")
+            .description("Time spent writing one audit batch")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Hands an event to the write pipeline. In {@link AuditProperties.Durability#SYNC}
+     * mode this blocks until the event's batch has been committed.
+     */
+    public void write(AuditEvent event) {
+        boolean sync = properties.durability() == AuditProperties.Durability.SYNC;
+        PendingWrite pending = new PendingWrite(event, sync ? new CompletableFuture<>() : null);
+
+        if (!running || !offer(pending)) {
+            overflowCounter.increment();
+            writeInline(event);
+            return;
+        }
+        enqueuedCounter.increment();
+
+        if (sync) {
+            awaitAck(pending);
+        }
+    }
+
+    private boolean offer(PendingWrite pending) {
+        try {
+            return buffer.offer(pending, properties.enqueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitAck(PendingWrite pending) {
+        try {
+            pending.ack().get(properties.syncAckTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new AuditLoggingException("Failed to log audit event", e.getCause());
+        } catch (TimeoutException e) {
+            throw new AuditLoggingException("Timed out waiting for audit event to be written", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuditLoggingException("Interrupted waiting for audit event to be written", e);
+        }
+    }
+
+    private void writeInline(AuditEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batchRepository.insertAll(List.of(event)));
+            writtenCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            throw new AuditLoggingException("Failed to log audit event", e);
+        }
+    }
+
+    private void runWriter() {
+        List<PendingWrite> batch = new ArrayList<>(properties.batchSize());
+        long flushIntervalNanos = properties.flushInterval().toNanos();
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingWrite first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch, System.nanoTime() + flushIntervalNanos);
+            } catch (InterruptedException e) {
+                buffer.drainTo(batch, properties.batchSize() - batch.size());
+            }
+
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void fillBatch(List<PendingWrite> batch, long deadline) throws InterruptedException {
+        int batchSize = properties.batchSize();
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            PendingWrite next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<AuditEvent> events = batch.stream().map(PendingWrite::event).toList();
+        Timer.Sample sample = Timer.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> batchRepository.insertAll(events));
+            writtenCounter.increment(events.size());
+            batch.forEach(PendingWrite::complete);
+            log.debug("Flushed {} audit events", events.size());
+        } catch (RuntimeException e) {
+            log.warn("Audit batch of {} events failed, retrying row by row: {}", events.size(), e.getMessage());
+            flushIndividually(batch);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void flushIndividually(List<PendingWrite> batch) {
+        for (PendingWrite pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> batchRepository.insertAll(List.of(pending.event())));
+                writtenCounter.increment();
+                pending.complete();
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("Failed to write audit event {}", pending.event(), e);
+                pending.fail(e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit write pipeline started: capacity={}, batchSize={}, flushInterval={}, durability={}",
+            properties.bufferCapacity(), properties.batchSize(),
+            properties.flushInterval(), properties.durability());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+
+        try {
+            writerThread.join(properties.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writerThread.isAlive()) {
+            log.error("Audit writer did not drain within {}; {} events still buffered",
+                properties.shutdownTimeout(), buffer.size());
+            writerThread.interrupt();
+        } else {
+            log.info("Audit write pipeline drained and stopped");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return LIFECYCLE_PHASE;
+    }
+
+    private record PendingWrite(AuditEvent event, CompletableFuture<Void> ack) {
+
+        void complete() {
+            if (ack != null) {
+                ack.complete(null);
+            }
+        }
+
+        void fail(Throwable cause) {
+            if (ack != null) {
+                ack.completeExceptionally(cause);
+            }
+        }
+    }
+}
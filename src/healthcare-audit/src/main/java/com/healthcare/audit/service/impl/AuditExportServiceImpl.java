@@ -0,0 +1,202 @@
+package com.healthcare.audit.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.audit.api.dto.AuditEventSummary;
+import com.healthcare.audit.api.dto.AuditExportFormat;
+import com.healthcare.audit.api.dto.AuditSearchCriteria;
+import com.healthcare.audit.config.AuditProperties;
+import com.healthcare.audit.domain.*;
+import com.healthcare.audit.repository.AuditEventRepository;
+import com.healthcare.audit.service.AuditContextProvider;
+import com.healthcare.audit.service.AuditExportService;
+import com.healthcare.audit.service.AuditService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams audit events to CSV or NDJSON in keyset-ordered chunks. Each chunk
+ * is read in its own short read-only transaction and written to the response
+ * after it commits, so neither heap nor the connection is held for the length
+ * of the export, nor while a slow client drains the response.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AuditExportServiceImpl implements AuditExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditExportServiceImpl.class);
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private static final String CSV_HEADER =
+        "id,eventTimestamp,userId,username,action,outcome,severity," +
+        "resourceCategory,resourceId,patientId,phiAccess,securityConcern";
+
+    private final AuditEventRepository auditEventRepository;
+    private final AuditService auditService;
+    private final AuditContextProvider contextProvider;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTransaction;
+    private final AuditProperties.ExportProperties properties;
+
+    public AuditExportServiceImpl(AuditEventRepository auditEventRepository,
+                                  AuditService auditService,
+                                  AuditContextProvider contextProvider,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  AuditProperties auditProperties) {
+        this.auditEventRepository = auditEventRepository;
+        this.auditService = auditService;
+        this.contextProvider = contextProvider;
+        this.objectMapper = objectMapper;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setReadOnly(true);
+        this.properties = auditProperties.export();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordExport(AuditSearchCriteria criteria, AuditExportFormat format) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("format", format);
+        details.put("userId", criteria.userId());
+        details.put("patientId", criteria.patientId());
+        details.put("resourceCategory", criteria.resourceCategory());
+        details.put("startTime", criteria.startTime());
+        details.put("endTime", criteria.endTime());
+
+        auditService.logEvent(contextProvider
+            .createEventBuilder(AuditAction.EXPORT, AuditOutcome.SUCCESS, ResourceCategory.AUDIT, null)
+            .patientId(criteria.patientId())
+            .description("Audit trail export as " + format)
+            .metadata(toJson(details)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void export(AuditSearchCriteria criteria, AuditExportFormat format,
+                       Instant afterTimestamp, UUID afterId, OutputStream out) throws IOException {
+        Instant start = criteria.startTime() != null ? criteria.startTime() : Instant.now().minus(30, ChronoUnit.DAYS);
+        Instant end = criteria.endTime() != null ? criteria.endTime() : Instant.now();
+        Instant deadline = Instant.now().plus(properties.timeBudget());
+
+        Cursor cursor = afterTimestamp != null
+            ? new Cursor(afterTimestamp, afterId != null ? afterId : MIN_UUID)
+            : new Cursor(start, MIN_UUID);
+        long written = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == AuditExportFormat.CSV && afterTimestamp == null) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            while (true) {
+                if (Instant.now().isAfter(deadline)) {
+                    writeContinuation(writer, format, cursor);
+                    log.info("Audit export stopped at time budget after {} events", written);
+                    break;
+                }
+
+                Cursor from = cursor;
+                List<AuditEventSummary> chunk = chunkTransaction.execute(status -> {
+                    try (Stream<AuditEvent> events = auditEventRepository.streamForExport(
+                            criteria.userId(), criteria.patientId(), criteria.resourceCategory(),
+                            criteria.action(), criteria.outcome(), criteria.severity(),
+                            start, end, from.timestamp(), from.id(),
+                            Limit.of(properties.chunkSize()))) {
+                        return events.map(AuditEventSummary::from).toList();
+                    }
+                });
+
+                for (AuditEventSummary event : chunk) {
+                    writeEvent(writer, format, event);
+                }
+                written += chunk.size();
+                writer.flush();
+
+                if (chunk.size() < properties.chunkSize()) {
+                    break;
+                }
+                AuditEventSummary last = chunk.get(chunk.size() - 1);
+                cursor = new Cursor(last.eventTimestamp(), last.id());
+            }
+        } finally {
+            writer.flush();
+        }
+
+        log.debug("Audit export wrote {} events", written);
+    }
+
+    private void writeEvent(Writer writer, AuditExportFormat format, AuditEventSummary event) throws IOException {
+        if (format == AuditExportFormat.CSV) {
+            writer.write(String.join(",",
+                csv(event.id()), csv(event.eventTimestamp()), csv(event.userId()), csv(event.username()),
+                csv(event.action()), csv(event.outcome()), csv(event.severity()),
+                csv(event.resourceCategory()), csv(event.resourceId()), csv(event.patientId()),
+                csv(event.phiAccess()), csv(event.securityConcern())));
+        } else {
+            writer.write(objectMapper.writeValueAsString(event));
+        }
+        writer.write('\n');
+    }
+
+    private void writeContinuation(Writer writer, AuditExportFormat format, Cursor cursor) throws IOException {
+        if (format == AuditExportFormat.CSV) {
+            writer.write("# truncated; resume with afterTimestamp=" + cursor.timestamp() + "&afterId=" + cursor.id());
+        } else {
+            Map<String, Object> marker = new LinkedHashMap<>();
+            marker.put("truncated", true);
+            marker.put("afterTimestamp", cursor.timestamp());
+            marker.put("afterId", cursor.id());
+            writer.write(objectMapper.writeValueAsString(marker));
+        }
+        writer.write('\n');
+    }
+
+    /** Quotes values that need it and defuses spreadsheet formula injection. */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private String toJson(Map<String, Object> value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private record Cursor(Instant timestamp, UUID id) {}
+}
@@ -0,0 +1,70 @@
+package com.healthcare.audit.service.impl;
+
+import com.healthcare.audit.config.AuditProperties;
+import com.healthcare.audit.repository.AuditPartitionRepository;
+import com.healthcare.audit.service.AuditPartitionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class AuditPartitionServiceImpl implements AuditPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionServiceImpl.class);
+
+    private final AuditPartitionRepository partitionRepository;
+    private final AuditProperties.PartitionProperties properties;
+
+    public AuditPartitionServiceImpl(AuditPartitionRepository partitionRepository,
+                                     AuditProperties auditProperties) {
+        this.partitionRepository = partitionRepository;
+        this.properties = auditProperties.partition();
+    }
+
+    @Override
+    @Transactional
+    public void maintainPartitions() {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (!partitionRepository.tryLock()) {
+            log.debug("Audit partition maintenance already running on another node");
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        List<YearMonth> attached = partitionRepository.findAttachedPartitions();
+
+        for (int i = 0; i <= properties.monthsAhead(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!attached.contains(month)) {
+                partitionRepository.createPartition(month);
+                log.info("Created audit_events partition for {}", month);
+            }
+        }
+
+        YearMonth oldestRetained = currentMonth.minusMonths(properties.retentionMonths());
+        List<YearMonth> expired = attached.stream()
+            .filter(month -> month.isBefore(oldestRetained))
+            .toList();
+        for (YearMonth month : expired) {
+            if (properties.detachExpired()) {
+                partitionRepository.detachAndArchivePartition(month);
+                log.info("Detached audit_events partition for {} for archival", month);
+            } else {
+                log.info("audit_events partition for {} is past retention; detach is disabled", month);
+            }
+        }
+
+        long unpartitioned = partitionRepository.countDefaultPartitionRows();
+        if (unpartitioned > 0) {
+            log.warn("{} audit events landed in the default partition", unpartitioned);
+        }
+    }
+}
@@ -5,16 +5,20 @@ import com.healthcare.audit.domain.AuditEvent;
 import com.healthcare.audit.repository.AuditEventRepository;
 import com.healthcare.audit.service.AuditQueryService;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
 public class AuditQueryServiceImpl implements AuditQueryService {
 
+    /** Bounds the scan to recent partitions; the dashboard only shows the latest events. */
+    private static final Duration RECENT_WINDOW = Duration.ofDays(7);
+
     private final AuditEventRepository auditEventRepository;
 
     public AuditQueryServiceImpl(AuditEventRepository auditEventRepository) {
@@ -23,8 +27,8 @@ public class AuditQueryServiceImpl implements AuditQueryService {
 
     @Override
     public List<AuditEventResponse> getRecentEvents(int limit) {
-        var pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "eventTimestamp"));
-        return auditEventRepository.findAll(pageable)
+        Instant since = Instant.now().minus(RECENT_WINDOW);
+        return auditEventRepository.findRecentEvents(since, PageRequest.of(0, limit))
             .stream()
             .map(this::toResponse)
             .toList();
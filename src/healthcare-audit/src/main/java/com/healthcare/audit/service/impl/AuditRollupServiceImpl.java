@@ -0,0 +1,130 @@
+package com.healthcare.audit.service.impl;
+
+import com.healthcare.audit.domain.ResourceCategory;
+import com.healthcare.audit.repository.AuditRollupRepository;
+import com.healthcare.audit.repository.AuditRollupRepository.EventCount;
+import com.healthcare.audit.service.AuditCounts;
+import com.healthcare.audit.service.AuditRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class AuditRollupServiceImpl implements AuditRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditRollupServiceImpl.class);
+
+    private static final String ROLLUP_NAME = "audit_event_rollups";
+
+    private static final List<ResourceCategory> PHI_CATEGORIES = Arrays.stream(ResourceCategory.values())
+        .filter(ResourceCategory::containsPhi)
+        .toList();
+
+    /** Hours are rolled up only once buffered audit writes for them have settled. */
+    private static final Duration SETTLE_DELAY = Duration.ofMinutes(5);
+
+    /** Caps a single run so a backfill over years of history is spread across runs. */
+    private static final Duration MAX_CATCH_UP_PER_RUN = Duration.ofDays(7);
+
+    private final AuditRollupRepository rollupRepository;
+
+    public AuditRollupServiceImpl(AuditRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    @Override
+    @Transactional
+    public void advance() {
+        if (!rollupRepository.tryLock(ROLLUP_NAME)) {
+            log.debug("Audit rollup already running on another node");
+            return;
+        }
+
+        Instant target = Instant.now().minus(SETTLE_DELAY).truncatedTo(ChronoUnit.HOURS);
+        Instant watermark = rollupRepository.findWatermark(ROLLUP_NAME)
+            .or(() -> rollupRepository.findEarliestEventTimestamp()
+                .map(earliest -> earliest.truncatedTo(ChronoUnit.HOURS)))
+            .orElse(target);
+
+        if (!watermark.isBefore(target)) {
+            return;
+        }
+
+        Instant upTo = min(target, watermark.plus(MAX_CATCH_UP_PER_RUN));
+        rollupRepository.rollupHours(watermark, upTo, PHI_CATEGORIES);
+        rollupRepository.rollupDays(watermark.truncatedTo(ChronoUnit.DAYS), upTo);
+        rollupRepository.saveWatermark(ROLLUP_NAME, upTo);
+
+        log.info("Audit rollups advanced from {} to {}", watermark, upTo);
+    }
+
+    @Override
+    public AuditCounts summarize(Instant startTime, Instant endTime) {
+        AuditCounts.Builder counts = AuditCounts.builder();
+        Instant watermark = rollupRepository.findWatermark(ROLLUP_NAME).orElse(null);
+
+        Instant closedStart = ceil(startTime, ChronoUnit.HOURS);
+        Instant closedEnd = watermark != null
+            ? min(endTime.truncatedTo(ChronoUnit.HOURS), watermark)
+            : closedStart;
+
+        if (!closedStart.isBefore(closedEnd)) {
+            addRaw(counts, startTime, endTime);
+            return counts.build();
+        }
+
+        addRaw(counts, startTime, closedStart);
+
+        Instant firstDay = ceil(closedStart, ChronoUnit.DAYS);
+        Instant lastDay = closedEnd.truncatedTo(ChronoUnit.DAYS);
+        if (firstDay.isBefore(lastDay)) {
+            addRollup(counts, AuditRollupRepository.GRANULARITY_HOUR, closedStart, firstDay);
+            addRollup(counts, AuditRollupRepository.GRANULARITY_DAY, firstDay, lastDay);
+            addRollup(counts, AuditRollupRepository.GRANULARITY_HOUR, lastDay, closedEnd);
+        } else {
+            addRollup(counts, AuditRollupRepository.GRANULARITY_HOUR, closedStart, closedEnd);
+        }
+
+        addRaw(counts, closedEnd, endTime);
+        return counts.build();
+    }
+
+    private void addRaw(AuditCounts.Builder counts, Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        addEventCounts(counts, rollupRepository.countRawEvents(from, to));
+        counts.addPhiAccess(rollupRepository.countRawPhiAccessByUser(from, to, PHI_CATEGORIES));
+    }
+
+    private void addRollup(AuditCounts.Builder counts, String granularity, Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        addEventCounts(counts, rollupRepository.sumEventCounts(granularity, from, to));
+        counts.addPhiAccess(rollupRepository.sumPhiAccessByUser(granularity, from, to));
+    }
+
+    private static void addEventCounts(AuditCounts.Builder counts, List<EventCount> rows) {
+        for (EventCount row : rows) {
+            counts.addEvents(row.resourceCategory(), row.action(), row.outcome(), row.severity(), row.count());
+        }
+    }
+
+    private static Instant ceil(Instant instant, ChronoUnit unit) {
+        Instant truncated = instant.truncatedTo(unit);
+        return truncated.equals(instant) ? truncated : truncated.plus(1, unit);
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -1,16 +1,25 @@
 package com.healthcare.audit.service.impl;
 
 import com.healthcare.audit.api.dto.*;
+import com.healthcare.audit.config.AuditProperties;
 import com.healthcare.audit.domain.*;
 import com.healthcare.audit.exception.AuditEventNotFoundException;
 import com.healthcare.audit.exception.AuditLoggingException;
 import com.healthcare.audit.repository.AuditEventRepository;
+import com.healthcare.audit.repository.AuditSummaryRepository;
+import com.healthcare.audit.repository.AuditSummaryRepository.PatientAccessCounts;
+import com.healthcare.audit.repository.AuditSummaryRepository.UserActivityCounts;
+import com.healthcare.audit.service.AnomalyDetectionService;
 import com.healthcare.audit.service.AuditService;
+import com.healthcare.common.api.CursorPageResponse;
+import com.healthcare.common.pagination.KeysetOrder;
+import jakarta.persistence.criteria.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -19,7 +28,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -38,30 +46,45 @@ public class AuditServiceImpl implements AuditService {
         AuditAction.ROLE_ASSIGNED, AuditAction.ROLE_REVOKED
     );
 
+    private static final KeysetOrder<AuditEvent> NEWEST_FIRST = KeysetOrder.<AuditEvent>descending(AuditEvent::getId)
+        .by("eventTimestamp", AuditEvent::getEventTimestamp, Instant::parse);
+
     private static final List<AuditOutcome> FAILED_OUTCOMES = List.of(
         AuditOutcome.FAILURE, AuditOutcome.DENIED, AuditOutcome.ERROR
     );
 
-    private static final long PHI_ACCESS_THRESHOLD_PER_HOUR = 100;
-    private static final long EVENT_THRESHOLD_PER_HOUR = 500;
-    private static final long FAILED_LOGIN_THRESHOLD = 5;
-
     private final AuditEventRepository auditEventRepository;
-
-    public AuditServiceImpl(AuditEventRepository auditEventRepository) {
+    private final AuditSummaryRepository auditSummaryRepository;
+    private final AuditEventWriter auditEventWriter;
+    private final AnomalyDetectionService anomalyDetectionService;
+    private final AuditProperties.AnomalyProperties anomalyProperties;
+
+    public AuditServiceImpl(AuditEventRepository auditEventRepository,
+                            AuditSummaryRepository auditSummaryRepository,
+                            AuditEventWriter auditEventWriter,
+                            AnomalyDetectionService anomalyDetectionService,
+                            AuditProperties auditProperties) {
         this.auditEventRepository = auditEventRepository;
+        this.auditSummaryRepository = auditSummaryRepository;
+        this.auditEventWriter = auditEventWriter;
+        this.anomalyDetectionService = anomalyDetectionService;
+        this.anomalyProperties = auditProperties.anomaly();
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AuditEvent logEvent(AuditEvent.Builder eventBuilder) {
         try {
             AuditEvent event = eventBuilder.build();
-            AuditEvent saved = auditEventRepository.save(event);
+            auditEventWriter.write(event);
+            anomalyDetectionService.record(event);
             log.debug("Audit event logged: {} {} on {}/{}",
-                saved.getAction(), saved.getOutcome(),
-                saved.getResourceCategory(), saved.getResourceId());
-            return saved;
+                event.getAction(), event.getOutcome(),
+                event.getResourceCategory(), event.getResourceId());
+            return event;
+        } catch (AuditLoggingException e) {
+            log.error("Failed to log audit event", e);
+            throw e;
         } catch (Exception e) {
             log.error("Failed to log audit event", e);
             throw new AuditLoggingException("Failed to log audit event", e);
@@ -69,7 +92,7 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AuditEvent logPhiAccess(UUID userId, String username, String userRole,
                                    ResourceCategory category, UUID resourceId,
                                    UUID patientId, AuditAction action, AuditOutcome outcome) {
@@ -86,7 +109,7 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AuditEvent logAuthentication(UUID userId, String username, AuditAction action,
                                         AuditOutcome outcome, String clientIpHash) {
         return logEvent(AuditEvent.builder()
@@ -101,7 +124,7 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AuditEvent logModification(UUID userId, String username, String userRole,
                                       ResourceCategory category, UUID resourceId,
                                       UUID patientId, String changedFields) {
@@ -119,7 +142,7 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AuditEvent logExport(UUID userId, String username, String userRole,
                                ResourceCategory category, UUID resourceId,
                                UUID patientId, String exportDetails) {
@@ -138,7 +161,7 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AuditEvent logAccessDenied(UUID userId, String username, String userRole,
                                       ResourceCategory category, UUID resourceId,
                                       String reason) {
@@ -181,6 +204,50 @@ public class AuditServiceImpl implements AuditService {
         ).map(AuditEventSummary::from);
     }
 
+    @Override
+    public CursorPageResponse<AuditEventSummary> scrollEvents(AuditSearchCriteria criteria, String cursor,
+                                                              int size, boolean includeTotal) {
+        int pageSize = CursorPageResponse.boundedSize(size);
+        Specification<AuditEvent> filter = matching(criteria);
+        var rows = auditEventRepository.findBy(filter.and(NEWEST_FIRST.after(cursor)),
+            query -> query.sortBy(NEWEST_FIRST.toSort()).limit(pageSize + 1).all());
+
+        return CursorPageResponse.from(rows, pageSize, NEWEST_FIRST, AuditEventSummary::from,
+            includeTotal ? auditEventRepository.count(filter) : null);
+    }
+
+    /** Same filters as {@link #searchEvents}, bounded to the last 30 days by default so partitions prune. */
+    private static Specification<AuditEvent> matching(AuditSearchCriteria criteria) {
+        Instant startTime = criteria.startTime() != null ?
+            criteria.startTime() : Instant.now().minus(30, ChronoUnit.DAYS);
+        Instant endTime = criteria.endTime() != null ?
+            criteria.endTime() : Instant.now();
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.between(root.get("eventTimestamp"), startTime, endTime));
+            if (criteria.userId() != null) {
+                predicates.add(cb.equal(root.get("userId"), criteria.userId()));
+            }
+            if (criteria.patientId() != null) {
+                predicates.add(cb.equal(root.get("patientId"), criteria.patientId()));
+            }
+            if (criteria.resourceCategory() != null) {
+                predicates.add(cb.equal(root.get("resourceCategory"), criteria.resourceCategory()));
+            }
+            if (criteria.action() != null) {
+                predicates.add(cb.equal(root.get("action"), criteria.action()));
+            }
+            if (criteria.outcome() != null) {
+                predicates.add(cb.equal(root.get("outcome"), criteria.outcome()));
+            }
+            if (criteria.severity() != null) {
+                predicates.add(cb.equal(root.get("severity"), criteria.severity()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
     @Override
     public Page<AuditEventSummary> getUserAuditTrail(UUID userId, Instant startTime,
                                                       Instant endTime, Pageable pageable) {
@@ -202,10 +269,13 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
-    public Page<AuditEventSummary> getResourceAuditTrail(ResourceCategory category,
-                                                          UUID resourceId, Pageable pageable) {
-        return auditEventRepository
-            .findByResourceCategoryAndResourceIdOrderByEventTimestampDesc(category, resourceId, pageable)
+    public Page<AuditEventSummary> getResourceAuditTrail(ResourceCategory category, UUID resourceId,
+                                                          Instant startTime, Instant endTime,
+                                                          Pageable pageable) {
+        Instant start = startTime != null ? startTime : Instant.now().minus(30, ChronoUnit.DAYS);
+        Instant end = endTime != null ? endTime : Instant.now();
+
+        return auditEventRepository.findByResourceAndTimeRange(category.name(), resourceId, start, end, pageable)
             .map(AuditEventSummary::from);
     }
 
@@ -220,7 +290,7 @@ public class AuditServiceImpl implements AuditService {
     @Override
     public Page<AuditEventSummary> getSecurityEvents(Instant since, Pageable pageable) {
         Instant effectiveSince = since != null ? since : Instant.now().minus(24, ChronoUnit.HOURS);
-        return auditEventRepository.findSecurityEvents(SECURITY_ACTIONS, effectiveSince, pageable)
+        return auditEventRepository.findSecurityEvents(SECURITY_ACTIONS, effectiveSince, Instant.now(), pageable)
             .map(AuditEventSummary::from);
     }
 
@@ -229,58 +299,12 @@ public class AuditServiceImpl implements AuditService {
         Instant start = startTime != null ? startTime : Instant.now().minus(30, ChronoUnit.DAYS);
         Instant end = endTime != null ? endTime : Instant.now();
 
-        Page<AuditEvent> userEvents = auditEventRepository.findByUserIdAndTimeRange(
-            userId, start, end, PageRequest.of(0, 100));
-
-        List<AuditEvent> events = userEvents.getContent();
-
-        long phiAccessCount = events.stream()
-            .filter(e -> e.isPhiAccess())
-            .count();
-
-        long modificationCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.UPDATE ||
-                        e.getAction() == AuditAction.CREATE ||
-                        e.getAction() == AuditAction.DELETE)
-            .count();
-
-        long exportCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.EXPORT ||
-                        e.getAction() == AuditAction.DOWNLOAD ||
-                        e.getAction() == AuditAction.PRINT)
-            .count();
+        UserActivityCounts counts = auditSummaryRepository.countUserActivity(userId, start, end, PHI_CATEGORIES);
+        List<AuditEvent> recent = auditEventRepository
+            .findByUserIdAndEventTimestampBetweenOrderByEventTimestampDesc(userId, start, end, Limit.of(10));
 
-        long loginCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.LOGIN)
-            .count();
-
-        long failedLoginCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.LOGIN_FAILED)
-            .count();
-
-        long deniedCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.ACCESS_DENIED)
-            .count();
-
-        long uniquePatients = events.stream()
-            .filter(e -> e.getPatientId() != null)
-            .map(AuditEvent::getPatientId)
-            .distinct()
-            .count();
-
-        long uniqueResources = events.stream()
-            .filter(e -> e.getResourceId() != null)
-            .map(AuditEvent::getResourceId)
-            .distinct()
-            .count();
-
-        String username = events.isEmpty() ? null : events.get(0).getUsername();
-        String userRole = events.isEmpty() ? null : events.get(0).getUserRole();
-
-        List<AuditEventSummary> recentEvents = events.stream()
-            .limit(10)
-            .map(AuditEventSummary::from)
-            .toList();
+        String username = recent.isEmpty() ? null : recent.get(0).getUsername();
+        String userRole = recent.isEmpty() ? null : recent.get(0).getUserRole();
 
         boolean anomalous = hasAnomalousActivity(userId, Instant.now().minus(1, ChronoUnit.HOURS));
 
@@ -290,18 +314,18 @@ public class AuditServiceImpl implements AuditService {
             .userRole(userRole)
             .periodStart(start)
             .periodEnd(end)
-            .totalEvents(userEvents.getTotalElements())
-            .phiAccessCount(phiAccessCount)
-            .modificationCount(modificationCount)
-            .exportCount(exportCount)
-            .loginCount(loginCount)
-            .failedLoginCount(failedLoginCount)
-            .uniquePatientsAccessed(uniquePatients)
-            .uniqueRecordsAccessed(uniqueResources)
-            .afterHoursAccessCount(0)
-            .deniedAccessCount(deniedCount)
+            .totalEvents(counts.totalEvents())
+            .phiAccessCount(counts.phiAccessCount())
+            .modificationCount(counts.modificationCount())
+            .exportCount(counts.exportCount())
+            .loginCount(counts.loginCount())
+            .failedLoginCount(counts.failedLoginCount())
+            .uniquePatientsAccessed(counts.uniquePatients())
+            .uniqueRecordsAccessed(counts.uniqueResources())
+            .afterHoursAccessCount(counts.afterHoursAccessCount())
+            .deniedAccessCount(counts.deniedAccessCount())
             .hasAnomalousActivity(anomalous)
-            .recentEvents(recentEvents)
+            .recentEvents(recent.stream().map(AuditEventSummary::from).toList())
             .build();
     }
 
@@ -310,42 +334,10 @@ public class AuditServiceImpl implements AuditService {
         Instant start = startTime != null ? startTime : Instant.now().minus(365, ChronoUnit.DAYS);
         Instant end = endTime != null ? endTime : Instant.now();
 
-        Page<AuditEvent> patientEvents = auditEventRepository.findByPatientIdAndTimeRange(
-            patientId, start, end, PageRequest.of(0, 1000));
-
-        List<AuditEvent> events = patientEvents.getContent();
-
-        long viewCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.VIEW || e.getAction() == AuditAction.READ)
-            .count();
-
-        long modificationCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.UPDATE ||
-                        e.getAction() == AuditAction.CREATE ||
-                        e.getAction() == AuditAction.DELETE)
-            .count();
-
-        long exportCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.EXPORT ||
-                        e.getAction() == AuditAction.DOWNLOAD)
-            .count();
-
-        long printCount = events.stream()
-            .filter(e -> e.getAction() == AuditAction.PRINT)
-            .count();
-
-        Set<UUID> uniqueAccessors = events.stream()
-            .map(AuditEvent::getUserId)
-            .collect(Collectors.toSet());
-
-        List<String> accessorRoles = events.stream()
-            .map(AuditEvent::getUserRole)
-            .filter(Objects::nonNull)
-            .distinct()
-            .toList();
-
-        List<AuditEventSummary> accessEvents = events.stream()
-            .limit(100)
+        PatientAccessCounts counts = auditSummaryRepository.countPatientAccess(patientId, start, end);
+        List<AuditEventSummary> accessEvents = auditEventRepository
+            .findPatientAccess(patientId, start, end, 100)
+            .stream()
             .map(AuditEventSummary::from)
             .toList();
 
@@ -353,26 +345,30 @@ public class AuditServiceImpl implements AuditService {
             .patientId(patientId)
             .periodStart(start)
             .periodEnd(end)
-            .totalAccessCount(patientEvents.getTotalElements())
-            .viewCount(viewCount)
-            .modificationCount(modificationCount)
-            .exportCount(exportCount)
-            .printCount(printCount)
-            .uniqueAccessorCount(uniqueAccessors.size())
-            .accessorRoles(accessorRoles)
+            .totalAccessCount(counts.totalAccessCount())
+            .viewCount(counts.viewCount())
+            .modificationCount(counts.modificationCount())
+            .exportCount(counts.exportCount())
+            .printCount(counts.printCount())
+            .uniqueAccessorCount(counts.uniqueAccessorCount())
+            .accessorRoles(counts.accessorRoles())
             .accessEvents(accessEvents)
             .build();
     }
 
     @Override
     public boolean hasAnomalousActivity(UUID userId, Instant since) {
+        if (anomalyDetectionService.covers(since)) {
+            return anomalyDetectionService.hasAnomalousActivity(userId, since);
+        }
+
         long eventCount = auditEventRepository.countUserEventsSince(userId, since);
         long phiAccessCount = auditEventRepository.countUserPhiAccessSince(userId, PHI_CATEGORIES, since);
         long failedLogins = auditEventRepository.countUserActionSince(userId, AuditAction.LOGIN_FAILED, since);
 
-        return eventCount > EVENT_THRESHOLD_PER_HOUR ||
-               phiAccessCount > PHI_ACCESS_THRESHOLD_PER_HOUR ||
-               failedLogins > FAILED_LOGIN_THRESHOLD;
+        return eventCount > anomalyProperties.eventThreshold() ||
+               phiAccessCount > anomalyProperties.phiAccessThreshold() ||
+               failedLogins > anomalyProperties.failedLoginThreshold();
     }
 
     @Override
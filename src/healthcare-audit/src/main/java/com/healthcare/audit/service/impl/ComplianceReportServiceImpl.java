@@ -3,10 +3,11 @@ package com.healthcare.audit.service.impl;
 import com.healthcare.audit.api.dto.ComplianceReportResponse;
 import com.healthcare.audit.domain.*;
 import com.healthcare.audit.repository.AuditEventRepository;
+import com.healthcare.audit.service.AuditCounts;
+import com.healthcare.audit.service.AuditRollupService;
 import com.healthcare.audit.service.ComplianceReportService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,28 +37,31 @@ public class ComplianceReportServiceImpl implements ComplianceReportService {
     );
 
     private final AuditEventRepository auditEventRepository;
+    private final AuditRollupService auditRollupService;
 
-    public ComplianceReportServiceImpl(AuditEventRepository auditEventRepository) {
+    public ComplianceReportServiceImpl(AuditEventRepository auditEventRepository,
+                                       AuditRollupService auditRollupService) {
         this.auditEventRepository = auditEventRepository;
+        this.auditRollupService = auditRollupService;
     }
 
     @Override
     public ComplianceReportResponse generateHipaaReport(Instant startTime, Instant endTime) {
         log.info("Generating HIPAA compliance report from {} to {}", startTime, endTime);
 
-        Map<String, Long> eventsByCategory = getEventsByCategory(startTime, endTime);
-        Map<String, Long> eventsByAction = getEventsByAction(startTime, endTime);
-        Map<String, Long> eventsByOutcome = getEventsByOutcome(startTime, endTime);
-        Map<String, Long> eventsBySeverity = getEventsBySeverity(startTime, endTime);
+        AuditCounts counts = auditRollupService.summarize(startTime, endTime);
+        Map<String, Long> eventsByCategory = counts.eventsByCategory();
+        Map<String, Long> eventsByAction = counts.eventsByAction();
+        Map<String, Long> eventsByOutcome = counts.eventsByOutcome();
+        Map<String, Long> eventsBySeverity = counts.eventsBySeverity();
 
-        long totalEvents = eventsByCategory.values().stream().mapToLong(Long::longValue).sum();
-        long phiAccessEvents = auditEventRepository.countPhiAccessInRange(PHI_CATEGORIES, startTime, endTime);
+        long totalEvents = counts.totalEvents();
+        long phiAccessEvents = counts.phiAccessEvents();
         long securityEvents = countSecurityEvents(eventsByAction);
         long failedEvents = countFailedEvents(eventsByOutcome);
         long criticalEvents = eventsBySeverity.getOrDefault("CRITICAL", 0L);
 
-        List<UUID> phiAccessors = auditEventRepository.findUsersWhoAccessedPhi(PHI_CATEGORIES, startTime, endTime);
-        long uniquePhiAccessors = phiAccessors.size();
+        long uniquePhiAccessors = counts.phiAccessByUser().size();
 
         Instant oneHourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
         List<Object[]> highActivityUsers = auditEventRepository.findUsersWithHighActivity(oneHourAgo, 100);
@@ -80,7 +84,7 @@ public class ComplianceReportServiceImpl implements ComplianceReportService {
             .criticalEvents(criticalEvents)
             .uniquePhiAccessors(uniquePhiAccessors)
             .afterHoursAccess(0L)
-            .uniqueUsers(phiAccessors.size())
+            .uniqueUsers(uniquePhiAccessors)
             .topPhiAccessors(Map.of())
             .eventsByCategory(eventsByCategory)
             .eventsByAction(eventsByAction)
@@ -95,9 +99,10 @@ public class ComplianceReportServiceImpl implements ComplianceReportService {
     public ComplianceReportResponse generateSecurityReport(Instant startTime, Instant endTime) {
         log.info("Generating security audit report from {} to {}", startTime, endTime);
 
-        Map<String, Long> eventsByAction = getEventsByAction(startTime, endTime);
-        Map<String, Long> eventsByOutcome = getEventsByOutcome(startTime, endTime);
-        Map<String, Long> eventsBySeverity = getEventsBySeverity(startTime, endTime);
+        AuditCounts counts = auditRollupService.summarize(startTime, endTime);
+        Map<String, Long> eventsByAction = counts.eventsByAction();
+        Map<String, Long> eventsByOutcome = counts.eventsByOutcome();
+        Map<String, Long> eventsBySeverity = counts.eventsBySeverity();
 
         long securityEvents = countSecurityEvents(eventsByAction);
         long failedEvents = countFailedEvents(eventsByOutcome);
@@ -121,10 +126,11 @@ public class ComplianceReportServiceImpl implements ComplianceReportService {
     public ComplianceReportResponse generatePhiAccessReport(Instant startTime, Instant endTime) {
         log.info("Generating PHI access report from {} to {}", startTime, endTime);
 
-        long phiAccessEvents = auditEventRepository.countPhiAccessInRange(PHI_CATEGORIES, startTime, endTime);
-        List<UUID> phiAccessors = auditEventRepository.findUsersWhoAccessedPhi(PHI_CATEGORIES, startTime, endTime);
+        AuditCounts counts = auditRollupService.summarize(startTime, endTime);
+        long phiAccessEvents = counts.phiAccessEvents();
+        long uniquePhiAccessors = counts.phiAccessByUser().size();
 
-        Map<String, Long> eventsByCategory = getEventsByCategory(startTime, endTime);
+        Map<String, Long> eventsByCategory = counts.eventsByCategory();
         Map<String, Long> phiCategoryCounts = eventsByCategory.entrySet().stream()
             .filter(e -> PHI_CATEGORIES.stream()
                 .anyMatch(cat -> cat.name().equals(e.getKey())))
@@ -137,8 +143,8 @@ public class ComplianceReportServiceImpl implements ComplianceReportService {
             .generatedAt(Instant.now())
             .totalEvents(phiAccessEvents)
             .phiAccessEvents(phiAccessEvents)
-            .uniquePhiAccessors(phiAccessors.size())
-            .uniqueUsers(phiAccessors.size())
+            .uniquePhiAccessors(uniquePhiAccessors)
+            .uniqueUsers(uniquePhiAccessors)
             .eventsByCategory(phiCategoryCounts)
             .build();
     }
@@ -171,38 +177,6 @@ public class ComplianceReportServiceImpl implements ComplianceReportService {
         return generateHipaaReport(startTime, endTime);
     }
 
-    private Map<String, Long> getEventsByCategory(Instant startTime, Instant endTime) {
-        return auditEventRepository.countByResourceCategory(startTime, endTime).stream()
-            .collect(Collectors.toMap(
-                row -> ((ResourceCategory) row[0]).name(),
-                row -> (Long) row[1]
-            ));
-    }
-
-    private Map<String, Long> getEventsByAction(Instant startTime, Instant endTime) {
-        return auditEventRepository.countByAction(startTime, endTime).stream()
-            .collect(Collectors.toMap(
-                row -> ((AuditAction) row[0]).name(),
-                row -> (Long) row[1]
-            ));
-    }
-
-    private Map<String, Long> getEventsByOutcome(Instant startTime, Instant endTime) {
-        return auditEventRepository.countByOutcome(startTime, endTime).stream()
-            .collect(Collectors.toMap(
-                row -> ((AuditOutcome) row[0]).name(),
-                row -> (Long) row[1]
-            ));
-    }
-
-    private Map<String, Long> getEventsBySeverity(Instant startTime, Instant endTime) {
-        return auditEventRepository.countBySeverity(startTime, endTime).stream()
-            .collect(Collectors.toMap(
-                row -> ((AuditSeverity) row[0]).name(),
-                row -> (Long) row[1]
-            ));
-    }
-
     private long countSecurityEvents(Map<String, Long> eventsByAction) {
         return SECURITY_ACTIONS.stream()
             .mapToLong(action -> eventsByAction.getOrDefault(action.name(), 0L))
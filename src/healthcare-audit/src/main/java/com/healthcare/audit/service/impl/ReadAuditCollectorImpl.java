@@ -0,0 +1,135 @@
+package com.healthcare.audit.service.impl;
+
+import com.healthcare.audit.domain.*;
+import com.healthcare.audit.service.AuditContextProvider;
+import com.healthcare.audit.service.AuditService;
+import com.healthcare.audit.service.ReadAuditCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.*;
+
+@Component
+public class ReadAuditCollectorImpl implements ReadAuditCollector {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadAuditCollectorImpl.class);
+
+    private static final String ATTRIBUTE_NAME = ReadAuditCollectorImpl.class.getName() + ".READS";
+
+    private final AuditService auditService;
+    private final AuditContextProvider contextProvider;
+
+    public ReadAuditCollectorImpl(AuditService auditService, AuditContextProvider contextProvider) {
+        this.auditService = auditService;
+        this.contextProvider = contextProvider;
+    }
+
+    @Override
+    public boolean recordRead(ResourceCategory category, String resourceType, UUID resourceId, UUID patientId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+
+        RequestReads reads = (RequestReads) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (reads == null) {
+            RequestReads created = new RequestReads();
+            attributes.setAttribute(ATTRIBUTE_NAME, created, RequestAttributes.SCOPE_REQUEST);
+            attributes.registerDestructionCallback(ATTRIBUTE_NAME, () -> flush(created),
+                RequestAttributes.SCOPE_REQUEST);
+            reads = created;
+        }
+
+        reads.add(category, resourceType, resourceId, patientId, contextProvider);
+        return true;
+    }
+
+    private void flush(RequestReads reads) {
+        for (PatientReads patientReads : reads.drain()) {
+            try {
+                auditService.logEvent(patientReads.toEvent());
+            } catch (Exception e) {
+                log.warn("Failed to log aggregated read audit for {} of patient {}: {}",
+                    patientReads.category, patientReads.patientId, e.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Reads are aggregated per category and patient, so every event carries
+     * its patient_id and the patient audit trail and access history find it.
+     * A patient-category record with no patient of its own is the patient
+     * record itself and is grouped under its own id. Reads with no patient
+     * share one event per category. A single record goes in resource_id;
+     * several go in resource_ids, which the resource audit trail searches
+     * as well.
+     */
+    private static final class RequestReads {
+
+        private final Map<ReadKey, PatientReads> byPatient = new LinkedHashMap<>();
+
+        synchronized void add(ResourceCategory category, String resourceType, UUID resourceId,
+                              UUID patientId, AuditContextProvider contextProvider) {
+            UUID owner = patientId == null && category == ResourceCategory.PATIENT ? resourceId : patientId;
+            byPatient
+                .computeIfAbsent(new ReadKey(category, owner),
+                    key -> new PatientReads(category, owner, contextProvider.createEventBuilder()))
+                .add(resourceType, resourceId);
+        }
+
+        synchronized List<PatientReads> drain() {
+            List<PatientReads> drained = new ArrayList<>(byPatient.values());
+            byPatient.clear();
+            return drained;
+        }
+    }
+
+    private record ReadKey(ResourceCategory category, UUID patientId) {}
+
+    private static final class PatientReads {
+
+        private final ResourceCategory category;
+        private final UUID patientId;
+        private final AuditEvent.Builder builder;
+        private final Set<String> resourceTypes = new LinkedHashSet<>();
+        private final Set<UUID> resourceIds = new LinkedHashSet<>();
+        private int readCount;
+
+        PatientReads(ResourceCategory category, UUID patientId, AuditEvent.Builder builder) {
+            this.category = category;
+            this.patientId = patientId;
+            this.builder = builder;
+        }
+
+        void add(String resourceType, UUID resourceId) {
+            readCount++;
+            if (resourceType != null) {
+                resourceTypes.add(resourceType);
+            }
+            if (resourceId != null) {
+                resourceIds.add(resourceId);
+            }
+        }
+
+        AuditEvent.Builder toEvent() {
+            return builder
+                .action(AuditAction.READ)
+                .outcome(AuditOutcome.SUCCESS)
+                .resourceCategory(category)
+                .resourceId(resourceIds.size() == 1 ? resourceIds.iterator().next() : null)
+                .resourceIds(resourceIds.size() > 1 ? resourceIds : null)
+                .patientId(patientId)
+                .resourceType(resourceTypes.size() == 1 ? resourceTypes.iterator().next() : null)
+                .description(String.format("%s %d %s record(s)",
+                    AuditAction.READ.getDescription(), resourceIds.size(), category))
+                .metadata(toMetadata());
+        }
+
+        private String toMetadata() {
+            return "{\"readCount\":" + readCount + "}";
+        }
+    }
+}
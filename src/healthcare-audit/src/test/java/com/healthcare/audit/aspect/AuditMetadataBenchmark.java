@@ -0,0 +1,122 @@
+package com.healthcare.audit.aspect;
+
+import com.healthcare.audit.domain.Audited;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity id and patient id extraction: {@link AuditMetadataRegistry} against
+ * the per-call {@code getMethod}/{@code invoke} lookups it replaced. The
+ * encounter has no {@code getPatientId}, so the reflective path pays for a
+ * thrown {@link NoSuchMethodException} before falling back to
+ * {@code getPatient}.
+ * <p>
+ * {@code mvn -Pbenchmark -pl healthcare-audit -am test-compile}, then run
+ * {@link #main} with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditMetadataBenchmark {
+
+    @Audited
+    public static class Patient {
+        private final UUID id = UUID.randomUUID();
+
+        public UUID getId() { return id; }
+        public UUID getPatientId() { return id; }
+    }
+
+    @Audited
+    public static class Encounter {
+        private final UUID id = UUID.randomUUID();
+        private final Patient patient = new Patient();
+
+        public UUID getId() { return id; }
+        public Patient getPatient() { return patient; }
+    }
+
+    private final Patient patient = new Patient();
+    private final Encounter encounter = new Encounter();
+
+    @Benchmark
+    public UUID registryPatient() {
+        AuditMetadataRegistry.forClass(patient.getClass()).isAudited();
+        AuditMetadataRegistry.extractId(patient);
+        return AuditMetadataRegistry.extractPatientId(patient);
+    }
+
+    @Benchmark
+    public UUID registryEncounter() {
+        AuditMetadataRegistry.forClass(encounter.getClass()).isAudited();
+        AuditMetadataRegistry.extractId(encounter);
+        return AuditMetadataRegistry.extractPatientId(encounter);
+    }
+
+    @Benchmark
+    public UUID reflectivePatient() {
+        patient.getClass().getAnnotation(Audited.class);
+        reflectiveId(patient);
+        return reflectivePatientId(patient);
+    }
+
+    @Benchmark
+    public UUID reflectiveEncounter() {
+        encounter.getClass().getAnnotation(Audited.class);
+        reflectiveId(encounter);
+        return reflectivePatientId(encounter);
+    }
+
+    private static UUID reflectiveId(Object entity) {
+        try {
+            Method getIdMethod = entity.getClass().getMethod("getId");
+            Object id = getIdMethod.invoke(entity);
+            if (id instanceof UUID) {
+                return (UUID) id;
+            }
+        } catch (Exception e) {
+            // as before: ignored
+        }
+        return null;
+    }
+
+    private static UUID reflectivePatientId(Object entity) {
+        for (String methodName : new String[] {"getPatientId", "getPatient"}) {
+            try {
+                Object result = entity.getClass().getMethod(methodName).invoke(entity);
+                if (result instanceof UUID) {
+                    return (UUID) result;
+                }
+                if (result != null) {
+                    return reflectiveId(result);
+                }
+            } catch (Exception e) {
+                // as before: ignored
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(AuditMetadataBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,101 @@
+package com.healthcare.audit.service.impl;
+
+import com.healthcare.audit.domain.AuditEvent;
+import com.healthcare.audit.domain.ResourceCategory;
+import com.healthcare.audit.service.AuditContextProvider;
+import com.healthcare.audit.service.AuditService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadAuditCollectorImplTest {
+
+    private final AuditService auditService = mock(AuditService.class);
+    private final AuditContextProvider contextProvider = mock(AuditContextProvider.class);
+    private final ReadAuditCollectorImpl collector = new ReadAuditCollectorImpl(auditService, contextProvider);
+
+    private ServletRequestAttributes request;
+
+    @BeforeEach
+    void setUp() {
+        when(contextProvider.createEventBuilder())
+            .thenAnswer(invocation -> AuditEvent.builder().userId(UUID.randomUUID()));
+        request = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(request);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void severalRecordsOfOnePatientAreListedInResourceIds() {
+        UUID patientId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        collector.recordRead(ResourceCategory.MEDICAL_RECORD, "MedicalRecord", first, patientId);
+        collector.recordRead(ResourceCategory.MEDICAL_RECORD, "MedicalRecord", second, patientId);
+        collector.recordRead(ResourceCategory.MEDICAL_RECORD, "MedicalRecord", first, patientId);
+        List<AuditEvent> events = complete(1);
+
+        AuditEvent event = events.get(0);
+        assertThat(event.getPatientId()).isEqualTo(patientId);
+        assertThat(event.getResourceId()).isNull();
+        assertThat(event.getResourceIds()).containsExactly(first, second);
+        assertThat(event.getMetadata()).isEqualTo("{\"readCount\":3}");
+    }
+
+    @Test
+    void singleRecordStaysInResourceId() {
+        UUID patientId = UUID.randomUUID();
+        UUID recordId = UUID.randomUUID();
+
+        collector.recordRead(ResourceCategory.MEDICAL_RECORD, "MedicalRecord", recordId, patientId);
+        AuditEvent event = complete(1).get(0);
+
+        assertThat(event.getResourceId()).isEqualTo(recordId);
+        assertThat(event.getResourceIds()).isEmpty();
+    }
+
+    @Test
+    void patientListBecomesOneEventPerPatient() {
+        UUID jane = UUID.randomUUID();
+        UUID john = UUID.randomUUID();
+
+        collector.recordRead(ResourceCategory.PATIENT, "Patient", jane, null);
+        collector.recordRead(ResourceCategory.PATIENT, "Patient", john, null);
+        List<AuditEvent> events = complete(2);
+
+        assertThat(events).extracting(AuditEvent::getPatientId).containsExactlyInAnyOrder(jane, john);
+        assertThat(events).allSatisfy(event -> assertThat(event.getResourceId()).isEqualTo(event.getPatientId()));
+    }
+
+    @Test
+    void nothingIsCollectedOutsideARequest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        assertThat(collector.recordRead(ResourceCategory.PATIENT, "Patient", UUID.randomUUID(), null)).isFalse();
+    }
+
+    private List<AuditEvent> complete(int expectedEvents) {
+        request.requestCompleted();
+        ArgumentCaptor<AuditEvent.Builder> builders = ArgumentCaptor.forClass(AuditEvent.Builder.class);
+        verify(auditService, times(expectedEvents)).logEvent(builders.capture());
+        return builders.getAllValues().stream().map(AuditEvent.Builder::build).toList();
+    }
+}
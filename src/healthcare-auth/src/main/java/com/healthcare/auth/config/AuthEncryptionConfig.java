@@ -0,0 +1,19 @@
+package com.healthcare.auth.config;
+
+import com.healthcare.common.crypto.EncryptedColumn;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AuthEncryptionConfig {
+
+    @Bean
+    public EncryptedColumn userMfaSecretColumn() {
+        return new EncryptedColumn("users", "mfa_secret");
+    }
+
+    @Bean
+    public EncryptedColumn mfaBackupCodeColumn() {
+        return new EncryptedColumn("mfa_backup_codes", "code_hash");
+    }
+}
@@ -1,6 +1,8 @@
 package com.healthcare.auth.config;
 
 import com.healthcare.auth.domain.User;
+import com.healthcare.auth.repository.SessionTokenRepository.RefreshGrant;
+import io.jsonwebtoken.Claims;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -8,6 +10,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -40,6 +43,42 @@ public class AuthenticatedUser implements UserDetails {
         this.providerId = user.getProviderId();
     }
 
+    public AuthenticatedUser(RefreshGrant grant) {
+        this.id = grant.userId();
+        this.username = grant.username();
+        this.email = grant.email();
+        this.password = null;
+        this.enabled = grant.canLogin();
+        this.accountNonLocked = !grant.isLocked();
+        this.credentialsNonExpired = !grant.mustChangePassword();
+        this.roles = grant.roles();
+        this.permissions = grant.permissions();
+        this.patientId = grant.patientId();
+        this.providerId = grant.providerId();
+    }
+
+    private AuthenticatedUser(Claims claims) {
+        this.id = UUID.fromString(claims.get("userId", String.class));
+        this.username = claims.getSubject();
+        this.email = claims.get("email", String.class);
+        this.password = null;
+        this.enabled = true;
+        this.accountNonLocked = true;
+        this.credentialsNonExpired = true;
+        this.roles = stringSet(claims.get("roles", List.class));
+        this.permissions = stringSet(claims.get("permissions", List.class));
+        this.patientId = uuidOrNull(claims.get("patientId", String.class));
+        this.providerId = uuidOrNull(claims.get("providerId", String.class));
+    }
+
+    /**
+     * Principal for a verified access token. Carries no password; account
+     * status is checked separately by {@link UserAccessCache}.
+     */
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        return new AuthenticatedUser(claims);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Set<GrantedAuthority> authorities = new HashSet<>();
@@ -104,4 +143,19 @@ public class AuthenticatedUser implements UserDetails {
     public boolean isProvider() {
         return providerId != null;
     }
+
+    private static Set<String> stringSet(List<?> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        Set<String> result = new HashSet<>(values.size());
+        for (Object value : values) {
+            result.add(String.valueOf(value));
+        }
+        return Set.copyOf(result);
+    }
+
+    private static UUID uuidOrNull(String value) {
+        return value != null ? UUID.fromString(value) : null;
+    }
 }
@@ -0,0 +1,151 @@
+package com.healthcare.auth.config;
+
+import com.healthcare.auth.exception.PasswordHashingBusyException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing on virtual threads behind a fixed number of permits,
+ * so a login spike can use at most {@code maxConcurrency} cores for hashing.
+ * A caller that cannot get a permit within the acquire timeout is rejected
+ * with {@link PasswordHashingBusyException} rather than queued.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrency, Duration acquireTimeout) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrency);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Whether {@code rawPassword} matches any of {@code encodedPasswords}.
+     * Checks run in parallel on as many permits as are free right now (at
+     * least one) and stop at the first match.
+     */
+    public boolean matchesAny(CharSequence rawPassword, List<String> encodedPasswords) {
+        if (encodedPasswords.isEmpty()) {
+            return false;
+        }
+        acquire();
+        int workers = 1;
+        while (workers < encodedPasswords.size() && permits.tryAcquire()) {
+            workers++;
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean found = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>(workers);
+        int submitted = 0;
+        try {
+            for (; submitted < workers; submitted++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        int i;
+                        while (!found.get() && (i = next.getAndIncrement()) < encodedPasswords.size()) {
+                            if (delegate.matches(rawPassword, encodedPasswords.get(i))) {
+                                found.set(true);
+                            }
+                        }
+                        return null;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            permits.release(workers - submitted);
+            throw e;
+        }
+        for (Future<?> future : futures) {
+            await(future);
+        }
+        return found.get();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T call(Callable<T> task) {
+        acquire();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return task.call();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+        return await(future);
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new PasswordHashingBusyException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
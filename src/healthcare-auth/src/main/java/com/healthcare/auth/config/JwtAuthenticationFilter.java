@@ -1,5 +1,6 @@
 package com.healthcare.auth.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +17,14 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Authenticates requests from the bearer access token. The token is verified
+ * once and the principal is built from its claims; the database is only
+ * consulted when the user's roles changed after the token was issued.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -27,6 +35,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserAccessCache userAccessCache;
 
     @Override
     protected void doFilterInternal(
@@ -38,27 +47,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-
-                if (jwtTokenProvider.isAccessToken(jwt)) {
-                    String username = jwtTokenProvider.getUsername(jwt);
-
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                    UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                        );
-
-                    authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                    log.debug("Set authentication for user: {}", username);
+            if (StringUtils.hasText(jwt)) {
+                Optional<Claims> claims = jwtTokenProvider.parseAccessToken(jwt);
+                if (claims.isPresent()) {
+                    authenticate(claims.get(), request);
                 }
             }
         } catch (Exception e) {
@@ -68,6 +60,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(Claims claims, HttpServletRequest request) {
+        AuthenticatedUser principal = AuthenticatedUser.fromClaims(claims);
+
+        if (!userAccessCache.isAccessAllowed(principal.getId())) {
+            log.debug("Rejected token for inactive or locked user: {}", principal.getId());
+            return;
+        }
+
+        UserDetails userDetails = principal;
+        Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+        if (userAccessCache.authoritiesChangedSince(principal.getId(), issuedAt)) {
+            userDetails = userDetailsService.loadUserByUsername(principal.getUsername());
+        }
+
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+            );
+
+        authentication.setDetails(
+            new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        log.debug("Set authentication for user: {}", principal.getUsername());
+    }
+
     private String extractJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
 
@@ -2,12 +2,13 @@ package com.healthcare.auth.config;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -17,15 +18,26 @@ import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+            .verifyWith(signingKey)
+            .requireIssuer(jwtProperties.issuer())
+            .build();
+    }
 
     public String generateAccessToken(AuthenticatedUser user) {
         Instant now = Instant.now();
@@ -51,7 +63,7 @@ public class JwtTokenProvider {
             .issuer(jwtProperties.issuer())
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiry))
-            .signWith(getSigningKey())
+            .signWith(signingKey)
             .compact();
     }
 
@@ -70,26 +82,27 @@ public class JwtTokenProvider {
             .issuer(jwtProperties.issuer())
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiry))
-            .signWith(getSigningKey())
+            .signWith(signingKey)
             .compact();
     }
 
     public boolean validateToken(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (SignatureException e) {
-            log.warn("Invalid JWT signature");
-        } catch (MalformedJwtException e) {
-            log.warn("Invalid JWT token");
-        } catch (ExpiredJwtException e) {
-            log.warn("Expired JWT token");
-        } catch (UnsupportedJwtException e) {
-            log.warn("Unsupported JWT token");
-        } catch (IllegalArgumentException e) {
-            log.warn("JWT claims string is empty");
-        }
-        return false;
+        return parseVerified(token).isPresent();
+    }
+
+    /**
+     * Verifies {@code token} once and returns its claims if it is a valid
+     * access token, so callers don't re-parse it for each claim they read.
+     */
+    public Optional<Claims> parseAccessToken(String token) {
+        return parseVerified(token)
+            .filter(claims -> "access".equals(claims.get("type", String.class)));
+    }
+
+    /** Verifies {@code token} once and returns its claims if it is a valid refresh token. */
+    public Optional<Claims> parseRefreshToken(String token) {
+        return parseVerified(token)
+            .filter(claims -> "refresh".equals(claims.get("type", String.class)));
     }
 
     public String getUsername(String token) {
@@ -135,17 +148,26 @@ public class JwtTokenProvider {
         return Instant.now().plusSeconds(jwtProperties.refreshTokenExpiration());
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .requireIssuer(jwtProperties.issuer())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    private Optional<Claims> parseVerified(String token) {
+        try {
+            return Optional.of(getClaims(token));
+        } catch (SignatureException e) {
+            log.warn("Invalid JWT signature");
+        } catch (MalformedJwtException e) {
+            log.warn("Invalid JWT token");
+        } catch (ExpiredJwtException e) {
+            log.warn("Expired JWT token");
+        } catch (UnsupportedJwtException e) {
+            log.warn("Unsupported JWT token");
+        } catch (IllegalArgumentException e) {
+            log.warn("JWT claims string is empty");
+        } catch (JwtException e) {
+            log.warn("Invalid JWT token: {}", e.getClass().getSimpleName());
+        }
+        return Optional.empty();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.secret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Claims getClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,27 @@
+package com.healthcare.auth.config;
+
+import com.healthcare.auth.service.LoginThrottle;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@EnableConfigurationProperties(LoginThrottleProperties.class)
+public class LoginThrottleConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "healthcare.security.login-throttle", name = "replicate", havingValue = "true")
+    public RedisMessageListenerContainer loginThrottleListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            LoginThrottle loginThrottle,
+            LoginThrottleProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(loginThrottle, new ChannelTopic(properties.channel()));
+        return container;
+    }
+}
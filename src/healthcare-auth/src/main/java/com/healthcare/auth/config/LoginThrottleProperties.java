@@ -0,0 +1,66 @@
+package com.healthcare.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Login throttling thresholds. Failures are counted per client IP and per
+ * username over {@code window}; from {@code captchaThreshold} failures on a
+ * username each further attempt must wait {@code backoffBase}, doubling per
+ * failure up to {@code backoffMax}.
+ */
+@ConfigurationProperties(prefix = "healthcare.security.login-throttle")
+@Validated
+public record LoginThrottleProperties(
+    int maxIpFailures,
+    int maxUsernameFailures,
+    int captchaThreshold,
+    Duration window,
+    Duration backoffBase,
+    Duration backoffMax,
+    long maximumKeys,
+    boolean replicate,
+    String channel,
+    int persistBatchSize,
+    int persistQueueCapacity
+) {
+
+    public LoginThrottleProperties {
+        if (maxIpFailures <= 0) {
+            maxIpFailures = 20;
+        }
+        if (maxUsernameFailures <= 0) {
+            maxUsernameFailures = 5;
+        }
+        if (captchaThreshold <= 0) {
+            captchaThreshold = 3;
+        }
+        if (window == null || window.toMinutes() < 1) {
+            window = Duration.ofMinutes(15);
+        }
+        if (backoffBase == null) {
+            backoffBase = Duration.ofSeconds(1);
+        }
+        if (backoffMax == null) {
+            backoffMax = Duration.ofMinutes(5);
+        }
+        if (maximumKeys <= 0) {
+            maximumKeys = 100_000;
+        }
+        if (channel == null || channel.isBlank()) {
+            channel = "healthcare:login-failures";
+        }
+        if (persistBatchSize <= 0) {
+            persistBatchSize = 500;
+        }
+        if (persistQueueCapacity <= 0) {
+            persistQueueCapacity = 10_000;
+        }
+    }
+
+    public int windowMinutes() {
+        return (int) window.toMinutes();
+    }
+}
@@ -0,0 +1,70 @@
+package com.healthcare.auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * New hashes are {@code {argon2}}-prefixed Argon2id. Existing unprefixed
+ * BCrypt hashes still verify and report {@code upgradeEncoding}, so they are
+ * replaced on the user's next successful login.
+ */
+@Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+@Slf4j
+public class PasswordHashingConfig {
+
+    private static final String ARGON2 = "argon2";
+    private static final String BCRYPT = "bcrypt";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(12);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(ARGON2, Map.of(
+            ARGON2, calibratedArgon2(properties),
+            BCRYPT, bcrypt
+        ));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(encoder, properties.maxConcurrency(), properties.acquireTimeout());
+    }
+
+    private static PasswordEncoder calibratedArgon2(PasswordHashingProperties properties) {
+        int iterations = properties.iterations();
+        Argon2PasswordEncoder encoder = argon2(properties, iterations);
+        Duration target = properties.targetLatency();
+        if (target == null) {
+            return encoder;
+        }
+
+        encoder.encode("calibration-warmup");
+        while (iterations < properties.maxIterations()) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            if (Duration.ofNanos(System.nanoTime() - start).compareTo(target) >= 0) {
+                break;
+            }
+            iterations++;
+            encoder = argon2(properties, iterations);
+        }
+
+        log.info("Argon2id calibrated to {} iterations at {} KiB for a {} ms target",
+            iterations, properties.memoryKib(), target.toMillis());
+        return encoder;
+    }
+
+    private static Argon2PasswordEncoder argon2(PasswordHashingProperties properties, int iterations) {
+        return new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, properties.parallelism(),
+            properties.memoryKib(), iterations);
+    }
+}
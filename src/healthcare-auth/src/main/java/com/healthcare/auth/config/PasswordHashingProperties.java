@@ -0,0 +1,46 @@
+package com.healthcare.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Password hashing pool and Argon2id cost. When {@code targetLatency} is set,
+ * iterations are raised at startup until one hash takes at least that long
+ * on this hardware, capped at {@code maxIterations}; stored hashes below the
+ * resulting cost are upgraded on the user's next login.
+ */
+@ConfigurationProperties(prefix = "healthcare.security.password-hashing")
+@Validated
+public record PasswordHashingProperties(
+    int maxConcurrency,
+    Duration acquireTimeout,
+    int memoryKib,
+    int iterations,
+    int parallelism,
+    Duration targetLatency,
+    int maxIterations
+) {
+
+    public PasswordHashingProperties {
+        if (maxConcurrency <= 0) {
+            maxConcurrency = Runtime.getRuntime().availableProcessors();
+        }
+        if (acquireTimeout == null) {
+            acquireTimeout = Duration.ofMillis(200);
+        }
+        if (memoryKib <= 0) {
+            memoryKib = 19_456;
+        }
+        if (iterations <= 0) {
+            iterations = 2;
+        }
+        if (parallelism <= 0) {
+            parallelism = 1;
+        }
+        if (maxIterations < iterations) {
+            maxIterations = Math.max(iterations, 10);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.healthcare.auth.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.auth.domain.UserStatus;
+import com.healthcare.auth.domain.event.AccountStatusChangedEvent;
+import com.healthcare.auth.domain.event.RoleChangedEvent;
+import com.healthcare.auth.domain.event.UserLockedEvent;
+import com.healthcare.auth.repository.RoleRepository;
+import com.healthcare.auth.repository.UserRepository;
+import com.healthcare.common.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Node-local view of whether a user's access tokens may still be honoured.
+ * Account status is read with a single-row query and kept for a short TTL;
+ * lock, status and role events evict the entry as soon as their transaction
+ * completes, so the TTL only bounds staleness when a broadcast is lost.
+ * <p>
+ * A role change also records its timestamp for one access-token lifetime:
+ * tokens issued before it carry stale authorities and must be resolved
+ * against the database instead of their claims. Lock, status and role
+ * changes are broadcast to the other nodes over the
+ * {@link CacheInvalidationBus} when it is configured. Role-permission grants
+ * are edited outside the application, so every node polls a digest of
+ * {@code role_permissions}; a change makes all tokens issued before it
+ * resolve against the database.
+ */
+@Component
+@Slf4j
+public class UserAccessCache {
+
+    private static final Duration STATUS_TTL = Duration.ofSeconds(30);
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private static final AccessState NO_ACCESS = new AccessState(false, null);
+
+    private static final String AUTHORITIES_TOPIC = "auth.authorities-changed";
+    private static final String ACCESS_STATE_TOPIC = "auth.access-state-changed";
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<UUID, AccessState> states;
+    private final Cache<UUID, Instant> authoritiesChangedAt;
+
+    private volatile String permissionFingerprint;
+    private volatile Instant permissionsChangedAt;
+
+    public UserAccessCache(UserRepository userRepository,
+                           RoleRepository roleRepository,
+                           JwtProperties jwtProperties,
+                           ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.invalidationBus = invalidationBus.getIfAvailable();
+        this.states = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(STATUS_TTL)
+            .build();
+        this.authoritiesChangedAt = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(Duration.ofSeconds(jwtProperties.accessTokenExpiration()))
+            .build();
+        if (this.invalidationBus != null) {
+            this.invalidationBus.subscribe(AUTHORITIES_TOPIC, this::onRemoteRoleChange);
+            this.invalidationBus.subscribe(ACCESS_STATE_TOPIC, this::onRemoteAccessStateChange);
+        }
+    }
+
+    /** Whether the user exists, is active and is not currently locked out. */
+    public boolean isAccessAllowed(UUID userId) {
+        return states.get(userId, this::load).allowsAccessAt(Instant.now());
+    }
+
+    /** Whether the user's roles changed at or after a token issued at {@code issuedAt}. */
+    public boolean authoritiesChangedSince(UUID userId, Instant issuedAt) {
+        return changedSince(authoritiesChangedAt.getIfPresent(userId), issuedAt)
+            || changedSince(permissionsChangedAt, issuedAt);
+    }
+
+    /** Drops the user's access state on this node and on every other node. */
+    public void evict(UUID userId) {
+        states.invalidate(userId);
+        if (invalidationBus != null) {
+            invalidationBus.broadcast(ACCESS_STATE_TOPIC, userId.toString());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserLocked(UserLockedEvent event) {
+        log.debug("Evicting access state for locked user: {}", event.userId());
+        evict(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        log.debug("Evicting access state for user {} after status change to {}", event.userId(), event.newStatus());
+        evict(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        log.debug("Recording role change for user: {}", event.userId());
+        recordRoleChange(event.userId(), event.changedAt());
+        if (invalidationBus != null) {
+            invalidationBus.broadcast(AUTHORITIES_TOPIC, event.userId() + " " + event.changedAt());
+        }
+    }
+
+    @Scheduled(initialDelay = 30_000, fixedDelay = 30_000)
+    public void checkRolePermissions() {
+        try {
+            String fingerprint = roleRepository.findPermissionFingerprint();
+            String previous = permissionFingerprint;
+            permissionFingerprint = fingerprint;
+            if (previous != null && !previous.equals(fingerprint)) {
+                log.info("Role permissions changed; resolving earlier tokens against the database");
+                permissionsChangedAt = Instant.now();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to check role permissions: {}", e.getMessage());
+        }
+    }
+
+    private void onRemoteRoleChange(String payload) {
+        String[] parts = payload.split(" ", 2);
+        try {
+            recordRoleChange(UUID.fromString(parts[0]), Instant.parse(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed role change broadcast: {}", payload);
+        }
+    }
+
+    private void onRemoteAccessStateChange(String payload) {
+        try {
+            states.invalidate(UUID.fromString(payload));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed access state broadcast: {}", payload);
+        }
+    }
+
+    private void recordRoleChange(UUID userId, Instant changedAt) {
+        authoritiesChangedAt.asMap().merge(userId, changedAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    private static boolean changedSince(Instant changedAt, Instant issuedAt) {
+        return changedAt != null && (issuedAt == null || !issuedAt.isAfter(changedAt));
+    }
+
+    private AccessState load(UUID userId) {
+        return userRepository.findAccessStatusById(userId)
+            .map(status -> new AccessState(status.getStatus() == UserStatus.ACTIVE, status.getLockedUntil()))
+            .orElse(NO_ACCESS);
+    }
+
+    private record AccessState(boolean active, Instant lockedUntil) {
+        boolean allowsAccessAt(Instant now) {
+            return active && (lockedUntil == null || !now.isBefore(lockedUntil));
+        }
+    }
+}
@@ -233,6 +233,11 @@ public class User extends AggregateRoot {
         this.refreshTokens.forEach(RefreshToken::revoke);
     }
 
+    /** Replaces the stored hash of the unchanged password, e.g. after a hashing cost upgrade. */
+    public void rehashPassword(String newPasswordHash) {
+        this.passwordHash = newPasswordHash;
+    }
+
     public void requirePasswordChange() {
         this.mustChangePassword = true;
     }
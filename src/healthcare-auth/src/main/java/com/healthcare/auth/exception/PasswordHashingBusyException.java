@@ -0,0 +1,16 @@
+package com.healthcare.auth.exception;
+
+import com.healthcare.common.exception.HealthcareException;
+
+/**
+ * Thrown when every password hashing permit is taken, so the request is
+ * turned away instead of queueing behind CPU-bound hashes.
+ */
+public class PasswordHashingBusyException extends HealthcareException {
+
+    private static final String ERROR_CODE = "PASSWORD_HASHING_BUSY";
+
+    public PasswordHashingBusyException() {
+        super("Authentication service is busy. Please retry shortly", ERROR_CODE);
+    }
+}
@@ -35,4 +35,9 @@ public interface RoleRepository extends JpaRepository<Role, UUID> {
 
     @Query("SELECT r FROM Role r JOIN r.permissions p WHERE p.name = :permissionName")
     List<Role> findByPermissionName(String permissionName);
+
+    /** Digest of every role-permission grant; changes whenever any role's permissions do. */
+    @Query(value = "SELECT md5(COALESCE(string_agg(role_id || ':' || permission_id, ',' " +
+                   "ORDER BY role_id, permission_id), '')) FROM role_permissions", nativeQuery = true)
+    String findPermissionFingerprint();
 }
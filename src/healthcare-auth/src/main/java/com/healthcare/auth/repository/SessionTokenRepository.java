@@ -0,0 +1,156 @@
+package com.healthcare.auth.repository;
+
+import com.healthcare.auth.domain.UserStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Plain JDBC writes for refresh tokens and sessions that must not hydrate
+ * {@code User} or {@code RefreshToken} entities.
+ * <p>
+ * {@link #rotate} revokes the presented token, inserts its successor, moves
+ * the owning session onto the new hash and reads back what the access token
+ * needs, all in one statement. The conditional UPDATE only matches an
+ * unrevoked, unexpired row, so concurrent refreshes with the same token
+ * cannot both succeed.
+ */
+@Repository
+public class SessionTokenRepository {
+
+    private static final String ROTATE_SQL = """
+        WITH revoked AS (
+            UPDATE refresh_tokens
+            SET revoked = true, revoked_at = :now, updated_at = :now, version = version + 1
+            WHERE token_hash = :oldHash AND revoked = false AND expires_at > :now AND is_deleted = false
+            RETURNING user_id, user_agent, ip_address
+        ), issued AS (
+            INSERT INTO refresh_tokens (id, user_id, token_hash, expires_at, revoked, user_agent, ip_address,
+                                        is_deleted, created_at, updated_at, version)
+            SELECT :newId, user_id, :newHash, :expiresAt, false, user_agent, ip_address, false, :now, :now, 0
+            FROM revoked
+            RETURNING user_id
+        ), moved AS (
+            UPDATE user_sessions
+            SET refresh_token_hash = :newHash, last_activity_at = :now, updated_at = :now
+            WHERE refresh_token_hash = :oldHash AND revoked = false
+        )
+        SELECT u.id, u.username, u.email, u.status, u.locked_until, u.must_change_password,
+               u.patient_id, u.provider_id,
+               ARRAY(SELECT r.name FROM user_roles ur JOIN roles r ON r.id = ur.role_id
+                     WHERE ur.user_id = u.id) AS role_names,
+               ARRAY(SELECT DISTINCT p.name FROM user_roles ur
+                     JOIN role_permissions rp ON rp.role_id = ur.role_id
+                     JOIN permissions p ON p.id = rp.permission_id
+                     WHERE ur.user_id = u.id) AS permission_names
+        FROM issued i
+        JOIN users u ON u.id = i.user_id
+        """;
+
+    private static final String TOUCH_SQL = """
+        UPDATE user_sessions
+        SET last_activity_at = :touchedAt
+        WHERE refresh_token_hash = :tokenHash AND revoked = false AND last_activity_at < :touchedAt
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SessionTokenRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** The owner of a rotated refresh token, as of the rotation. */
+    public record RefreshGrant(
+        UUID userId,
+        String username,
+        String email,
+        UserStatus status,
+        Instant lockedUntil,
+        boolean mustChangePassword,
+        UUID patientId,
+        UUID providerId,
+        Set<String> roles,
+        Set<String> permissions
+    ) {
+        public boolean isLocked() {
+            return lockedUntil != null && Instant.now().isBefore(lockedUntil);
+        }
+
+        public boolean canLogin() {
+            return status == UserStatus.ACTIVE && !isLocked();
+        }
+    }
+
+    /**
+     * Replaces the refresh token hashed as {@code oldHash} with {@code newHash}.
+     * Empty if the old token is unknown, revoked or expired.
+     */
+    public Optional<RefreshGrant> rotate(String oldHash, String newHash, Instant expiresAt, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("oldHash", oldHash)
+            .addValue("newHash", newHash)
+            .addValue("newId", UUID.randomUUID())
+            .addValue("expiresAt", utc(expiresAt))
+            .addValue("now", utc(now));
+
+        List<RefreshGrant> grants = jdbcTemplate.query(ROTATE_SQL, params, (rs, row) -> mapGrant(rs));
+        return grants.stream().findFirst();
+    }
+
+    /** Advances each session's last activity to its touch time; older touches are ignored. */
+    public int[] touchAll(Map<String, Instant> touches) {
+        if (touches.isEmpty()) {
+            return new int[0];
+        }
+        SqlParameterSource[] batch = touches.entrySet().stream()
+            .map(touch -> new MapSqlParameterSource()
+                .addValue("tokenHash", touch.getKey())
+                .addValue("touchedAt", utc(touch.getValue())))
+            .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(TOUCH_SQL, batch);
+    }
+
+    private static RefreshGrant mapGrant(ResultSet rs) throws SQLException {
+        OffsetDateTime lockedUntil = rs.getObject("locked_until", OffsetDateTime.class);
+        return new RefreshGrant(
+            rs.getObject("id", UUID.class),
+            rs.getString("username"),
+            rs.getString("email"),
+            UserStatus.valueOf(rs.getString("status")),
+            lockedUntil != null ? lockedUntil.toInstant() : null,
+            rs.getBoolean("must_change_password"),
+            rs.getObject("patient_id", UUID.class),
+            rs.getObject("provider_id", UUID.class),
+            stringSet(rs.getArray("role_names")),
+            stringSet(rs.getArray("permission_names")));
+    }
+
+    private static Set<String> stringSet(Array array) throws SQLException {
+        if (array == null) {
+            return Set.of();
+        }
+        try {
+            return Set.copyOf(Arrays.asList((String[]) array.getArray()));
+        } finally {
+            array.free();
+        }
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
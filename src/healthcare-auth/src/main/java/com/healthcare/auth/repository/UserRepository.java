@@ -19,6 +19,16 @@ import java.util.UUID;
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
 
+    /** Status columns only, for per-request access checks that must not load roles. */
+    interface AccessStatus {
+        UserStatus getStatus();
+
+        Instant getLockedUntil();
+    }
+
+    @Query("SELECT u.status AS status, u.lockedUntil AS lockedUntil FROM User u WHERE u.id = :id AND u.deleted = false")
+    Optional<AccessStatus> findAccessStatusById(@Param("id") UUID id);
+
     @EntityGraph(attributePaths = {"roles", "roles.permissions"})
     Optional<User> findByUsername(String username);
 
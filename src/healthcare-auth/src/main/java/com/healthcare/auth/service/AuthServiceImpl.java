@@ -5,6 +5,7 @@ import com.healthcare.auth.api.dto.RegisterRequest;
 import com.healthcare.auth.api.dto.TokenResponse;
 import com.healthcare.auth.config.AuthenticatedUser;
 import com.healthcare.auth.config.JwtTokenProvider;
+import com.healthcare.auth.domain.LoginAttempt;
 import com.healthcare.auth.domain.RefreshToken;
 import com.healthcare.auth.domain.Role;
 import com.healthcare.auth.domain.User;
@@ -12,6 +13,8 @@ import com.healthcare.auth.exception.AuthenticationException;
 import com.healthcare.auth.exception.DuplicateUserException;
 import com.healthcare.auth.repository.RefreshTokenRepository;
 import com.healthcare.auth.repository.RoleRepository;
+import com.healthcare.auth.repository.SessionTokenRepository;
+import com.healthcare.auth.repository.SessionTokenRepository.RefreshGrant;
 import com.healthcare.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,27 +39,42 @@ class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final SessionTokenRepository sessionTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final ApplicationEventPublisher eventPublisher;
+    private final LoginAttemptService loginAttemptService;
 
     @Override
     @Transactional
     public TokenResponse login(LoginRequest request, String ipAddress, String userAgent) {
         log.debug("Processing login attempt");
 
-        User user = userRepository.findByUsernameOrEmail(request.usernameOrEmail())
-            .orElseThrow(AuthenticationException::invalidCredentials);
+        String identifier = request.usernameOrEmail();
+        loginAttemptService.checkLoginAllowed(ipAddress, identifier);
+
+        User user = userRepository.findByUsernameOrEmail(identifier).orElse(null);
+        if (user == null) {
+            loginAttemptService.recordFailure(identifier, ipAddress, userAgent,
+                LoginAttempt.Status.FAILED_INVALID_CREDENTIALS, "Unknown user");
+            throw AuthenticationException.invalidCredentials();
+        }
 
         if (user.isLocked()) {
+            loginAttemptService.recordFailureWithUser(user.getId(), identifier, ipAddress, userAgent,
+                LoginAttempt.Status.FAILED_ACCOUNT_LOCKED, "Account locked");
             throw AuthenticationException.accountLocked();
         }
 
         if (!user.canLogin()) {
+            loginAttemptService.recordFailureWithUser(user.getId(), identifier, ipAddress, userAgent,
+                LoginAttempt.Status.FAILED_ACCOUNT_INACTIVE, "Account inactive");
             throw AuthenticationException.accountInactive();
         }
 
         if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+            loginAttemptService.recordFailureWithUser(user.getId(), identifier, ipAddress, userAgent,
+                LoginAttempt.Status.FAILED_INVALID_CREDENTIALS, "Invalid password");
             user.recordFailedLogin();
             User savedUser = userRepository.save(user);
 
@@ -65,6 +83,10 @@ class AuthServiceImpl implements AuthService {
             throw AuthenticationException.invalidCredentials();
         }
 
+        loginAttemptService.recordSuccess(user.getId(), identifier, ipAddress, userAgent);
+        if (passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            user.rehashPassword(passwordEncoder.encode(request.password()));
+        }
         user.recordSuccessfulLogin(ipAddress);
         User savedUser = userRepository.save(user);
 
@@ -114,29 +136,31 @@ class AuthServiceImpl implements AuthService {
     public TokenResponse refreshToken(String refreshToken) {
         log.debug("Refreshing token");
 
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw AuthenticationException.refreshTokenInvalid();
-        }
-
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
-            throw AuthenticationException.refreshTokenInvalid();
-        }
-
-        String tokenHash = hashToken(refreshToken);
-        RefreshToken storedToken = refreshTokenRepository
-            .findValidToken(tokenHash, Instant.now())
+        UUID userId = jwtTokenProvider.parseRefreshToken(refreshToken)
+            .map(claims -> UUID.fromString(claims.get("userId", String.class)))
             .orElseThrow(AuthenticationException::refreshTokenInvalid);
 
-        storedToken.revoke();
-        refreshTokenRepository.save(storedToken);
-
-        User user = storedToken.getUser();
+        String rotatedToken = jwtTokenProvider.generateRefreshToken(userId);
+        RefreshGrant grant = sessionTokenRepository.rotate(
+                hashToken(refreshToken),
+                hashToken(rotatedToken),
+                jwtTokenProvider.getRefreshTokenExpirationInstant(),
+                Instant.now())
+            .orElseThrow(AuthenticationException::refreshTokenInvalid);
 
-        if (!user.canLogin()) {
+        if (!grant.canLogin()) {
             throw AuthenticationException.accountInactive();
         }
 
-        return generateTokens(user, storedToken.getUserAgent(), storedToken.getIpAddress());
+        String accessToken = jwtTokenProvider.generateAccessToken(new AuthenticatedUser(grant));
+
+        return TokenResponse.of(
+            accessToken,
+            rotatedToken,
+            jwtTokenProvider.getAccessTokenExpirationSeconds(),
+            grant.roles(),
+            grant.permissions()
+        );
     }
 
     @Override
@@ -25,6 +25,13 @@ public interface LoginAttemptService {
         String reason
     );
 
+    /**
+     * Rejects the attempt with {@code tooManyAttempts} if the IP or username
+     * is currently throttled. Reads only in-memory counters, so it is cheap
+     * enough to run before the password is verified.
+     */
+    void checkLoginAllowed(String ipAddress, String username);
+
     boolean isIpBlocked(String ipAddress);
 
     boolean isUsernameBlocked(String username);
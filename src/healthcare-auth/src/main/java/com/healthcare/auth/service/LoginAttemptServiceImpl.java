@@ -1,46 +1,59 @@
 package com.healthcare.auth.service;
 
+import com.healthcare.auth.config.LoginThrottleProperties;
 import com.healthcare.auth.domain.LoginAttempt;
+import com.healthcare.auth.exception.AuthenticationException;
 import com.healthcare.auth.repository.LoginAttemptRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Throttling decisions come from {@link LoginThrottle}'s in-memory counters;
+ * {@link LoginAttempt} rows are queued and written in batches off the login
+ * path, so a credential-stuffing burst costs neither a COUNT nor an INSERT
+ * per attempt.
+ */
 @Service
-@RequiredArgsConstructor
+@EnableScheduling
 @Slf4j
 class LoginAttemptServiceImpl implements LoginAttemptService {
 
     private final LoginAttemptRepository loginAttemptRepository;
-
-    @Value("${healthcare.security.max-ip-failures:20}")
-    private int maxIpFailures;
-
-    @Value("${healthcare.security.max-username-failures:5}")
-    private int maxUsernameFailures;
-
-    @Value("${healthcare.security.lockout-window-minutes:15}")
-    private int lockoutWindowMinutes;
-
-    @Value("${healthcare.security.captcha-threshold:3}")
-    private int captchaThreshold;
+    private final LoginThrottle loginThrottle;
+    private final LoginThrottleProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<LoginAttempt> pending;
+
+    LoginAttemptServiceImpl(LoginAttemptRepository loginAttemptRepository,
+                            LoginThrottle loginThrottle,
+                            LoginThrottleProperties properties,
+                            PlatformTransactionManager transactionManager) {
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.loginThrottle = loginThrottle;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pending = new ArrayBlockingQueue<>(properties.persistQueueCapacity());
+    }
 
     @Override
-    @Transactional
     public void recordSuccess(UUID userId, String username, String ipAddress, String userAgent) {
-        LoginAttempt attempt = LoginAttempt.success(userId, username, ipAddress, userAgent);
-        loginAttemptRepository.save(attempt);
+        loginThrottle.recordSuccess(username);
+        enqueue(LoginAttempt.success(userId, username, ipAddress, userAgent));
         log.debug("Recorded successful login for user: {}", userId);
     }
 
     @Override
-    @Transactional
     public void recordFailure(
             String username,
             String ipAddress,
@@ -48,13 +61,12 @@ class LoginAttemptServiceImpl implements LoginAttemptService {
             LoginAttempt.Status status,
             String reason
     ) {
-        LoginAttempt attempt = LoginAttempt.failed(username, ipAddress, userAgent, status, reason);
-        loginAttemptRepository.save(attempt);
+        loginThrottle.recordFailure(ipAddress, username);
+        enqueue(LoginAttempt.failed(username, ipAddress, userAgent, status, reason));
         log.debug("Recorded failed login attempt for username: {}", username);
     }
 
     @Override
-    @Transactional
     public void recordFailureWithUser(
             UUID userId,
             String username,
@@ -63,18 +75,22 @@ class LoginAttemptServiceImpl implements LoginAttemptService {
             LoginAttempt.Status status,
             String reason
     ) {
-        LoginAttempt attempt = LoginAttempt.failedWithUser(userId, username, ipAddress, userAgent, status, reason);
-        loginAttemptRepository.save(attempt);
+        loginThrottle.recordFailure(ipAddress, username);
+        enqueue(LoginAttempt.failedWithUser(userId, username, ipAddress, userAgent, status, reason));
         log.debug("Recorded failed login attempt for user: {}", userId);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public boolean isIpBlocked(String ipAddress) {
-        Instant since = Instant.now().minus(Duration.ofMinutes(lockoutWindowMinutes));
-        long failedCount = loginAttemptRepository.countFailedAttemptsByIp(ipAddress, since);
+    public void checkLoginAllowed(String ipAddress, String username) {
+        loginThrottle.blockedFor(ipAddress, username).ifPresent(wait -> {
+            log.warn("Login throttled for {}s from IP: {}", wait.toSeconds(), ipAddress);
+            throw AuthenticationException.tooManyAttempts();
+        });
+    }
 
-        if (failedCount >= maxIpFailures) {
+    @Override
+    public boolean isIpBlocked(String ipAddress) {
+        if (loginThrottle.ipFailures(ipAddress) >= properties.maxIpFailures()) {
             log.warn("IP address blocked due to excessive failures: {}", ipAddress);
             return true;
         }
@@ -83,12 +99,8 @@ class LoginAttemptServiceImpl implements LoginAttemptService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean isUsernameBlocked(String username) {
-        Instant since = Instant.now().minus(Duration.ofMinutes(lockoutWindowMinutes));
-        long failedCount = loginAttemptRepository.countFailedAttemptsByUsername(username, since);
-
-        if (failedCount >= maxUsernameFailures) {
+        if (loginThrottle.usernameFailures(username) >= properties.maxUsernameFailures()) {
             log.warn("Username blocked due to excessive failures: {}", username);
             return true;
         }
@@ -97,29 +109,39 @@ class LoginAttemptServiceImpl implements LoginAttemptService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean shouldRequireCaptcha(String ipAddress, String username) {
-        Instant since = Instant.now().minus(Duration.ofMinutes(lockoutWindowMinutes));
+        return loginThrottle.ipFailures(ipAddress) >= properties.captchaThreshold()
+            || loginThrottle.usernameFailures(username) >= properties.captchaThreshold();
+    }
 
-        long ipFailures = loginAttemptRepository.countFailedAttemptsByIp(ipAddress, since);
-        if (ipFailures >= captchaThreshold) {
-            return true;
-        }
+    @Override
+    public long getRecentFailedAttemptCount(String username) {
+        return loginThrottle.usernameFailures(username);
+    }
 
-        if (username != null) {
-            long usernameFailures = loginAttemptRepository.countFailedAttemptsByUsername(username, since);
-            if (usernameFailures >= captchaThreshold) {
-                return true;
+    @Scheduled(fixedDelay = 1000)
+    public void flushPending() {
+        List<LoginAttempt> batch = new ArrayList<>(properties.persistBatchSize());
+        while (pending.drainTo(batch, properties.persistBatchSize()) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> loginAttemptRepository.saveAll(batch));
+            } catch (RuntimeException e) {
+                log.error("Failed to persist {} login attempts: {}", batch.size(), e.getMessage());
+                return;
+            } finally {
+                batch.clear();
             }
         }
+    }
 
-        return false;
+    @PreDestroy
+    void flushOnShutdown() {
+        flushPending();
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public long getRecentFailedAttemptCount(String username) {
-        Instant since = Instant.now().minus(Duration.ofMinutes(lockoutWindowMinutes));
-        return loginAttemptRepository.countFailedAttemptsByUsername(username, since);
+    private void enqueue(LoginAttempt attempt) {
+        if (!pending.offer(attempt)) {
+            log.warn("Login attempt queue full; dropping record for username: {}", attempt.getUsername());
+        }
     }
 }
@@ -0,0 +1,198 @@
+package com.healthcare.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.auth.config.LoginThrottleProperties;
+import com.healthcare.common.util.SlidingWindowCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory login failure counters per client IP and per username, over a
+ * sliding window of one-minute buckets. Decisions never touch the database,
+ * so blocked callers are turned away before the password hash is checked.
+ * <p>
+ * With {@code replicate} enabled, failures and resets are fanned out to the
+ * other nodes over Redis pub/sub and applied to their local counters, so a
+ * burst spread across nodes is still counted as one.
+ */
+@Component
+@Slf4j
+public class LoginThrottle implements MessageListener {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final String FAILURE = "F";
+    private static final String RESET = "R";
+    private static final String UNKNOWN_IP = "unknown";
+
+    private final LoginThrottleProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, FailureWindow> windows;
+
+    public LoginThrottle(LoginThrottleProperties properties, ObjectProvider<StringRedisTemplate> redisTemplate) {
+        this.properties = properties;
+        this.redisTemplate = properties.replicate() ? redisTemplate.getIfAvailable() : null;
+        this.windows = Caffeine.newBuilder()
+            .maximumSize(properties.maximumKeys())
+            .expireAfterAccess(properties.window())
+            .build();
+    }
+
+    /**
+     * How long the caller must wait before another attempt, or empty if it
+     * may proceed. IPs and usernames over their hard limit wait out the rest
+     * of the window; usernames past the captcha threshold back off
+     * exponentially from their last failure.
+     */
+    public Optional<Duration> blockedFor(String ipAddress, String username) {
+        Instant now = Instant.now();
+        long minute = epochMinute(now);
+
+        FailureWindow ip = windows.getIfPresent(ipKey(ipAddress));
+        if (ip != null && ip.counter.sum(minute) >= properties.maxIpFailures()) {
+            return Optional.of(untilWindowEnds(ip, now));
+        }
+
+        FailureWindow user = username != null ? windows.getIfPresent(usernameKey(username)) : null;
+        if (user == null) {
+            return Optional.empty();
+        }
+        long failures = user.counter.sum(minute);
+        if (failures >= properties.maxUsernameFailures()) {
+            return Optional.of(untilWindowEnds(user, now));
+        }
+        if (failures >= properties.captchaThreshold()) {
+            Instant retryAt = Instant.ofEpochMilli(user.lastFailureMillis)
+                .plus(backoff(failures - properties.captchaThreshold()));
+            if (now.isBefore(retryAt)) {
+                return Optional.of(Duration.between(now, retryAt));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public long ipFailures(String ipAddress) {
+        return failures(ipKey(ipAddress));
+    }
+
+    public long usernameFailures(String username) {
+        return username != null ? failures(usernameKey(username)) : 0;
+    }
+
+    public void recordFailure(String ipAddress, String username) {
+        long now = System.currentTimeMillis();
+        applyFailure(ipAddress, username, now);
+        publish(FAILURE, ipAddress, username, now);
+    }
+
+    /** Clears the username's failures after a successful login; the IP keeps its count. */
+    public void recordSuccess(String username) {
+        if (username == null) {
+            return;
+        }
+        windows.invalidate(usernameKey(username));
+        publish(RESET, null, username, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+            .split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 5 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String ipAddress = parts[2].isEmpty() ? null : parts[2];
+        String username = parts[3].isEmpty() ? null : parts[3];
+        try {
+            long at = Long.parseLong(parts[4]);
+            if (FAILURE.equals(parts[1])) {
+                applyFailure(ipAddress, username, at);
+            } else if (RESET.equals(parts[1]) && username != null) {
+                windows.invalidate(usernameKey(username));
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed login throttle message");
+        }
+    }
+
+    private void applyFailure(String ipAddress, String username, long atMillis) {
+        long minute = atMillis / 60_000;
+        windows.get(ipKey(ipAddress), key -> new FailureWindow(properties.windowMinutes()))
+            .record(minute, atMillis);
+        if (username != null) {
+            windows.get(usernameKey(username), key -> new FailureWindow(properties.windowMinutes()))
+                .record(minute, atMillis);
+        }
+    }
+
+    private void publish(String kind, String ipAddress, String username, long atMillis) {
+        if (redisTemplate == null) {
+            return;
+        }
+        String message = nodeId + SEPARATOR + kind
+            + SEPARATOR + (ipAddress != null ? ipAddress : "")
+            + SEPARATOR + (username != null ? username : "")
+            + SEPARATOR + atMillis;
+        try {
+            redisTemplate.convertAndSend(properties.channel(), message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to replicate login throttle update: {}", e.getMessage());
+        }
+    }
+
+    private long failures(String key) {
+        FailureWindow window = windows.getIfPresent(key);
+        return window != null ? window.counter.sum(epochMinute(Instant.now())) : 0;
+    }
+
+    private Duration backoff(long step) {
+        long multiplier = 1L << Math.min(step, 30);
+        Duration delay = properties.backoffBase().multipliedBy(multiplier);
+        return delay.compareTo(properties.backoffMax()) > 0 ? properties.backoffMax() : delay;
+    }
+
+    private Duration untilWindowEnds(FailureWindow window, Instant now) {
+        Instant clearsAt = Instant.ofEpochMilli(window.lastFailureMillis).plus(properties.window());
+        return now.isBefore(clearsAt) ? Duration.between(now, clearsAt) : Duration.ofMinutes(1);
+    }
+
+    private static String ipKey(String ipAddress) {
+        return "ip:" + (ipAddress != null ? ipAddress : UNKNOWN_IP);
+    }
+
+    private static String usernameKey(String username) {
+        return "user:" + username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long epochMinute(Instant instant) {
+        return instant.getEpochSecond() / 60;
+    }
+
+    private static final class FailureWindow {
+        final SlidingWindowCounter counter;
+        volatile long lastFailureMillis;
+
+        FailureWindow(int windowMinutes) {
+            this.counter = new SlidingWindowCounter(windowMinutes);
+        }
+
+        void record(long epochMinute, long atMillis) {
+            counter.add(epochMinute, 1);
+            if (atMillis > lastFailureMillis) {
+                lastFailureMillis = atMillis;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.healthcare.auth.service;
 
+import com.healthcare.auth.config.BoundedPasswordEncoder;
 import com.healthcare.auth.domain.PasswordHistory;
 import com.healthcare.auth.domain.PasswordResetToken;
 import com.healthcare.auth.domain.User;
@@ -14,12 +15,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.regex.Pattern;
@@ -42,7 +43,7 @@ class PasswordServiceImpl implements PasswordService {
     private final PasswordResetTokenRepository resetTokenRepository;
     private final PasswordHistoryRepository passwordHistoryRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
 
     @Value("${healthcare.password.min-length:8}")
@@ -186,18 +187,13 @@ class PasswordServiceImpl implements PasswordService {
         List<PasswordHistory> recentPasswords =
             passwordHistoryRepository.findRecentByUserId(userId, PASSWORD_HISTORY_SIZE);
 
+        List<String> hashes = new ArrayList<>(recentPasswords.size() + 1);
+        userRepository.findById(userId).ifPresent(user -> hashes.add(user.getPasswordHash()));
         for (PasswordHistory history : recentPasswords) {
-            if (passwordEncoder.matches(password, history.getPasswordHash())) {
-                return true;
-            }
+            hashes.add(history.getPasswordHash());
         }
 
-        User user = userRepository.findById(userId).orElse(null);
-        if (user != null && passwordEncoder.matches(password, user.getPasswordHash())) {
-            return true;
-        }
-
-        return false;
+        return passwordEncoder.matchesAny(password, hashes);
     }
 
     @Override
@@ -0,0 +1,73 @@
+package com.healthcare.auth.service;
+
+import com.healthcare.auth.repository.SessionTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind for session activity. Touches only record the latest time
+ * per refresh-token hash in memory; a scheduled flush writes them as one
+ * batch of conditional UPDATEs, so an ordinary request costs no database
+ * round trip and a busy session costs one row update per flush interval.
+ * <p>
+ * A touch lost in a crash only makes {@code last_activity_at} lag by at
+ * most one flush interval.
+ */
+@Component
+@EnableScheduling
+@Slf4j
+class SessionActivityBuffer {
+
+    private static final int MAXIMUM_PENDING = 50_000;
+
+    private final SessionTokenRepository sessionTokenRepository;
+    private final ConcurrentHashMap<String, Instant> pending = new ConcurrentHashMap<>();
+
+    SessionActivityBuffer(SessionTokenRepository sessionTokenRepository) {
+        this.sessionTokenRepository = sessionTokenRepository;
+    }
+
+    void touch(String refreshTokenHash) {
+        if (pending.size() >= MAXIMUM_PENDING && !pending.containsKey(refreshTokenHash)) {
+            log.warn("Session activity buffer full; dropping touch");
+            return;
+        }
+        pending.merge(refreshTokenHash, Instant.now(), (previous, current) ->
+            current.isAfter(previous) ? current : previous);
+    }
+
+    @Scheduled(fixedDelay = 5000)
+    public void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, Instant> batch = new HashMap<>();
+        for (String tokenHash : pending.keySet()) {
+            Instant touchedAt = pending.remove(tokenHash);
+            if (touchedAt != null) {
+                batch.put(tokenHash, touchedAt);
+            }
+        }
+        try {
+            sessionTokenRepository.touchAll(batch);
+            log.debug("Flushed activity for {} sessions", batch.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to flush activity for {} sessions: {}", batch.size(), e.getMessage());
+            batch.forEach((tokenHash, touchedAt) -> pending.merge(tokenHash, touchedAt,
+                (current, failed) -> current.isAfter(failed) ? current : failed));
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flushPending();
+    }
+}
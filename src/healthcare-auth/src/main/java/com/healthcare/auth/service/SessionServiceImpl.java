@@ -31,6 +31,7 @@ class SessionServiceImpl implements SessionService {
     private final LoginAttemptRepository loginAttemptRepository;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SessionActivityBuffer activityBuffer;
 
     @Override
     @Transactional(readOnly = true)
@@ -131,12 +132,7 @@ class SessionServiceImpl implements SessionService {
     }
 
     @Override
-    @Transactional
     public void updateSessionActivity(String refreshTokenHash) {
-        sessionRepository.findByRefreshTokenHash(refreshTokenHash)
-            .ifPresent(session -> {
-                session.recordActivity();
-                sessionRepository.save(session);
-            });
+        activityBuffer.touch(refreshTokenHash);
     }
 }
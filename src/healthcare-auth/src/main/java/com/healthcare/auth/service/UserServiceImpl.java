@@ -4,7 +4,11 @@ import com.healthcare.auth.api.dto.CreateUserRequest;
 import com.healthcare.auth.api.dto.UpdateUserRequest;
 import com.healthcare.auth.api.dto.UserResponse;
 import com.healthcare.auth.domain.Role;
+import com.healthcare.auth.config.AuthenticatedUser;
 import com.healthcare.auth.domain.User;
+import com.healthcare.auth.domain.UserStatus;
+import com.healthcare.auth.domain.event.AccountStatusChangedEvent;
+import com.healthcare.auth.domain.event.RoleChangedEvent;
 import com.healthcare.auth.exception.DuplicateUserException;
 import com.healthcare.auth.exception.UserNotFoundException;
 import com.healthcare.auth.repository.RoleRepository;
@@ -12,8 +16,11 @@ import com.healthcare.auth.repository.UserRepository;
 import com.healthcare.common.api.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +38,7 @@ class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -131,10 +139,12 @@ class UserServiceImpl implements UserService {
         log.debug("Deleting user with ID: {}", id);
 
         User user = findUserOrThrow(id);
+        UserStatus previousStatus = user.getStatus();
         user.markAsDeleted();
         user.deactivate();
 
         userRepository.save(user);
+        publishStatusChange(user, previousStatus, "deleted");
         log.info("Soft deleted user with ID: {}", id);
     }
 
@@ -167,9 +177,11 @@ class UserServiceImpl implements UserService {
 
         User user = findUserOrThrow(userId);
         Set<Role> roles = roleRepository.findByNameIn(roleNames);
+        Set<String> previousRoles = user.getRoleNames();
         roles.forEach(user::addRole);
 
         user = userRepository.save(user);
+        publishRoleChange(user, previousRoles);
         log.info("Assigned roles {} to user: {}", roleNames, userId);
 
         return toResponse(user);
@@ -182,9 +194,11 @@ class UserServiceImpl implements UserService {
 
         User user = findUserOrThrow(userId);
         Set<Role> roles = roleRepository.findByNameIn(roleNames);
+        Set<String> previousRoles = user.getRoleNames();
         roles.forEach(user::removeRole);
 
         user = userRepository.save(user);
+        publishRoleChange(user, previousRoles);
         log.info("Removed roles {} from user: {}", roleNames, userId);
 
         return toResponse(user);
@@ -196,8 +210,10 @@ class UserServiceImpl implements UserService {
         log.debug("Activating user: {}", id);
 
         User user = findUserOrThrow(id);
+        UserStatus previousStatus = user.getStatus();
         user.activate();
         userRepository.save(user);
+        publishStatusChange(user, previousStatus, "activated");
 
         log.info("Activated user: {}", id);
     }
@@ -208,8 +224,10 @@ class UserServiceImpl implements UserService {
         log.debug("Deactivating user: {}", id);
 
         User user = findUserOrThrow(id);
+        UserStatus previousStatus = user.getStatus();
         user.deactivate();
         userRepository.save(user);
+        publishStatusChange(user, previousStatus, "deactivated");
 
         log.info("Deactivated user: {}", id);
     }
@@ -220,8 +238,10 @@ class UserServiceImpl implements UserService {
         log.debug("Suspending user: {}", id);
 
         User user = findUserOrThrow(id);
+        UserStatus previousStatus = user.getStatus();
         user.suspend();
         userRepository.save(user);
+        publishStatusChange(user, previousStatus, "suspended");
 
         log.info("Suspended user: {}", id);
     }
@@ -232,8 +252,10 @@ class UserServiceImpl implements UserService {
         log.debug("Unlocking user: {}", id);
 
         User user = findUserOrThrow(id);
+        UserStatus previousStatus = user.getStatus();
         user.unlock();
         userRepository.save(user);
+        publishStatusChange(user, previousStatus, "unlocked");
 
         log.info("Unlocked user: {}", id);
     }
@@ -300,6 +322,28 @@ class UserServiceImpl implements UserService {
         }
     }
 
+    private void publishRoleChange(User user, Set<String> previousRoles) {
+        Set<String> newRoles = user.getRoleNames();
+        if (!newRoles.equals(previousRoles)) {
+            eventPublisher.publishEvent(RoleChangedEvent.of(
+                user.getId(), user.getUsername(), previousRoles, newRoles, currentUserId()));
+        }
+    }
+
+    private void publishStatusChange(User user, UserStatus previousStatus, String reason) {
+        eventPublisher.publishEvent(AccountStatusChangedEvent.of(
+            user.getId(), user.getUsername(), previousStatus.name(), user.getStatus().name(),
+            reason, currentUserId()));
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId().toString();
+        }
+        return null;
+    }
+
     private UserResponse toResponse(User user) {
         return new UserResponse(
             user.getId(),
@@ -1,5 +1,7 @@
 package com.healthcare.billing.api;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,6 +11,9 @@ public interface ClaimLookup {
 
     Optional<ClaimInfo> findByClaimNumber(String claimNumber);
 
+    /** Claims found among {@code claimIds}, keyed by id; unknown ids are absent. */
+    Map<UUID, ClaimInfo> findAllByIds(Collection<UUID> claimIds);
+
     record ClaimInfo(
         UUID claimId,
         String claimNumber,
@@ -0,0 +1,15 @@
+package com.healthcare.billing.config;
+
+import com.healthcare.billing.api.ClaimLookup.ClaimInfo;
+import com.healthcare.common.cache.codec.CacheTypeRegistration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BillingCacheConfig {
+
+    @Bean
+    public CacheTypeRegistration claimInfoCacheType() {
+        return new CacheTypeRegistration(5, ClaimInfo.class, 1);
+    }
+}
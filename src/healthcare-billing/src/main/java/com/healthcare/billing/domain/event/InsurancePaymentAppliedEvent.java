@@ -0,0 +1,35 @@
+package com.healthcare.billing.domain.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class InsurancePaymentAppliedEvent extends BillingEvent {
+
+    private final UUID invoiceId;
+    private final UUID claimId;
+    private final UUID patientId;
+    private final BigDecimal amount;
+    private final BigDecimal balanceDue;
+
+    public InsurancePaymentAppliedEvent(UUID invoiceId, UUID claimId,
+                                        UUID patientId, BigDecimal amount,
+                                        BigDecimal balanceDue, String triggeredBy) {
+        super(triggeredBy);
+        this.invoiceId = invoiceId;
+        this.claimId = claimId;
+        this.patientId = patientId;
+        this.amount = amount;
+        this.balanceDue = balanceDue;
+    }
+
+    @Override
+    public String getEventType() {
+        return "INSURANCE_PAYMENT_APPLIED";
+    }
+
+    public UUID getInvoiceId() { return invoiceId; }
+    public UUID getClaimId() { return claimId; }
+    public UUID getPatientId() { return patientId; }
+    public BigDecimal getAmount() { return amount; }
+    public BigDecimal getBalanceDue() { return balanceDue; }
+}
@@ -0,0 +1,35 @@
+package com.healthcare.billing.domain.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class InvoiceRefundedEvent extends BillingEvent {
+
+    private final UUID invoiceId;
+    private final UUID paymentId;
+    private final UUID patientId;
+    private final BigDecimal amount;
+    private final BigDecimal balanceDue;
+
+    public InvoiceRefundedEvent(UUID invoiceId, UUID paymentId,
+                                UUID patientId, BigDecimal amount,
+                                BigDecimal balanceDue, String triggeredBy) {
+        super(triggeredBy);
+        this.invoiceId = invoiceId;
+        this.paymentId = paymentId;
+        this.patientId = patientId;
+        this.amount = amount;
+        this.balanceDue = balanceDue;
+    }
+
+    @Override
+    public String getEventType() {
+        return "INVOICE_REFUNDED";
+    }
+
+    public UUID getInvoiceId() { return invoiceId; }
+    public UUID getPaymentId() { return paymentId; }
+    public UUID getPatientId() { return patientId; }
+    public BigDecimal getAmount() { return amount; }
+    public BigDecimal getBalanceDue() { return balanceDue; }
+}
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,4 +32,19 @@ public interface ClaimRepository extends JpaRepository<Claim, UUID> {
     );
 
     boolean existsByInvoiceId(UUID invoiceId);
+
+    /** What {@code ClaimLookup} exposes of a claim. */
+    interface ClaimSummary {
+        UUID getId();
+        String getClaimNumber();
+        UUID getPatientId();
+        UUID getProviderId();
+        String getInsuranceName();
+        ClaimStatus getStatus();
+    }
+
+    @Query("SELECT c.id AS id, c.claimNumber AS claimNumber, c.patientId AS patientId, " +
+           "c.providerId AS providerId, c.insuranceName AS insuranceName, c.status AS status " +
+           "FROM Claim c WHERE c.id IN :ids")
+    List<ClaimSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
 }
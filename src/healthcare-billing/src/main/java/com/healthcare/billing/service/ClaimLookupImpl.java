@@ -3,18 +3,30 @@ package com.healthcare.billing.service;
 import com.healthcare.billing.api.ClaimLookup;
 import com.healthcare.billing.domain.Claim;
 import com.healthcare.billing.repository.ClaimRepository;
+import com.healthcare.billing.repository.ClaimRepository.ClaimSummary;
+import com.healthcare.common.cache.CacheMultiGet;
+import com.healthcare.common.config.RedisCacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 class ClaimLookupImpl implements ClaimLookup {
 
     private final ClaimRepository claimRepository;
+    private final CacheManager cacheManager;
 
-    ClaimLookupImpl(ClaimRepository claimRepository) {
+    ClaimLookupImpl(ClaimRepository claimRepository, CacheManager cacheManager) {
         this.claimRepository = claimRepository;
+        this.cacheManager = cacheManager;
     }
 
     @Override
@@ -29,6 +41,40 @@ class ClaimLookupImpl implements ClaimLookup {
             .map(this::toClaimInfo);
     }
 
+    /**
+     * Serves claims already in the claim cache and reads the rest with one
+     * projection query, caching what it loads for two minutes.
+     */
+    @Override
+    public Map<UUID, ClaimInfo> findAllByIds(Collection<UUID> claimIds) {
+        if (claimIds.isEmpty()) {
+            return Map.of();
+        }
+        Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_CLAIMS);
+        CacheMultiGet.Result<UUID, ClaimInfo> cached = CacheMultiGet.get(cache, claimIds, ClaimInfo.class);
+
+        Map<UUID, ClaimInfo> claims = new HashMap<>(cached.hits());
+        if (!cached.misses().isEmpty()) {
+            Map<UUID, ClaimInfo> loaded = claimRepository.findSummariesByIdIn(cached.misses()).stream()
+                .map(this::toClaimInfo)
+                .collect(Collectors.toMap(ClaimInfo::claimId, Function.identity()));
+            CacheMultiGet.putAll(cache, loaded);
+            claims.putAll(loaded);
+        }
+        return claims;
+    }
+
+    private ClaimInfo toClaimInfo(ClaimSummary summary) {
+        return new ClaimInfo(
+            summary.getId(),
+            summary.getClaimNumber(),
+            summary.getPatientId(),
+            summary.getProviderId(),
+            summary.getInsuranceName(),
+            summary.getStatus().name()
+        );
+    }
+
     private ClaimInfo toClaimInfo(Claim claim) {
         return new ClaimInfo(
             claim.getId(),
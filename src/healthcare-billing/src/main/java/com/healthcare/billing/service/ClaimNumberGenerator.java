@@ -1,10 +1,10 @@
 package com.healthcare.billing.service;
 
+import com.healthcare.common.sequence.NumberSequences;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class ClaimNumberGenerator {
@@ -12,18 +12,15 @@ public class ClaimNumberGenerator {
     private static final String PREFIX = "CLM";
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
-    private final AtomicLong counter = new AtomicLong(0);
-    private String currentDateKey;
+    private final NumberSequences sequences;
 
-    public synchronized String generate() {
-        String today = LocalDate.now().format(DATE_FORMAT);
-
-        if (!today.equals(currentDateKey)) {
-            currentDateKey = today;
-            counter.set(0);
-        }
+    public ClaimNumberGenerator(NumberSequences sequences) {
+        this.sequences = sequences;
+    }
 
-        long sequence = counter.incrementAndGet();
+    public String generate() {
+        String today = LocalDate.now().format(DATE_FORMAT);
+        long sequence = sequences.next(PREFIX, today);
         return String.format("%s-%s-%05d", PREFIX, today, sequence);
     }
 }
@@ -4,6 +4,7 @@ import com.healthcare.billing.api.dto.*;
 import com.healthcare.billing.domain.*;
 import com.healthcare.billing.domain.event.ClaimStatusChangedEvent;
 import com.healthcare.billing.domain.event.ClaimSubmittedEvent;
+import com.healthcare.billing.domain.event.InsurancePaymentAppliedEvent;
 import com.healthcare.billing.exception.ClaimNotFoundException;
 import com.healthcare.billing.exception.ClaimProcessingException;
 import com.healthcare.billing.exception.InvoiceNotFoundException;
@@ -169,7 +170,7 @@ public class ClaimServiceImpl implements ClaimService {
                         request.coinsuranceAmount() != null ? request.coinsuranceAmount() : java.math.BigDecimal.ZERO
                     );
                 }
-                updateInvoiceWithClaimApproval(claim);
+                updateInvoiceWithClaimApproval(claim, processedBy);
             }
             case ProcessClaimRequest.ACTION_PARTIALLY_APPROVE -> {
                 claim.partiallyApprove(
@@ -185,7 +186,7 @@ public class ClaimServiceImpl implements ClaimService {
                         request.coinsuranceAmount() != null ? request.coinsuranceAmount() : java.math.BigDecimal.ZERO
                     );
                 }
-                updateInvoiceWithClaimApproval(claim);
+                updateInvoiceWithClaimApproval(claim, processedBy);
             }
             case ProcessClaimRequest.ACTION_DENY -> {
                 claim.deny(request.denialCode(), request.denialReason());
@@ -266,13 +267,22 @@ public class ClaimServiceImpl implements ClaimService {
             .orElseThrow(() -> new ClaimNotFoundException(claimId));
     }
 
-    private void updateInvoiceWithClaimApproval(InsuranceClaim claim) {
+    private void updateInvoiceWithClaimApproval(InsuranceClaim claim, String processedBy) {
         Invoice invoice = invoiceRepository.findById(claim.getInvoiceId())
             .orElseThrow(() -> new InvoiceNotFoundException(claim.getInvoiceId()));
 
         if (claim.getPaidAmount() != null && claim.getPaidAmount().compareTo(java.math.BigDecimal.ZERO) > 0) {
             invoice.recordInsurancePayment(claim.getPaidAmount());
             invoiceRepository.save(invoice);
+
+            eventPublisher.publishEvent(new InsurancePaymentAppliedEvent(
+                invoice.getId(),
+                claim.getId(),
+                invoice.getPatientId(),
+                claim.getPaidAmount(),
+                invoice.getBalanceDue(),
+                processedBy
+            ));
         }
     }
 }
@@ -2,6 +2,7 @@ package com.healthcare.billing.service.impl;
 
 import com.healthcare.billing.api.dto.*;
 import com.healthcare.billing.domain.*;
+import com.healthcare.billing.domain.event.InvoiceCancelledEvent;
 import com.healthcare.billing.domain.event.InvoiceCreatedEvent;
 import com.healthcare.billing.domain.event.InvoiceFinalizedEvent;
 import com.healthcare.billing.domain.event.InvoiceOverdueEvent;
@@ -238,6 +239,14 @@ public class InvoiceServiceImpl implements InvoiceService {
         Invoice saved = invoiceRepository.save(invoice);
         log.info("Cancelled invoice: {}", saved.getInvoiceNumber());
 
+        eventPublisher.publishEvent(new InvoiceCancelledEvent(
+            saved.getId(),
+            saved.getInvoiceNumber(),
+            saved.getPatientId(),
+            saved.getTotalAmount(),
+            updatedBy
+        ));
+
         return InvoiceResponse.from(saved);
     }
 
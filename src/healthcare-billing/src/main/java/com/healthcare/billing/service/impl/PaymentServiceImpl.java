@@ -2,6 +2,7 @@ package com.healthcare.billing.service.impl;
 
 import com.healthcare.billing.api.dto.*;
 import com.healthcare.billing.domain.*;
+import com.healthcare.billing.domain.event.InvoiceRefundedEvent;
 import com.healthcare.billing.domain.event.PaymentReceivedEvent;
 import com.healthcare.billing.exception.InvoiceNotFoundException;
 import com.healthcare.billing.exception.PaymentNotFoundException;
@@ -170,6 +171,15 @@ public class PaymentServiceImpl implements PaymentService {
 
         log.info("Refunded {} from payment {}", amount, payment.getReferenceNumber());
 
+        eventPublisher.publishEvent(new InvoiceRefundedEvent(
+            invoice.getId(),
+            payment.getId(),
+            invoice.getPatientId(),
+            amount,
+            invoice.getBalanceDue(),
+            processedBy
+        ));
+
         return PaymentResponse.from(savedPayment);
     }
 
@@ -0,0 +1,73 @@
+package com.healthcare.billing.service;
+
+import com.healthcare.billing.api.ClaimLookup.ClaimInfo;
+import com.healthcare.billing.domain.ClaimStatus;
+import com.healthcare.billing.repository.ClaimRepository;
+import com.healthcare.billing.repository.ClaimRepository.ClaimSummary;
+import com.healthcare.common.config.RedisCacheConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClaimLookupImplTest {
+
+    private record Summary(UUID getId, String getClaimNumber, UUID getPatientId, UUID getProviderId,
+                           String getInsuranceName, ClaimStatus getStatus) implements ClaimSummary {}
+
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final ClaimLookupImpl lookup = new ClaimLookupImpl(claimRepository, cacheManager);
+    private final Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_CLAIMS);
+
+    @Test
+    void servesHitsFromCacheAndLoadsOnlyMisses() {
+        ClaimInfo cached = info(UUID.randomUUID());
+        cache.put(cached.claimId(), cached);
+        Summary stored = new Summary(UUID.randomUUID(), "CLM-2", UUID.randomUUID(), UUID.randomUUID(),
+            "Acme Health", ClaimStatus.SUBMITTED);
+        UUID unknown = UUID.randomUUID();
+        when(claimRepository.findSummariesByIdIn(Set.of(stored.getId(), unknown))).thenReturn(List.of(stored));
+
+        Map<UUID, ClaimInfo> found = lookup.findAllByIds(List.of(cached.claimId(), stored.getId(), unknown));
+
+        assertThat(found).containsOnlyKeys(cached.claimId(), stored.getId());
+        assertThat(found.get(cached.claimId())).isEqualTo(cached);
+        assertThat(found.get(stored.getId())).isEqualTo(new ClaimInfo(stored.getId(), "CLM-2",
+            stored.getPatientId(), stored.getProviderId(), "Acme Health", stored.getStatus().name()));
+        assertThat(cache.get(stored.getId(), ClaimInfo.class)).isEqualTo(found.get(stored.getId()));
+        assertThat(cache.get(unknown)).isNull();
+    }
+
+    @Test
+    void allHitsSkipTheQuery() {
+        ClaimInfo cached = info(UUID.randomUUID());
+        cache.put(cached.claimId(), cached);
+
+        assertThat(lookup.findAllByIds(List.of(cached.claimId()))).containsOnlyKeys(cached.claimId());
+        verify(claimRepository, never()).findSummariesByIdIn(anyCollection());
+    }
+
+    @Test
+    void onlyUnknownIdsReturnEmpty() {
+        UUID unknown = UUID.randomUUID();
+        when(claimRepository.findSummariesByIdIn(Set.of(unknown))).thenReturn(List.of());
+
+        assertThat(lookup.findAllByIds(List.of(unknown))).isEmpty();
+    }
+
+    private static ClaimInfo info(UUID id) {
+        return new ClaimInfo(id, "CLM-1", UUID.randomUUID(), UUID.randomUUID(), "Acme Health", "SUBMITTED");
+    }
+}
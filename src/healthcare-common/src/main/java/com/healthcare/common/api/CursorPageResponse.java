@@ -0,0 +1,42 @@
+package com.healthcare.common.api;
+
+import com.healthcare.common.pagination.KeysetOrder;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset-paginated page. Pass {@code nextCursor} back to fetch the following
+ * page; {@code totalElements} is only populated when the caller asked for it.
+ */
+public record CursorPageResponse<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor,
+    Long totalElements
+) {
+    /** Clamps a requested page size to {@code [1, MAX_PAGE_SIZE]}. */
+    public static int boundedSize(int requested) {
+        return Math.max(1, Math.min(requested, ApiConstants.MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Builds a page from up to {@code size + 1} rows read in {@code order}; the
+     * extra row only signals that another page exists.
+     */
+    public static <E, T> CursorPageResponse<T> from(List<E> rows, int size, KeysetOrder<E> order,
+                                                    Function<E, T> mapper, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? order.cursorOf(page.get(page.size() - 1)) : null;
+
+        return new CursorPageResponse<>(
+            page.stream().map(mapper).toList(),
+            size,
+            hasNext,
+            nextCursor,
+            totalElements
+        );
+    }
+}
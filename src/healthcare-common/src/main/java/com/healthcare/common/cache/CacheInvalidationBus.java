@@ -0,0 +1,96 @@
+package com.healthcare.common.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Fans L1 invalidations out to the other nodes over Redis pub/sub and applies
+ * the ones they send. Messages carry the sending node's id so a node ignores
+ * its own. Other node-local state can ride the same channel as a named topic
+ * via {@link #subscribe} and {@link #broadcast}.
+ */
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private static final char SEPARATOR = '\u001F';
+    private static final String TOPIC_PREFIX = "#";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<String>> subscribers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    void register(TwoLevelCache cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    /** Runs {@code handler} with the payload of every {@code topic} message another node broadcasts. */
+    public void subscribe(String topic, Consumer<String> handler) {
+        subscribers.put(TOPIC_PREFIX + topic, handler);
+    }
+
+    /** Sends {@code payload} to the other nodes' {@code topic} subscribers. */
+    public void broadcast(String topic, String payload) {
+        send(TOPIC_PREFIX + topic, payload);
+    }
+
+    /** Tells the other nodes to drop {@code key}, or the whole cache when {@code key} is null. */
+    void publish(String cacheName, String key) {
+        send(cacheName, key);
+    }
+
+    private void send(String target, String payload) {
+        StringBuilder message = new StringBuilder(nodeId).append(SEPARATOR).append(target);
+        if (payload != null) {
+            message.append(SEPARATOR).append(payload);
+        }
+        try {
+            redisTemplate.convertAndSend(channel, message.toString());
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish cache invalidation for {}: {}", target, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+            .split(String.valueOf(SEPARATOR), 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        Consumer<String> subscriber = subscribers.get(parts[1]);
+        if (subscriber != null) {
+            if (parts.length == 3) {
+                subscriber.accept(parts[2]);
+            }
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 3) {
+            cache.evictLocal(parts[2]);
+        } else {
+            cache.clearLocal();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.healthcare.common.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads many keys from a cache that {@code @Cacheable} fills one key at a
+ * time, so batch lookups can serve what is already cached and load only the
+ * rest with one query. With the two-level cache the keys L1 does not hold
+ * are read from Redis with a single {@code MGET}; other caches are read one
+ * key at a time.
+ *
+ * <p>A failing cache read counts as a miss, as it does for {@code @Cacheable}.
+ */
+public final class CacheMultiGet {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheMultiGet.class);
+
+    private CacheMultiGet() {
+    }
+
+    /** Values found in the cache, and the keys that still have to be loaded. */
+    public record Result<K, V>(Map<K, V> hits, Set<K> misses) {}
+
+    public static <K, V> Result<K, V> get(@Nullable Cache cache, Collection<K> keys, Class<V> type) {
+        Cache target = cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+        if (target instanceof TwoLevelCache twoLevel) {
+            return getAll(twoLevel, keys, type);
+        }
+
+        Map<K, V> hits = new HashMap<>();
+        Set<K> misses = new LinkedHashSet<>();
+        for (K key : keys) {
+            V value = cache != null ? read(cache, key, type) : null;
+            if (value != null) {
+                hits.put(key, value);
+            } else {
+                misses.add(key);
+            }
+        }
+        return new Result<>(hits, misses);
+    }
+
+    /** Stores freshly loaded values so later single and batch reads hit. */
+    public static <K, V> void putAll(@Nullable Cache cache, Map<K, V> values) {
+        if (cache == null) {
+            return;
+        }
+        try {
+            values.forEach(cache::put);
+        } catch (RuntimeException e) {
+            log.debug("Failed to populate cache {}: {}", cache.getName(), e.getMessage());
+        }
+    }
+
+    private static <K, V> Result<K, V> getAll(TwoLevelCache cache, Collection<K> keys, Class<V> type) {
+        Map<Object, Object> found;
+        try {
+            found = cache.getAll(keys);
+        } catch (RuntimeException e) {
+            log.debug("Failed to read cache {} for {} keys: {}", cache.getName(), keys.size(), e.getMessage());
+            found = Map.of();
+        }
+
+        Map<K, V> hits = new HashMap<>();
+        Set<K> misses = new LinkedHashSet<>();
+        for (K key : keys) {
+            Object value = found.get(key);
+            if (type.isInstance(value)) {
+                hits.put(key, type.cast(value));
+            } else {
+                misses.add(key);
+            }
+        }
+        return new Result<>(hits, misses);
+    }
+
+    @Nullable
+    private static <V> V read(Cache cache, Object key, Class<V> type) {
+        try {
+            Object value = cache.get(key, Object.class);
+            return type.isInstance(value) ? type.cast(value) : null;
+        } catch (RuntimeException e) {
+            log.debug("Failed to read cache {} for {}: {}", cache.getName(), key, e.getMessage());
+            return null;
+        }
+    }
+}
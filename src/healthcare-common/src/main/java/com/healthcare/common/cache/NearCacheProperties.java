@@ -0,0 +1,38 @@
+package com.healthcare.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-process L1 cache kept in front of the Redis caches. Entries live for at
+ * most {@code ttl} so a lost invalidation message only serves stale data for
+ * that long. Each cache is bounded by the serialized size of its entries,
+ * as stored in Redis, rather than their count.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "healthcare.cache.near")
+public class NearCacheProperties {
+
+    private boolean enabled = true;
+
+    private DataSize maximumWeight = DataSize.ofMegabytes(32);
+
+    private Duration ttl = Duration.ofSeconds(30);
+
+    private String channel = "healthcare:cache:invalidations";
+
+    /** Per-cache overrides of {@code maximumWeight}, keyed by cache name. */
+    private Map<String, DataSize> maximumWeights = new HashMap<>();
+
+    /** The L1 budget of the cache in bytes. */
+    public long maximumWeightFor(String cacheName) {
+        return maximumWeights.getOrDefault(cacheName, maximumWeight).toBytes();
+    }
+}
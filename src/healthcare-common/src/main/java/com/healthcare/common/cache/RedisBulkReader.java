@@ -0,0 +1,65 @@
+package com.healthcare.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads many keys of a {@link RedisCache} with one {@code MGET}. Keys are
+ * built and values decoded the way {@link RedisCache} does for a single
+ * read, so both paths see the same entries.
+ */
+class RedisBulkReader implements TwoLevelCache.BulkReader {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    RedisBulkReader(RedisConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public List<Object> read(Cache remote, List<Object> keys) {
+        if (!(remote instanceof RedisCache redisCache)) {
+            return TwoLevelCache.BulkReader.ONE_BY_ONE.read(remote, keys);
+        }
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        String prefix = config.usePrefix() ? config.getKeyPrefixFor(redisCache.getName()) : "";
+
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < rawKeys.length; i++) {
+            rawKeys[i] = toBytes(config.getKeySerializationPair().write(prefix + convertKey(config, keys.get(i))));
+        }
+
+        List<byte[]> rawValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        }
+
+        List<Object> values = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] raw = rawValues != null && i < rawValues.size() ? rawValues.get(i) : null;
+            values.add(raw != null ? config.getValueSerializationPair().read(ByteBuffer.wrap(raw)) : null);
+        }
+        return values;
+    }
+
+    private static String convertKey(RedisCacheConfiguration config, Object key) {
+        if (key instanceof String string) {
+            return string;
+        }
+        String converted = config.getConversionService().convert(key, String.class);
+        return converted != null ? converted : String.valueOf(key);
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
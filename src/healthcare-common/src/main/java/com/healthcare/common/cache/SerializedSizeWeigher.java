@@ -0,0 +1,55 @@
+package com.healthcare.common.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Weighs an L1 entry by the size its value takes in Redis, encoded with the
+ * cache's own value serializer, plus its key. Entries are weighed once, when
+ * they are put, so the cost is one extra encode per L1 fill.
+ */
+class SerializedSizeWeigher implements Weigher<String, Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(SerializedSizeWeigher.class);
+
+    /** Used when a value cannot be encoded, and for caches that are not backed by Redis. */
+    static final int FALLBACK_VALUE_WEIGHT = 1024;
+
+    private final ToIntFunction<Object> serializedSize;
+
+    SerializedSizeWeigher(ToIntFunction<Object> serializedSize) {
+        this.serializedSize = serializedSize;
+    }
+
+    static SerializedSizeWeigher forCache(Cache remote) {
+        if (remote instanceof RedisCache redisCache) {
+            SerializationPair<Object> values = redisCache.getCacheConfiguration().getValueSerializationPair();
+            return new SerializedSizeWeigher(value -> values.write(value).remaining());
+        }
+        return new SerializedSizeWeigher(value -> FALLBACK_VALUE_WEIGHT);
+    }
+
+    @Override
+    public int weigh(String key, Object value) {
+        return key.length() + valueWeight(value);
+    }
+
+    private int valueWeight(Object value) {
+        if (value == NullValue.INSTANCE) {
+            return 0;
+        }
+        try {
+            return serializedSize.applyAsInt(value);
+        } catch (RuntimeException e) {
+            log.debug("Could not encode {} to weigh it", value.getClass().getName(), e);
+            return FALLBACK_VALUE_WEIGHT;
+        }
+    }
+}
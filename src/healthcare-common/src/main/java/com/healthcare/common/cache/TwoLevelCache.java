@@ -0,0 +1,280 @@
+package com.healthcare.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Caffeine L1 in front of a Redis L2 cache. Reads are served from L1 when
+ * possible and fill it from L2 on a miss; writes and evictions go to L2,
+ * update this node's L1 and are broadcast so other nodes drop their copy.
+ *
+ * <p>Keys are held in L1 by their string form, which is also what travels in
+ * invalidation messages.
+ */
+public class TwoLevelCache implements Cache {
+
+    /** Reads many keys from the L2 cache, returning values in key order with null for a miss. */
+    @FunctionalInterface
+    interface BulkReader {
+
+        BulkReader ONE_BY_ONE = (remote, keys) -> {
+            List<Object> values = new ArrayList<>(keys.size());
+            for (Object key : keys) {
+                ValueWrapper wrapper = remote.get(key);
+                values.add(wrapper != null ? wrapper.get() : null);
+            }
+            return values;
+        };
+
+        List<Object> read(Cache remote, List<Object> keys);
+    }
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final CacheInvalidationBus invalidationBus;
+    private final BulkReader bulkReader;
+
+    /** Bumped on every invalidation so an L2 read that raced one is not cached in L1. */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+
+    TwoLevelCache(String name, Cache remote, com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                  CacheInvalidationBus invalidationBus, BulkReader bulkReader) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.invalidationBus = invalidationBus;
+        this.bulkReader = bulkReader;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(fromStore(cached));
+        }
+
+        long seen = generation.get();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        fill(localKey, wrapper.get(), seen);
+        return wrapper;
+    }
+
+    /**
+     * Reads many keys at once: L1 first, then one bulk L2 read for the rest,
+     * filling L1 as {@link #get(Object)} does. Keys found in neither level,
+     * or cached as null, are left out of the result.
+     */
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<String, Object> keysByLocalKey = new LinkedHashMap<>();
+        for (Object key : keys) {
+            keysByLocalKey.put(localKey(key), key);
+        }
+        Map<String, Object> present = local.getAllPresent(keysByLocalKey.keySet());
+
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> misses = new ArrayList<>();
+        keysByLocalKey.forEach((localKey, key) -> {
+            Object stored = present.get(localKey);
+            if (stored == null) {
+                misses.add(key);
+            } else if (stored != NullValue.INSTANCE) {
+                found.put(key, stored);
+            }
+        });
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        long seen = generation.get();
+        List<Object> values = bulkReader.read(remote, misses);
+        for (int i = 0; i < misses.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                remoteMisses.increment();
+                continue;
+            }
+            remoteHits.increment();
+            fill(localKey(misses.get(i)), value, seen);
+            found.put(misses.get(i), value);
+        }
+        return found;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        long seen = generation.get();
+        T value = remote.get(key, valueLoader);
+        fill(localKey(key), value, seen);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        puts.increment();
+        String localKey = localKey(key);
+        generation.incrementAndGet();
+        local.put(localKey, toStore(value));
+        invalidationBus.publish(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+        }
+        String localKey = localKey(key);
+        generation.incrementAndGet();
+        local.invalidate(localKey);
+        invalidationBus.publish(name, localKey);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        evictLocalOnly(localKey);
+        invalidationBus.publish(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        String localKey = localKey(key);
+        evictLocalOnly(localKey);
+        invalidationBus.publish(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocalOnly();
+        invalidationBus.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        clearLocalOnly();
+        invalidationBus.publish(name, null);
+        return invalidated;
+    }
+
+    /** Applies an invalidation received from another node. */
+    void evictLocal(String localKey) {
+        remoteInvalidations.increment();
+        evictLocalOnly(localKey);
+    }
+
+    /** Applies a clear received from another node. */
+    void clearLocal() {
+        remoteInvalidations.increment();
+        clearLocalOnly();
+    }
+
+    com.github.benmanes.caffeine.cache.Cache<String, Object> local() {
+        return local;
+    }
+
+    long remoteHits() {
+        return remoteHits.sum();
+    }
+
+    long remoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    long puts() {
+        return puts.sum();
+    }
+
+    long remoteInvalidations() {
+        return remoteInvalidations.sum();
+    }
+
+    private void evictLocalOnly(String localKey) {
+        generation.incrementAndGet();
+        local.invalidate(localKey);
+    }
+
+    private void clearLocalOnly() {
+        generation.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private void fill(String localKey, Object value, long seen) {
+        if (generation.get() != seen) {
+            return;
+        }
+        local.put(localKey, toStore(value));
+        if (generation.get() != seen) {
+            local.invalidate(localKey);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Object toStore(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private static Object fromStore(Object stored) {
+        return stored == NullValue.INSTANCE ? null : stored;
+    }
+}
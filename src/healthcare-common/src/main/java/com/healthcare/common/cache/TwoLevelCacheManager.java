@@ -0,0 +1,66 @@
+package com.healthcare.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.Collection;
+
+/**
+ * Wraps every cache of a {@link RedisCacheManager} in a {@link TwoLevelCache}.
+ * The Redis manager must not be transaction-aware itself; this manager
+ * applies that decoration around both levels so L1 and the invalidation
+ * broadcast also wait for commit.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final NearCacheProperties properties;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final RedisBulkReader bulkReader;
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager, RedisConnectionFactory connectionFactory,
+                                NearCacheProperties properties, CacheInvalidationBus invalidationBus,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.bulkReader = new RedisBulkReader(connectionFactory);
+        this.properties = properties;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return remoteCacheManager.getCacheNames().stream()
+            .map(name -> twoLevel(remoteCacheManager.getCache(name)))
+            .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        return remote != null ? twoLevel(remote) : null;
+    }
+
+    private TwoLevelCache twoLevel(Cache remote) {
+        String name = remote.getName();
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+            .maximumWeight(properties.maximumWeightFor(name))
+            .weigher(SerializedSizeWeigher.forCache(remote))
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+
+        TwoLevelCache cache = new TwoLevelCache(name, remote, local, invalidationBus, bulkReader);
+        invalidationBus.register(cache);
+        if (meterRegistry != null) {
+            new TwoLevelCacheMetrics(cache, Tags.empty()).bindTo(meterRegistry);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,73 @@
+package com.healthcare.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Standard {@code cache.*} meters for a {@link TwoLevelCache}, where a hit on
+ * either level counts as a hit, plus {@code cache.level.gets} split by level
+ * and {@code cache.invalidations.received} from other nodes.
+ */
+class TwoLevelCacheMetrics extends CacheMeterBinder<TwoLevelCache> {
+
+    TwoLevelCacheMetrics(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.local().estimatedSize() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.local().stats().hitCount() + cache.remoteHits() : 0L;
+    }
+
+    @Override
+    protected Long missCount() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.remoteMisses() : null;
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.local().stats().evictionCount() : null;
+    }
+
+    @Override
+    protected long putCount() {
+        TwoLevelCache cache = getCache();
+        return cache != null ? cache.puts() : 0L;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        TwoLevelCache cache = getCache();
+        if (cache == null) {
+            return;
+        }
+
+        FunctionCounter.builder("cache.level.gets", cache, c -> c.local().stats().hitCount())
+            .tags(getTagsWithCacheName()).tag("level", "l1").tag("result", "hit")
+            .description("Lookups answered by the in-process cache")
+            .register(registry);
+        FunctionCounter.builder("cache.level.gets", cache, TwoLevelCache::remoteHits)
+            .tags(getTagsWithCacheName()).tag("level", "l2").tag("result", "hit")
+            .description("Lookups that missed in-process and were answered by Redis")
+            .register(registry);
+        FunctionCounter.builder("cache.level.gets", cache, TwoLevelCache::remoteMisses)
+            .tags(getTagsWithCacheName()).tag("level", "l2").tag("result", "miss")
+            .description("Lookups that missed both levels")
+            .register(registry);
+        FunctionCounter.builder("cache.invalidations.received", cache, TwoLevelCache::remoteInvalidations)
+            .tags(getTagsWithCacheName())
+            .description("In-process entries dropped on request of another node")
+            .register(registry);
+    }
+}
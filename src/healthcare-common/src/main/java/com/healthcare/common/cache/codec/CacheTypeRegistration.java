@@ -0,0 +1,22 @@
+package com.healthcare.common.cache.codec;
+
+/**
+ * Registers a cached value type with the compact cache codec. Declare one as
+ * a bean in the module that owns the type.
+ *
+ * <p>{@code tag} identifies the type in stored entries and must never be
+ * reused for a different type. Bump {@code version} when a change to the
+ * type cannot read entries written by the previous shape; older entries are
+ * then treated as cache misses.
+ */
+public record CacheTypeRegistration(int tag, Class<?> type, int version) {
+
+    public CacheTypeRegistration {
+        if (tag <= 0) {
+            throw new IllegalArgumentException("Cache type tag must be positive: " + tag);
+        }
+        if (version < 0) {
+            throw new IllegalArgumentException("Cache type version must not be negative: " + version);
+        }
+    }
+}
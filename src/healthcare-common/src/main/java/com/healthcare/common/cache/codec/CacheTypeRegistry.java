@@ -0,0 +1,35 @@
+package com.healthcare.common.cache.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup of {@link CacheTypeRegistration}s by tag and by class. Duplicate
+ * tags or types fail at startup rather than corrupting cache entries.
+ */
+public class CacheTypeRegistry {
+
+    private final Map<Integer, CacheTypeRegistration> byTag = new HashMap<>();
+    private final Map<Class<?>, CacheTypeRegistration> byType = new HashMap<>();
+
+    public CacheTypeRegistry(Iterable<CacheTypeRegistration> registrations) {
+        for (CacheTypeRegistration registration : registrations) {
+            CacheTypeRegistration previous = byTag.putIfAbsent(registration.tag(), registration);
+            if (previous != null) {
+                throw new IllegalStateException("Cache type tag " + registration.tag() + " is used by both "
+                    + previous.type().getName() + " and " + registration.type().getName());
+            }
+            if (byType.putIfAbsent(registration.type(), registration) != null) {
+                throw new IllegalStateException("Cache type registered twice: " + registration.type().getName());
+            }
+        }
+    }
+
+    CacheTypeRegistration forTag(int tag) {
+        return byTag.get(tag);
+    }
+
+    CacheTypeRegistration forType(Class<?> type) {
+        return byType.get(type);
+    }
+}
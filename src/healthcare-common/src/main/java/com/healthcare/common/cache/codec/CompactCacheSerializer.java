@@ -0,0 +1,209 @@
+package com.healthcare.common.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis cache value serializer that writes registered types as Smile behind a
+ * small type header, and anything else with JDK serialization.
+ *
+ * <p>Stored layouts, told apart by the first byte:
+ * <ul>
+ *   <li>{@code 0x01} tag (varint), version (varint), shape, Smile payload</li>
+ *   <li>{@code 0x02} original length (int), LZ4 block of one of the other layouts</li>
+ *   <li>{@code 0xAC} plain JDK serialization stream, as written before this codec</li>
+ * </ul>
+ * Entries with an unknown tag or an outdated version read as a cache miss.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactCacheSerializer.class);
+
+    private static final byte FORMAT_SMILE = 0x01;
+    private static final byte FORMAT_LZ4 = 0x02;
+
+    private static final byte SHAPE_VALUE = 0;
+    private static final byte SHAPE_OPTIONAL = 1;
+    private static final byte SHAPE_EMPTY_OPTIONAL = 2;
+    private static final byte SHAPE_LIST = 3;
+
+    private final ObjectMapper smileMapper;
+    private final CacheTypeRegistry registry;
+    private final int compressionThreshold;
+    private final JdkSerializationRedisSerializer fallback = new JdkSerializationRedisSerializer();
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    /**
+     * @param smileMapper          mapper backed by a {@code SmileFactory}
+     * @param compressionThreshold encoded size in bytes from which values are LZ4-compressed
+     */
+    public CompactCacheSerializer(ObjectMapper smileMapper, CacheTypeRegistry registry, int compressionThreshold) {
+        this.smileMapper = smileMapper;
+        this.registry = registry;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        byte[] encoded = encode(value);
+        return encoded.length >= compressionThreshold ? compress(encoded) : encoded;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return switch (bytes[0]) {
+            case FORMAT_LZ4 -> decode(decompress(bytes));
+            default -> decode(bytes);
+        };
+    }
+
+    private byte[] encode(Object value) {
+        if (value instanceof Optional<?> optional) {
+            if (optional.isEmpty()) {
+                return new byte[] {FORMAT_SMILE, 0, 0, SHAPE_EMPTY_OPTIONAL};
+            }
+            CacheTypeRegistration registration = registry.forType(optional.get().getClass());
+            if (registration != null) {
+                return frame(registration, SHAPE_OPTIONAL, optional.get());
+            }
+        } else if (value instanceof List<?> list) {
+            CacheTypeRegistration registration = listRegistration(list);
+            if (registration != null) {
+                return frame(registration, SHAPE_LIST, list);
+            }
+        } else {
+            CacheTypeRegistration registration = registry.forType(value.getClass());
+            if (registration != null) {
+                return frame(registration, SHAPE_VALUE, value);
+            }
+        }
+        return fallback.serialize(value);
+    }
+
+    /**
+     * Registration shared by every element, or null when the list is empty,
+     * holds nulls, or mixes types; those lists use the fallback codec.
+     */
+    private CacheTypeRegistration listRegistration(List<?> list) {
+        if (list.isEmpty() || list.get(0) == null) {
+            return null;
+        }
+        CacheTypeRegistration registration = registry.forType(list.get(0).getClass());
+        if (registration == null) {
+            return null;
+        }
+        for (Object element : list) {
+            if (element == null || element.getClass() != registration.type()) {
+                return null;
+            }
+        }
+        return registration;
+    }
+
+    private byte[] frame(CacheTypeRegistration registration, byte shape, Object payload) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            out.write(FORMAT_SMILE);
+            writeVarint(out, registration.tag());
+            writeVarint(out, registration.version());
+            out.write(shape);
+            smileMapper.writeValue(out, payload);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Cannot encode cache value of " + registration.type().getName(), e);
+        }
+    }
+
+    private Object decode(byte[] bytes) {
+        if (bytes[0] != FORMAT_SMILE) {
+            return fallback.deserialize(bytes);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        int tag = readVarint(buffer);
+        int version = readVarint(buffer);
+        byte shape = buffer.get();
+        if (shape == SHAPE_EMPTY_OPTIONAL) {
+            return Optional.empty();
+        }
+
+        CacheTypeRegistration registration = registry.forTag(tag);
+        if (registration == null || registration.version() != version) {
+            log.debug("Ignoring cache entry with tag {} version {}", tag, version);
+            return null;
+        }
+
+        try {
+            int offset = buffer.position();
+            int length = bytes.length - offset;
+            return switch (shape) {
+                case SHAPE_VALUE -> smileMapper.readValue(bytes, offset, length, registration.type());
+                case SHAPE_OPTIONAL -> Optional.of(smileMapper.readValue(bytes, offset, length, registration.type()));
+                case SHAPE_LIST -> {
+                    JavaType listType = smileMapper.getTypeFactory()
+                        .constructCollectionType(List.class, registration.type());
+                    yield smileMapper.readValue(bytes, offset, length, listType);
+                }
+                default -> null;
+            };
+        } catch (IOException e) {
+            log.warn("Discarding unreadable cache entry of {}: {}", registration.type().getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] compress(byte[] encoded) {
+        byte[] compressed = compressor.compress(encoded);
+        return ByteBuffer.allocate(5 + compressed.length)
+            .put(FORMAT_LZ4)
+            .putInt(encoded.length)
+            .put(compressed)
+            .array();
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        int originalLength = ByteBuffer.wrap(bytes, 1, 4).getInt();
+        return decompressor.decompress(bytes, 5, originalLength);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed cache entry header");
+    }
+}
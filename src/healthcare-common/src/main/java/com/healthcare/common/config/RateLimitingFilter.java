@@ -1,26 +1,24 @@
 package com.healthcare.common.config;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.healthcare.common.ratelimit.RateLimitDecision;
+import com.healthcare.common.ratelimit.RateLimitProperties;
+import com.healthcare.common.ratelimit.RateLimitProperties.RouteClass;
+import com.healthcare.common.ratelimit.RateLimiter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Order(2)
@@ -28,20 +26,6 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(RateLimitingFilter.class);
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
-
-    @Value("${healthcare.ratelimit.anonymous.requests:30}")
-    private int anonymousRequestsPerMinute;
-
-    @Value("${healthcare.ratelimit.authenticated.requests:100}")
-    private int authenticatedRequestsPerMinute;
-
-    @Value("${healthcare.ratelimit.admin.requests:500}")
-    private int adminRequestsPerMinute;
-
-    @Value("${healthcare.ratelimit.enabled:true}")
-    private boolean rateLimitEnabled;
-
     private static final String[] EXCLUDED_PATHS = {
         "/actuator/health",
         "/actuator/info",
@@ -50,6 +34,15 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         "/v3/api-docs"
     };
 
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitingFilter(RateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -57,7 +50,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        if (!rateLimitEnabled) {
+        if (!properties.isEnabled()) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -70,44 +63,52 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             }
         }
 
-        String clientKey = resolveClientKey(request);
-        Bucket bucket = resolveBucket(clientKey, request);
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String clientKey = resolveClientKey(auth, request);
+        Limit limit = resolveLimit(auth, request);
 
-        if (bucket.tryConsume(1)) {
+        RateLimitDecision decision = rateLimiter.tryConsume(
+            limit.name() + ":" + clientKey, limit.requests(), properties.getWindow());
+        writeRateLimitHeaders(response, decision);
 
+        if (decision.allowed()) {
             filterChain.doFilter(request, response);
-        } else {
-
-            log.warn("Rate limit exceeded for client: {}, path: {}", clientKey, path);
-
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.setContentType("application/problem+json");
-            response.setHeader("Retry-After", "60");
-            response.setHeader("X-RateLimit-Remaining", "0");
-
-            String errorResponse = """
-                {
-                    "type": "https:
-                    "title": "Too Many Requests",
-                    "status": 429,
-                    "detail": "Rate limit exceeded. Please retry after 60 seconds.",
-                    "instance": "%s"
-                }
-                """.formatted(path);
-
-            response.getWriter().write(errorResponse);
+            return;
         }
+
+        log.warn("Rate limit exceeded for client: {}, class: {}, path: {}", clientKey, limit.name(), path);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType("application/problem+json");
+        response.setHeader("Retry-After", String.valueOf(decision.resetSeconds()));
+
+        String errorResponse = """
+            {
+                "type": "https://api.healthcare.com/errors/rate-limited",
+                "title": "Too Many Requests",
+                "status": 429,
+                "detail": "Rate limit exceeded. Please retry after %d seconds.",
+                "instance": "%s"
+            }
+            """.formatted(decision.resetSeconds(), path);
+
+        response.getWriter().write(errorResponse);
+    }
+
+    private void writeRateLimitHeaders(HttpServletResponse response, RateLimitDecision decision) {
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+        response.setHeader("RateLimit-Policy",
+            decision.limit() + ";w=" + properties.getWindow().toSeconds());
     }
 
     /**
      * Resolves a unique key for the client.
      * Uses authenticated username if available, otherwise IP address.
      */
-    private String resolveClientKey(HttpServletRequest request) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-
-        if (auth != null && auth.isAuthenticated()
-                && !"anonymousUser".equals(auth.getPrincipal())) {
+    private String resolveClientKey(Authentication auth, HttpServletRequest request) {
+        if (isAuthenticated(auth)) {
             return "user:" + auth.getName();
         }
 
@@ -116,31 +117,27 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Gets or creates a rate limit bucket for the client.
-     */
-    private Bucket resolveBucket(String key, HttpServletRequest request) {
-        return buckets.computeIfAbsent(key, k -> createBucket(request));
-    }
-
-    /**
-     * Creates a new bucket with appropriate limits based on authentication.
+     * Picks the first matching route class, otherwise the caller's tier.
      */
-    private Bucket createBucket(HttpServletRequest request) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    private Limit resolveLimit(Authentication auth, HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (RouteClass route : properties.getRoutes()) {
+            if ((route.getMethods().isEmpty() || route.getMethods().contains(request.getMethod()))
+                    && pathMatcher.match(route.getPattern(), path)) {
+                return new Limit("route:" + route.getName(), route.getRequests());
+            }
+        }
 
-        int limit;
-        if (auth == null || !auth.isAuthenticated()
-                || "anonymousUser".equals(auth.getPrincipal())) {
-            limit = anonymousRequestsPerMinute;
+        if (!isAuthenticated(auth)) {
+            return new Limit("anonymous", properties.getAnonymous().getRequests());
         } else if (hasAdminRole(auth)) {
-            limit = adminRequestsPerMinute;
-        } else {
-            limit = authenticatedRequestsPerMinute;
+            return new Limit("admin", properties.getAdmin().getRequests());
         }
+        return new Limit("authenticated", properties.getAuthenticated().getRequests());
+    }
 
-        return Bucket.builder()
-            .addLimit(Bandwidth.classic(limit, Refill.greedy(limit, Duration.ofMinutes(1))))
-            .build();
+    private static boolean isAuthenticated(Authentication auth) {
+        return auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal());
     }
 
     /**
@@ -152,20 +149,15 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Gets client IP, respecting X-Forwarded-For for proxied requests.
+     * Gets client IP. X-Forwarded-For is not read here: any client can send
+     * it, and a fresh value per request would get a fresh bucket. Behind a
+     * proxy, {@code server.forward-headers-strategy=native} has the servlet
+     * container resolve the remote address from the header, and only when
+     * the hop that sent it is a trusted internal proxy.
      */
     private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
         return request.getRemoteAddr();
     }
 
-    /**
-     * Clears the bucket cache. Useful for testing.
-     */
-    public void clearBuckets() {
-        buckets.clear();
-    }
+    private record Limit(String name, int requests) {}
 }
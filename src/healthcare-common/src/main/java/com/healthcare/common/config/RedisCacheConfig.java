@@ -1,7 +1,19 @@
 package com.healthcare.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.healthcare.common.cache.CacheInvalidationBus;
+import com.healthcare.common.cache.NearCacheProperties;
+import com.healthcare.common.cache.TwoLevelCacheManager;
+import com.healthcare.common.cache.codec.CacheTypeRegistration;
+import com.healthcare.common.cache.codec.CacheTypeRegistry;
+import com.healthcare.common.cache.codec.CompactCacheSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -10,7 +22,9 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -20,6 +34,7 @@ import java.util.Map;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(NearCacheProperties.class)
 public class RedisCacheConfig {
 
     private static final Logger log = LoggerFactory.getLogger(RedisCacheConfig.class);
@@ -27,6 +42,8 @@ public class RedisCacheConfig {
     public static final String CACHE_PATIENTS = "patients";
     public static final String CACHE_PROVIDERS = "providers";
     public static final String CACHE_APPOINTMENTS = "appointments";
+    public static final String CACHE_LOCATIONS = "locations";
+    public static final String CACHE_CLAIMS = "claims";
     public static final String CACHE_ROLES = "roles";
     public static final String CACHE_PERMISSIONS = "permissions";
     public static final String CACHE_USERS = "users";
@@ -37,17 +54,48 @@ public class RedisCacheConfig {
     private static final Duration USER_DATA_TTL = Duration.ofMinutes(5);
     private static final Duration SESSION_TTL = Duration.ofMinutes(15);
 
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "healthcare.cache.near", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                                     NearCacheProperties properties) {
+        return new CacheInvalidationBus(redisTemplate, properties.getChannel());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "healthcare.cache.near", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationBus invalidationBus,
+            NearCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+
     @Bean
     @Primary
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        log.info("Creating custom RedisCacheManager with JDK serialization");
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     NearCacheProperties nearCacheProperties,
+                                     ObjectMapper objectMapper,
+                                     ObjectProvider<CacheTypeRegistration> cacheTypes,
+                                     ObjectProvider<CacheInvalidationBus> invalidationBus,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        log.info("Creating custom RedisCacheManager with compact Smile serialization");
+
+        CompactCacheSerializer valueSerializer = new CompactCacheSerializer(
+                objectMapper.copyWith(new SmileFactory()),
+                new CacheTypeRegistry(cacheTypes.orderedStream().toList()),
+                COMPRESSION_THRESHOLD_BYTES);
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(DEFAULT_TTL)
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new JdkSerializationRedisSerializer()))
+                        .fromSerializer(valueSerializer))
                 .disableCachingNullValues();
 
         Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
@@ -61,11 +109,26 @@ public class RedisCacheConfig {
         cacheConfigs.put(CACHE_USERS, defaultConfig.entryTtl(USER_DATA_TTL));
 
         cacheConfigs.put(CACHE_APPOINTMENTS, defaultConfig.entryTtl(Duration.ofMinutes(2)));
+        cacheConfigs.put(CACHE_LOCATIONS, defaultConfig.entryTtl(REFERENCE_DATA_TTL));
+        cacheConfigs.put(CACHE_CLAIMS, defaultConfig.entryTtl(Duration.ofMinutes(2)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
-                .withInitialCacheConfigurations(cacheConfigs)
-                .transactionAware()
-                .build();
+                .withInitialCacheConfigurations(cacheConfigs);
+
+        CacheInvalidationBus bus = invalidationBus.getIfAvailable();
+        if (!nearCacheProperties.isEnabled() || bus == null) {
+            return builder.transactionAware().build();
+        }
+
+        log.info("Fronting Redis caches with an in-process near cache (ttl={}, maximumWeight={})",
+                nearCacheProperties.getTtl(), nearCacheProperties.getMaximumWeight());
+        RedisCacheManager remote = builder.build();
+        remote.initializeCaches();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                remote, connectionFactory, nearCacheProperties, bus, meterRegistry.getIfAvailable());
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
     }
 }
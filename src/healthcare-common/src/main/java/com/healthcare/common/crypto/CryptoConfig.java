@@ -0,0 +1,40 @@
+package com.healthcare.common.crypto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReencryptionProperties.class)
+@ConditionalOnProperty(prefix = "healthcare.crypto.reencryption", name = "enabled", havingValue = "true")
+public class CryptoConfig {
+
+    @Bean
+    public ReencryptionRepository reencryptionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new ReencryptionRepository(jdbcTemplate);
+    }
+
+    @Bean
+    public ReencryptionJob reencryptionJob(ObjectProvider<EncryptedColumn> columns,
+                                           ReencryptionRepository repository,
+                                           PlatformTransactionManager transactionManager,
+                                           ReencryptionProperties properties,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReencryptionJob(
+            columns.orderedStream().toList(),
+            repository,
+            FieldCipher.shared(),
+            new TransactionTemplate(transactionManager),
+            properties,
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
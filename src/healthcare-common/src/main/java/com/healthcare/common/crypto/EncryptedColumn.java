@@ -0,0 +1,23 @@
+package com.healthcare.common.crypto;
+
+import java.util.regex.Pattern;
+
+/**
+ * A column written through {@link EncryptedStringConverter}, keyed by a UUID
+ * {@code id}. Declare one as a bean in the owning module so the
+ * re-encryption job can walk it after a key rotation.
+ */
+public record EncryptedColumn(String table, String column) {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    public EncryptedColumn {
+        if (!IDENTIFIER.matcher(table).matches() || !IDENTIFIER.matcher(column).matches()) {
+            throw new IllegalArgumentException("Invalid encrypted column " + table + "." + column);
+        }
+    }
+
+    public String qualifiedName() {
+        return table + "." + column;
+    }
+}
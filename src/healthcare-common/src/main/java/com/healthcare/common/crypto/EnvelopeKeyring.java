@@ -0,0 +1,152 @@
+package com.healthcare.common.crypto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keyring whose data keys are stored wrapped (AES key wrap, RFC 3394) by a
+ * master key, so only the master key has to come from a secret store.
+ *
+ * <p>Environment:
+ * <ul>
+ *   <li>{@code ENCRYPTION_MASTER_KEY} base64 256-bit key-encryption key</li>
+ *   <li>{@code ENCRYPTION_DATA_KEYS} {@code version:base64(wrappedKey)}, comma-separated</li>
+ *   <li>{@code ENCRYPTION_KEY_VERSION} version used for new values, default 1</li>
+ * </ul>
+ * Without a master key the unwrapped {@code ENCRYPTION_KEY} and
+ * {@code ENCRYPTION_PREVIOUS_KEYS} are used instead.
+ */
+public final class EnvelopeKeyring implements Keyring {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvelopeKeyring.class);
+
+    private static final String KEY_ALGORITHM = "AES";
+    private static final String WRAP_ALGORITHM = "AESWrap";
+    private static final int DEFAULT_KEY_VERSION = 1;
+
+    private static final String MASTER_KEY_ENV = "ENCRYPTION_MASTER_KEY";
+    private static final String DATA_KEYS_ENV = "ENCRYPTION_DATA_KEYS";
+    private static final String ENCRYPTION_KEY_ENV = "ENCRYPTION_KEY";
+    private static final String ENCRYPTION_KEY_VERSION_ENV = "ENCRYPTION_KEY_VERSION";
+    private static final String PREVIOUS_KEYS_ENV = "ENCRYPTION_PREVIOUS_KEYS";
+    private static final String DEV_KEY = "YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXoxMjM0NTY=";
+    private static final String DEV_KEY_WARNING = "DEVELOPMENT_KEY_DO_NOT_USE_IN_PRODUCTION";
+
+    private final Map<Integer, SecretKey> dataKeys;
+    private final int currentVersion;
+
+    public EnvelopeKeyring(Map<Integer, SecretKey> dataKeys, int currentVersion) {
+        if (!dataKeys.containsKey(currentVersion)) {
+            throw new IllegalStateException("No data key for current version " + currentVersion);
+        }
+        this.dataKeys = Map.copyOf(dataKeys);
+        this.currentVersion = currentVersion;
+    }
+
+    @Override
+    public int currentVersion() {
+        return currentVersion;
+    }
+
+    @Override
+    public SecretKey dataKey(int version) {
+        SecretKey key = dataKeys.get(version);
+        if (key == null) {
+            throw new IllegalStateException("No data key configured for key version " + version);
+        }
+        return key;
+    }
+
+    /** Wraps a new data key for {@code ENCRYPTION_DATA_KEYS}. */
+    public static byte[] wrap(SecretKey masterKey, SecretKey dataKey) {
+        try {
+            Cipher cipher = Cipher.getInstance(WRAP_ALGORITHM);
+            cipher.init(Cipher.WRAP_MODE, masterKey);
+            return cipher.wrap(dataKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to wrap data key", e);
+        }
+    }
+
+    static SecretKey unwrap(SecretKey masterKey, byte[] wrappedKey) {
+        try {
+            Cipher cipher = Cipher.getInstance(WRAP_ALGORITHM);
+            cipher.init(Cipher.UNWRAP_MODE, masterKey);
+            return (SecretKey) cipher.unwrap(wrappedKey, KEY_ALGORITHM, Cipher.SECRET_KEY);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to unwrap data key; is ENCRYPTION_MASTER_KEY correct?", e);
+        }
+    }
+
+    public static EnvelopeKeyring fromEnvironment() {
+        String versionValue = System.getenv(ENCRYPTION_KEY_VERSION_ENV);
+        int currentVersion = versionValue == null || versionValue.isBlank()
+            ? DEFAULT_KEY_VERSION
+            : Integer.parseInt(versionValue.trim());
+
+        String masterKey = System.getenv(MASTER_KEY_ENV);
+        if (masterKey != null && !masterKey.isBlank()) {
+            SecretKey master = toKey(masterKey);
+            Map<Integer, SecretKey> dataKeys = new HashMap<>();
+            parseVersionedKeys(System.getenv(DATA_KEYS_ENV), DATA_KEYS_ENV)
+                .forEach((version, wrapped) -> dataKeys.put(version, unwrap(master, decode(wrapped))));
+            log.info("Loaded {} wrapped data keys, current version {}", dataKeys.size(), currentVersion);
+            return new EnvelopeKeyring(dataKeys, currentVersion);
+        }
+
+        String keyBase64 = System.getenv(ENCRYPTION_KEY_ENV);
+        if (keyBase64 == null || keyBase64.isEmpty()) {
+            log.warn("ENCRYPTION_KEY not set. Using development key. DO NOT USE IN PRODUCTION!");
+            keyBase64 = DEV_KEY;
+        } else if (keyBase64.contains(DEV_KEY_WARNING)) {
+            throw new IllegalStateException(
+                "Production encryption key not configured. Set ENCRYPTION_KEY environment variable.");
+        }
+
+        Map<Integer, SecretKey> dataKeys = new HashMap<>();
+        parseVersionedKeys(System.getenv(PREVIOUS_KEYS_ENV), PREVIOUS_KEYS_ENV)
+            .forEach((version, key) -> dataKeys.put(version, toKey(key)));
+        dataKeys.put(currentVersion, toKey(keyBase64));
+        return new EnvelopeKeyring(dataKeys, currentVersion);
+    }
+
+    private static Map<Integer, String> parseVersionedKeys(String value, String variable) {
+        Map<Integer, String> keys = new HashMap<>();
+        if (value == null || value.isBlank()) {
+            return keys;
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalStateException(variable + " entries must be version:base64key");
+            }
+            keys.put(Integer.parseInt(parts[0]), parts[1].trim());
+        }
+        return keys;
+    }
+
+    private static SecretKey toKey(String keyBase64) {
+        byte[] keyBytes = decode(keyBase64);
+        if (keyBytes.length != 32) {
+            throw new IllegalStateException(
+                "Encryption keys must be exactly 32 bytes (256 bits). Got: " + keyBytes.length);
+        }
+        return new SecretKeySpec(keyBytes, KEY_ALGORITHM);
+    }
+
+    private static byte[] decode(String base64) {
+        try {
+            return Base64.getDecoder().decode(base64.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Encryption keys must be valid Base64", e);
+        }
+    }
+}
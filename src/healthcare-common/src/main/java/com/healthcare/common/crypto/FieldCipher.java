@@ -0,0 +1,129 @@
+package com.healthcare.common.crypto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * AES-256-GCM encryption of single string fields.
+ *
+ * <p>Ciphertext is stored as {@code v<keyVersion>:<base64(iv || ciphertext || tag)>}
+ * with the key version also bound as associated data, so a value always
+ * names the key it needs and keys can be rotated without rewriting the
+ * table. Values without a prefix were written before versioning and are
+ * read with key version 1.
+ *
+ * <p>One {@link Cipher} is kept per thread and re-initialised for every
+ * value with a fresh IV.
+ */
+public final class FieldCipher {
+
+    private static final Logger log = LoggerFactory.getLogger(FieldCipher.class);
+
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_LENGTH = 128;
+    private static final int LEGACY_KEY_VERSION = 1;
+
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES/GCM is not available", e);
+        }
+    });
+
+    private final Keyring keyring;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public FieldCipher(Keyring keyring) {
+        this.keyring = keyring;
+    }
+
+    /** The process-wide instance, keyed from the environment on first use. */
+    public static FieldCipher shared() {
+        return Holder.INSTANCE;
+    }
+
+    public int currentVersion() {
+        return keyring.currentVersion();
+    }
+
+    /** Whether a stored value is not yet in the current key version's format. */
+    public boolean needsReencryption(String stored) {
+        return !stored.startsWith("v" + keyring.currentVersion() + ":");
+    }
+
+    public String encrypt(String plaintext) {
+        byte[] input = plaintext.getBytes(StandardCharsets.UTF_8);
+        try {
+            int currentVersion = keyring.currentVersion();
+            Cipher cipher = CIPHER.get();
+            byte[] iv = new byte[GCM_IV_LENGTH];
+            secureRandom.nextBytes(iv);
+            cipher.init(Cipher.ENCRYPT_MODE, keyring.dataKey(currentVersion), new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            cipher.updateAAD(versionAad(currentVersion));
+
+            byte[] output = new byte[GCM_IV_LENGTH + cipher.getOutputSize(input.length)];
+            System.arraycopy(iv, 0, output, 0, GCM_IV_LENGTH);
+            cipher.doFinal(input, 0, input.length, output, GCM_IV_LENGTH);
+
+            return "v" + currentVersion + ':' + Base64.getEncoder().encodeToString(output);
+        } catch (GeneralSecurityException e) {
+            log.error("Failed to encrypt attribute", e);
+            throw new IllegalStateException("Encryption failed", e);
+        }
+    }
+
+    public String decrypt(String stored) {
+        int separator = stored.indexOf(':');
+        int version = separator > 0 ? parseVersion(stored, separator) : LEGACY_KEY_VERSION;
+        SecretKey key = keyring.dataKey(version);
+
+        try {
+            byte[] data = Base64.getDecoder().decode(separator > 0 ? stored.substring(separator + 1) : stored);
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, data, 0, GCM_IV_LENGTH));
+            if (separator > 0) {
+                cipher.updateAAD(versionAad(version));
+            }
+            byte[] plaintext = cipher.doFinal(data, GCM_IV_LENGTH, data.length - GCM_IV_LENGTH);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            log.error("Failed to decrypt attribute", e);
+            throw new IllegalStateException("Decryption failed", e);
+        }
+    }
+
+    /** Key version a stored value was written with. */
+    public int keyVersionOf(String stored) {
+        int separator = stored.indexOf(':');
+        return separator > 0 ? parseVersion(stored, separator) : LEGACY_KEY_VERSION;
+    }
+
+    private static int parseVersion(String stored, int separator) {
+        if (stored.charAt(0) != 'v') {
+            throw new IllegalStateException("Unrecognised ciphertext format");
+        }
+        try {
+            return Integer.parseInt(stored, 1, separator, 10);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Unrecognised ciphertext key version", e);
+        }
+    }
+
+    private static byte[] versionAad(int version) {
+        return ("v" + version).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Holder {
+        private static final FieldCipher INSTANCE = new FieldCipher(EnvelopeKeyring.fromEnvironment());
+    }
+}
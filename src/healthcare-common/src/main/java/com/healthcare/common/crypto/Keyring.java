@@ -0,0 +1,18 @@
+package com.healthcare.common.crypto;
+
+import javax.crypto.SecretKey;
+
+/**
+ * Versioned data-encryption keys. New values are encrypted with the current
+ * version; older versions stay available for reading until every value has
+ * been re-encrypted.
+ */
+public interface Keyring {
+
+    int currentVersion();
+
+    /**
+     * @throws IllegalStateException if no key with that version is configured
+     */
+    SecretKey dataKey(int version);
+}
@@ -0,0 +1,156 @@
+package com.healthcare.common.crypto;
+
+import com.healthcare.common.crypto.ReencryptionRepository.Checkpoint;
+import com.healthcare.common.crypto.ReencryptionRepository.EncryptedValue;
+import com.healthcare.common.crypto.ReencryptionRepository.Rewrite;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Re-encrypts every registered {@link EncryptedColumn} under the current key
+ * version after a rotation. Columns are walked in id order, one batch per
+ * transaction; each batch records its last id so a restart resumes where
+ * the previous run stopped. Reads are paced to {@code rowsPerSecond}.
+ */
+public class ReencryptionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ReencryptionJob.class);
+
+    private final List<EncryptedColumn> columns;
+    private final ReencryptionRepository repository;
+    private final FieldCipher fieldCipher;
+    private final TransactionTemplate transactionTemplate;
+    private final ReencryptionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger pendingColumns = new AtomicInteger();
+    private final Map<String, Counter> scanned = new ConcurrentHashMap<>();
+    private final Map<String, Counter> reencrypted = new ConcurrentHashMap<>();
+
+    public ReencryptionJob(List<EncryptedColumn> columns,
+                           ReencryptionRepository repository,
+                           FieldCipher fieldCipher,
+                           TransactionTemplate transactionTemplate,
+                           ReencryptionProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.columns = columns;
+        this.repository = repository;
+        this.fieldCipher = fieldCipher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.pendingColumns.set(columns.size());
+
+        Gauge.builder("healthcare.crypto.reencryption.columns.pending", pendingColumns, AtomicInteger::get)
+            .description("Encrypted columns not yet fully re-encrypted under the current key")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelay = 60000, fixedDelay = 300000)
+    public void run() {
+        Instant deadline = Instant.now().plus(properties.getMaxRunTime());
+        int pending = 0;
+        for (EncryptedColumn column : columns) {
+            try {
+                if (!reencrypt(column, deadline)) {
+                    pending++;
+                }
+            } catch (Exception e) {
+                // A failed column stays pending; its checkpoint lets the next run resume it.
+                log.error("Error re-encrypting {}", column.qualifiedName(), e);
+                pending++;
+            }
+        }
+        pendingColumns.set(pending);
+    }
+
+    /** Returns whether the column is fully on the current key version. */
+    private boolean reencrypt(EncryptedColumn column, Instant deadline) {
+        int batchSize = properties.getBatchSize();
+        long minBatchMillis = batchSize * 1000L / Math.max(1, properties.getRowsPerSecond());
+
+        while (Instant.now().isBefore(deadline) && !Thread.currentThread().isInterrupted()) {
+            long started = System.currentTimeMillis();
+            BatchOutcome outcome = transactionTemplate.execute(status -> runBatch(column, batchSize));
+            if (outcome == BatchOutcome.COMPLETED) {
+                return true;
+            }
+            if (outcome == BatchOutcome.LOCKED) {
+                log.debug("Re-encryption is running on another node");
+                return false;
+            }
+
+            long remaining = minBatchMillis - (System.currentTimeMillis() - started);
+            if (remaining > 0) {
+                try {
+                    Thread.sleep(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        return false;
+    }
+
+    private BatchOutcome runBatch(EncryptedColumn column, int batchSize) {
+        if (!repository.tryLock()) {
+            return BatchOutcome.LOCKED;
+        }
+
+        int targetVersion = fieldCipher.currentVersion();
+        Checkpoint checkpoint = repository.findCheckpoint(column);
+        if (checkpoint == null || checkpoint.keyVersion() != targetVersion) {
+            log.info("Starting re-encryption of {} to key version {}", column.qualifiedName(), targetVersion);
+            checkpoint = Checkpoint.start(targetVersion);
+        }
+        if (checkpoint.completed()) {
+            return BatchOutcome.COMPLETED;
+        }
+
+        List<EncryptedValue> rows = repository.findBatch(column, checkpoint.lastId(), batchSize);
+        List<Rewrite> rewrites = new ArrayList<>();
+        for (EncryptedValue row : rows) {
+            if (fieldCipher.needsReencryption(row.value())) {
+                rewrites.add(new Rewrite(row.id(), row.value(), fieldCipher.encrypt(fieldCipher.decrypt(row.value()))));
+            }
+        }
+        int updated = repository.rewrite(column, rewrites);
+
+        boolean completed = rows.size() < batchSize;
+        Checkpoint next = new Checkpoint(
+            targetVersion,
+            rows.isEmpty() ? checkpoint.lastId() : rows.get(rows.size() - 1).id(),
+            checkpoint.rowsReencrypted() + updated,
+            completed);
+        repository.saveCheckpoint(column, next);
+
+        counter(scanned, "healthcare.crypto.reencryption.rows.scanned", column).increment(rows.size());
+        counter(reencrypted, "healthcare.crypto.reencryption.rows.reencrypted", column).increment(updated);
+        if (completed) {
+            log.info("Finished re-encrypting {} to key version {}: {} rows rewritten",
+                column.qualifiedName(), targetVersion, next.rowsReencrypted());
+            return BatchOutcome.COMPLETED;
+        }
+        return BatchOutcome.CONTINUE;
+    }
+
+    private Counter counter(Map<String, Counter> counters, String name, EncryptedColumn column) {
+        return counters.computeIfAbsent(column.qualifiedName(), key -> Counter.builder(name)
+            .tag("column", key)
+            .register(meterRegistry));
+    }
+
+    private enum BatchOutcome { CONTINUE, COMPLETED, LOCKED }
+}
@@ -0,0 +1,23 @@
+package com.healthcare.common.crypto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "healthcare.crypto.reencryption")
+public class ReencryptionProperties {
+
+    private boolean enabled = false;
+
+    private int batchSize = 500;
+
+    /** Upper bound on rows read per second across all columns. */
+    private int rowsPerSecond = 200;
+
+    /** How long one scheduled run may work before yielding until the next. */
+    private Duration maxRunTime = Duration.ofMinutes(10);
+}
@@ -0,0 +1,109 @@
+package com.healthcare.common.crypto;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch reads and conditional rewrites of encrypted columns, plus the
+ * per-column checkpoints in {@code encryption_reencryption_checkpoints}.
+ */
+public class ReencryptionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ReencryptionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record EncryptedValue(UUID id, String value) {}
+
+    public record Rewrite(UUID id, String oldValue, String newValue) {}
+
+    public record Checkpoint(int keyVersion, UUID lastId, long rowsReencrypted, boolean completed) {
+        static Checkpoint start(int keyVersion) {
+            return new Checkpoint(keyVersion, null, 0, false);
+        }
+    }
+
+    /** Transaction-scoped advisory lock so only one node re-encrypts at a time. */
+    public boolean tryLock() {
+        Boolean locked = jdbcTemplate.getJdbcTemplate().queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext('encryption_reencryption'))", Boolean.class);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    public Checkpoint findCheckpoint(EncryptedColumn column) {
+        List<Checkpoint> rows = jdbcTemplate.query(
+            "SELECT key_version, last_id, rows_reencrypted, completed_at IS NOT NULL AS completed " +
+            "FROM encryption_reencryption_checkpoints WHERE table_name = :table AND column_name = :column",
+            columnParams(column),
+            (rs, rowNum) -> new Checkpoint(
+                rs.getInt("key_version"),
+                rs.getObject("last_id", UUID.class),
+                rs.getLong("rows_reencrypted"),
+                rs.getBoolean("completed")));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public void saveCheckpoint(EncryptedColumn column, Checkpoint checkpoint) {
+        jdbcTemplate.update(
+            "INSERT INTO encryption_reencryption_checkpoints " +
+            "(table_name, column_name, key_version, last_id, rows_reencrypted, completed_at, updated_at) " +
+            "VALUES (:table, :column, :keyVersion, :lastId, :rows, " +
+            "        CASE WHEN :completed THEN now() END, now()) " +
+            "ON CONFLICT (table_name, column_name) DO UPDATE SET " +
+            "key_version = EXCLUDED.key_version, last_id = EXCLUDED.last_id, " +
+            "rows_reencrypted = EXCLUDED.rows_reencrypted, completed_at = EXCLUDED.completed_at, " +
+            "updated_at = EXCLUDED.updated_at",
+            columnParams(column)
+                .addValue("keyVersion", checkpoint.keyVersion())
+                .addValue("lastId", checkpoint.lastId())
+                .addValue("rows", checkpoint.rowsReencrypted())
+                .addValue("completed", checkpoint.completed()));
+    }
+
+    /** Next {@code limit} non-null values after {@code afterId}, in id order. */
+    public List<EncryptedValue> findBatch(EncryptedColumn column, UUID afterId, int limit) {
+        String sql = "SELECT id, " + column.column() + " AS value FROM " + column.table() +
+            " WHERE " + column.column() + " IS NOT NULL" +
+            (afterId != null ? " AND id > :afterId" : "") +
+            " ORDER BY id LIMIT :limit";
+        return jdbcTemplate.query(sql,
+            new MapSqlParameterSource("afterId", afterId).addValue("limit", limit),
+            (rs, rowNum) -> new EncryptedValue(rs.getObject("id", UUID.class), rs.getString("value")));
+    }
+
+    /**
+     * Rewrites values that still hold what was read; rows changed by the
+     * application in the meantime were already written with the current key.
+     */
+    public int rewrite(EncryptedColumn column, List<Rewrite> rewrites) {
+        if (rewrites.isEmpty()) {
+            return 0;
+        }
+        String sql = "UPDATE " + column.table() + " SET " + column.column() + " = :newValue" +
+            " WHERE id = :id AND " + column.column() + " = :oldValue";
+        SqlParameterSource[] batch = rewrites.stream()
+            .map(r -> new MapSqlParameterSource()
+                .addValue("id", r.id())
+                .addValue("oldValue", r.oldValue())
+                .addValue("newValue", r.newValue()))
+            .toArray(SqlParameterSource[]::new);
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(sql, batch)) {
+            updated += Math.max(count, 0);
+        }
+        return updated;
+    }
+
+    private static MapSqlParameterSource columnParams(EncryptedColumn column) {
+        return new MapSqlParameterSource()
+            .addValue("table", column.table())
+            .addValue("column", column.column());
+    }
+}
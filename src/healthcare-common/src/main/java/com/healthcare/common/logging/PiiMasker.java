@@ -0,0 +1,289 @@
+package com.healthcare.common.logging;
+
+/**
+ * Masks SSNs, card numbers, phone numbers, email addresses and MRNs in free
+ * text in a single left-to-right pass. Text without a digit or {@code @} is
+ * returned as is without further scanning, and text with nothing to mask is
+ * returned without copying.
+ *
+ * <p>Shapes recognised:
+ * <ul>
+ *   <li>SSN {@code ddd-dd-dddd} between word boundaries</li>
+ *   <li>card: four groups of four digits, optionally space or dash separated</li>
+ *   <li>phone: optional {@code +1}, optional parentheses around the area code,
+ *       {@code ddd ddd dddd} with optional space, dot or dash separators;
+ *       not part of a longer digit run</li>
+ *   <li>email: {@code local@domain.tld}</li>
+ *   <li>MRN: {@code MRN} (any case), optional dash, 6 to 12 letters or digits</li>
+ * </ul>
+ */
+public final class PiiMasker {
+
+    static final String SSN_MASK = "***-**-****";
+    static final String EMAIL_MASK = "***@***.***";
+    static final String PHONE_MASK = "***-***-****";
+    static final String CREDIT_CARD_MASK = "****-****-****-****";
+    static final String MRN_MASK = "MRN-********";
+
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private PiiMasker() {
+    }
+
+    public static String mask(String text) {
+        if (text == null || text.isEmpty() || !mayContainPii(text)) {
+            return text;
+        }
+
+        int length = text.length();
+        StringBuilder out = null;
+        int plainStart = 0;
+        int i = 0;
+
+        while (i < length) {
+            char c = text.charAt(i);
+            int start = i;
+            int end = -1;
+            String mask = null;
+
+            if (isDigit(c) || c == '+' || c == '(') {
+                if ((end = matchCard(text, i)) > 0) {
+                    mask = CREDIT_CARD_MASK;
+                } else if ((end = matchSsn(text, i)) > 0) {
+                    mask = SSN_MASK;
+                } else if ((end = matchPhone(text, i)) > 0) {
+                    mask = PHONE_MASK;
+                }
+                if (mask != SSN_MASK && mask != null && emailFollows(text, end)) {
+                    mask = null;
+                }
+            } else if (c == '@') {
+                start = localPartStart(text, i, plainStart);
+                if (start < i && (end = matchDomain(text, i + 1)) > 0) {
+                    mask = EMAIL_MASK;
+                }
+            } else if (c == 'M' || c == 'm') {
+                if ((end = matchMrn(text, i)) > 0 && !emailFollows(text, end)) {
+                    mask = MRN_MASK;
+                }
+            }
+
+            if (mask == null) {
+                i++;
+                continue;
+            }
+            if (out == null) {
+                out = BUFFER.get();
+                out.setLength(0);
+            }
+            out.append(text, plainStart, start).append(mask);
+            plainStart = end;
+            i = end;
+        }
+
+        if (out == null) {
+            return text;
+        }
+        out.append(text, plainStart, length);
+        String masked = out.toString();
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        } else {
+            out.setLength(0);
+        }
+        return masked;
+    }
+
+    private static boolean mayContainPii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isDigit(c) || c == '@') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int matchCard(String text, int i) {
+        if (isWordChar(text, i - 1)) {
+            return -1;
+        }
+        int pos = i;
+        for (int group = 0; group < 4; group++) {
+            if (group > 0 && pos < text.length() && (text.charAt(pos) == '-' || Character.isWhitespace(text.charAt(pos)))) {
+                pos++;
+            }
+            if (!digits(text, pos, 4)) {
+                return -1;
+            }
+            pos += 4;
+        }
+        return isWordChar(text, pos) ? -1 : pos;
+    }
+
+    private static int matchSsn(String text, int i) {
+        if (isWordChar(text, i - 1)
+                || !digits(text, i, 3) || !charAt(text, i + 3, '-')
+                || !digits(text, i + 4, 2) || !charAt(text, i + 6, '-')
+                || !digits(text, i + 7, 4)) {
+            return -1;
+        }
+        return isWordChar(text, i + 11) ? -1 : i + 11;
+    }
+
+    private static int matchPhone(String text, int i) {
+        if (isDigit(text, i - 1)) {
+            return -1;
+        }
+        int pos = i;
+        if (charAt(text, pos, '+')) {
+            if (!charAt(text, pos + 1, '1')) {
+                return -1;
+            }
+            pos += 2;
+            pos = skipPhoneSeparator(text, pos);
+        }
+        if (charAt(text, pos, '(')) {
+            pos++;
+        }
+        if (!digits(text, pos, 3)) {
+            return -1;
+        }
+        pos += 3;
+        if (charAt(text, pos, ')')) {
+            pos++;
+        }
+        pos = skipPhoneSeparator(text, pos);
+        if (!digits(text, pos, 3)) {
+            return -1;
+        }
+        pos = skipPhoneSeparator(text, pos + 3);
+        if (!digits(text, pos, 4)) {
+            return -1;
+        }
+        pos += 4;
+        return isDigit(text, pos) ? -1 : pos;
+    }
+
+    /**
+     * Whether the match ending at {@code end} runs on into an email's local
+     * part. Email was masked before phone, card and MRN, so such text is
+     * left for the {@code @} branch to mask as one address.
+     */
+    private static boolean emailFollows(String text, int end) {
+        int pos = end;
+        while (pos < text.length() && isLocalPartChar(text.charAt(pos))) {
+            pos++;
+        }
+        return charAt(text, pos, '@') && matchDomain(text, pos + 1) > 0;
+    }
+
+    /** Start of the {@code [A-Za-z0-9._%+-]+} run ending just before {@code at}, not reaching into masked text. */
+    private static int localPartStart(String text, int at, int floor) {
+        int start = at;
+        while (start > floor && isLocalPartChar(text.charAt(start - 1))) {
+            start--;
+        }
+        return start;
+    }
+
+    /**
+     * End of {@code [A-Za-z0-9.-]+\.[A-Za-z]{2,}} starting at {@code from},
+     * using the last dot that is followed by two letters, or -1.
+     */
+    private static int matchDomain(String text, int from) {
+        int runEnd = from;
+        while (runEnd < text.length() && isDomainChar(text.charAt(runEnd))) {
+            runEnd++;
+        }
+        for (int dot = runEnd - 3; dot > from; dot--) {
+            if (text.charAt(dot) == '.' && isAsciiLetter(text.charAt(dot + 1)) && isAsciiLetter(text.charAt(dot + 2))) {
+                int end = dot + 3;
+                while (end < text.length() && isAsciiLetter(text.charAt(end))) {
+                    end++;
+                }
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    private static int matchMrn(String text, int i) {
+        if (isWordChar(text, i - 1) || !text.regionMatches(true, i, "MRN", 0, 3)) {
+            return -1;
+        }
+        int pos = i + 3;
+        if (charAt(text, pos, '-')) {
+            pos++;
+        }
+        int idStart = pos;
+        while (pos < text.length() && pos - idStart <= 12 && isAsciiLetterOrDigit(text.charAt(pos))) {
+            pos++;
+        }
+        int idLength = pos - idStart;
+        if (idLength < 6 || idLength > 12 || isWordChar(text, pos)) {
+            return -1;
+        }
+        return pos;
+    }
+
+    private static int skipPhoneSeparator(String text, int pos) {
+        if (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == '-' || c == '.' || Character.isWhitespace(c)) {
+                return pos + 1;
+            }
+        }
+        return pos;
+    }
+
+    private static boolean digits(String text, int from, int count) {
+        if (from < 0 || from + count > text.length()) {
+            return false;
+        }
+        for (int i = from; i < from + count; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean charAt(String text, int index, char expected) {
+        return index >= 0 && index < text.length() && text.charAt(index) == expected;
+    }
+
+    private static boolean isDigit(String text, int index) {
+        return index >= 0 && index < text.length() && isDigit(text.charAt(index));
+    }
+
+    private static boolean isWordChar(String text, int index) {
+        if (index < 0 || index >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(index);
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || isDigit(c);
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '-';
+    }
+}
@@ -0,0 +1,174 @@
+package com.healthcare.common.pagination;
+
+import com.healthcare.common.exception.BusinessRuleViolationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Ordering of a keyset-paginated listing: one or more sort columns followed by
+ * {@code id} as the tiebreaker, all in the same direction. Produces the
+ * {@code (sort_key, id) > (?, ?)} seek predicate for a cursor and encodes the
+ * cursor for the last row of a page.
+ *
+ * <pre>{@code
+ * KeysetOrder<Notification> order = KeysetOrder.descending(Notification::getId)
+ *     .by("createdAt", Notification::getCreatedAt, Instant::parse);
+ * }</pre>
+ */
+public final class KeysetOrder<T> {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private final Sort.Direction direction;
+    private final Function<T, UUID> idGetter;
+    private final List<Column<T, ?>> columns;
+
+    private KeysetOrder(Sort.Direction direction, Function<T, UUID> idGetter, List<Column<T, ?>> columns) {
+        this.direction = direction;
+        this.idGetter = idGetter;
+        this.columns = columns;
+    }
+
+    public static <T> KeysetOrder<T> ascending(Function<T, UUID> idGetter) {
+        return new KeysetOrder<>(Sort.Direction.ASC, idGetter, List.of());
+    }
+
+    public static <T> KeysetOrder<T> descending(Function<T, UUID> idGetter) {
+        return new KeysetOrder<>(Sort.Direction.DESC, idGetter, List.of());
+    }
+
+    /**
+     * Adds a sort column. {@code path} may navigate embeddables, e.g.
+     * {@code "timeSlot.date"}; {@code parser} reads back the value written by
+     * {@code toString()} into the cursor.
+     */
+    public <K extends Comparable<? super K>> KeysetOrder<T> by(String path, Function<T, K> getter,
+                                                               Function<String, K> parser) {
+        List<Column<T, ?>> extended = new ArrayList<>(columns);
+        extended.add(new Column<>(path, getter, parser));
+        return new KeysetOrder<>(direction, idGetter, List.copyOf(extended));
+    }
+
+    public Sort toSort() {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Column<T, ?> column : columns) {
+            orders.add(new Sort.Order(direction, column.path()));
+        }
+        orders.add(new Sort.Order(direction, "id"));
+        return Sort.by(orders);
+    }
+
+    /** Seek predicate for rows after {@code cursor}; matches everything when the cursor is absent. */
+    public Specification<T> after(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return (root, query, cb) -> null;
+        }
+        List<String> values = decode(cursor);
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            keys.add(columns.get(i).parse(values.get(i)));
+        }
+        UUID afterId = parseId(values.get(values.size() - 1));
+
+        return (root, query, cb) -> {
+            List<Predicate> alternatives = new ArrayList<>();
+            List<Predicate> equalPrefix = new ArrayList<>();
+            for (int i = 0; i < columns.size(); i++) {
+                Column<T, ?> column = columns.get(i);
+                alternatives.add(and(cb, equalPrefix, column.beyond(cb, root, keys.get(i), direction)));
+                equalPrefix.add(column.equalTo(cb, root, keys.get(i)));
+            }
+            Path<UUID> id = root.get("id");
+            alternatives.add(and(cb, equalPrefix,
+                direction == Sort.Direction.ASC ? cb.greaterThan(id, afterId) : cb.lessThan(id, afterId)));
+            return cb.or(alternatives.toArray(Predicate[]::new));
+        };
+    }
+
+    public String cursorOf(T row) {
+        StringBuilder raw = new StringBuilder();
+        for (Column<T, ?> column : columns) {
+            raw.append(column.getter().apply(row)).append(SEPARATOR);
+        }
+        raw.append(idGetter.apply(row));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> values = Arrays.asList(raw.split(String.valueOf(SEPARATOR), -1));
+            if (values.size() != columns.size() + 1) {
+                throw invalidCursor();
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static UUID parseId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static Predicate and(CriteriaBuilder cb, List<Predicate> prefix, Predicate last) {
+        List<Predicate> all = new ArrayList<>(prefix);
+        all.add(last);
+        return cb.and(all.toArray(Predicate[]::new));
+    }
+
+    static BusinessRuleViolationException invalidCursor() {
+        return new BusinessRuleViolationException("Invalid or expired page cursor", "INVALID_CURSOR");
+    }
+
+    private record Column<T, K extends Comparable<? super K>>(
+        String path,
+        Function<T, K> getter,
+        Function<String, K> parser
+    ) {
+        Path<K> resolve(Root<T> root) {
+            Path<?> current = root;
+            for (String segment : path.split("\\.")) {
+                current = current.get(segment);
+            }
+            @SuppressWarnings("unchecked")
+            Path<K> typed = (Path<K>) current;
+            return typed;
+        }
+
+        K parse(String value) {
+            try {
+                return parser.apply(value);
+            } catch (RuntimeException e) {
+                throw invalidCursor();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Predicate beyond(CriteriaBuilder cb, Root<T> root, Object key, Sort.Direction direction) {
+            return direction == Sort.Direction.ASC
+                ? cb.greaterThan(resolve(root), (K) key)
+                : cb.lessThan(resolve(root), (K) key);
+        }
+
+        Predicate equalTo(CriteriaBuilder cb, Root<T> root, Object key) {
+            return cb.equal(resolve(root), key);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.healthcare.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+
+import java.time.Duration;
+
+/**
+ * In-memory token buckets. The store is bounded and drops buckets idle for
+ * longer than the configured expiry, so one-off clients do not accumulate.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Cache<String, Bucket> buckets;
+
+    public LocalRateLimiter(RateLimitProperties.Local properties) {
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumKeys())
+            .expireAfterAccess(properties.getIdleExpiry())
+            .build();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, int capacity, Duration window) {
+        Bucket bucket = buckets.get(key, k -> Bucket.builder()
+            .addLimit(Bandwidth.builder().capacity(capacity).refillGreedy(capacity, window).build())
+            .build());
+
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            long remaining = probe.getRemainingTokens();
+            long resetSeconds = ceilDiv((capacity - remaining) * window.toMillis(), capacity * 1000L);
+            return new RateLimitDecision(true, capacity, remaining, resetSeconds);
+        }
+        return new RateLimitDecision(false, capacity, 0,
+            Math.max(1, ceilDiv(probe.getNanosToWaitForRefill(), 1_000_000_000L)));
+    }
+
+    public void clear() {
+        buckets.invalidateAll();
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
@@ -0,0 +1,28 @@
+package com.healthcare.common.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitConfig.class);
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties,
+                                   ObjectProvider<StringRedisTemplate> redisTemplate) {
+        LocalRateLimiter local = new LocalRateLimiter(properties.getLocal());
+        if (properties.getMode() != RateLimitProperties.Mode.REDIS) {
+            return local;
+        }
+
+        log.info("Rate limits are shared across nodes through Redis");
+        return new RedisRateLimiter(redisTemplate.getObject(), properties, local);
+    }
+}
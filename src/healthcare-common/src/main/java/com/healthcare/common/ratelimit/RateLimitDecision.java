@@ -0,0 +1,10 @@
+package com.healthcare.common.ratelimit;
+
+/**
+ * Outcome of one rate-limit check.
+ *
+ * @param resetSeconds when allowed, seconds until the bucket is full again;
+ *                     when rejected, seconds until the next request is allowed
+ */
+public record RateLimitDecision(boolean allowed, int limit, long remaining, long resetSeconds) {
+}
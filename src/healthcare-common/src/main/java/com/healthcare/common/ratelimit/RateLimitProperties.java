@@ -0,0 +1,87 @@
+package com.healthcare.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "healthcare.ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** LOCAL limits per node; REDIS shares one budget across all nodes. */
+    private Mode mode = Mode.LOCAL;
+
+    /** Period over which each limit's {@code requests} refill. */
+    private Duration window = Duration.ofMinutes(1);
+
+    private Tier anonymous = new Tier(30);
+
+    private Tier authenticated = new Tier(100);
+
+    private Tier admin = new Tier(500);
+
+    /** Route classes checked in order; the first match replaces the caller's tier limit. */
+    private List<RouteClass> routes = new ArrayList<>();
+
+    private Local local = new Local();
+
+    private Redis redis = new Redis();
+
+    public enum Mode { LOCAL, REDIS }
+
+    @Getter
+    @Setter
+    public static class Tier {
+        private int requests;
+
+        public Tier() {
+        }
+
+        public Tier(int requests) {
+            this.requests = requests;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class RouteClass {
+        private String name;
+
+        /** Ant-style path pattern, e.g. {@code /api/v1/auth/**}. */
+        private String pattern;
+
+        /** HTTP methods the class applies to; empty means all. */
+        private List<String> methods = new ArrayList<>();
+
+        private int requests;
+    }
+
+    @Getter
+    @Setter
+    public static class Local {
+        /** Buckets kept in memory; least valuable ones are dropped beyond this. */
+        private long maximumKeys = 100_000;
+
+        /** Buckets untouched for this long are dropped (and start full again). */
+        private Duration idleExpiry = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Redis {
+        private String keyPrefix = "ratelimit:";
+
+        /** Tokens taken from Redis per round trip and spent locally; capped at a tenth of the limit. */
+        private int leaseSize = 5;
+
+        /** Unspent leased tokens are abandoned after this long. */
+        private Duration leaseTtl = Duration.ofSeconds(1);
+    }
+}
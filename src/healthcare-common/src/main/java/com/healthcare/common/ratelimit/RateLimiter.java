@@ -0,0 +1,12 @@
+package com.healthcare.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token buckets keyed by caller and limit class. A bucket holds
+ * {@code capacity} tokens and refills them evenly over {@code window}.
+ */
+public interface RateLimiter {
+
+    RateLimitDecision tryConsume(String key, int capacity, Duration window);
+}
@@ -0,0 +1,128 @@
+package com.healthcare.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets shared by all nodes, held in Redis and updated atomically by
+ * a Lua script using the Redis clock. To save a round trip per request a
+ * node takes a small lease of tokens at once and spends it locally; leases
+ * are short-lived so unspent tokens are not held back for long.
+ *
+ * <p>If Redis is unavailable the node falls back to its own local buckets.
+ */
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimiter.class);
+
+    private static final long FAILURE_LOG_INTERVAL_MILLIS = 60_000;
+
+    // KEYS[1] bucket; ARGV capacity, window in ms, tokens requested.
+    // Returns {granted, tokens left, ms until full (or until the next token if none granted)}.
+    private static final RedisScript<List> TOKEN_BUCKET = RedisScript.of("""
+        local capacity = tonumber(ARGV[1])
+        local window = tonumber(ARGV[2])
+        local requested = tonumber(ARGV[3])
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+        local tokens = tonumber(state[1])
+        local ts = tonumber(state[2])
+        if tokens == nil then
+          tokens = capacity
+          ts = now
+        end
+        tokens = math.min(capacity, tokens + math.max(0, now - ts) * capacity / window)
+        local granted = math.min(requested, math.floor(tokens))
+        tokens = tokens - granted
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+        redis.call('PEXPIRE', KEYS[1], window * 2)
+        local reset
+        if granted > 0 then
+          reset = math.ceil((capacity - tokens) * window / capacity)
+        else
+          reset = math.ceil((1 - tokens) * window / capacity)
+        end
+        return {granted, math.floor(tokens), reset}
+        """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties.Redis properties;
+    private final RateLimiter fallback;
+    private final Cache<String, Lease> leases;
+    private final AtomicLong lastFailureLogged = new AtomicLong();
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties, RateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties.getRedis();
+        this.fallback = fallback;
+        this.leases = Caffeine.newBuilder()
+            .maximumSize(properties.getLocal().getMaximumKeys())
+            .expireAfterWrite(this.properties.getLeaseTtl())
+            .build();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, int capacity, Duration window) {
+        Lease lease = leases.getIfPresent(key);
+        if (lease != null) {
+            int left = lease.tokens.decrementAndGet();
+            if (left >= 0) {
+                return new RateLimitDecision(true, capacity, lease.remoteRemaining + left, lease.resetSeconds);
+            }
+        }
+
+        int leaseSize = Math.max(1, Math.min(properties.getLeaseSize(), capacity / 10));
+        List<?> result;
+        try {
+            result = redisTemplate.execute(TOKEN_BUCKET, List.of(properties.getKeyPrefix() + key),
+                String.valueOf(capacity), String.valueOf(window.toMillis()), String.valueOf(leaseSize));
+        } catch (RuntimeException e) {
+            logFailure(e);
+            return fallback.tryConsume(key, capacity, window);
+        }
+
+        long granted = ((Number) result.get(0)).longValue();
+        long remoteRemaining = ((Number) result.get(1)).longValue();
+        long resetSeconds = Math.max(1, (((Number) result.get(2)).longValue() + 999) / 1000);
+        if (granted == 0) {
+            return new RateLimitDecision(false, capacity, 0, resetSeconds);
+        }
+
+        if (granted > 1) {
+            leases.put(key, new Lease((int) granted - 1, remoteRemaining, resetSeconds));
+        } else {
+            leases.invalidate(key);
+        }
+        return new RateLimitDecision(true, capacity, remoteRemaining + granted - 1, resetSeconds);
+    }
+
+    private void logFailure(RuntimeException e) {
+        long now = System.currentTimeMillis();
+        long last = lastFailureLogged.get();
+        if (now - last >= FAILURE_LOG_INTERVAL_MILLIS && lastFailureLogged.compareAndSet(last, now)) {
+            log.warn("Redis rate limiting unavailable, using per-node limits: {}", e.getMessage());
+        }
+    }
+
+    private static final class Lease {
+        private final AtomicInteger tokens;
+        private final long remoteRemaining;
+        private final long resetSeconds;
+
+        private Lease(int tokens, long remoteRemaining, long resetSeconds) {
+            this.tokens = new AtomicInteger(tokens);
+            this.remoteRemaining = remoteRemaining;
+            this.resetSeconds = resetSeconds;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.healthcare.common.sequence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class NumberSequenceConfig {
+
+    @Bean
+    public NumberSequenceRepository numberSequenceRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                                             PlatformTransactionManager transactionManager) {
+        return new NumberSequenceRepository(jdbcTemplate, transactionManager);
+    }
+
+    @Bean
+    public NumberSequences numberSequences(NumberSequenceRepository repository,
+                                           @Value("${healthcare.sequence.block-size:100}") int blockSize) {
+        return new NumberSequences(repository, blockSize);
+    }
+}
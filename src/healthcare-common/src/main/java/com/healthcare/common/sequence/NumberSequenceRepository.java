@@ -0,0 +1,55 @@
+package com.healthcare.common.sequence;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Block leases from {@code number_sequences}. One row per sequence and
+ * period; the first lease in a new period creates its row, which is how
+ * daily and yearly numbering restarts at 1.
+ * <p>
+ * Each lease commits in its own transaction. A lease made inside a business
+ * transaction that later rolls back must stay taken, since the node keeps
+ * handing out the block from memory; committing it separately also releases
+ * the row lock at once instead of holding it until the caller commits.
+ */
+public class NumberSequenceRepository {
+
+    private static final String ALLOCATE_SQL =
+        "INSERT INTO number_sequences (sequence_name, period, next_value, updated_at) " +
+        "VALUES (:name, :period, 1 + :size, now()) " +
+        "ON CONFLICT (sequence_name, period) DO UPDATE SET " +
+        "next_value = number_sequences.next_value + :size, updated_at = now() " +
+        "RETURNING next_value - :size";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leaseTransaction;
+
+    public NumberSequenceRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Reserves {@code size} consecutive values and returns the first. The
+     * upsert commits on its own, so concurrent nodes never overlap and a
+     * rolled-back caller never returns its block.
+     */
+    public long allocate(String name, String period, int size) {
+        Long first = leaseTransaction.execute(status -> jdbcTemplate.queryForObject(ALLOCATE_SQL,
+            new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("period", period)
+                .addValue("size", size),
+            Long.class));
+        if (first == null) {
+            throw new IllegalStateException("No block allocated for sequence " + name + "/" + period);
+        }
+        return first;
+    }
+}
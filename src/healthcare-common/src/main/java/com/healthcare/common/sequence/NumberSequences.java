@@ -0,0 +1,75 @@
+package com.healthcare.common.sequence;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster-unique business number sequences, restarting per period (a day
+ * such as {@code 20260315} or a year such as {@code 2026}).
+ * <p>
+ * Each node leases a block of values from the database and hands them out
+ * with a single atomic increment; only the thread that exhausts a block
+ * goes back to the database. Blocks left unused at shutdown become gaps,
+ * so numbers are unique and increasing per node but not gapless.
+ */
+public class NumberSequences {
+
+    private final NumberSequenceRepository repository;
+    private final int blockSize;
+    private final ConcurrentHashMap<String, Sequence> sequences = new ConcurrentHashMap<>();
+
+    public NumberSequences(NumberSequenceRepository repository, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.repository = repository;
+        this.blockSize = blockSize;
+    }
+
+    /** Next value of {@code name} within {@code period}, starting at 1. */
+    public long next(String name, String period) {
+        Sequence sequence = sequences.computeIfAbsent(name, Sequence::new);
+        while (true) {
+            Block block = sequence.block;
+            if (block != null && block.period.equals(period)) {
+                long value = block.next.getAndIncrement();
+                if (value < block.end) {
+                    return value;
+                }
+            }
+            sequence.refill(block, period);
+        }
+    }
+
+    private final class Sequence {
+
+        private final String name;
+        private volatile Block block;
+
+        Sequence(String name) {
+            this.name = name;
+        }
+
+        /** Leases a new block unless another thread already replaced {@code exhausted}. */
+        synchronized void refill(Block exhausted, String period) {
+            if (block != exhausted) {
+                return;
+            }
+            long first = repository.allocate(name, period, blockSize);
+            block = new Block(period, first, first + blockSize);
+        }
+    }
+
+    private static final class Block {
+
+        final String period;
+        final AtomicLong next;
+        final long end;
+
+        Block(String period, long first, long end) {
+            this.period = period;
+            this.next = new AtomicLong(first);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.healthcare.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free event counter over a sliding window of one-minute buckets. Each
+ * slot packs the bucket's epoch minute and its count into one long, so a
+ * slot is reset and incremented in a single CAS and stale minutes never leak
+ * into the sum.
+ */
+public final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int windowMinutes;
+
+    public SlidingWindowCounter(int windowMinutes) {
+        this.windowMinutes = windowMinutes;
+        this.slots = new AtomicLongArray(windowMinutes);
+    }
+
+    /**
+     * Adds {@code delta} to the bucket for {@code epochMinute} and returns the
+     * updated window total as of that minute. Minutes that have already been
+     * overwritten by a newer one are ignored.
+     */
+    public long add(long epochMinute, long delta) {
+        int index = (int) Math.floorMod(epochMinute, (long) windowMinutes);
+        while (true) {
+            long current = slots.get(index);
+            long slotMinute = current >>> COUNT_BITS;
+            long updated;
+            if (slotMinute == epochMinute) {
+                updated = pack(epochMinute, Math.min((current & COUNT_MASK) + delta, COUNT_MASK));
+            } else if (slotMinute < epochMinute) {
+                updated = pack(epochMinute, Math.min(delta, COUNT_MASK));
+            } else {
+                return sum(slotMinute);
+            }
+            if (slots.compareAndSet(index, current, updated)) {
+                return sum(epochMinute);
+            }
+        }
+    }
+
+    /** Total of the buckets in the window ending at {@code epochMinute}. */
+    public long sum(long epochMinute) {
+        return sum(epochMinute - windowMinutes + 1, epochMinute);
+    }
+
+    /** Total of the buckets from {@code fromMinute} to {@code toMinute}, both inclusive. */
+    public long sum(long fromMinute, long toMinute) {
+        long oldest = Math.max(fromMinute, toMinute - windowMinutes + 1);
+        long total = 0;
+        for (int i = 0; i < windowMinutes; i++) {
+            long slot = slots.get(i);
+            long slotMinute = slot >>> COUNT_BITS;
+            if (slotMinute >= oldest && slotMinute <= toMinute) {
+                total += slot & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    private static long pack(long epochMinute, long count) {
+        return (epochMinute << COUNT_BITS) | count;
+    }
+}
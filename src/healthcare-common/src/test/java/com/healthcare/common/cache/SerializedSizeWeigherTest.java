@@ -0,0 +1,52 @@
+package com.healthcare.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.NullValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedSizeWeigherTest {
+
+    private final SerializedSizeWeigher weigher = new SerializedSizeWeigher(value -> ((String) value).length());
+
+    @Test
+    void weighsKeyAndEncodedValue() {
+        assertThat(weigher.weigh("key", "twelve bytes")).isEqualTo(3 + 12);
+    }
+
+    @Test
+    void cachedNullWeighsOnlyItsKey() {
+        assertThat(weigher.weigh("key", NullValue.INSTANCE)).isEqualTo(3);
+    }
+
+    @Test
+    void unencodableValueFallsBackToFixedWeight() {
+        assertThat(weigher.weigh("key", 42)).isEqualTo(3 + SerializedSizeWeigher.FALLBACK_VALUE_WEIGHT);
+    }
+
+    @Test
+    void nonRedisCacheUsesFixedWeight() {
+        SerializedSizeWeigher fallback = SerializedSizeWeigher.forCache(new ConcurrentMapCache("patients"));
+
+        assertThat(fallback.weigh("k", "v")).isEqualTo(1 + SerializedSizeWeigher.FALLBACK_VALUE_WEIGHT);
+    }
+
+    @Test
+    void largeEntriesAreEvictedByWeightNotCount() {
+        Cache<String, Object> local = Caffeine.newBuilder()
+            .maximumWeight(1_000)
+            .weigher(weigher)
+            .executor(Runnable::run)
+            .build();
+
+        for (int i = 0; i < 10; i++) {
+            local.put("k" + i, "x".repeat(300));
+        }
+        local.cleanUp();
+
+        assertThat(local.estimatedSize()).isLessThanOrEqualTo(3);
+    }
+}
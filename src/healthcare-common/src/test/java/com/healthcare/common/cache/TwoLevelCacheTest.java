@@ -0,0 +1,190 @@
+package com.healthcare.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TwoLevelCacheTest {
+
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("patients");
+    private final CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+    private final List<List<Object>> bulkReads = new ArrayList<>();
+    private final TwoLevelCache cache = new TwoLevelCache("patients", remote,
+        Caffeine.newBuilder().build(), bus, (target, keys) -> {
+            bulkReads.add(List.copyOf(keys));
+            return TwoLevelCache.BulkReader.ONE_BY_ONE.read(target, keys);
+        });
+
+    @Test
+    void getAllReadsOnlyL1MissesFromRemoteInOneCall() {
+        cache.put("a", "A");
+        remote.put("b", "B");
+
+        Map<Object, Object> found = cache.getAll(List.of("a", "b", "c"));
+
+        assertThat(found).containsExactlyInAnyOrderEntriesOf(Map.of("a", "A", "b", "B"));
+        assertThat(bulkReads).containsExactly(List.of("b", "c"));
+        assertThat(cache.remoteHits()).isEqualTo(1);
+        assertThat(cache.remoteMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void getAllFillsL1FromRemote() {
+        remote.put("b", "B");
+
+        cache.getAll(List.of("b"));
+        Map<Object, Object> again = cache.getAll(List.of("b"));
+
+        assertThat(again).containsEntry("b", "B");
+        assertThat(bulkReads).hasSize(1);
+    }
+
+    @Test
+    void getAllSkipsRemoteWhenL1HoldsEveryKey() {
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        assertThat(cache.getAll(List.of("a", "b"))).hasSize(2);
+        assertThat(bulkReads).isEmpty();
+    }
+
+    @Test
+    void cacheMultiGetUsesBulkPathThroughTransactionDecorator() {
+        cache.put("a", "A");
+        remote.put("b", "B");
+        Cache decorated = new TransactionAwareCacheDecorator(cache);
+
+        CacheMultiGet.Result<String, String> result =
+            CacheMultiGet.get(decorated, List.of("a", "b", "c"), String.class);
+
+        assertThat(result.hits()).containsExactlyInAnyOrderEntriesOf(Map.of("a", "A", "b", "B"));
+        assertThat(result.misses()).containsExactly("c");
+        assertThat(bulkReads).containsExactly(List.of("b", "c"));
+    }
+
+    @Test
+    void failedBulkReadCountsEveryKeyAsMiss() {
+        TwoLevelCache failing = new TwoLevelCache("patients", remote, Caffeine.newBuilder().build(),
+            mock(CacheInvalidationBus.class), (target, keys) -> {
+                throw new IllegalStateException("redis down");
+            });
+
+        CacheMultiGet.Result<String, String> result = CacheMultiGet.get(failing, List.of("a", "b"), String.class);
+
+        assertThat(result.hits()).isEmpty();
+        assertThat(result.misses()).containsExactly("a", "b");
+    }
+
+    @Test
+    void putUpdatesLocalAndBroadcastsKey() {
+        cache.put("a", "A");
+
+        assertThat(cache.local().getIfPresent("a")).isEqualTo("A");
+        assertThat(remote.get("a", String.class)).isEqualTo("A");
+        verify(bus).publish("patients", "a");
+    }
+
+    @Test
+    void evictDropsBothLevelsAndBroadcastsKey() {
+        cache.put("a", "A");
+
+        cache.evict("a");
+
+        assertThat(cache.local().getIfPresent("a")).isNull();
+        assertThat(remote.get("a")).isNull();
+        verify(bus, times(2)).publish("patients", "a");
+    }
+
+    @Test
+    void clearBroadcastsNullKey() {
+        cache.put("a", "A");
+
+        cache.clear();
+
+        assertThat(cache.local().estimatedSize()).isZero();
+        verify(bus).publish("patients", null);
+    }
+
+    @Test
+    void remoteInvalidationDropsOnlyLocalCopyWithoutRebroadcast() {
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        cache.evictLocal("a");
+
+        assertThat(cache.local().getIfPresent("a")).isNull();
+        assertThat(cache.local().getIfPresent("b")).isEqualTo("B");
+        assertThat(remote.get("a", String.class)).isEqualTo("A");
+        assertThat(cache.remoteInvalidations()).isEqualTo(1);
+        verify(bus).publish("patients", "a");
+    }
+
+    @Test
+    void remoteClearDropsEveryLocalCopy() {
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        cache.clearLocal();
+
+        assertThat(cache.local().estimatedSize()).isZero();
+        assertThat(cache.get("a", String.class)).isEqualTo("A");
+    }
+
+    @Test
+    void getDoesNotFillLocalWhenInvalidatedDuringRemoteRead() {
+        AtomicReference<TwoLevelCache> self = new AtomicReference<>();
+        ConcurrentMapCache racing = new ConcurrentMapCache("patients") {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper stale = super.get(key);
+                // Another node rewrites the entry while this read is in flight.
+                self.get().evictLocal(String.valueOf(key));
+                return stale;
+            }
+        };
+        racing.put("a", "stale");
+        TwoLevelCache raced = new TwoLevelCache("patients", racing, Caffeine.newBuilder().build(), bus,
+            TwoLevelCache.BulkReader.ONE_BY_ONE);
+        self.set(raced);
+
+        assertThat(raced.get("a", String.class)).isEqualTo("stale");
+        assertThat(raced.local().getIfPresent("a")).isNull();
+    }
+
+    @Test
+    void getAllDoesNotFillLocalWhenInvalidatedDuringBulkRead() {
+        AtomicReference<TwoLevelCache> self = new AtomicReference<>();
+        remote.put("a", "stale");
+        TwoLevelCache raced = new TwoLevelCache("patients", remote, Caffeine.newBuilder().build(), bus,
+            (target, keys) -> {
+                List<Object> values = TwoLevelCache.BulkReader.ONE_BY_ONE.read(target, keys);
+                self.get().evictLocal("a");
+                return values;
+            });
+        self.set(raced);
+
+        assertThat(raced.getAll(List.of("a"))).containsEntry("a", "stale");
+        assertThat(raced.local().getIfPresent("a")).isNull();
+    }
+
+    @Test
+    void getFillsLocalWhenNoInvalidationRaced() {
+        remote.put("a", "A");
+
+        cache.get("a");
+
+        assertThat(cache.local().getIfPresent("a")).isEqualTo("A");
+    }
+}
@@ -0,0 +1,109 @@
+package com.healthcare.common.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cache value encoding: {@link CompactCacheSerializer} against the
+ * {@link JdkSerializationRedisSerializer} it replaced, for one patient-sized
+ * DTO and for a list of them (which crosses the LZ4 threshold). Encoded sizes
+ * are checked in {@link CompactCacheSerializerTest}.
+ * <p>
+ * {@code mvn -Pbenchmark -pl healthcare-common test-compile}, then run
+ * {@link #main} with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactCacheSerializerBenchmark {
+
+    public record PatientSummary(
+        UUID id,
+        String mrn,
+        String firstName,
+        String lastName,
+        LocalDate dateOfBirth,
+        String email,
+        String phone,
+        String status,
+        Instant updatedAt
+    ) implements Serializable {}
+
+    @Param({"1", "50"})
+    int size;
+
+    private final CompactCacheSerializer compact = new CompactCacheSerializer(
+        new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule()),
+        new CacheTypeRegistry(List.of(new CacheTypeRegistration(1, PatientSummary.class, 1))),
+        1024);
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+
+    private Object value;
+    private byte[] compactBytes;
+    private byte[] jdkBytes;
+
+    @Setup
+    public void setUp() {
+        List<PatientSummary> patients = IntStream.range(0, size)
+            .mapToObj(i -> new PatientSummary(UUID.randomUUID(), "MRN" + (100000 + i), "Jane", "Doe",
+                LocalDate.of(1980, 1, 1).plusDays(i), "jane.doe" + i + "@example.com", "555-010-" + i,
+                "ACTIVE", Instant.now()))
+            .toList();
+        value = size == 1 ? patients.get(0) : patients;
+        compactBytes = compact.serialize(value);
+        jdkBytes = jdk.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compact.deserialize(compactBytes);
+    }
+
+    @Benchmark
+    public byte[] jdkSerialize() {
+        return jdk.serialize(value);
+    }
+
+    @Benchmark
+    public Object jdkDeserialize() {
+        return jdk.deserialize(jdkBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CompactCacheSerializerBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
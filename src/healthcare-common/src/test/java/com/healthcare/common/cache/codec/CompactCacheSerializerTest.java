@@ -0,0 +1,112 @@
+package com.healthcare.common.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactCacheSerializerTest {
+
+    record Sample(UUID id, String name, int visits) implements Serializable {}
+
+    record Other(String value) implements Serializable {}
+
+    private static final Sample SAMPLE = new Sample(UUID.randomUUID(), "Jane Doe", 3);
+
+    private final CompactCacheSerializer serializer = serializer(List.of(new CacheTypeRegistration(7, Sample.class, 1)));
+
+    @Test
+    void registeredValueRoundTripsAsSmile() {
+        byte[] bytes = serializer.serialize(SAMPLE);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x01);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(SAMPLE);
+    }
+
+    @Test
+    void registeredValueIsSmallerThanJdkSerialization() {
+        byte[] jdk = new JdkSerializationRedisSerializer().serialize(SAMPLE);
+
+        assertThat(serializer.serialize(SAMPLE)).hasSizeLessThan(jdk.length / 2);
+    }
+
+    @Test
+    void optionalsRoundTrip() {
+        assertThat(serializer.deserialize(serializer.serialize(Optional.of(SAMPLE)))).isEqualTo(Optional.of(SAMPLE));
+        assertThat(serializer.deserialize(serializer.serialize(Optional.empty()))).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void listOfRegisteredTypeRoundTrips() {
+        List<Sample> list = List.of(SAMPLE, new Sample(UUID.randomUUID(), "John Roe", 0));
+
+        byte[] bytes = serializer.serialize(list);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x01);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(list);
+    }
+
+    @Test
+    void listStartingWithNullFallsBackToJdkSerialization() {
+        List<Sample> list = new ArrayList<>(Arrays.asList(null, SAMPLE));
+
+        byte[] bytes = serializer.serialize(list);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0xAC);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(list);
+    }
+
+    @Test
+    void listWithNullOrMixedElementsFallsBackToJdkSerialization() {
+        List<Object> withNull = new ArrayList<>(Arrays.asList(SAMPLE, null));
+        List<Object> mixed = List.of(SAMPLE, new Other("x"));
+
+        assertThat(serializer.serialize(withNull)[0]).isEqualTo((byte) 0xAC);
+        assertThat(serializer.deserialize(serializer.serialize(mixed))).isEqualTo(mixed);
+        assertThat(serializer.serialize(mixed)[0]).isEqualTo((byte) 0xAC);
+    }
+
+    @Test
+    void unregisteredTypeFallsBackToJdkSerialization() {
+        Other other = new Other("x");
+
+        byte[] bytes = serializer.serialize(other);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0xAC);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(other);
+    }
+
+    @Test
+    void largeValuesAreCompressed() {
+        List<Sample> list = IntStream.range(0, 200)
+            .mapToObj(i -> new Sample(UUID.randomUUID(), "Patient " + i, i))
+            .toList();
+
+        byte[] bytes = serializer.serialize(list);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x02);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(list);
+    }
+
+    @Test
+    void outdatedVersionOrUnknownTagReadsAsMiss() {
+        byte[] bytes = serializer.serialize(SAMPLE);
+
+        assertThat(serializer(List.of(new CacheTypeRegistration(7, Sample.class, 2))).deserialize(bytes)).isNull();
+        assertThat(serializer(List.of()).deserialize(bytes)).isNull();
+    }
+
+    private static CompactCacheSerializer serializer(List<CacheTypeRegistration> registrations) {
+        return new CompactCacheSerializer(new ObjectMapper(new SmileFactory()), new CacheTypeRegistry(registrations), 1024);
+    }
+}
@@ -0,0 +1,70 @@
+package com.healthcare.common.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnvelopeKeyringTest {
+
+    private static final SecretKey MASTER = FieldCipherTest.newKey();
+    private static final SecretKey DATA_1 = FieldCipherTest.newKey();
+    private static final SecretKey DATA_2 = FieldCipherTest.newKey();
+
+    @Test
+    void servesEveryConfiguredVersion() {
+        EnvelopeKeyring keyring = new EnvelopeKeyring(Map.of(1, DATA_1, 2, DATA_2), 2);
+
+        assertThat(keyring.currentVersion()).isEqualTo(2);
+        assertThat(keyring.dataKey(1)).isEqualTo(DATA_1);
+        assertThat(keyring.dataKey(2)).isEqualTo(DATA_2);
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        EnvelopeKeyring keyring = new EnvelopeKeyring(Map.of(1, DATA_1), 1);
+
+        assertThatThrownBy(() -> keyring.dataKey(3))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("No data key configured for key version 3");
+    }
+
+    @Test
+    void currentVersionMustHaveAKey() {
+        assertThatThrownBy(() -> new EnvelopeKeyring(Map.of(1, DATA_1), 2))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("No data key for current version 2");
+    }
+
+    @Test
+    void wrappedKeyUnwrapsWithTheMasterKey() {
+        byte[] wrapped = EnvelopeKeyring.wrap(MASTER, DATA_1);
+
+        assertThat(wrapped).hasSize(40);
+        assertThat(EnvelopeKeyring.unwrap(MASTER, wrapped).getEncoded()).isEqualTo(DATA_1.getEncoded());
+    }
+
+    @Test
+    void wrongMasterKeyFailsToUnwrap() {
+        byte[] wrapped = EnvelopeKeyring.wrap(MASTER, DATA_1);
+
+        assertThatThrownBy(() -> EnvelopeKeyring.unwrap(FieldCipherTest.newKey(), wrapped))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("ENCRYPTION_MASTER_KEY");
+    }
+
+    @Test
+    void valuesEncryptedBeforeRotationStayReadable() {
+        SecretKey unwrapped = EnvelopeKeyring.unwrap(MASTER, EnvelopeKeyring.wrap(MASTER, DATA_1));
+        String stored = new FieldCipher(new EnvelopeKeyring(Map.of(1, unwrapped), 1)).encrypt("123-45-6789");
+
+        FieldCipher rotated = new FieldCipher(new EnvelopeKeyring(Map.of(1, DATA_1, 2, DATA_2), 2));
+
+        assertThat(rotated.decrypt(stored)).isEqualTo("123-45-6789");
+        assertThat(rotated.needsReencryption(stored)).isTrue();
+        assertThat(rotated.keyVersionOf(rotated.encrypt("123-45-6789"))).isEqualTo(2);
+    }
+}
@@ -0,0 +1,110 @@
+package com.healthcare.common.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field encryption: {@link FieldCipher} against the converter it replaced,
+ * which looked up a new {@link Cipher} per value and copied through a
+ * {@link ByteBuffer}.
+ * <p>
+ * {@code mvn -Pbenchmark -pl healthcare-common test-compile}, then run
+ * {@link #main} with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FieldCipherBenchmark {
+
+    @Param({"123-45-6789", "JBSWY3DPEHPK3PXPJBSWY3DPEHPK3PXP"})
+    String plaintext;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private SecretKey key;
+    private FieldCipher fieldCipher;
+    private String stored;
+    private String legacyStored;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        key = FieldCipherTest.newKey();
+        fieldCipher = new FieldCipher(new EnvelopeKeyring(Map.of(1, key), 1));
+        stored = fieldCipher.encrypt(plaintext);
+        legacyStored = legacyEncrypt(plaintext);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return fieldCipher.encrypt(plaintext);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return fieldCipher.decrypt(stored);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws GeneralSecurityException {
+        return legacyEncrypt(plaintext);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws GeneralSecurityException {
+        byte[] decoded = Base64.getDecoder().decode(legacyStored);
+        ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
+        byte[] iv = new byte[12];
+        byteBuffer.get(iv);
+        byte[] encryptedData = new byte[byteBuffer.remaining()];
+        byteBuffer.get(encryptedData);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(encryptedData));
+    }
+
+    private String legacyEncrypt(String value) throws GeneralSecurityException {
+        byte[] iv = new byte[12];
+        secureRandom.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        byte[] encryptedData = cipher.doFinal(value.getBytes());
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + encryptedData.length);
+        byteBuffer.put(iv);
+        byteBuffer.put(encryptedData);
+        return Base64.getEncoder().encodeToString(byteBuffer.array());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(FieldCipherBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+package com.healthcare.common.crypto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldCipherTest {
+
+    private static final SecretKey KEY_1 = newKey();
+    private static final SecretKey KEY_2 = newKey();
+
+    private final FieldCipher cipher = new FieldCipher(new EnvelopeKeyring(Map.of(1, KEY_1, 2, KEY_2), 2));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "123-45-6789", "Zoë Ångström 患者"})
+    void roundTripsUtf8(String plaintext) {
+        assertThat(cipher.decrypt(cipher.encrypt(plaintext))).isEqualTo(plaintext);
+    }
+
+    @Test
+    void ciphertextNamesTheCurrentKeyVersion() {
+        String stored = cipher.encrypt("123-45-6789");
+
+        assertThat(stored).startsWith("v2:");
+        assertThat(cipher.keyVersionOf(stored)).isEqualTo(2);
+        assertThat(cipher.needsReencryption(stored)).isFalse();
+    }
+
+    @Test
+    void freshIvPerValue() {
+        assertThat(cipher.encrypt("same")).isNotEqualTo(cipher.encrypt("same"));
+    }
+
+    @Test
+    void readsValuesWrittenWithAnOlderVersion() {
+        String stored = new FieldCipher(new EnvelopeKeyring(Map.of(1, KEY_1), 1)).encrypt("old");
+
+        assertThat(cipher.decrypt(stored)).isEqualTo("old");
+        assertThat(cipher.needsReencryption(stored)).isTrue();
+    }
+
+    @Test
+    void readsUnprefixedLegacyValuesWithVersionOne() throws Exception {
+        byte[] iv = new byte[12];
+        Cipher legacy = Cipher.getInstance("AES/GCM/NoPadding");
+        legacy.init(Cipher.ENCRYPT_MODE, KEY_1, new GCMParameterSpec(128, iv));
+        byte[] ciphertext = legacy.doFinal("legacy".getBytes(StandardCharsets.UTF_8));
+        byte[] data = new byte[iv.length + ciphertext.length];
+        System.arraycopy(ciphertext, 0, data, iv.length, ciphertext.length);
+        String stored = Base64.getEncoder().encodeToString(data);
+
+        assertThat(cipher.keyVersionOf(stored)).isEqualTo(1);
+        assertThat(cipher.decrypt(stored)).isEqualTo("legacy");
+        assertThat(cipher.needsReencryption(stored)).isTrue();
+    }
+
+    @Test
+    void relabelledVersionFailsAuthentication() {
+        String stored = new FieldCipher(new EnvelopeKeyring(Map.of(2, KEY_1), 2)).encrypt("x");
+        String relabelled = "v1" + stored.substring(2);
+
+        assertThatThrownBy(() -> cipher.decrypt(relabelled))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Decryption failed");
+    }
+
+    @Test
+    void tamperedCiphertextIsRejected() {
+        String stored = cipher.encrypt("123-45-6789");
+        byte[] data = Base64.getDecoder().decode(stored.substring(3));
+        data[data.length - 1] ^= 1;
+        String tampered = "v2:" + Base64.getEncoder().encodeToString(data);
+
+        assertThatThrownBy(() -> cipher.decrypt(tampered)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void unknownKeyVersionIsRejected() {
+        assertThatThrownBy(() -> cipher.decrypt("v9:AAAA"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("key version 9");
+        assertThatThrownBy(() -> cipher.keyVersionOf("x9:AAAA"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    static SecretKey newKey() {
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256);
+            return generator.generateKey();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
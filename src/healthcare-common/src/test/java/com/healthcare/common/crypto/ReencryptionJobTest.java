@@ -0,0 +1,78 @@
+package com.healthcare.common.crypto;
+
+import com.healthcare.common.crypto.ReencryptionRepository.Checkpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReencryptionJobTest {
+
+    private static final EncryptedColumn SSN = new EncryptedColumn("patients", "ssn");
+    private static final EncryptedColumn POLICY = new EncryptedColumn("patients", "insurance_policy_number");
+
+    private final ReencryptionRepository repository = mock(ReencryptionRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReencryptionJob job;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws NoSuchAlgorithmException {
+        KeyGenerator generator = KeyGenerator.getInstance("AES");
+        generator.init(256);
+        SecretKey key = generator.generateKey();
+        FieldCipher cipher = new FieldCipher(new EnvelopeKeyring(Map.of(1, key), 1));
+
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        when(repository.tryLock()).thenReturn(true);
+        when(repository.findBatch(any(), any(), anyInt())).thenReturn(List.of());
+
+        job = new ReencryptionJob(List.of(SSN, POLICY), repository, cipher, transactionTemplate,
+            new ReencryptionProperties(), meterRegistry);
+    }
+
+    @Test
+    void failingColumnDoesNotStopTheOthers() {
+        when(repository.findCheckpoint(SSN)).thenThrow(new QueryTimeoutException("statement timeout"));
+
+        job.run();
+
+        verify(repository).saveCheckpoint(eq(POLICY), any(Checkpoint.class));
+        assertThat(pendingColumns()).isEqualTo(1);
+    }
+
+    @Test
+    void failedColumnIsPickedUpOnTheNextRun() {
+        when(repository.findCheckpoint(SSN))
+            .thenThrow(new QueryTimeoutException("statement timeout"))
+            .thenReturn(null);
+
+        job.run();
+        job.run();
+
+        verify(repository).saveCheckpoint(eq(SSN), any(Checkpoint.class));
+        assertThat(pendingColumns()).isZero();
+    }
+
+    private double pendingColumns() {
+        return meterRegistry.get("healthcare.crypto.reencryption.columns.pending").gauge().value();
+    }
+}
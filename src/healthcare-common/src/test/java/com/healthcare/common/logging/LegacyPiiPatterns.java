@@ -0,0 +1,38 @@
+package com.healthcare.common.logging;
+
+import java.util.regex.Pattern;
+
+/** The regex chain PiiMaskingConverter ran before {@link PiiMasker}, kept as the reference for parity checks. */
+final class LegacyPiiPatterns {
+
+    private static final Pattern SSN_PATTERN =
+        Pattern.compile("\\b\\d{3}-\\d{2}-\\d{4}\\b");
+
+    private static final Pattern EMAIL_PATTERN =
+        Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
+
+    private static final Pattern PHONE_PATTERN =
+        Pattern.compile("(\\+1)?[\\s.-]?\\(?\\d{3}\\)?[\\s.-]?\\d{3}[\\s.-]?\\d{4}");
+
+    private static final Pattern CREDIT_CARD_PATTERN =
+        Pattern.compile("\\b\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}\\b");
+
+    private static final Pattern MRN_PATTERN =
+        Pattern.compile("\\bMRN[-]?[A-Z0-9]{6,12}\\b", Pattern.CASE_INSENSITIVE);
+
+    private LegacyPiiPatterns() {
+    }
+
+    static String mask(String message) {
+        if (message == null || message.isEmpty()) {
+            return message;
+        }
+        String masked = message;
+        masked = SSN_PATTERN.matcher(masked).replaceAll(PiiMasker.SSN_MASK);
+        masked = EMAIL_PATTERN.matcher(masked).replaceAll(PiiMasker.EMAIL_MASK);
+        masked = PHONE_PATTERN.matcher(masked).replaceAll(PiiMasker.PHONE_MASK);
+        masked = CREDIT_CARD_PATTERN.matcher(masked).replaceAll(PiiMasker.CREDIT_CARD_MASK);
+        masked = MRN_PATTERN.matcher(masked).replaceAll(PiiMasker.MRN_MASK);
+        return masked;
+    }
+}
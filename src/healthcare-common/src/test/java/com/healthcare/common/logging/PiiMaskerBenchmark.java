@@ -0,0 +1,56 @@
+package com.healthcare.common.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-line cost of {@link PiiMasker} against the regex chain it replaced, for
+ * a line with no candidates, one with digits but no PII, and one with PII.
+ * <p>
+ * {@code mvn -Pbenchmark -pl healthcare-common test-compile}, then run
+ * {@link #main} with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PiiMaskerBenchmark {
+
+    @Param({
+        "Completed request GET /api/v1/patients in the default tenant",
+        "Completed request GET /api/v1/appointments/550e8400-e29b-41d4-a716-446655440000 in 42 ms",
+        "Patient jane.doe@example.com (MRN-ABC12345) called from (555) 123-4567 about SSN 123-45-6789"
+    })
+    String line;
+
+    @Benchmark
+    public String scanner() {
+        return PiiMasker.mask(line);
+    }
+
+    @Benchmark
+    public String legacyRegex() {
+        return LegacyPiiPatterns.mask(line);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PiiMaskerBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
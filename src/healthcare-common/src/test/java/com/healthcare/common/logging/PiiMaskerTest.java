@@ -0,0 +1,92 @@
+package com.healthcare.common.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PiiMaskerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        // nothing to mask
+        "Patient admitted without incident",
+        "took 1234567 ms",
+        "at 2026-10-17T17:42:24.747Z done",
+        // SSN boundaries
+        "SSN 123-45-6789 on file",
+        "ssn:123-45-6789.",
+        "(123-45-6789)",
+        "x123-45-6789",
+        "123-45-67890",
+        // phones and separators
+        "phone:555-123-4567",
+        "tel=(555) 123-4567",
+        "tel=(555)123-4567",
+        "(555)123-4567",
+        "tel=+1 555.123.4567",
+        "tel=+1-555-123-4567",
+        "phone=5551234567;",
+        // emails, including digit-leading and phone- or card-shaped local parts
+        "mail john.doe@example.com now",
+        "1john@example.org",
+        "5551234567@example.com",
+        "555-123-4567@example.com",
+        "4111111111111111@example.com",
+        "MRN123456@example.com",
+        "user@mail.example.co.uk,",
+        "john@localhost",
+        "a@b.c",
+        // cards
+        "card 4111-1111-1111-1111 charged",
+        "card=4111 1111 1111 1111",
+        // MRNs
+        "MRN-ABC123 admitted",
+        "MRN-12345",
+        "xMRN-ABC123",
+        "MRN-ABC1234567890"
+    })
+    void matchesTheLegacyPatterns(String line) {
+        assertThat(PiiMasker.mask(line)).isEqualTo(LegacyPiiPatterns.mask(line));
+    }
+
+    /*
+     * Deliberate differences: the legacy phone pattern matched inside longer
+     * digit runs (mangling UUIDs, compact timestamps, order numbers and
+     * unseparated cards) and swallowed the separator before a phone number.
+     */
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "id 550e8400-e29b-41d4-a716-446655440000 loaded | id 550e8400-e29b-41d4-a716-446655440000 loaded",
+        "ts=20261017174224                              | ts=20261017174224",
+        "order 12345678901                              | order 12345678901",
+        "5551234567890                                  | 5551234567890",
+        "card=41111111111111112                         | card=41111111111111112",
+        "card=4111111111111111                          | card=****-****-****-****",
+        "mrn123456789012 x                              | MRN-******** x",
+        "call 555-123-4567                              | call ***-***-****"
+    })
+    void departsFromTheLegacyPatternsOnlyWhereIntended(String line, String expected) {
+        assertThat(LegacyPiiPatterns.mask(line)).isNotEqualTo(expected);
+        assertThat(PiiMasker.mask(line)).isEqualTo(expected);
+    }
+
+    @Test
+    void returnsTheSameInstanceWhenNothingIsMasked() {
+        String noCandidates = "Loaded patient record";
+        String candidatesOnly = "Loaded 42 records for user@localhost";
+
+        assertThat(PiiMasker.mask(noCandidates)).isSameAs(noCandidates);
+        assertThat(PiiMasker.mask(candidatesOnly)).isSameAs(candidatesOnly);
+        assertThat(PiiMasker.mask(null)).isNull();
+        assertThat(PiiMasker.mask("")).isEmpty();
+    }
+
+    @Test
+    void masksSeveralValuesInOneLine() {
+        assertThat(PiiMasker.mask("ssn=123-45-6789 email=jane@example.com phone=(555) 123-4567 MRN-XYZ987"))
+            .isEqualTo("ssn=***-**-**** email=***@***.*** phone=***-***-**** MRN-********");
+    }
+}
@@ -0,0 +1,99 @@
+package com.healthcare.common.pagination;
+
+import com.healthcare.common.exception.BusinessRuleViolationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeysetOrderTest {
+
+    record Row(UUID id, Instant createdAt) {}
+
+    private static final KeysetOrder<Row> ORDER = KeysetOrder.<Row>descending(Row::id)
+        .by("createdAt", Row::createdAt, Instant::parse);
+
+    private static final Row ROW = new Row(UUID.randomUUID(), Instant.parse("2025-03-01T10:15:30Z"));
+
+    @Test
+    void sortEndsWithIdInTheSameDirection() {
+        assertThat(ORDER.toSort()).containsExactly(
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id"));
+        assertThat(KeysetOrder.<Row>ascending(Row::id).toSort()).containsExactly(Sort.Order.asc("id"));
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        assertThat(ORDER.cursorOf(ROW)).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void absentCursorMatchesEverything() {
+        assertThat(ORDER.after(null).toPredicate(null, null, null)).isNull();
+        assertThat(ORDER.after(" ").toPredicate(null, null, null)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cursorSeeksPastTheLastRow() {
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Root<Row> root = mock(Root.class);
+        Path<Instant> createdAt = mock(Path.class);
+        Path<UUID> id = mock(Path.class);
+        when(root.<Instant>get("createdAt")).thenReturn(createdAt);
+        when(root.<UUID>get("id")).thenReturn(id);
+
+        ORDER.after(ORDER.cursorOf(ROW)).toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        verify(cb).lessThan(createdAt, ROW.createdAt());
+        verify(cb).equal(createdAt, ROW.createdAt());
+        verify(cb).lessThan(id, ROW.id());
+        verify(cb).or(any(Predicate[].class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%%%", "bm90LWEtY3Vyc29y"})
+    void malformedCursorIsRejected(String cursor) {
+        assertThatThrownBy(() -> ORDER.after(cursor))
+            .isInstanceOf(BusinessRuleViolationException.class)
+            .hasMessage("Invalid or expired page cursor");
+    }
+
+    @Test
+    void cursorWithUnparseableValuesIsRejected() {
+        assertThatThrownBy(() -> ORDER.after(encode("yesterday\u001F" + ROW.id())))
+            .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> ORDER.after(encode(ROW.createdAt() + "\u001Fnot-a-uuid")))
+            .isInstanceOf(BusinessRuleViolationException.class);
+    }
+
+    @Test
+    void cursorFromAnotherOrderIsRejected() {
+        String idOnly = KeysetOrder.<Row>descending(Row::id).cursorOf(ROW);
+
+        assertThatThrownBy(() -> ORDER.after(idOnly))
+            .isInstanceOf(BusinessRuleViolationException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,81 @@
+package com.healthcare.common.sequence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Contended number generation: {@link NumberSequences} against the
+ * {@code synchronized} per-JVM counter the generators used before. Each
+ * lease parks for {@code leaseMicros} to stand in for the database round
+ * trip.
+ * <p>
+ * {@code mvn -Pbenchmark -pl healthcare-common test-compile}, then run
+ * {@link #main} with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class NumberSequencesBenchmark {
+
+    @Param({"100", "1000"})
+    int blockSize;
+
+    @Param({"200"})
+    long leaseMicros;
+
+    private NumberSequences sequences;
+    private long synchronizedCounter;
+
+    @Setup
+    public void setUp() {
+        AtomicLong table = new AtomicLong(1);
+        long leaseNanos = TimeUnit.MICROSECONDS.toNanos(leaseMicros);
+        NumberSequenceRepository repository = new NumberSequenceRepository(null, null) {
+            @Override
+            public long allocate(String name, String period, int size) {
+                LockSupport.parkNanos(leaseNanos);
+                return table.getAndAdd(size);
+            }
+        };
+        sequences = new NumberSequences(repository, blockSize);
+    }
+
+    @Benchmark
+    public long leasedBlocks() {
+        return sequences.next("APT", "20260315");
+    }
+
+    @Benchmark
+    public long synchronizedCounter() {
+        synchronized (this) {
+            return ++synchronizedCounter;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(NumberSequencesBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,132 @@
+package com.healthcare.common.sequence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NumberSequencesTest {
+
+    /** Stands in for the number_sequences table shared by every node. */
+    private final ConcurrentHashMap<String, AtomicLong> table = new ConcurrentHashMap<>();
+    private final AtomicInteger leases = new AtomicInteger();
+
+    private NumberSequenceRepository sharedTable() {
+        NumberSequenceRepository repository = mock(NumberSequenceRepository.class);
+        when(repository.allocate(anyString(), anyString(), anyInt())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0) + "/" + invocation.getArgument(1);
+            int size = invocation.getArgument(2);
+            leases.incrementAndGet();
+            return table.computeIfAbsent(key, k -> new AtomicLong(1)).getAndAdd(size);
+        });
+        return repository;
+    }
+
+    @Test
+    void handsOutConsecutiveValuesStartingAtOne() {
+        NumberSequences sequences = new NumberSequences(sharedTable(), 3);
+
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            values.add(sequences.next("APT", "20260315"));
+        }
+
+        assertThat(values).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(leases).hasValue(3);
+    }
+
+    @Test
+    void restartsWhenThePeriodRollsOver() {
+        NumberSequences sequences = new NumberSequences(sharedTable(), 10);
+
+        sequences.next("APT", "20260315");
+        sequences.next("APT", "20260315");
+
+        assertThat(sequences.next("APT", "20260316")).isEqualTo(1L);
+        assertThat(sequences.next("APT", "20260316")).isEqualTo(2L);
+    }
+
+    @Test
+    void keepsSequencesIndependent() {
+        NumberSequences sequences = new NumberSequences(sharedTable(), 10);
+
+        sequences.next("APT", "20260315");
+
+        assertThat(sequences.next("INV", "20260315")).isEqualTo(1L);
+    }
+
+    @Test
+    void nodesLeasingFromOneTableNeverOverlap() {
+        NumberSequences first = new NumberSequences(sharedTable(), 5);
+        NumberSequences second = new NumberSequences(sharedTable(), 5);
+
+        assertThat(first.next("APT", "20260315")).isEqualTo(1L);
+        assertThat(second.next("APT", "20260315")).isEqualTo(6L);
+        assertThat(first.next("APT", "20260315")).isEqualTo(2L);
+    }
+
+    @Test
+    void contendedGenerationAcrossNodesIsUnique() throws Exception {
+        int nodes = 2;
+        int threadsPerNode = 8;
+        int valuesPerThread = 5_000;
+        int blockSize = 100;
+        List<NumberSequences> cluster = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            cluster.add(new NumberSequences(sharedTable(), blockSize));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(nodes * threadsPerNode);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        List<Future<Integer>> workers = new ArrayList<>();
+        try {
+            for (NumberSequences node : cluster) {
+                for (int t = 0; t < threadsPerNode; t++) {
+                    workers.add(executor.submit(() -> {
+                        start.await();
+                        int duplicates = 0;
+                        for (int i = 0; i < valuesPerThread; i++) {
+                            if (!issued.add(node.next("APT", "20260315"))) {
+                                duplicates++;
+                            }
+                        }
+                        return duplicates;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<Integer> worker : workers) {
+                assertThat(worker.get()).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = nodes * threadsPerNode * valuesPerThread;
+        assertThat(issued).hasSize(total);
+        // Only the thread that exhausts a block goes back to the table.
+        assertThat(leases.get()).isLessThanOrEqualTo(total / blockSize + nodes);
+    }
+
+    @Test
+    void rejectsNonPositiveBlockSize() {
+        assertThatThrownBy(() -> new NumberSequences(sharedTable(), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
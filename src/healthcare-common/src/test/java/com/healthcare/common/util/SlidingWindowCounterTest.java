@@ -0,0 +1,104 @@
+package com.healthcare.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    private static final long NOW = 29_000_000L;
+
+    @Test
+    void addReturnsTheWindowTotal() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5);
+
+        assertThat(counter.add(NOW, 1)).isEqualTo(1);
+        assertThat(counter.add(NOW, 2)).isEqualTo(3);
+        assertThat(counter.add(NOW + 1, 4)).isEqualTo(7);
+        assertThat(counter.sum(NOW + 1)).isEqualTo(7);
+    }
+
+    @Test
+    void minutesLeaveTheWindowAsItSlides() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5);
+        counter.add(NOW, 1);
+        counter.add(NOW + 2, 10);
+
+        assertThat(counter.sum(NOW + 4)).isEqualTo(11);
+        assertThat(counter.sum(NOW + 5)).isEqualTo(10);
+        assertThat(counter.sum(NOW + 7)).isZero();
+    }
+
+    @Test
+    void reusedSlotDropsTheOldMinute() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5);
+        counter.add(NOW, 3);
+
+        assertThat(counter.add(NOW + 5, 1)).isEqualTo(1);
+    }
+
+    @Test
+    void lateAddToAnOverwrittenMinuteIsIgnored() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5);
+        counter.add(NOW + 5, 2);
+
+        assertThat(counter.add(NOW, 100)).isEqualTo(2);
+        assertThat(counter.sum(NOW + 5)).isEqualTo(2);
+    }
+
+    @Test
+    void rangeSumIsInclusiveAndClampedToTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5);
+        for (long minute = NOW; minute < NOW + 5; minute++) {
+            counter.add(minute, 1);
+        }
+
+        assertThat(counter.sum(NOW + 1, NOW + 3)).isEqualTo(3);
+        assertThat(counter.sum(NOW - 100, NOW + 4)).isEqualTo(5);
+        assertThat(counter.sum(NOW - 100, NOW + 6)).isEqualTo(3);
+    }
+
+    @Test
+    void bucketCountSaturates() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(1);
+        counter.add(NOW, (1L << 24) - 2);
+
+        assertThat(counter.add(NOW, 10)).isEqualTo((1L << 24) - 1);
+    }
+
+    @Test
+    void concurrentAddsAreNotLost() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(60);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        counter.add(NOW + (i % 3), 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(counter.sum(NOW + 2)).isEqualTo((long) threads * perThread);
+    }
+}
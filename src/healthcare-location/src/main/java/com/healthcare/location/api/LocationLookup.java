@@ -2,6 +2,8 @@ package com.healthcare.location.api;
 
 import com.healthcare.location.domain.LocationType;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,6 +13,9 @@ public interface LocationLookup {
 
     Optional<LocationInfo> findByLocationCode(String locationCode);
 
+    /** Locations found among {@code locationIds}, keyed by id; unknown ids are absent. */
+    Map<UUID, LocationInfo> findAllByIds(Collection<UUID> locationIds);
+
     record LocationInfo(
         UUID locationId,
         String locationCode,
@@ -0,0 +1,15 @@
+package com.healthcare.location.config;
+
+import com.healthcare.common.cache.codec.CacheTypeRegistration;
+import com.healthcare.location.api.LocationLookup.LocationInfo;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LocationCacheConfig {
+
+    @Bean
+    public CacheTypeRegistration locationInfoCacheType() {
+        return new CacheTypeRegistration(4, LocationInfo.class, 1);
+    }
+}
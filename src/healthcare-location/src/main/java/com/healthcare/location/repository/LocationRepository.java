@@ -1,12 +1,17 @@
 package com.healthcare.location.repository;
 
+import com.healthcare.location.domain.Address;
 import com.healthcare.location.domain.Location;
 import com.healthcare.location.domain.LocationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,4 +25,20 @@ public interface LocationRepository extends JpaRepository<Location, UUID> {
     Page<Location> findByTypeAndIsActiveTrueOrderByName(LocationType type, Pageable pageable);
 
     boolean existsByLocationCode(String locationCode);
+
+    /** What {@code LocationLookup} exposes of a location. */
+    interface LocationSummary {
+        UUID getId();
+        String getLocationCode();
+        String getName();
+        LocationType getType();
+        Address getAddress();
+        String getPhoneNumber();
+        Boolean getIsActive();
+    }
+
+    @Query("SELECT l.id AS id, l.locationCode AS locationCode, l.name AS name, l.type AS type, " +
+           "l.address AS address, l.phoneNumber AS phoneNumber, l.isActive AS isActive " +
+           "FROM Location l WHERE l.id IN :ids")
+    List<LocationSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -1,20 +1,33 @@
 package com.healthcare.location.service;
 
+import com.healthcare.common.cache.CacheMultiGet;
+import com.healthcare.common.config.RedisCacheConfig;
 import com.healthcare.location.api.LocationLookup;
+import com.healthcare.location.domain.Address;
 import com.healthcare.location.domain.Location;
 import com.healthcare.location.repository.LocationRepository;
+import com.healthcare.location.repository.LocationRepository.LocationSummary;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 class LocationLookupImpl implements LocationLookup {
 
     private final LocationRepository locationRepository;
+    private final CacheManager cacheManager;
 
-    LocationLookupImpl(LocationRepository locationRepository) {
+    LocationLookupImpl(LocationRepository locationRepository, CacheManager cacheManager) {
         this.locationRepository = locationRepository;
+        this.cacheManager = cacheManager;
     }
 
     @Override
@@ -29,15 +42,55 @@ class LocationLookupImpl implements LocationLookup {
             .map(this::toLocationInfo);
     }
 
+    /**
+     * Serves locations already in the location cache and reads the rest with
+     * one projection query, caching what it loads. Locations are reference
+     * data and stay cached for an hour.
+     */
+    @Override
+    public Map<UUID, LocationInfo> findAllByIds(Collection<UUID> locationIds) {
+        if (locationIds.isEmpty()) {
+            return Map.of();
+        }
+        Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_LOCATIONS);
+        CacheMultiGet.Result<UUID, LocationInfo> cached = CacheMultiGet.get(cache, locationIds, LocationInfo.class);
+
+        Map<UUID, LocationInfo> locations = new HashMap<>(cached.hits());
+        if (!cached.misses().isEmpty()) {
+            Map<UUID, LocationInfo> loaded = locationRepository.findSummariesByIdIn(cached.misses()).stream()
+                .map(this::toLocationInfo)
+                .collect(Collectors.toMap(LocationInfo::locationId, Function.identity()));
+            CacheMultiGet.putAll(cache, loaded);
+            locations.putAll(loaded);
+        }
+        return locations;
+    }
+
+    private LocationInfo toLocationInfo(LocationSummary summary) {
+        return new LocationInfo(
+            summary.getId(),
+            summary.getLocationCode(),
+            summary.getName(),
+            summary.getType(),
+            formatAddress(summary.getAddress()),
+            summary.getPhoneNumber(),
+            summary.getIsActive()
+        );
+    }
+
     private LocationInfo toLocationInfo(Location location) {
         return new LocationInfo(
             location.getId(),
             location.getLocationCode(),
             location.getName(),
             location.getType(),
-            location.getAddress() != null ? location.getAddress().formatFull() : "",
+            formatAddress(location.getAddress()),
             location.getPhoneNumber(),
             location.getIsActive()
         );
     }
+
+    private static String formatAddress(Address address) {
+        return address != null ? address.formatFull() : "";
+    }
 }
@@ -0,0 +1,70 @@
+package com.healthcare.location.service;
+
+import com.healthcare.common.config.RedisCacheConfig;
+import com.healthcare.location.api.LocationLookup.LocationInfo;
+import com.healthcare.location.domain.Address;
+import com.healthcare.location.domain.LocationType;
+import com.healthcare.location.repository.LocationRepository;
+import com.healthcare.location.repository.LocationRepository.LocationSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocationLookupImplTest {
+
+    private record Summary(UUID getId, String getLocationCode, String getName, LocationType getType,
+                           Address getAddress, String getPhoneNumber, Boolean getIsActive)
+        implements LocationSummary {}
+
+    private final LocationRepository locationRepository = mock(LocationRepository.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final LocationLookupImpl lookup = new LocationLookupImpl(locationRepository, cacheManager);
+    private final Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_LOCATIONS);
+
+    @Test
+    void servesHitsFromCacheAndLoadsOnlyMisses() {
+        LocationInfo cached = new LocationInfo(UUID.randomUUID(), "LOC-1", "North Clinic", null, "", null, true);
+        cache.put(cached.locationId(), cached);
+        Summary stored = new Summary(UUID.randomUUID(), "LOC-2", "South Clinic", null,
+            new Address("1 Main St", "Springfield", "IL", "62701", "US"), "5550100", true);
+        UUID unknown = UUID.randomUUID();
+        when(locationRepository.findSummariesByIdIn(Set.of(stored.getId(), unknown))).thenReturn(List.of(stored));
+
+        Map<UUID, LocationInfo> found = lookup.findAllByIds(List.of(cached.locationId(), stored.getId(), unknown));
+
+        assertThat(found).containsOnlyKeys(cached.locationId(), stored.getId());
+        assertThat(found.get(cached.locationId())).isEqualTo(cached);
+        assertThat(found.get(stored.getId()).fullAddress()).isEqualTo("1 Main St, Springfield, IL 62701, US");
+        assertThat(cache.get(stored.getId(), LocationInfo.class)).isEqualTo(found.get(stored.getId()));
+        assertThat(cache.get(unknown)).isNull();
+    }
+
+    @Test
+    void allHitsSkipTheQuery() {
+        LocationInfo cached = new LocationInfo(UUID.randomUUID(), "LOC-1", "North Clinic", null, "", null, true);
+        cache.put(cached.locationId(), cached);
+
+        assertThat(lookup.findAllByIds(List.of(cached.locationId()))).containsOnlyKeys(cached.locationId());
+        verify(locationRepository, never()).findSummariesByIdIn(anyCollection());
+    }
+
+    @Test
+    void locationWithoutAddressHasEmptyAddress() {
+        Summary stored = new Summary(UUID.randomUUID(), "LOC-3", "Mobile Unit", null, null, null, false);
+        when(locationRepository.findSummariesByIdIn(Set.of(stored.getId()))).thenReturn(List.of(stored));
+
+        assertThat(lookup.findAllByIds(List.of(stored.getId())).get(stored.getId()).fullAddress()).isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.healthcare.medicalrecord.api;
 
+import com.healthcare.common.api.CursorPageResponse;
 import com.healthcare.medicalrecord.api.dto.*;
 import com.healthcare.medicalrecord.domain.RecordStatus;
 import com.healthcare.medicalrecord.domain.RecordType;
@@ -144,6 +145,20 @@ public class MedicalRecordController {
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/patient/{patientId}/scroll")
+    @PreAuthorize("hasAuthority('medical_record:read')")
+    @Operation(summary = "Scroll patient medical records",
+               description = "Keyset-paginated medical records for a patient, newest first")
+    public ResponseEntity<CursorPageResponse<MedicalRecordSummaryResponse>> scrollByPatient(
+            @PathVariable UUID patientId,
+            @Parameter(description = "Cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("REST request to scroll medical records for patient: {}", patientId);
+        return ResponseEntity.ok(medicalRecordService.scrollByPatient(patientId, cursor, size, includeTotal));
+    }
+
     @GetMapping("/patient/{patientId}/timeline")
     @PreAuthorize("hasAuthority('medical_record:read')")
     @Operation(summary = "Get patient timeline",
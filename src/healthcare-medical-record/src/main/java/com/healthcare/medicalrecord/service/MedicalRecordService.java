@@ -1,5 +1,6 @@
 package com.healthcare.medicalrecord.service;
 
+import com.healthcare.common.api.CursorPageResponse;
 import com.healthcare.medicalrecord.api.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,9 @@ public interface MedicalRecordService {
 
     Page<MedicalRecordSummaryResponse> getByPatient(UUID patientId, Pageable pageable);
 
+    CursorPageResponse<MedicalRecordSummaryResponse> scrollByPatient(UUID patientId, String cursor,
+                                                                      int size, boolean includeTotal);
+
     Page<MedicalRecordSummaryResponse> getByProvider(UUID providerId, Pageable pageable);
 
     List<MedicalRecordSummaryResponse> getByAppointment(UUID appointmentId);
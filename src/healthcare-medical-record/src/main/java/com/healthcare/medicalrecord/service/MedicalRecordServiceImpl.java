@@ -1,5 +1,7 @@
 package com.healthcare.medicalrecord.service;
 
+import com.healthcare.common.api.CursorPageResponse;
+import com.healthcare.common.pagination.KeysetOrder;
 import com.healthcare.medicalrecord.api.dto.*;
 import com.healthcare.medicalrecord.domain.*;
 import com.healthcare.medicalrecord.exception.InvalidRecordOperationException;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +28,10 @@ public class MedicalRecordServiceImpl implements MedicalRecordService {
 
     private static final Logger log = LoggerFactory.getLogger(MedicalRecordServiceImpl.class);
 
+    private static final KeysetOrder<MedicalRecord> RECORD_DATE_DESC_ORDER =
+            KeysetOrder.<MedicalRecord>descending(MedicalRecord::getId)
+                    .by("recordDate", MedicalRecord::getRecordDate, LocalDateTime::parse);
+
     private final MedicalRecordRepository medicalRecordRepository;
     private final RecordNumberGenerator recordNumberGenerator;
     private final ApplicationEventPublisher eventPublisher;
@@ -143,6 +150,21 @@ public class MedicalRecordServiceImpl implements MedicalRecordService {
         return medicalRecordRepository.findByPatientId(patientId, pageable).map(this::mapToSummary);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MedicalRecordSummaryResponse> scrollByPatient(UUID patientId, String cursor,
+                                                                             int size, boolean includeTotal) {
+        log.debug("Scrolling medical records for patient: {}", patientId);
+        int pageSize = CursorPageResponse.boundedSize(size);
+        Specification<MedicalRecord> byPatient = Specification.where(patientIdEquals(patientId)).and(notDeleted());
+        List<MedicalRecord> rows = medicalRecordRepository.findBy(
+                byPatient.and(RECORD_DATE_DESC_ORDER.after(cursor)),
+                query -> query.sortBy(RECORD_DATE_DESC_ORDER.toSort()).limit(pageSize + 1).all());
+
+        return CursorPageResponse.from(rows, pageSize, RECORD_DATE_DESC_ORDER, this::mapToSummary,
+                includeTotal ? medicalRecordRepository.count(byPatient) : null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<MedicalRecordSummaryResponse> getByProvider(UUID providerId, Pageable pageable) {
@@ -1,5 +1,6 @@
 package com.healthcare.notification.api;
 
+import com.healthcare.common.api.CursorPageResponse;
 import com.healthcare.notification.api.dto.*;
 import com.healthcare.notification.domain.NotificationCategory;
 import com.healthcare.notification.service.NotificationService;
@@ -112,6 +113,20 @@ public class NotificationController {
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/user/{userId}/scroll")
+    @PreAuthorize("hasAuthority('notification:read')")
+    @Operation(summary = "Scroll user notifications",
+               description = "Keyset-paginated notifications for a user, newest first")
+    public ResponseEntity<CursorPageResponse<NotificationSummaryResponse>> scrollByUser(
+            @PathVariable UUID userId,
+            @Parameter(description = "Cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("REST request to scroll notifications for user: {}", userId);
+        return ResponseEntity.ok(notificationService.scrollByUser(userId, cursor, size, includeTotal));
+    }
+
     @GetMapping("/user/{userId}/unread")
     @PreAuthorize("hasAuthority('notification:read')")
     @Operation(summary = "Get unread notifications",
@@ -5,6 +5,8 @@ import jakarta.persistence.Embeddable;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Pattern;
 
+import java.util.Map;
+
 @Embeddable
 public record NotificationRecipient(
     @Column(name = "recipient_name")
@@ -21,6 +23,11 @@ public record NotificationRecipient(
     @Column(name = "device_token")
     String deviceToken
 ) {
+    /** Metadata keys that carry the recipient of notifications written without the entity. */
+    public static final String NAME_KEY = "recipientName";
+    public static final String EMAIL_KEY = "recipientEmail";
+    public static final String PHONE_KEY = "recipientPhone";
+
     public static NotificationRecipient withEmail(String name, String email) {
         return new NotificationRecipient(name, email, null, null);
     }
@@ -33,6 +40,27 @@ public record NotificationRecipient(
         return new NotificationRecipient(name, null, null, deviceToken);
     }
 
+    /**
+     * The recipient recorded in {@code metadata}, or null if it names none.
+     * The recipient itself is not a column, so notifications inserted in bulk
+     * and reloaded later carry it this way.
+     */
+    public static NotificationRecipient fromMetadata(Map<String, Object> metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        String email = stringValue(metadata.get(EMAIL_KEY));
+        String phoneNumber = stringValue(metadata.get(PHONE_KEY));
+        if (email == null && phoneNumber == null) {
+            return null;
+        }
+        return new NotificationRecipient(stringValue(metadata.get(NAME_KEY)), email, phoneNumber, null);
+    }
+
+    private static String stringValue(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
     public boolean hasEmail() {
         return email != null && !email.isBlank();
     }
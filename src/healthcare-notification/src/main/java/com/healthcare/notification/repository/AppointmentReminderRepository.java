@@ -0,0 +1,184 @@
+package com.healthcare.notification.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.notification.domain.NotificationCategory;
+import com.healthcare.notification.domain.NotificationStatus;
+import com.healthcare.notification.domain.NotificationType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC writes for the appointment reminder job. {@link #enqueue} claims each
+ * appointment's reminder window in {@code appointment_reminders} and inserts
+ * notifications only for the rows it actually claimed, so a chunk that is
+ * processed twice (after a restart, or on two nodes) enqueues nothing the
+ * second time. Callers run it inside one transaction per chunk.
+ */
+@Repository
+public class AppointmentReminderRepository {
+
+    private static final String FIND_REMINDED =
+        "SELECT appointment_id FROM appointment_reminders " +
+        "WHERE reminder_window = :window AND appointment_id IN (:ids)";
+
+    private static final String FIND_USER_IDS =
+        "SELECT patient_id, id FROM users WHERE patient_id IN (:patientIds) AND is_deleted = false";
+
+    private static final String CLAIM =
+        "INSERT INTO appointment_reminders (appointment_id, reminder_window, notification_id, created_at) " +
+        "VALUES :rows " +
+        "ON CONFLICT (appointment_id, reminder_window) DO NOTHING " +
+        "RETURNING appointment_id";
+
+    private static final String INSERT_NOTIFICATION =
+        "INSERT INTO notifications (id, user_id, patient_id, type, category, title, message, status, " +
+        "                           scheduled_at, retry_count, metadata, created_at) " +
+        "VALUES (:id, :userId, :patientId, :type, :category, :title, :message, :status, " +
+        "        :scheduledAt, 0, CAST(:metadata AS jsonb), :now)";
+
+    private static final String RELEASE =
+        "WITH released AS (" +
+        "    DELETE FROM appointment_reminders WHERE appointment_id = :appointmentId RETURNING notification_id" +
+        ") " +
+        "UPDATE notifications SET status = 'CANCELLED' " +
+        "WHERE id IN (SELECT notification_id FROM released) AND status IN ('PENDING', 'SCHEDULED')";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public AppointmentReminderRepository(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * One appointment's reminder. {@code notification} is null when the
+     * patient allows no channel; the window is still claimed so the
+     * appointment is not reconsidered on the next run.
+     */
+    public record Reminder(UUID appointmentId, @Nullable ReminderNotification notification) {}
+
+    /** {@code scheduledAt} is null to send on the next processing pass. */
+    public record ReminderNotification(
+        @Nullable UUID userId,
+        UUID patientId,
+        NotificationType type,
+        String title,
+        String message,
+        @Nullable Instant scheduledAt,
+        Map<String, Object> metadata
+    ) {}
+
+    public Set<UUID> findReminded(Collection<UUID> appointmentIds, String window) {
+        Set<UUID> reminded = new HashSet<>();
+        if (appointmentIds.isEmpty()) {
+            return reminded;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("window", window)
+            .addValue("ids", appointmentIds);
+        jdbcTemplate.query(FIND_REMINDED, params, rs -> {
+            reminded.add(rs.getObject(1, UUID.class));
+        });
+        return reminded;
+    }
+
+    /** Login accounts of the given patients, keyed by patient id. */
+    public Map<UUID, UUID> findUserIds(Collection<UUID> patientIds) {
+        Map<UUID, UUID> userIds = new HashMap<>();
+        if (patientIds.isEmpty()) {
+            return userIds;
+        }
+        jdbcTemplate.query(FIND_USER_IDS, new MapSqlParameterSource("patientIds", patientIds), rs -> {
+            userIds.put(rs.getObject("patient_id", UUID.class), rs.getObject("id", UUID.class));
+        });
+        return userIds;
+    }
+
+    /**
+     * Claims {@code window} for every reminder and bulk-inserts the
+     * notifications of those not already claimed. Returns the notifications
+     * inserted.
+     */
+    public List<ReminderNotification> enqueue(String window, List<Reminder> reminders) {
+        if (reminders.isEmpty()) {
+            return List.of();
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        Map<UUID, UUID> notificationIds = new HashMap<>();
+        List<Object[]> rows = reminders.stream()
+            .map(reminder -> {
+                UUID notificationId = reminder.notification() != null ? UUID.randomUUID() : null;
+                notificationIds.put(reminder.appointmentId(), notificationId);
+                return new Object[] {reminder.appointmentId(), window, notificationId, now};
+            })
+            .toList();
+
+        Set<UUID> claimed = new HashSet<>(jdbcTemplate.queryForList(CLAIM,
+            new MapSqlParameterSource("rows", rows), UUID.class));
+
+        List<Reminder> inserted = reminders.stream()
+            .filter(reminder -> reminder.notification() != null && claimed.contains(reminder.appointmentId()))
+            .toList();
+        if (!inserted.isEmpty()) {
+            SqlParameterSource[] batch = inserted.stream()
+                .map(reminder -> toParams(notificationIds.get(reminder.appointmentId()), reminder.notification(), now))
+                .toArray(SqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, batch);
+        }
+        return inserted.stream().map(Reminder::notification).toList();
+    }
+
+    /**
+     * Drops every reminder claim of an appointment and cancels the reminders
+     * not yet sent, so a cancelled appointment is not reminded and a moved
+     * one is reminded again, with its new time, on the job's next run.
+     * Returns the number of notifications cancelled.
+     */
+    public int release(UUID appointmentId) {
+        return jdbcTemplate.update(RELEASE, new MapSqlParameterSource("appointmentId", appointmentId));
+    }
+
+    private MapSqlParameterSource toParams(UUID id, ReminderNotification notification, OffsetDateTime now) {
+        NotificationStatus status = notification.scheduledAt() != null
+            ? NotificationStatus.SCHEDULED
+            : NotificationStatus.PENDING;
+        return new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("userId", notification.userId())
+            .addValue("patientId", notification.patientId())
+            .addValue("type", notification.type().name())
+            .addValue("category", NotificationCategory.APPOINTMENT_REMINDER.name())
+            .addValue("title", notification.title())
+            .addValue("message", notification.message())
+            .addValue("status", status.name())
+            .addValue("scheduledAt", notification.scheduledAt() != null
+                ? OffsetDateTime.ofInstant(notification.scheduledAt(), ZoneOffset.UTC)
+                : null)
+            .addValue("metadata", toJson(notification.metadata()))
+            .addValue("now", now);
+    }
+
+    private String toJson(Map<String, Object> metadata) {
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Reminder metadata is not serializable", e);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.healthcare.notification.domain.NotificationPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +15,6 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
     Optional<NotificationPreference> findByUserId(UUID userId);
 
     boolean existsByUserId(UUID userId);
+
+    List<NotificationPreference> findByUserIdIn(Collection<UUID> userIds);
 }
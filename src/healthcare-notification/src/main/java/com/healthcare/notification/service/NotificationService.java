@@ -1,5 +1,6 @@
 package com.healthcare.notification.service;
 
+import com.healthcare.common.api.CursorPageResponse;
 import com.healthcare.notification.api.dto.*;
 import com.healthcare.notification.domain.Notification;
 import com.healthcare.notification.domain.NotificationCategory;
@@ -26,6 +27,8 @@ public interface NotificationService {
 
     Page<NotificationSummaryResponse> getByUser(UUID userId, Pageable pageable);
 
+    CursorPageResponse<NotificationSummaryResponse> scrollByUser(UUID userId, String cursor, int size, boolean includeTotal);
+
     List<NotificationSummaryResponse> getUnread(UUID userId);
 
     UnreadCountResponse getUnreadCount(UUID userId);
@@ -1,5 +1,7 @@
 package com.healthcare.notification.service;
 
+import com.healthcare.common.api.CursorPageResponse;
+import com.healthcare.common.pagination.KeysetOrder;
 import com.healthcare.notification.api.dto.*;
 import com.healthcare.notification.domain.*;
 import com.healthcare.notification.domain.event.NotificationFailedEvent;
@@ -15,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,9 @@ public class NotificationServiceImpl implements NotificationService {
 
     private static final Logger log = LoggerFactory.getLogger(NotificationServiceImpl.class);
 
+    private static final KeysetOrder<Notification> NEWEST_FIRST = KeysetOrder.<Notification>descending(Notification::getId)
+        .by("createdAt", Notification::getCreatedAt, Instant::parse);
+
     private final NotificationRepository notificationRepository;
     private final NotificationPreferenceRepository preferenceRepository;
     private final TemplateService templateService;
@@ -145,6 +151,10 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
 
+        if (notification.getRecipient() == null) {
+            notification.setRecipient(NotificationRecipient.fromMetadata(notification.getMetadata()));
+        }
+
         try {
             notification.markSending();
             notificationRepository.save(notification);
@@ -195,6 +205,19 @@ public class NotificationServiceImpl implements NotificationService {
             .map(this::toSummary);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationSummaryResponse> scrollByUser(UUID userId, String cursor, int size,
+                                                                        boolean includeTotal) {
+        int pageSize = CursorPageResponse.boundedSize(size);
+        Specification<Notification> forUser = (root, query, cb) -> cb.equal(root.get("userId"), userId);
+        var rows = notificationRepository.findBy(forUser.and(NEWEST_FIRST.after(cursor)),
+            query -> query.sortBy(NEWEST_FIRST.toSort()).limit(pageSize + 1).all());
+
+        return CursorPageResponse.from(rows, pageSize, NEWEST_FIRST, this::toSummary,
+            includeTotal ? notificationRepository.count(forUser) : null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<NotificationSummaryResponse> getUnread(UUID userId) {
@@ -1,5 +1,7 @@
 package com.healthcare.notification.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -7,6 +9,9 @@ public interface PatientContactLookup {
 
     Optional<PatientContact> findByPatientId(UUID patientId);
 
+    /** Contacts of the patients found among {@code patientIds}, keyed by patient id. */
+    Map<UUID, PatientContact> findAllByIds(Collection<UUID> patientIds);
+
     record PatientContact(
         UUID userId,
         UUID patientId,
@@ -4,8 +4,12 @@ import com.healthcare.patient.service.PatientService;
 import com.healthcare.patient.api.dto.PatientResponse;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PatientContactLookupImpl implements PatientContactLookup {
@@ -22,6 +26,13 @@ public class PatientContactLookupImpl implements PatientContactLookup {
             .map(this::toPatientContact);
     }
 
+    @Override
+    public Map<UUID, PatientContact> findAllByIds(Collection<UUID> patientIds) {
+        return patientService.getPatientsByIds(patientIds).stream()
+            .map(this::toPatientContact)
+            .collect(Collectors.toMap(PatientContact::patientId, Function.identity()));
+    }
+
     private PatientContact toPatientContact(PatientResponse patient) {
         String fullName = patient.firstName() + " " + patient.lastName();
 
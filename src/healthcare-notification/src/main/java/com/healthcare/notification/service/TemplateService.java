@@ -5,6 +5,8 @@ import com.healthcare.notification.exception.TemplateNotFoundException;
 import com.healthcare.notification.repository.NotificationTemplateRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -46,6 +48,27 @@ public class TemplateService {
         return result.toString();
     }
 
+    /**
+     * Parses {@code template} once so it can be applied to many variable maps
+     * without re-running the pattern match.
+     */
+    public CompiledTemplate compile(String template) {
+        if (template == null || template.isBlank()) {
+            return new CompiledTemplate(List.of(""), List.of());
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        Matcher matcher = VARIABLE_PATTERN.matcher(template);
+        int position = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(position, matcher.start()));
+            variables.add(matcher.group(1));
+            position = matcher.end();
+        }
+        literals.add(template.substring(position));
+        return new CompiledTemplate(List.copyOf(literals), List.copyOf(variables));
+    }
+
     public String renderSubject(NotificationTemplate template, Map<String, String> variables) {
         return render(template.getSubjectTemplate(), variables);
     }
@@ -57,4 +80,17 @@ public class TemplateService {
     public String renderHtml(NotificationTemplate template, Map<String, String> variables) {
         return render(template.getHtmlTemplate(), variables);
     }
+
+    /** Literal text with {@code variables.get(i)} substituted between {@code literals.get(i)} and {@code literals.get(i + 1)}. */
+    public record CompiledTemplate(List<String> literals, List<String> variables) {
+
+        public String apply(Map<String, String> values) {
+            StringBuilder result = new StringBuilder(literals.get(0));
+            for (int i = 0; i < variables.size(); i++) {
+                result.append(values.getOrDefault(variables.get(i), ""));
+                result.append(literals.get(i + 1));
+            }
+            return result.toString();
+        }
+    }
 }
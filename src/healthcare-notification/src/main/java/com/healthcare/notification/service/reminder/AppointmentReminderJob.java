@@ -0,0 +1,332 @@
+package com.healthcare.notification.service.reminder;
+
+import com.healthcare.appointment.api.AppointmentLookup;
+import com.healthcare.appointment.api.AppointmentLookup.ReminderCandidate;
+import com.healthcare.appointment.domain.event.AppointmentCancelledEvent;
+import com.healthcare.appointment.domain.event.AppointmentRescheduledEvent;
+import com.healthcare.notification.domain.NotificationCategory;
+import com.healthcare.notification.domain.NotificationPreference;
+import com.healthcare.notification.domain.NotificationRecipient;
+import com.healthcare.notification.domain.NotificationTemplate;
+import com.healthcare.notification.domain.NotificationType;
+import com.healthcare.notification.repository.AppointmentReminderRepository;
+import com.healthcare.notification.repository.AppointmentReminderRepository.Reminder;
+import com.healthcare.notification.repository.AppointmentReminderRepository.ReminderNotification;
+import com.healthcare.notification.repository.NotificationPreferenceRepository;
+import com.healthcare.notification.repository.NotificationTemplateRepository;
+import com.healthcare.notification.service.PatientContactLookup;
+import com.healthcare.notification.service.PatientContactLookup.PatientContact;
+import com.healthcare.notification.service.TemplateService;
+import com.healthcare.notification.service.TemplateService.CompiledTemplate;
+import com.healthcare.provider.api.ProviderLookup;
+import com.healthcare.provider.api.ProviderLookup.ProviderInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Enqueues reminders for the next day's scheduled and confirmed
+ * appointments. Appointments are read in id-ordered chunks; for each chunk
+ * the patients, providers and preferences are resolved in one query each,
+ * and the notifications are written in one claim plus one batch insert.
+ * <p>
+ * Every appointment's {@link #WINDOW} is claimed in
+ * {@code appointment_reminders} in the same transaction as its
+ * notification, so re-running the job (hourly, after a restart, or on
+ * another node) only picks up appointments booked since the last run.
+ * Reminders are scheduled {@link #LEAD_TIME} before the appointment and
+ * sent on the next processing pass if that moment has already passed.
+ * <p>
+ * Cancelling or rescheduling an appointment releases its claims and cancels
+ * its unsent reminders; a rescheduled appointment is picked up again, with
+ * the new time, by the next run that covers its new date.
+ * <p>
+ * The notifications are inserted without the entity, so the recipient goes
+ * into their metadata, where delivery reads it back.
+ */
+@Component
+@EnableScheduling
+public class AppointmentReminderJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentReminderJob.class);
+
+    private static final String WINDOW = "24H";
+    private static final Duration LEAD_TIME = Duration.ofHours(24);
+    private static final String DEFAULT_LOCALE = "en";
+
+    private static final String DEFAULT_TITLE = "Appointment Reminder";
+    private static final String DEFAULT_MESSAGE =
+        "Reminder: You have an appointment #{{appointmentNumber}} with {{providerName}} " +
+        "on {{appointmentDate}} at {{appointmentTime}}.";
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final AppointmentLookup appointmentLookup;
+    private final PatientContactLookup patientContactLookup;
+    private final ProviderLookup providerLookup;
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final NotificationTemplateRepository templateRepository;
+    private final AppointmentReminderRepository reminderRepository;
+    private final TemplateService templateService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Map<NotificationType, Counter> enqueuedCounters = new EnumMap<>(NotificationType.class);
+    private final Counter skippedCounter;
+    private final Timer runTimer;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Instant lastCompletedAt = Instant.now();
+
+    public AppointmentReminderJob(AppointmentLookup appointmentLookup,
+                                  PatientContactLookup patientContactLookup,
+                                  ProviderLookup providerLookup,
+                                  NotificationPreferenceRepository preferenceRepository,
+                                  NotificationTemplateRepository templateRepository,
+                                  AppointmentReminderRepository reminderRepository,
+                                  TemplateService templateService,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${healthcare.notification.reminders.chunk-size:500}") int chunkSize) {
+        this.appointmentLookup = appointmentLookup;
+        this.patientContactLookup = patientContactLookup;
+        this.providerLookup = providerLookup;
+        this.preferenceRepository = preferenceRepository;
+        this.templateRepository = templateRepository;
+        this.reminderRepository = reminderRepository;
+        this.templateService = templateService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        for (NotificationType type : NotificationType.values()) {
+            enqueuedCounters.put(type, Counter.builder("healthcare.notification.reminders.enqueued")
+                .description("Appointment reminders enqueued")
+                .tag("type", type.name())
+                .register(meterRegistry));
+        }
+        this.skippedCounter = Counter.builder("healthcare.notification.reminders.skipped")
+            .description("Appointments with no allowed reminder channel or no contact details")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("healthcare.notification.reminders.run")
+            .description("Time to enqueue one day's appointment reminders")
+            .register(meterRegistry);
+        Gauge.builder("healthcare.notification.reminders.lag.seconds", this,
+                job -> Duration.between(job.lastCompletedAt, Instant.now()).toSeconds())
+            .description("Seconds since the reminder job last completed a run")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${healthcare.notification.reminders.cron:0 5 * * * *}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Appointment reminder run already in progress");
+            return;
+        }
+        try {
+            runTimer.record(() -> enqueueReminders(LocalDate.now().plusDays(1)));
+            lastCompletedAt = Instant.now();
+        } catch (RuntimeException e) {
+            log.error("Appointment reminder run failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCancelled(AppointmentCancelledEvent event) {
+        release(event.appointmentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRescheduled(AppointmentRescheduledEvent event) {
+        release(event.appointmentId());
+    }
+
+    private void release(UUID appointmentId) {
+        try {
+            int cancelled = reminderRepository.release(appointmentId);
+            log.debug("Released reminders of appointment {}: {} cancelled", appointmentId, cancelled);
+        } catch (RuntimeException e) {
+            log.error("Failed to release reminders of appointment {}", appointmentId, e);
+        }
+    }
+
+    private void enqueueReminders(LocalDate date) {
+        Map<TemplateKey, ReminderTemplate> templates = loadTemplates();
+        UUID afterId = null;
+        int enqueued = 0;
+        int scanned = 0;
+        while (true) {
+            List<ReminderCandidate> chunk = appointmentLookup.findNeedingReminders(date, afterId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Integer inserted = transactionTemplate.execute(status -> enqueueChunk(chunk, templates));
+            enqueued += inserted != null ? inserted : 0;
+            scanned += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).appointmentId();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        log.info("Enqueued {} reminders for {} appointments on {}", enqueued, scanned, date);
+    }
+
+    private int enqueueChunk(List<ReminderCandidate> chunk, Map<TemplateKey, ReminderTemplate> templates) {
+        Set<UUID> reminded = reminderRepository.findReminded(
+            chunk.stream().map(ReminderCandidate::appointmentId).toList(), WINDOW);
+        List<ReminderCandidate> due = chunk.stream()
+            .filter(candidate -> !reminded.contains(candidate.appointmentId()))
+            .toList();
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Set<UUID> patientIds = new HashSet<>();
+        Set<UUID> providerIds = new HashSet<>();
+        for (ReminderCandidate candidate : due) {
+            patientIds.add(candidate.patientId());
+            providerIds.add(candidate.providerId());
+        }
+        Map<UUID, PatientContact> contacts = patientContactLookup.findAllByIds(patientIds);
+        Map<UUID, ProviderInfo> providers = providerLookup.findAllByIds(providerIds);
+        Map<UUID, UUID> userIds = reminderRepository.findUserIds(patientIds);
+        Map<UUID, NotificationPreference> preferences = userIds.isEmpty()
+            ? Map.of()
+            : preferenceRepository.findByUserIdIn(userIds.values()).stream()
+                .collect(Collectors.toMap(NotificationPreference::getUserId, Function.identity()));
+
+        Instant now = Instant.now();
+        List<Reminder> reminders = new ArrayList<>(due.size());
+        int skipped = 0;
+        for (ReminderCandidate candidate : due) {
+            PatientContact contact = contacts.get(candidate.patientId());
+            UUID userId = userIds.get(candidate.patientId());
+            NotificationPreference preference = userId != null ? preferences.get(userId) : null;
+            NotificationType type = contact != null ? selectChannel(contact, preference) : null;
+            if (type == null) {
+                reminders.add(new Reminder(candidate.appointmentId(), null));
+                skipped++;
+                continue;
+            }
+            ReminderTemplate template = templates.getOrDefault(
+                new TemplateKey(type, DEFAULT_LOCALE), templates.get(TemplateKey.FALLBACK));
+            ProviderInfo provider = providers.get(candidate.providerId());
+            reminders.add(new Reminder(candidate.appointmentId(),
+                toNotification(candidate, contact, provider, userId, type, template, now)));
+        }
+
+        List<ReminderNotification> inserted = reminderRepository.enqueue(WINDOW, reminders);
+        for (ReminderNotification notification : inserted) {
+            enqueuedCounters.get(notification.type()).increment();
+        }
+        skippedCounter.increment(skipped);
+        return inserted.size();
+    }
+
+    private ReminderNotification toNotification(ReminderCandidate candidate,
+                                                PatientContact contact,
+                                                ProviderInfo provider,
+                                                UUID userId,
+                                                NotificationType type,
+                                                ReminderTemplate template,
+                                                Instant now) {
+        String providerName = provider != null ? provider.fullName() : "your provider";
+        Map<String, String> variables = new HashMap<>();
+        variables.put("patientName", contact.name());
+        variables.put("appointmentNumber", candidate.appointmentNumber());
+        variables.put("providerName", providerName);
+        variables.put("appointmentDate", candidate.scheduledDate().toString());
+        variables.put("appointmentTime", candidate.startTime().format(TIME_FORMAT));
+
+        Instant startsAt = candidate.scheduledDate().atTime(candidate.startTime())
+            .atZone(ZoneId.systemDefault()).toInstant();
+        Instant sendAt = startsAt.minus(LEAD_TIME);
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("appointmentId", candidate.appointmentId().toString());
+        metadata.put("appointmentNumber", candidate.appointmentNumber());
+        metadata.put(NotificationRecipient.NAME_KEY, contact.name());
+        if (type == NotificationType.SMS) {
+            metadata.put(NotificationRecipient.PHONE_KEY, contact.phoneNumber());
+        } else {
+            metadata.put(NotificationRecipient.EMAIL_KEY, contact.email());
+        }
+
+        return new ReminderNotification(
+            userId,
+            candidate.patientId(),
+            type,
+            template.title().apply(variables),
+            template.message().apply(variables),
+            sendAt.isAfter(now) ? sendAt : null,
+            metadata);
+    }
+
+    /** SMS when the patient allows it and has a number, otherwise email; null if neither applies. */
+    private static NotificationType selectChannel(PatientContact contact, NotificationPreference preference) {
+        if (preference != null
+                && preference.shouldSend(NotificationType.SMS, NotificationCategory.APPOINTMENT_REMINDER)
+                && hasText(contact.phoneNumber())) {
+            return NotificationType.SMS;
+        }
+        boolean emailAllowed = preference == null
+            || preference.shouldSend(NotificationType.EMAIL, NotificationCategory.APPOINTMENT_REMINDER);
+        return emailAllowed && hasText(contact.email()) ? NotificationType.EMAIL : null;
+    }
+
+    /** Active reminder templates compiled once per run, keyed by channel and locale. */
+    private Map<TemplateKey, ReminderTemplate> loadTemplates() {
+        Map<TemplateKey, ReminderTemplate> templates = new HashMap<>();
+        for (NotificationTemplate template
+                : templateRepository.findByCategoryAndActiveTrue(NotificationCategory.APPOINTMENT_REMINDER)) {
+            String locale = template.getLocale() != null ? template.getLocale() : DEFAULT_LOCALE;
+            templates.putIfAbsent(new TemplateKey(template.getType(), locale), new ReminderTemplate(
+                templateService.compile(template.getSubjectTemplate() != null
+                    ? template.getSubjectTemplate()
+                    : DEFAULT_TITLE),
+                templateService.compile(template.getBodyTemplate())));
+        }
+        templates.put(TemplateKey.FALLBACK, new ReminderTemplate(
+            templateService.compile(DEFAULT_TITLE),
+            templateService.compile(DEFAULT_MESSAGE)));
+        return templates;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private record TemplateKey(NotificationType type, String locale) {
+        static final TemplateKey FALLBACK = new TemplateKey(null, null);
+    }
+
+    private record ReminderTemplate(CompiledTemplate title, CompiledTemplate message) {}
+}
@@ -0,0 +1,273 @@
+package com.healthcare.notification.service.reminder;
+
+import com.healthcare.appointment.api.AppointmentLookup;
+import com.healthcare.appointment.api.AppointmentLookup.ReminderCandidate;
+import com.healthcare.appointment.domain.TimeSlot;
+import com.healthcare.appointment.domain.event.AppointmentCancelledEvent;
+import com.healthcare.appointment.domain.event.AppointmentRescheduledEvent;
+import com.healthcare.notification.domain.Notification;
+import com.healthcare.notification.domain.NotificationCategory;
+import com.healthcare.notification.domain.NotificationStatus;
+import com.healthcare.notification.domain.NotificationType;
+import com.healthcare.notification.repository.AppointmentReminderRepository;
+import com.healthcare.notification.repository.AppointmentReminderRepository.Reminder;
+import com.healthcare.notification.repository.AppointmentReminderRepository.ReminderNotification;
+import com.healthcare.notification.repository.NotificationPreferenceRepository;
+import com.healthcare.notification.repository.NotificationRepository;
+import com.healthcare.notification.repository.NotificationTemplateRepository;
+import com.healthcare.notification.service.NotificationServiceImpl;
+import com.healthcare.notification.service.PatientContactLookup;
+import com.healthcare.notification.service.PatientContactLookup.PatientContact;
+import com.healthcare.notification.service.TemplateService;
+import com.healthcare.notification.service.channel.EmailNotificationChannel;
+import com.healthcare.notification.service.channel.SmsNotificationChannel;
+import com.healthcare.provider.api.ProviderLookup;
+import com.healthcare.provider.api.ProviderLookup.ProviderInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the reminder job against an in-memory stand-in for
+ * {@link AppointmentReminderRepository} that keeps the claim semantics of
+ * {@code appointment_reminders}, then feeds what it inserted through the
+ * pending-notification pass the way JPA would reload it: without a
+ * recipient. {@code release} drops the claim as the real statement does.
+ */
+class AppointmentReminderJobTest {
+
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+
+    private final AppointmentLookup appointmentLookup = mock(AppointmentLookup.class);
+    private final PatientContactLookup patientContactLookup = mock(PatientContactLookup.class);
+    private final ProviderLookup providerLookup = mock(ProviderLookup.class);
+    private final NotificationPreferenceRepository preferenceRepository = mock(NotificationPreferenceRepository.class);
+    private final NotificationTemplateRepository templateRepository = mock(NotificationTemplateRepository.class);
+    private final AppointmentReminderRepository reminderRepository = mock(AppointmentReminderRepository.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+
+    private final Set<UUID> claims = new HashSet<>();
+    private final List<ReminderNotification> inserted = new ArrayList<>();
+    private final UUID providerId = UUID.randomUUID();
+    private final List<ReminderCandidate> candidates = new ArrayList<>();
+    private final List<PatientContact> contacts = new ArrayList<>();
+
+    private AppointmentReminderJob job;
+
+    @BeforeEach
+    void setUp() {
+        TemplateService templateService = new TemplateService(templateRepository);
+        job = new AppointmentReminderJob(appointmentLookup, patientContactLookup, providerLookup,
+            preferenceRepository, templateRepository, reminderRepository, templateService,
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 2);
+
+        when(templateRepository.findByCategoryAndActiveTrue(NotificationCategory.APPOINTMENT_REMINDER))
+            .thenReturn(List.of());
+        when(appointmentLookup.findNeedingReminders(eq(TOMORROW), any(), anyInt())).thenAnswer(invocation -> {
+            UUID afterId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return candidates.stream()
+                .filter(candidate -> afterId == null || candidate.appointmentId().compareTo(afterId) > 0)
+                .limit(limit)
+                .toList();
+        });
+        when(patientContactLookup.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return contacts.stream()
+                .filter(contact -> ids.contains(contact.patientId()))
+                .collect(Collectors.toMap(PatientContact::patientId, contact -> contact));
+        });
+        when(providerLookup.findAllByIds(anyCollection())).thenReturn(Map.of(providerId,
+            new ProviderInfo(providerId, "PRV-1", "Dr. Ada Grey", "Cardiology", "MD")));
+        when(reminderRepository.findUserIds(anyCollection())).thenReturn(Map.of());
+        when(reminderRepository.findReminded(anyCollection(), anyString())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().filter(claims::contains).collect(Collectors.toSet());
+        });
+        when(reminderRepository.enqueue(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Reminder> reminders = invocation.getArgument(1);
+            List<ReminderNotification> added = reminders.stream()
+                .filter(reminder -> claims.add(reminder.appointmentId()) && reminder.notification() != null)
+                .map(Reminder::notification)
+                .toList();
+            inserted.addAll(added);
+            return added;
+        });
+        when(reminderRepository.release(any())).thenAnswer(invocation ->
+            claims.remove(invocation.<UUID>getArgument(0)) ? 1 : 0);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @Test
+    void enqueuedRemindersAreDeliveredByThePendingPass() {
+        addAppointment("jane@example.com", null);
+        addAppointment("john@example.com", null);
+        addAppointment("sam@example.com", null);
+
+        job.run();
+
+        assertThat(inserted).hasSize(3);
+        List<Notification> reloaded = inserted.stream().map(AppointmentReminderJobTest::reload).toList();
+        when(notificationRepository.findReadyToSend(any())).thenReturn(reloaded);
+        NotificationServiceImpl notificationService = new NotificationServiceImpl(notificationRepository,
+            preferenceRepository, new TemplateService(templateRepository), mock(ApplicationEventPublisher.class),
+            List.of(new EmailNotificationChannel(mailSender), new SmsNotificationChannel(null)));
+
+        notificationService.processPendingNotifications();
+
+        assertThat(reloaded).allSatisfy(notification -> {
+            assertThat(notification.getStatus()).isEqualTo(NotificationStatus.SENT);
+            assertThat(notification.getRecipient().email()).isNotBlank();
+        });
+        verify(mailSender, times(3)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    void lookupsAreBatchedPerChunk() {
+        for (int i = 0; i < 5; i++) {
+            addAppointment("patient" + i + "@example.com", null);
+        }
+
+        job.run();
+
+        assertThat(inserted).hasSize(5);
+        verify(appointmentLookup, times(3)).findNeedingReminders(eq(TOMORROW), any(), eq(2));
+        verify(patientContactLookup, times(3)).findAllByIds(anyCollection());
+        verify(providerLookup, times(3)).findAllByIds(anyCollection());
+        verify(reminderRepository, times(3)).enqueue(eq("24H"), anyList());
+        verify(patientContactLookup, never()).findByPatientId(any());
+    }
+
+    @Test
+    void claimedAppointmentsAreSkipped() {
+        ReminderCandidate claimed = addAppointment("jane@example.com", null);
+        addAppointment("john@example.com", null);
+        claims.add(claimed.appointmentId());
+
+        job.run();
+
+        assertThat(inserted).singleElement()
+            .satisfies(notification -> assertThat(notification.metadata())
+                .doesNotContainEntry("appointmentId", claimed.appointmentId().toString()));
+    }
+
+    @Test
+    void rerunningTheJobEnqueuesNothingNew() {
+        addAppointment("jane@example.com", null);
+        addAppointment("john@example.com", null);
+        addAppointment("sam@example.com", null);
+
+        job.run();
+        job.run();
+
+        assertThat(inserted).hasSize(3);
+        verify(reminderRepository, times(2)).enqueue(eq("24H"), anyList());
+    }
+
+    @Test
+    void patientWithoutContactDetailsIsClaimedWithoutANotification() {
+        ReminderCandidate unreachable = addAppointment(null, null);
+
+        job.run();
+
+        assertThat(inserted).isEmpty();
+        assertThat(claims).containsExactly(unreachable.appointmentId());
+    }
+
+    @Test
+    void rescheduledAppointmentIsRemindedAgainWithItsNewTime() {
+        ReminderCandidate original = addAppointment("jane@example.com", null);
+        job.run();
+
+        ReminderCandidate moved = new ReminderCandidate(original.appointmentId(), original.appointmentNumber(),
+            original.patientId(), providerId, TOMORROW, LocalTime.of(23, 30));
+        candidates.set(candidates.indexOf(original), moved);
+        job.onRescheduled(new AppointmentRescheduledEvent(original.appointmentId(), original.appointmentNumber(),
+            TimeSlot.of(TOMORROW, original.startTime(), 30), TimeSlot.of(TOMORROW, moved.startTime(), 30)));
+        job.run();
+
+        verify(reminderRepository).release(original.appointmentId());
+        assertThat(inserted).hasSize(2);
+        assertThat(inserted.get(0).message()).contains("00:00");
+        assertThat(inserted.get(1).message()).contains("23:30");
+    }
+
+    @Test
+    void cancelledAppointmentReleasesItsClaim() {
+        ReminderCandidate cancelled = addAppointment("jane@example.com", null);
+        job.run();
+
+        candidates.remove(cancelled);
+        job.onCancelled(new AppointmentCancelledEvent(cancelled.appointmentId(), cancelled.appointmentNumber(),
+            cancelled.patientId(), providerId, "Patient request"));
+        job.run();
+
+        verify(reminderRepository).release(cancelled.appointmentId());
+        assertThat(claims).isEmpty();
+        assertThat(inserted).hasSize(1);
+    }
+
+    @Test
+    void failedReleaseDoesNotPropagate() {
+        UUID appointmentId = UUID.randomUUID();
+        when(reminderRepository.release(appointmentId)).thenThrow(new IllegalStateException("connection lost"));
+
+        job.onCancelled(new AppointmentCancelledEvent(appointmentId, "APT-1", UUID.randomUUID(), providerId, null));
+
+        verify(reminderRepository).release(appointmentId);
+    }
+
+    private ReminderCandidate addAppointment(String email, String phoneNumber) {
+        UUID patientId = UUID.randomUUID();
+        ReminderCandidate candidate = new ReminderCandidate(UUID.randomUUID(), "APT-" + candidates.size(),
+            patientId, providerId, TOMORROW, LocalTime.MIDNIGHT);
+        candidates.add(candidate);
+        candidates.sort((a, b) -> a.appointmentId().compareTo(b.appointmentId()));
+        contacts.add(new PatientContact(null, patientId, "Patient " + contacts.size(), email, phoneNumber));
+        return candidate;
+    }
+
+    /** The row {@code enqueue} inserted, as {@code findReadyToSend} would load it. */
+    private static Notification reload(ReminderNotification notification) {
+        return Notification.builder()
+            .userId(notification.userId())
+            .patientId(notification.patientId())
+            .type(notification.type())
+            .category(NotificationCategory.APPOINTMENT_REMINDER)
+            .title(notification.title())
+            .message(notification.message())
+            .scheduledAt(notification.scheduledAt())
+            .metadata(notification.metadata())
+            .build();
+    }
+}
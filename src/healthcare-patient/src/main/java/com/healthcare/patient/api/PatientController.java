@@ -1,5 +1,6 @@
 package com.healthcare.patient.api;
 
+import com.healthcare.common.api.CursorPageResponse;
 import com.healthcare.common.api.PageResponse;
 import com.healthcare.patient.api.dto.CreatePatientRequest;
 import com.healthcare.patient.api.dto.PatientResponse;
@@ -118,6 +119,21 @@ public class PatientController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAuthority('patient:read')")
+    @Operation(summary = "Scroll patients", description = "Keyset-paginated patient list ordered by last name")
+    @ApiResponse(responseCode = "200", description = "Patients retrieved successfully")
+    public ResponseEntity<CursorPageResponse<PatientSummaryResponse>> scrollPatients(
+            @Parameter(description = "Cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also count all patients")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.debug("REST request to scroll patients, size: {}", size);
+
+        return ResponseEntity.ok(patientService.scrollPatients(cursor, size, includeTotal));
+    }
+
     @GetMapping("/search")
     @PreAuthorize("hasAuthority('patient:read')")
     @Operation(summary = "Search patients", description = "Searches patients based on provided criteria")
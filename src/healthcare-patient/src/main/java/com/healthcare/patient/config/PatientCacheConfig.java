@@ -0,0 +1,15 @@
+package com.healthcare.patient.config;
+
+import com.healthcare.common.cache.codec.CacheTypeRegistration;
+import com.healthcare.patient.api.dto.PatientResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PatientCacheConfig {
+
+    @Bean
+    public CacheTypeRegistration patientResponseCacheType() {
+        return new CacheTypeRegistration(1, PatientResponse.class, 1);
+    }
+}
@@ -0,0 +1,14 @@
+package com.healthcare.patient.config;
+
+import com.healthcare.common.crypto.EncryptedColumn;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PatientEncryptionConfig {
+
+    @Bean
+    public EncryptedColumn patientSsnColumn() {
+        return new EncryptedColumn("patients", "ssn");
+    }
+}
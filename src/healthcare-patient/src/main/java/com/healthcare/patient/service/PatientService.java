@@ -1,5 +1,6 @@
 package com.healthcare.patient.service;
 
+import com.healthcare.common.api.CursorPageResponse;
 import com.healthcare.common.api.PageResponse;
 import com.healthcare.patient.api.dto.CreatePatientRequest;
 import com.healthcare.patient.api.dto.PatientResponse;
@@ -8,6 +9,8 @@ import com.healthcare.patient.api.dto.PatientSummaryResponse;
 import com.healthcare.patient.api.dto.UpdatePatientRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,6 +22,8 @@ public interface PatientService {
 
     Optional<PatientResponse> getPatientByMrn(String mrn);
 
+    List<PatientResponse> getPatientsByIds(Collection<UUID> ids);
+
     PatientResponse updatePatient(UUID id, UpdatePatientRequest request);
 
     PatientResponse activatePatient(UUID id);
@@ -29,6 +34,8 @@ public interface PatientService {
 
     PageResponse<PatientSummaryResponse> listPatients(Pageable pageable);
 
+    CursorPageResponse<PatientSummaryResponse> scrollPatients(String cursor, int size, boolean includeTotal);
+
     PageResponse<PatientSummaryResponse> searchPatients(PatientSearchCriteria criteria, Pageable pageable);
 
     boolean canScheduleAppointments(UUID id);
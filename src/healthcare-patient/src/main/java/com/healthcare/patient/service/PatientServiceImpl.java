@@ -1,8 +1,13 @@
 package com.healthcare.patient.service;
 
+import com.healthcare.common.api.CursorPageResponse;
 import com.healthcare.common.api.PageResponse;
+import com.healthcare.common.cache.CacheMultiGet;
 import com.healthcare.common.config.RedisCacheConfig;
+import com.healthcare.common.pagination.KeysetOrder;
 import com.healthcare.patient.api.dto.CreatePatientRequest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
@@ -27,8 +32,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,10 +47,14 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 class PatientServiceImpl implements PatientService {
 
+    private static final KeysetOrder<Patient> LIST_ORDER = KeysetOrder.<Patient>ascending(Patient::getId)
+        .by("lastName", Patient::getLastName, Function.identity());
+
     private final PatientRepository patientRepository;
     private final PatientMapper patientMapper;
     private final PatientDomainMapper domainMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     @Override
     @Transactional
@@ -67,6 +82,28 @@ class PatientServiceImpl implements PatientService {
             .map(patientMapper::toResponse);
     }
 
+    @Override
+    public List<PatientResponse> getPatientsByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Cache cache = cacheManager.getCache(RedisCacheConfig.CACHE_PATIENTS);
+        CacheMultiGet.Result<UUID, PatientResponse> cached = CacheMultiGet.get(cache, ids, PatientResponse.class);
+        if (cached.misses().isEmpty()) {
+            return List.copyOf(cached.hits().values());
+        }
+
+        log.debug("Fetching {} of {} patients by ID", cached.misses().size(), ids.size());
+        Map<UUID, PatientResponse> loaded = patientRepository.findAllById(cached.misses()).stream()
+            .map(patientMapper::toResponse)
+            .collect(Collectors.toMap(PatientResponse::id, Function.identity()));
+        CacheMultiGet.putAll(cache, loaded);
+
+        List<PatientResponse> patients = new ArrayList<>(cached.hits().values());
+        patients.addAll(loaded.values());
+        return patients;
+    }
+
     @Override
     public Optional<PatientResponse> getPatientByMrn(String mrn) {
         log.debug("Fetching patient by MRN: {}", mrn);
@@ -144,6 +181,16 @@ class PatientServiceImpl implements PatientService {
         return PageResponse.from(responsePage);
     }
 
+    @Override
+    public CursorPageResponse<PatientSummaryResponse> scrollPatients(String cursor, int size, boolean includeTotal) {
+        int pageSize = CursorPageResponse.boundedSize(size);
+        var rows = patientRepository.findBy(LIST_ORDER.after(cursor),
+            query -> query.sortBy(LIST_ORDER.toSort()).limit(pageSize + 1).all());
+
+        return CursorPageResponse.from(rows, pageSize, LIST_ORDER, patientMapper::toSummaryResponse,
+            includeTotal ? patientRepository.count() : null);
+    }
+
     @Override
     public PageResponse<PatientSummaryResponse> searchPatients(
             PatientSearchCriteria criteria, Pageable pageable) {
@@ -1,5 +1,7 @@
 package com.healthcare.provider.api;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -7,6 +9,9 @@ public interface ProviderLookup {
 
     Optional<ProviderInfo> findById(UUID providerId);
 
+    /** Providers found among {@code providerIds}, keyed by id; unknown ids are absent. */
+    Map<UUID, ProviderInfo> findAllByIds(Collection<UUID> providerIds);
+
     record ProviderInfo(
         UUID providerId,
         String providerNumber,
@@ -0,0 +1,15 @@
+package com.healthcare.provider.config;
+
+import com.healthcare.common.cache.codec.CacheTypeRegistration;
+import com.healthcare.provider.api.dto.ProviderResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProviderCacheConfig {
+
+    @Bean
+    public CacheTypeRegistration providerResponseCacheType() {
+        return new CacheTypeRegistration(2, ProviderResponse.class, 1);
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +23,20 @@ public interface ProviderRepository extends JpaRepository<Provider, UUID>, JpaSp
 
     Optional<Provider> findByProviderNumber(String providerNumber);
 
+    interface ProviderSummary {
+        UUID getId();
+        String getProviderNumber();
+        String getFirstName();
+        String getLastName();
+        String getSpecialization();
+        String getQualification();
+    }
+
+    @Query("SELECT p.id AS id, p.providerNumber AS providerNumber, p.firstName AS firstName, " +
+           "p.lastName AS lastName, p.specialization AS specialization, p.qualification AS qualification " +
+           "FROM Provider p WHERE p.id IN :ids")
+    List<ProviderSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
     Optional<Provider> findByEmail(String email);
 
     @Query("SELECT p FROM Provider p WHERE p.license.licenseNumber = :licenseNumber")
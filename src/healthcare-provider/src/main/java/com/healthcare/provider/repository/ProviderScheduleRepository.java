@@ -1,6 +1,7 @@
 package com.healthcare.provider.repository;
 
 import com.healthcare.provider.domain.ProviderSchedule;
+import com.healthcare.provider.domain.ProviderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +24,10 @@ public interface ProviderScheduleRepository extends JpaRepository<ProviderSchedu
     @Query("SELECT ps.provider.id FROM ProviderSchedule ps WHERE ps.dayOfWeek = :dayOfWeek AND ps.active = true")
     List<UUID> findProviderIdsAvailableOnDay(@Param("dayOfWeek") DayOfWeek dayOfWeek);
 
+    @Query("SELECT ps FROM ProviderSchedule ps JOIN FETCH ps.provider p " +
+           "WHERE ps.active = true AND ps.deleted = false AND p.status = :status AND p.deleted = false")
+    List<ProviderSchedule> findActiveWithProvider(@Param("status") ProviderStatus status);
+
     void deleteByProviderId(UUID providerId);
 
     long countByProviderIdAndActiveTrue(UUID providerId);
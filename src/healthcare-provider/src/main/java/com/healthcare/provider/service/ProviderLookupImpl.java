@@ -1,10 +1,18 @@
 package com.healthcare.provider.service;
 
+import com.healthcare.common.cache.CacheMultiGet;
+import com.healthcare.common.config.RedisCacheConfig;
 import com.healthcare.provider.api.ProviderLookup;
+import com.healthcare.provider.api.dto.ProviderResponse;
 import com.healthcare.provider.domain.Provider;
 import com.healthcare.provider.repository.ProviderRepository;
+import com.healthcare.provider.repository.ProviderRepository.ProviderSummary;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,9 +20,11 @@ import java.util.UUID;
 class ProviderLookupImpl implements ProviderLookup {
 
     private final ProviderRepository providerRepository;
+    private final CacheManager cacheManager;
 
-    ProviderLookupImpl(ProviderRepository providerRepository) {
+    ProviderLookupImpl(ProviderRepository providerRepository, CacheManager cacheManager) {
         this.providerRepository = providerRepository;
+        this.cacheManager = cacheManager;
     }
 
     @Override
@@ -23,17 +33,50 @@ class ProviderLookupImpl implements ProviderLookup {
             .map(this::toProviderInfo);
     }
 
-    private ProviderInfo toProviderInfo(Provider provider) {
-        String fullName = String.format("Dr. %s %s",
-            provider.getFirstName(),
-            provider.getLastName());
+    /**
+     * Serves providers already in the provider cache and reads the rest with
+     * one projection query. Misses are not written back: the cache holds full
+     * {@link ProviderResponse}s including schedules.
+     */
+    @Override
+    public Map<UUID, ProviderInfo> findAllByIds(Collection<UUID> providerIds) {
+        if (providerIds.isEmpty()) {
+            return Map.of();
+        }
+        CacheMultiGet.Result<UUID, ProviderResponse> cached = CacheMultiGet.get(
+            cacheManager.getCache(RedisCacheConfig.CACHE_PROVIDERS), providerIds, ProviderResponse.class);
+
+        Map<UUID, ProviderInfo> providers = new HashMap<>();
+        cached.hits().forEach((id, provider) -> providers.put(id, new ProviderInfo(
+            provider.id(),
+            provider.providerNumber(),
+            fullName(provider.firstName(), provider.lastName()),
+            provider.specialization(),
+            provider.qualification())));
+        if (!cached.misses().isEmpty()) {
+            for (ProviderSummary summary : providerRepository.findSummariesByIdIn(cached.misses())) {
+                providers.put(summary.getId(), new ProviderInfo(
+                    summary.getId(),
+                    summary.getProviderNumber(),
+                    fullName(summary.getFirstName(), summary.getLastName()),
+                    summary.getSpecialization(),
+                    summary.getQualification()));
+            }
+        }
+        return providers;
+    }
 
+    private ProviderInfo toProviderInfo(Provider provider) {
         return new ProviderInfo(
             provider.getId(),
             provider.getProviderNumber(),
-            fullName,
+            fullName(provider.getFirstName(), provider.getLastName()),
             provider.getSpecialization(),
             provider.getQualification()
         );
     }
+
+    private static String fullName(String firstName, String lastName) {
+        return String.format("Dr. %s %s", firstName, lastName);
+    }
 }
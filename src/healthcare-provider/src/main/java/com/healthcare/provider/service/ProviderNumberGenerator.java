@@ -1,5 +1,6 @@
 package com.healthcare.provider.service;
 
+import com.healthcare.common.sequence.NumberSequences;
 import com.healthcare.provider.domain.ProviderType;
 import com.healthcare.provider.repository.ProviderRepository;
 import lombok.RequiredArgsConstructor;
@@ -7,22 +8,27 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 @RequiredArgsConstructor
 public class ProviderNumberGenerator {
 
+    private static final String SEQUENCE_PREFIX = "PROVIDER-";
+
     private final ProviderRepository providerRepository;
-    private final AtomicInteger sequence = new AtomicInteger(0);
+    private final NumberSequences sequences;
 
+    /**
+     * Numbers restart yearly per provider type. The existence check only
+     * skips numbers entered by hand that happen to match the pattern.
+     */
     public String generateProviderNumber(ProviderType type) {
         String typeCode = type.getCode();
         String year = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy"));
 
         String providerNumber;
         do {
-            int seq = sequence.incrementAndGet();
+            long seq = sequences.next(SEQUENCE_PREFIX + typeCode, year);
             providerNumber = String.format("%s%s%03d", typeCode, year, seq);
         } while (providerRepository.existsByProviderNumber(providerNumber));
 
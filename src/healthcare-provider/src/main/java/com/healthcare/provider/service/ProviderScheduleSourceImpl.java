@@ -0,0 +1,39 @@
+package com.healthcare.provider.service;
+
+import com.healthcare.appointment.api.ProviderScheduleSource;
+import com.healthcare.provider.domain.ProviderSchedule;
+import com.healthcare.provider.domain.ProviderStatus;
+import com.healthcare.provider.repository.ProviderScheduleRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+class ProviderScheduleSourceImpl implements ProviderScheduleSource {
+
+    private final ProviderScheduleRepository scheduleRepository;
+
+    ProviderScheduleSourceImpl(ProviderScheduleRepository scheduleRepository) {
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkingHours> findActiveWorkingHours() {
+        return scheduleRepository.findActiveWithProvider(ProviderStatus.ACTIVE).stream()
+            .map(this::toWorkingHours)
+            .toList();
+    }
+
+    private WorkingHours toWorkingHours(ProviderSchedule schedule) {
+        return new WorkingHours(
+            schedule.getProvider().getId(),
+            schedule.getProvider().getSpecialization(),
+            schedule.getDayOfWeek(),
+            schedule.getStartTime(),
+            schedule.getEndTime(),
+            schedule.getSlotDurationMinutes()
+        );
+    }
+}